@@ -0,0 +1,34 @@
+package my.cute.parser.youtube;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * signature descrambling, with the rules for the player version already cached (the usual case)
+ * and with a fresh parser that has to fetch the player js and extract them first
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DescrambleBenchmark {
+
+	@Benchmark
+	public String jsDescramble(FixtureState state) {
+		return state.parser.jsDescramble(Fixtures.SIGNATURE, Fixtures.PLAYER_JS_URL, new ParseContext(true));
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public String jsDescrambleUncached(FixtureState state) {
+		return state.newParser().jsDescramble(Fixtures.SIGNATURE, Fixtures.PLAYER_JS_URL, new ParseContext(true));
+	}
+}
@@ -0,0 +1,92 @@
+package my.cute.parser.youtube;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * in-process http server on the loopback interface that serves the {@link Fixtures}: watch pages 
+ * for any /watch request, the get_video_info response for any /get_video_info request, and the 
+ * player js for any /s/player/ request. like youtube, it gzips responses for clients that accept
+ * it
+ */
+final class FixtureServer implements Closeable {
+
+	static {
+		/*
+		 * otherwise small responses can sit waiting on delayed acks, which adds ~40ms to requests 
+		 * over loopback and swamps everything being measured. read once when the server classes load
+		 */
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	FixtureServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.serve("/watch", Fixtures.WATCH_PAGE, "text/html; charset=utf-8");
+		this.serve("/get_video_info", Fixtures.VIDEO_INFO, "application/x-www-form-urlencoded");
+		this.serve("/s/player/", Fixtures.PLAYER_JS, "text/javascript");
+		this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		this.server.setExecutor(this.executor);
+		this.server.start();
+	}
+
+	private void serve(String path, String fixture, String contentType) {
+		byte[] body = Fixtures.load(fixture);
+		byte[] gzipped = gzip(body);
+		this.server.createContext(path, exchange -> {
+			try (exchange) {
+				String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+				boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+				exchange.getResponseHeaders().set("Content-Type", contentType);
+				if(gzip) exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+				send(exchange, gzip ? gzipped : body);
+			}
+		});
+	}
+
+	private static void send(HttpExchange exchange, byte[] body) throws IOException {
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		} catch (IOException e) {
+			//client stopped reading early, eg the parser's early exit
+		}
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @return uri to point a parser at this server with {@link YoutubeParserBuilder#hostOverride(URI)}
+	 */
+	URI getBaseUri() {
+		return URI.create("http://" + this.server.getAddress().getAddress().getHostAddress() + ":" + this.server.getAddress().getPort());
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+}
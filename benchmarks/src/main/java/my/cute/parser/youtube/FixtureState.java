@@ -0,0 +1,42 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * a {@link FixtureServer} and a parser pointed at it, shared by every thread of a benchmark. the
+ * parser's descrambler cache is warmed up front, so only benchmarks that ask for a fresh parser 
+ * pay for fetching and scanning the player js
+ */
+@State(Scope.Benchmark)
+public class FixtureState {
+
+	FixtureServer server;
+	YoutubeParserImpl parser;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.server = new FixtureServer();
+		this.parser = this.newParser();
+		String descrambled = this.parser.jsDescramble(Fixtures.SIGNATURE, Fixtures.PLAYER_JS_URL, new ParseContext(true));
+		if(descrambled.equals(Fixtures.SIGNATURE)) 
+			throw new IllegalStateException("couldn't extract descrambling rules from the player js fixture");
+	}
+
+	/**
+	 * @return a new parser with an empty descrambler cache that fetches from the fixture server
+	 */
+	YoutubeParserImpl newParser() {
+		return new YoutubeParserImpl(YoutubeParser.builder().hostOverride(this.server.getBaseUri()));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.server.close();
+	}
+}
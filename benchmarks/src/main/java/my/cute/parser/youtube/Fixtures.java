@@ -0,0 +1,46 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * the pages the benchmarks run against, checked in under <code>src/main/resources/fixtures</code>.
+ * they're synthetic, but laid out like the real thing: a watch page with the player config 
+ * partway down a few hundred KB of markup, player js with the descrambling functions buried among 
+ * a few thousand other definitions, and a get_video_info response with both the classic and 
+ * new-style stream parameters
+ */
+final class Fixtures {
+
+	static final String VIDEO_ID = "fIxTuReVid0";
+	static final String WATCH_PAGE = "watch.html";
+	static final String PLAYER_JS = "base.js";
+	static final String VIDEO_INFO = "get_video_info.txt";
+	
+	static final String PLAYER_JS_PATH = "/s/player/abcd1234/player_ias.vflset/en_US/base.js";
+	static final String WATCH_URL = "https://www.youtube.com/watch?v=" + VIDEO_ID;
+	static final String VIDEO_INFO_URL = "https://www.youtube.com/get_video_info?video_id=" + VIDEO_ID 
+			+ "&el=detailpage&jsurl=https%3A%2F%2Fwww.youtube.com%2Fs%2Fplayer%2Fabcd1234%2Fplayer_ias.vflset%2Fen_US%2Fbase.js";
+	static final String PLAYER_JS_URL = "https://www.youtube.com" + PLAYER_JS_PATH;
+	/*
+	 * every stream in the fixtures has this scrambled signature
+	 */
+	static final String SIGNATURE = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+	private Fixtures() {}
+
+	static byte[] load(String name) {
+		try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+			if(in == null) throw new IllegalStateException("missing fixture " + name);
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static String loadString(String name) {
+		return new String(load(name), StandardCharsets.UTF_8);
+	}
+}
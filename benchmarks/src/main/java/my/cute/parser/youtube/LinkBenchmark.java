@@ -0,0 +1,84 @@
+package my.cute.parser.youtube;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * the checks run on every candidate link, usually once per chat message or similar, so these are
+ * by far the most frequently called methods
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LinkBenchmark {
+
+	@Param({
+		"https://www.youtube.com/watch?v=fIxTuReVid0&t=95",
+		"https://youtu.be/fIxTuReVid0?t=1h2m3s",
+		"https://m.youtube.com/embed/fIxTuReVid0",
+		"https://example.com/watch/not/a/video?t=12"
+	})
+	public String link;
+
+	private final YoutubeParser parser = YoutubeParser.createDefault();
+	private String message;
+	
+	@Setup
+	public void setup() {
+		this.message = "lmao did you see this one " + this.link + " its from like last week, the guy who did "
+				+ "the other one";
+	}
+
+	@Benchmark
+	public boolean probe() {
+		return this.parser.probe(this.link);
+	}
+
+	@Benchmark
+	public LinkKind classify() {
+		return this.parser.classify(this.link);
+	}
+
+	/**
+	 * a chat message containing the link, as it would have to be handled before findLinks: split
+	 * into words and probe every one
+	 */
+	@Benchmark
+	public int probeWords() {
+		int links = 0;
+		for(String word : this.message.split(" ")) {
+			if(this.parser.probe(word)) links++;
+		}
+		return links;
+	}
+	
+	@Benchmark
+	public List<LinkMatch> findLinks() {
+		return this.parser.findLinks(this.message);
+	}
+	
+	@Benchmark
+	public int getTimestamp() {
+		return this.parser.getTimestamp(this.link);
+	}
+	
+	@Benchmark
+	public LinkInfo analyze() {
+		return this.parser.analyze(this.link);
+	}
+}
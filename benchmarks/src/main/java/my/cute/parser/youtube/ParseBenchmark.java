@@ -0,0 +1,75 @@
+package my.cute.parser.youtube;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * full parses against the fixture server over loopback http: fetching the page, reading it, and 
+ * picking and descrambling a stream. run with <code>-prof gc</code> for allocation numbers
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+	@Param({"watch", "get_video_info"})
+	public String page;
+
+	private String link;
+
+	@Setup(Level.Trial)
+	public void setUp(FixtureState state) {
+		this.link = this.page.equals("watch") ? Fixtures.WATCH_URL : Fixtures.VIDEO_INFO_URL;
+		String result = state.parser.parse(this.link);
+		if(result == null || !result.contains("googlevideo.com")) 
+			throw new IllegalStateException("fixture " + this.page + " didn't resolve, got " + result);
+		if(state.parser.resolveFormats(this.link).isEmpty())
+			throw new IllegalStateException("fixture " + this.page + " has no formats");
+	}
+
+	@Benchmark
+	public String parse(FixtureState state) {
+		return state.parser.parse(this.link);
+	}
+
+	@Benchmark
+	public String parseAsync(FixtureState state) {
+		return state.parser.parseAsync(this.link).join();
+	}
+
+	/**
+	 * a parse with an empty descrambler cache, ie the first parse after startup or after youtube 
+	 * ships a new player version
+	 */
+	@Benchmark
+	public String parseUncachedPlayer(FixtureState state) {
+		return state.newParser().parse(this.link);
+	}
+	
+	/**
+	 * everything needed to serve two resolutions (eg mobile and desktop viewers) from one fetch. 
+	 * compare with two parses by parsers with different preferred resolutions
+	 */
+	@Benchmark
+	public void resolveFormats(FixtureState state, Blackhole blackhole) {
+		for(StreamFormat format : StreamFormat.pick(state.parser.resolveFormats(this.link), 360, 1080).values()) {
+			blackhole.consume(format.getUrl());
+		}
+	}
+}
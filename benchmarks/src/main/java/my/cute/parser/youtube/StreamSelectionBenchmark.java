@@ -0,0 +1,73 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * picking a stream out of the stream parameters found in a page, including descrambling its
+ * signature with cached rules. the parameters are pulled out of the fixtures the same way the 
+ * parser does it, so these measure exactly the input pickStream and pickUrl see in a parse
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamSelectionBenchmark {
+
+	/*
+	 * empty for no fmt, ie pick by preferred resolution
+	 */
+	@Param({"", "18"})
+	public String fmt;
+
+	private String path;
+	private String line;
+	private String urlMap;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		this.path = "www.youtube.com/watch?v=" + Fixtures.VIDEO_ID + (this.fmt.isEmpty() ? "" : "&fmt=" + this.fmt);
+		
+		for(String line : Fixtures.loadString(Fixtures.WATCH_PAGE).split("\n")) {
+			if(line.contains("ytplayer.config") && FormatsReader.read(line) != null) this.line = line;
+		}
+		if(this.line == null) throw new IllegalStateException("no formats in the watch page fixture");
+		
+		VideoInfoReader info = VideoInfoReader.read(new StringReader(Fixtures.loadString(Fixtures.VIDEO_INFO)));
+		if(info == null || info.getUrlEncodedFmtStreamMap() == null) 
+			throw new IllegalStateException("no url_encoded_fmt_stream_map in the get_video_info fixture");
+		this.urlMap = URLDecoder.decode(info.getUrlEncodedFmtStreamMap(), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * includes reading the formats out of the page line, since that's now done in the same pass
+	 */
+	@Benchmark
+	public String pickStream(FixtureState state) {
+		return state.parser.pickStream(new QueryParams(this.path), FormatsReader.read(this.line), 
+				Fixtures.PLAYER_JS_URL, new ParseContext(true));
+	}
+
+	@Benchmark
+	public String pickUrl(FixtureState state) {
+		return state.parser.pickUrl(this.urlMap, this.fmt.isEmpty() ? "22" : this.fmt, Fixtures.PLAYER_JS_URL, new ParseContext(true));
+	}
+}
@@ -0,0 +1,4010 @@
+var _yt_player={};(function(g){var window=this;/*
+ Copyright The Closure Library Authors.
+ SPDX-License-Identifier: Apache-2.0
+*/
+var DkRE={dF:function(a){return a.Qp},Tw:function(a){return a.HI},Bu:function(a){return a.Gm},q4:function(a){return a.Am}};
+g.jUTH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var td=a.V0(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.vxgz=function(a,b){if(!a)return null;return a;if(!a)return null;b=b||{};b=b||{}};
+g.ujly=function(a,b){var de=a.wu(b);a.br=b;b=b||{}};
+var vvSN={ks:function(a){return a.uM},bc:function(a){return a.CX},ep:function(a){return a.Dy},c9:function(a){return a.xg}};
+var RjvX={Yp:function(a){return a.cM},fK:function(a){return a.TH},qW:function(a){return a.Tk},pP:function(a){return a.h0},Vx:function(a){return a.kP}};
+g.z4VD=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.EcvM=function(a,b){if(!a)return null;a.f6=b;var nw=a.nf(b);b=b||{};a.Gv=b};
+g.feOp=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.L0=b;b=b||{};var lw=a.Jy(b)};
+var QBy8={ub:function(a){return a.wK},Fz:function(a){return a.J4}};
+g.bWvg=function(a,b){b=b||{};return a};
+g.NEPL=function(a,b){return a;var wk=a.FI(b);b=b||{};var hk=a.fJ(b);a.yG=b;if(!a)return null};
+g.lUt0=function(a,b){return a;var fh=a.Z9(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var gc=a.Qx(b)};
+var cTI6={nb:function(a){return a.xA},lT:function(a){return a.xA},s1:function(a){return a.U9},Pc:function(a){return a.h8},JM:function(a){return a.RG}};
+var YpEi={pM:function(a){return a.C2},Z1:function(a){return a.rY}};
+var cYaW={xy:function(a){return a.Sj},xW:function(a){return a.i8},Ad:function(a){return a.bU},zw:function(a){return a.Rj},k6:function(a){return a.aL}};
+g.a2Fm=function(a,b){if(!a)return null;return a;if(!a)return null;return a};
+g.jXzL=function(a,b){var xc=a.TC(b);return a;var qt=a.ic(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.Yoxm=function(a,b){var ry=a.yX(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};var lr=a.Th(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.minl=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.M0r6=function(a,b){if(!a)return null;b=b||{}};
+g.ovMX=function(a,b){a.yI=b;if(!a)return null;b=b||{}};
+g.e8Q7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var SYu1={fW:function(a){return a.Ih},no:function(a){return a.Ob},SW:function(a){return a.N9}};
+g.tSBd=function(a,b){var yz=a.nM(b);for(var c=0;c<a.length;c++)b.push(a[c]);var gn=a.qm(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var ec=a.II(b);return a};
+g.DruM=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.Q2lV=function(a,b){b=b||{};a.MD=b};
+g.asNd=function(a,b){var el=a.RS(b);a.VX=b;b=b||{};var sg=a.Gj(b);var ox=a.uD(b);a.gx=b;return a};
+g.Rsb8=function(a,b){a.lY=b;var gx=a.rd(b);return a};
+g.danE=function(a,b){a.dX=b;if(!a)return null;if(!a)return null};
+var qdPX={gA:function(a){return a.rv},Nr:function(a){return a.FE},Uz:function(a){return a.Rj},PU:function(a){return a.wM},Bg:function(a){return a.uQ}};
+g.qVFd=function(a,b){var tf=a.eR(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.zocl=function(a,b){return a;var a9=a.uy(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.BM=b};
+g.ClRb=function(a,b){var ay=a.rn(b);if(!a)return null;b=b||{};a.w9=b};
+g.tNmU=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.QbTF=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.WkV0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Tg=b;b=b||{};a.i0=b;return a;var oz=a.Qr(b);if(!a)return null};
+g.cEyr=function(a,b){return a;b=b||{};b=b||{};return a;return a;b=b||{}};
+var JUMV={WN:function(a){return a.nz},JX:function(a){return a.Ud},Kc:function(a){return a.Fk},bW:function(a){return a.qy},nC:function(a){return a.iW}};
+g.c9Wa=function(a,b){var t1=a.Q9(b);return a;b=b||{};return a;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.q9NV=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var f2=a.Z6(b);a.Uy=b;return a;return a;return a};
+var IYT4={VC:function(a){return a.rR},ix:function(a){return a.WY},x5:function(a){return a.y9},op:function(a){return a.i7},Wr:function(a){return a.SJ}};
+g.ntV5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var gb=a.e5(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.S8gr=function(a,b){var kg=a.j8(b);b=b||{};if(!a)return null;a.TJ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var CVru={o1:function(a){return a.nm},UQ:function(a){return a.lh},uN:function(a){return a.pZ},ij:function(a){return a.am},R3:function(a){return a.Xn}};
+g.GWTl=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.jMEK=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.IDcl=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var is=a.u0(b)};
+var OulI={k2:function(a){return a.f7},Lg:function(a){return a.Ce}};
+g.Rth6=function(a,b){if(!a)return null;a.cY=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.x9zG=function(a,b){b=b||{};return a;if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var j7=a.HS(b);b=b||{}};
+g.qpu3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.nv=b};
+g.wSiZ=function(a,b){a.AC=b;return a;var m3=a.bX(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.eOLy=function(a,b){if(!a)return null;return a;a.JW=b;var px=a.r5(b);var mi=a.Bq(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xYsO=function(a,b){a.yX=b;return a;var pi=a.Pk(b);a.KV=b;a.nB=b;return a};
+g.JmJh=function(a,b){if(!a)return null;if(!a)return null};
+g.mUoQ=function(a,b){return a;a.b0=b;b=b||{};b=b||{};if(!a)return null;a.J7=b};
+g.EGkY=function(a,b){a.Sh=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.BO=b;b=b||{};return a;b=b||{};b=b||{}};
+g.nidH=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var j4=a.uT(b)};
+g.Gbpw=function(a,b){var og=a.Ec(b);var ga=a.kZ(b);b=b||{};b=b||{};b=b||{};a.h4=b};
+g.XwrJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+g.npvf=function(a,b){if(!a)return null;var kq=a.wY(b)};
+g.CzzZ=function(a,b){var ah=a.r0(b);return a;return a;b=b||{}};
+var VDXv={v8:function(a){return a.nM},Iw:function(a){return a.Em},Kd:function(a){return a.Ak}};
+g.cYHO=function(a,b){a.Gz=b;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.tusl=function(a,b){var sp=a.h7(b);a.Wh=b;a.JN=b;return a};
+g.rfrG=function(a,b){a.bk=b;return a;if(!a)return null;return a;a.Ps=b};
+var eCOC={RJ:function(a){return a.eE},a8:function(a){return a.gk},Rc:function(a){return a.Tv}};
+g.aMeP=function(a,b){var ua=a.DP(b);var zb=a.t2(b);return a;return a};
+g.BECz=function(a,b){a.SZ=b;return a;return a;var gr=a.Jc(b);b=b||{};b=b||{}};
+g.JQNi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var at=a.ic(b);return a;a.dx=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var LNZp={xY:function(a){return a.VN},Yo:function(a){return a.r4},Je:function(a){return a.Fj},GS:function(a){return a.Aj}};
+g.G9v9=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.Ppb6=function(a,b){if(!a)return null;if(!a)return null;a.nI=b;a.Af=b;if(!a)return null};
+g.NhrE=function(a,b){if(!a)return null;b=b||{};a.c4=b};
+var n6Rf={gb:function(a){return a.PV},NW:function(a){return a.Sm},Pm:function(a){return a.Vw}};
+g.zUJT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ep=a.rV(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.WHwo=function(a,b){b=b||{};return a;var ww=a.f2(b);a.NF=b};
+g.x2UK=function(a,b){var bf=a.Cd(b);return a;a.GI=b;if(!a)return null;return a;var at=a.dc(b);if(!a)return null};
+g.GFFB=function(a,b){var ua=a.qJ(b);a.y2=b;if(!a)return null;var bp=a.zB(b);a.RB=b;return a;return a};
+g.gUwf=function(a,b){b=b||{};var xp=a.Yi(b)};
+var fCVo={M1:function(a){return a.S7},CR:function(a){return a.kH},bm:function(a){return a.Q3},P4:function(a){return a.xU}};
+g.WXWy=function(a,b){var uw=a.wP(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.VMN2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.dDpx=function(a,b){var cn=a.Bh(b);return a;var n3=a.KY(b);a.Wc=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fLie=function(a,b){b=b||{};a.Bn=b;if(!a)return null;var dj=a.aK(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.Xt=b};
+g.BqvD=function(a,b){a.Ra=b;b=b||{}};
+var QaGT={Kd:function(a){return a.jP},hk:function(a){return a.Yk},be:function(a){return a.bb},oF:function(a){return a.wj},hz:function(a){return a.JQ}};
+g.Hjcq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.nX=b;b=b||{};return a};
+g.osZF=function(a,b){if(!a)return null;var tl=a.Cx(b)};
+var Kbw6={OP:function(a){return a.WD},JG:function(a){return a.bC},IM:function(a){return a.Vr},mq:function(a){return a.CV}};
+g.jFvP=function(a,b){if(!a)return null;a.Zk=b;if(!a)return null;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.sVyg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var hb=a.gg(b)};
+g.Ldr5=function(a,b){if(!a)return null;a.WC=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.sg=b};
+g.k5GT=function(a,b){a.ok=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var zr=a.rK(b);a.pK=b};
+g.cCWO=function(a,b){b=b||{};return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};a.dx=b};
+g.F9p6=function(a,b){var ks=a.ST(b);var ph=a.IB(b);return a;var wx=a.dp(b);return a};
+g.mNXY=function(a,b){var y1=a.xB(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};if(!a)return null;var ag=a.yJ(b);return a};
+g.zzPt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var yv=a.SP(b);return a};
+g.jFkd=function(a,b){a.a2=b;if(!a)return null;if(!a)return null;b=b||{}};
+g.qZjB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.X8xX=function(a,b){b=b||{};return a;return a;b=b||{};if(!a)return null;b=b||{}};
+g.BbYt=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var un=a.b0(b);return a};
+g.pLgV=function(a,b){var ff=a.On(b);for(var c=0;c<a.length;c++)b.push(a[c]);var rx=a.Xm(b)};
+g.TPD8=function(a,b){a.wN=b;if(!a)return null;var gg=a.gE(b)};
+var qVBi={ZO:function(a){return a.j4},oj:function(a){return a.TQ},CT:function(a){return a.uS}};
+var qPFp={of:function(a){return a.w5},Ka:function(a){return a.rK},LL:function(a){return a.mH},Ha:function(a){return a.l8},GL:function(a){return a.x8}};
+g.uNMx=function(a,b){var mn=a.wX(b);return a;return a;a.Dn=b;a.E3=b};
+g.OZXI=function(a,b){var bh=a.Hf(b);return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var oy=a.VV(b)};
+g.m7ps=function(a,b){b=b||{};var tg=a.BF(b)};
+g.mZLM=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var MjKw={gt:function(a){return a.zK},vL:function(a){return a.p7},jV:function(a){return a.Z5}};
+var QIch={dX:function(a){return a.ui},sZ:function(a){return a.Kx},mr:function(a){return a.yq},je:function(a){return a.MM}};
+var Cnvp={L4:function(a){return a.og},vv:function(a){return a.VR}};
+g.i8er=function(a,b){a.lK=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var AVcp={ZF:function(a){return a.ey},pF:function(a){return a.qT},rW:function(a){return a.rs}};
+g.MZjS=function(a,b){a.Wb=b;b=b||{};var ka=a.GK(b);var ti=a.yi(b);return a;a.Vu=b};
+g.lahJ=function(a,b){if(!a)return null;var qr=a.yo(b)};
+g.zGkM=function(a,b){return a;if(!a)return null;return a;a.tq=b;if(!a)return null};
+g.ITXt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;return a;var yn=a.oq(b);return a};
+g.w4Qi=function(a,b){b=b||{};return a;if(!a)return null};
+g.kKIj=function(a,b){return a;b=b||{};b=b||{};if(!a)return null;var mv=a.vg(b);b=b||{}};
+g.jUov=function(a,b){return a;b=b||{};return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LnW8=function(a,b){var ay=a.Xe(b);b=b||{};return a};
+g.oZy7=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.A2Wp=function(a,b){b=b||{};if(!a)return null;a.po=b;return a;a.U3=b};
+g.xCES=function(a,b){var vf=a.g1(b);var nd=a.Vy(b);for(var c=0;c<a.length;c++)b.push(a[c]);var up=a.EN(b);var cv=a.Tk(b);return a;a.Gt=b};
+g.VVfG=function(a,b){a.TH=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.s9Kv=function(a,b){var is=a.CY(b);b=b||{};return a;if(!a)return null;a.RN=b;a.vM=b;return a};
+g.pzUS=function(a,b){a.H8=b;var r7=a.f9(b);return a;a.XV=b;var j6=a.Ai(b);var di=a.pw(b)};
+g.h9Di=function(a,b){return a;var xo=a.lv(b)};
+g.sURJ=function(a,b){b=b||{};b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var fwRR={Th:function(a){return a.Ro},Vv:function(a){return a.fM}};
+g.fvwu=function(a,b){if(!a)return null;var f0=a.hW(b);if(!a)return null;var mz=a.Vh(b);if(!a)return null;return a;return a};
+g.fndp=function(a,b){b=b||{};var ij=a.Z8(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var cz=a.ht(b)};
+g.CDv0=function(a,b){var wo=a.Cb(b);b=b||{};if(!a)return null};
+g.pmVa=function(a,b){return a;var xc=a.dV(b);if(!a)return null;return a;b=b||{};return a;return a};
+g.ZpH4=function(a,b){a.Uc=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.w4ya=function(a,b){a.M8=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;if(!a)return null;a.iE=b};
+var zoQi={Qx:function(a){return a.jX},gM:function(a){return a.iq},AY:function(a){return a.M5}};
+g.Hxnb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;if(!a)return null;b=b||{}};
+g.LkFP=function(a,b){a.NY=b;a.Du=b;var tp=a.ix(b)};
+g.tmiT=function(a,b){b=b||{};if(!a)return null};
+var C4g6={Qe:function(a){return a.YC},lU:function(a){return a.tO}};
+g.AHm7=function(a,b){return a;return a;return a;if(!a)return null};
+g.kpqh=function(a,b){a.pu=b;return a;b=b||{}};
+g.rjJa=function(a,b){b=b||{};b=b||{}};
+g.KnXj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+var AbEJ={qe:function(a){return a.Pd},SF:function(a){return a.vc},vY:function(a){return a.tG},US:function(a){return a.Nr},mw:function(a){return a.OI}};
+g.MJbR=function(a,b){var wf=a.tO(b);var dz=a.fY(b);a.Aa=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Ay=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.QhDl=function(a,b){var xg=a.VW(b);a.fS=b;var bn=a.vh(b);return a;b=b||{}};
+g.F7dX=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.rrfU=function(a,b){return a;a.A2=b;var cc=a.nF(b)};
+var BVsE={X4:function(a){return a.Pu},HV:function(a){return a.M2},PS:function(a){return a.hA},SL:function(a){return a.Gv},tx:function(a){return a.dX}};
+g.FLE8=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var xc=a.g3(b);a.cS=b;if(!a)return null;return a};
+g.eZfo=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var zd=a.V9(b)};
+var CclY={ad:function(a){return a.Ga},Gg:function(a){return a.W4},Bh:function(a){return a.S8},em:function(a){return a.Qr},kl:function(a){return a.eR}};
+var khrJ={xB:function(a){return a.Ep},tF:function(a){return a.OQ},fJ:function(a){return a.ph}};
+g.TZt2=function(a,b){var le=a.eS(b);if(!a)return null;if(!a)return null;return a;a.SA=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.HKvr=function(a,b){var h1=a.wK(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var ud=a.ty(b)};
+g.qyAw=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var wg=a.ji(b);return a;if(!a)return null;return a};
+g.Y7SJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var pq=a.aE(b)};
+var LxON={aE:function(a){return a.W8},v7:function(a){return a.oM},vZ:function(a){return a.ik},Zg:function(a){return a.GT}};
+g.b0VE=function(a,b){a.RZ=b;return a};
+var VYhi={lt:function(a){return a.KV},zy:function(a){return a.ae},Gq:function(a){return a.kD},yS:function(a){return a.Zj},hX:function(a){return a.Ie}};
+g.MqMl=function(a,b){a.we=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var hiA9={l3:function(a){return a.Dm},TF:function(a){return a.jz},o1:function(a){return a.YC}};
+g.fyWI=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.cLle=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;if(!a)return null;return a;b=b||{};var zz=a.iw(b)};
+var b1tP={W2:function(a){return a.ID},cp:function(a){return a.ws},Y0:function(a){return a.Gz}};
+g.FKHX=function(a,b){if(!a)return null;b=b||{};b=b||{};a.bN=b};
+var zUq1={wq:function(a){return a.KG},oB:function(a){return a.NW},K4:function(a){return a.ei},lp:function(a){return a.WI},Yv:function(a){return a.iK}};
+var B3Gl={Yn:function(a){return a.CB},c3:function(a){return a.RL},XR:function(a){return a.Ya}};
+g.RiIS=function(a,b){b=b||{};var ok=a.aH(b);a.PC=b};
+g.CUfP=function(a,b){a.Kn=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Li=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.qNwq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;b=b||{};a.B4=b;var tz=a.kZ(b);var ot=a.oE(b)};
+g.JDg9=function(a,b){var zj=a.CD(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};a.ky=b};
+var Ixch={Eq:function(a){return a.qj},rL:function(a){return a.Ic},yC:function(a){return a.ms},C4:function(a){return a.dc}};
+g.SDis=function(a,b){b=b||{};if(!a)return null;if(!a)return null;a.nU=b;var nk=a.uI(b)};
+var YNXN={Oi:function(a){return a.tP},bL:function(a){return a.eD},Sv:function(a){return a.gy},rq:function(a){return a.vJ}};
+g.Tby0=function(a,b){if(!a)return null;if(!a)return null};
+g.YoLE=function(a,b){a.Ix=b;a.FH=b;return a;if(!a)return null;return a;a.Az=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.SqfP=function(a,b){var dr=a.tf(b);if(!a)return null;var uh=a.ok(b);var ht=a.WH(b);b=b||{};a.bX=b;a.id=b};
+g.urpj=function(a,b){b=b||{};return a;var lt=a.E5(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.QpN6=function(a,b){a.tY=b;b=b||{}};
+var ooAB={UY:function(a){return a.hN},XH:function(a){return a.Hy},Zf:function(a){return a.rl}};
+g.xArz=function(a,b){a.eR=b;b=b||{}};
+g.wAyy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var oc=a.F3(b);a.Je=b};
+g.Dhh1=function(a,b){b=b||{};var mx=a.eQ(b);b=b||{};b=b||{};return a};
+g.TYGT=function(a,b){var sm=a.ST(b);a.Hb=b;a.mz=b};
+g.jGyU=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.mxQi=function(a,b){if(!a)return null;var qx=a.Ar(b);var nu=a.tR(b);if(!a)return null;var cj=a.g0(b);var yk=a.Dc(b);return a};
+var gmWE={ru:function(a){return a.XA},BN:function(a){return a.Zs},hl:function(a){return a.O3},M6:function(a){return a.sB}};
+g.AQWQ=function(a,b){var zw=a.xV(b);b=b||{}};
+g.AXTu=function(a,b){b=b||{};return a};
+g.VEaD=function(a,b){b=b||{};a.PX=b;b=b||{}};
+var vdyQ={oF:function(a){return a.WK},bc:function(a){return a.Ti},KB:function(a){return a.u4}};
+var asHM={e9:function(a){return a.eK},M3:function(a){return a.LG}};
+var k8v4={yR:function(a){return a.kx},oS:function(a){return a.i8},em:function(a){return a.S5}};
+var oaZF={CW:function(a){return a.vo},Z6:function(a){return a.v6},FB:function(a){return a.br},wd:function(a){return a.EG},zD:function(a){return a.ww}};
+var JFtn={tt:function(a){return a.OG},WM:function(a){return a.Uj},Oi:function(a){return a.x7},wM:function(a){return a.xo}};
+g.edPP=function(a,b){if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var dl=a.es(b);a.Ym=b;var pv=a.uI(b)};
+var iXQq={WQ:function(a){return a.ag},TU:function(a){return a.xX},Pd:function(a){return a.rz}};
+g.vuOR=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.in=b;return a;if(!a)return null;return a;return a};
+g.JjXN=function(a,b){a.GH=b;b=b||{};return a;a.PF=b};
+g.g5pZ=function(a,b){var go=a.Y3(b);if(!a)return null;a.ss=b;a.wM=b};
+g.jBIs=function(a,b){var ob=a.RZ(b);if(!a)return null;return a;a.F1=b;b=b||{};var qn=a.X9(b)};
+var VnMU={Zn:function(a){return a.py},xm:function(a){return a.mw},P0:function(a){return a.Hu},Pe:function(a){return a.Wq}};
+var W8OC={f9:function(a){return a.UZ},Xo:function(a){return a.jy}};
+g.kEbA=function(a,b){a.At=b;return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.P5S4=function(a,b){return a;var tf=a.R7(b);a.Of=b};
+var NcMg={LH:function(a){return a.pj},ri:function(a){return a.JC}};
+var eumT={Fl:function(a){return a.ZO},Kd:function(a){return a.ak}};
+var fTnw={Ku:function(a){return a.em},ZW:function(a){return a.EE},cK:function(a){return a.go}};
+g.AGT7=function(a,b){b=b||{};a.hI=b;var tq=a.Q1(b)};
+var FaBZ={al:function(a){return a.tS},lG:function(a){return a.Ul},rZ:function(a){return a.qe}};
+g.zZc5=function(a,b){return a;if(!a)return null;b=b||{}};
+g.hSN5=function(a,b){return a;return a;a.NH=b;if(!a)return null;b=b||{}};
+var HRMM={S5:function(a){return a.vT},rw:function(a){return a.Ui},EA:function(a){return a.p1},po:function(a){return a.MY}};
+g.zlDr=function(a,b){return a;a.oR=b;return a;if(!a)return null};
+var ktsA={qj:function(a){return a.gz},re:function(a){return a.Oq}};
+var sOK9={Dp:function(a){return a.U7},pZ:function(a){return a.Yg},Fj:function(a){return a.O4}};
+g.PkEB=function(a,b){var nb=a.L0(b);var ss=a.TX(b);var qd=a.GS(b);return a;a.vL=b;if(!a)return null};
+var k2OP={d6:function(a){return a.Yb},r6:function(a){return a.Dh},XB:function(a){return a.AD}};
+var LVMT={IL:function(a){return a.di},a9:function(a){return a.Y4}};
+var UzWI={kv:function(a){return a.Oi},H7:function(a){return a.N6},TJ:function(a){return a.QC}};
+var OBxv={Jb:function(a){return a.QG},aL:function(a){return a.y5}};
+g.K7dY=function(a,b){if(!a)return null;return a;var d2=a.T3(b);var ow=a.xh(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.g7=b};
+g.ulDj=function(a,b){a.wH=b;var ki=a.Eu(b)};
+g.xdMz=function(a,b){if(!a)return null;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Ev=b};
+g.Awjv=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var p2=a.rn(b)};
+var nfJC={LB:function(a){return a.Fo},Fh:function(a){return a.Hv}};
+g.gSln=function(a,b){a.lC=b;return a;b=b||{};if(!a)return null};
+g.vFBu=function(a,b){return a;var ri=a.a5(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.hRxV=function(a,b){b=b||{};return a;var kp=a.bT(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.eV=b;b=b||{};a.yP=b};
+g.pKW3=function(a,b){var ah=a.FW(b);a.Hw=b};
+g.E3qr=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;var si=a.lR(b);if(!a)return null;b=b||{}};
+g.Fvn1=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.UyTR=function(a,b){return a;a.Aa=b;a.Is=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var NfcP={wo:function(a){return a.qy},Jt:function(a){return a.DE}};
+g.ZqRf=function(a,b){return a;var rm=a.NW(b);return a;var pe=a.jh(b);a.u7=b;b=b||{};a.LW=b};
+var YNN7={G8:function(a){return a.eW},E5:function(a){return a.LV},JY:function(a){return a.fr},CE:function(a){return a.so},WW:function(a){return a.o4}};
+var CcXw={Yz:function(a){return a.Ht},IX:function(a){return a.eI},N2:function(a){return a.uy}};
+g.Tgvu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};a.ca=b};
+var GDmN={rv:function(a){return a.H7},i4:function(a){return a.w5},As:function(a){return a.HP},d5:function(a){return a.lD},VF:function(a){return a.Ps}};
+g.XGox=function(a,b){a.yx=b;b=b||{};var tr=a.CO(b)};
+g.VyXL=function(a,b){var pj=a.aX(b);var vj=a.ju(b)};
+g.r8qh=function(a,b){return a;b=b||{};b=b||{}};
+g.spWM=function(a,b){a.kB=b;return a;b=b||{};return a;return a};
+var wrBx={HW:function(a){return a.mN},N8:function(a){return a.SV},Q7:function(a){return a.gP}};
+g.rCrf=function(a,b){b=b||{};if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Gmgi={is:function(a){return a.BE},J5:function(a){return a.Vu}};
+var bsnO={SC:function(a){return a.ca},si:function(a){return a.zO},xV:function(a){return a.Pq},at:function(a){return a.Ns},WB:function(a){return a.F0}};
+var UcTD={Zt:function(a){return a.bA},Ce:function(a){return a.nA},GF:function(a){return a.Pw},hw:function(a){return a.IS},Uj:function(a){return a.KE}};
+g.fcPa=function(a,b){return a;if(!a)return null};
+g.aDqe=function(a,b){var mp=a.bq(b);return a};
+g.QHn0=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.NRRd=function(a,b){var ru=a.pW(b);b=b||{};return a;return a;a.XN=b;var l5=a.Wb(b)};
+g.jrPI=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.TiP3=function(a,b){return a;if(!a)return null;if(!a)return null};
+g.l2it=function(a,b){if(!a)return null;var ur=a.xj(b)};
+g.yXi6=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};a.IO=b;b=b||{};if(!a)return null};
+g.gHgI=function(a,b){b=b||{};return a;return a;if(!a)return null;a.Ub=b};
+g.OOA4=function(a,b){return a;a.Xh=b;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GpQe=function(a,b){return a;return a;return a;b=b||{};b=b||{}};
+g.FvhX=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.lM=b;b=b||{};var vf=a.TW(b);var n5=a.OR(b)};
+g.apJ7=function(a,b){b=b||{};if(!a)return null;var gy=a.NW(b);b=b||{}};
+g.v6HV=function(a,b){var d4=a.Qt(b);b=b||{};a.p8=b;a.ev=b;var us=a.Kb(b);var rl=a.ks(b);a.fD=b};
+g.MYYa=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;a.vc=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var hmDx={IF:function(a){return a.TD},uw:function(a){return a.qS},NZ:function(a){return a.E6},HL:function(a){return a.S8}};
+g.BOVL=function(a,b){a.wl=b;var tv=a.HO(b);a.ss=b;for(var c=0;c<a.length;c++)b.push(a[c]);var or=a.NB(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.oJj9=function(a,b){a.Yw=b;var n7=a.w7(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var glbI={ju:function(a){return a.BZ},QK:function(a){return a.gs},Se:function(a){return a.JG},WW:function(a){return a.wk},Po:function(a){return a.x5}};
+var d0Ka={Vy:function(a){return a.Yv},DN:function(a){return a.jH},pX:function(a){return a.D6}};
+g.mws1=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var b9=a.hK(b);if(!a)return null};
+var vou3={pw:function(a){return a.GA},q2:function(a){return a.SE},nD:function(a){return a.ZD},wl:function(a){return a.xN}};
+var e7Vt={uy:function(a){return a.dD},AC:function(a){return a.bC}};
+var MDlU={dn:function(a){return a.gx},F3:function(a){return a.vX},S2:function(a){return a.Ge},pz:function(a){return a.Wr}};
+g.pDTg=function(a,b){return a;var gd=a.Tq(b);a.tX=b;return a;return a;b=b||{}};
+g.YnDl=function(a,b){return a;var bl=a.F9(b);if(!a)return null};
+g.u5w6=function(a,b){a.xc=b;b=b||{};b=b||{}};
+g.ghVH=function(a,b){if(!a)return null;return a;a.Pc=b;return a};
+g.vvwy=function(a,b){b=b||{};a.Mz=b;a.aS=b;if(!a)return null;b=b||{}};
+g.txLM=function(a,b){var lj=a.fM(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var mi=a.L1(b);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.A6Iy=function(a,b){if(!a)return null;b=b||{};b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.nTs1=function(a,b){a.TK=b;return a;a.PU=b};
+g.zmAx=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.AOKE=function(a,b){return a;return a;var yo=a.yH(b);if(!a)return null;b=b||{};a.Mf=b};
+g.weFc=function(a,b){b=b||{};if(!a)return null;b=b||{};a.PC=b;if(!a)return null};
+g.cCju=function(a,b){b=b||{};b=b||{};b=b||{}};
+g.SEU4=function(a,b){a.du=b;if(!a)return null;return a;var uv=a.RK(b);var w1=a.QM(b);return a};
+g.mNDs=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.yyNg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.sT=b};
+g.wAcb=function(a,b){var qc=a.eN(b);a.VO=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.Gaf3=function(a,b){return a;a.po=b;if(!a)return null;b=b||{}};
+g.cOSH=function(a,b){if(!a)return null;b=b||{};if(!a)return null;if(!a)return null;var wl=a.i9(b);var iw=a.RU(b)};
+g.zsPb=function(a,b){a.Ug=b;var ri=a.Uw(b);if(!a)return null};
+var rvSG={Gd:function(a){return a.sP},PD:function(a){return a.BE},aO:function(a){return a.sv},E0:function(a){return a.f4}};
+g.MKfA=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.vdxN=function(a,b){return a;return a;return a};
+g.iNio=function(a,b){a.Da=b;b=b||{};a.Qu=b;var hb=a.mU(b);if(!a)return null;return a};
+g.BEQL=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);var ui=a.sZ(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var tYiv={t4:function(a){return a.GX},Th:function(a){return a.T2},nr:function(a){return a.fd},xF:function(a){return a.Zn}};
+g.rRuY=function(a,b){return a;return a;b=b||{}};
+g.tnkB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var gt=a.BR(b);a.zK=b;a.e3=b;b=b||{};var fk=a.vs(b);b=b||{}};
+g.Ssol=function(a,b){b=b||{};var fn=a.Eh(b)};
+var ImZ2={su:function(a){return a.zL},NF:function(a){return a.HL}};
+var slEM={hs:function(a){return a.Va},C6:function(a){return a.DQ},Zi:function(a){return a.gQ}};
+var zYEc={T5:function(a){return a.sM},Jb:function(a){return a.tn},tT:function(a){return a.wa},jy:function(a){return a.aR},wr:function(a){return a.ui}};
+g.jLMG=function(a,b){if(!a)return null;b=b||{};return a;b=b||{};a.Xo=b;a.ap=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Qevh={pZ:function(a){return a.tf},jO:function(a){return a.xW},cE:function(a){return a.kG}};
+g.aiya=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Ore1={zl:function(a){return a.fo},Zk:function(a){return a.ki}};
+g.Fnok=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.D0=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var tFJP={so:function(a){return a.GQ},V5:function(a){return a.sB},XV:function(a){return a.Zd}};
+g.IJQ7=function(a,b){b=b||{};if(!a)return null;return a;b=b||{};var rk=a.WG(b)};
+g.B2Mb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.We=b};
+g.AJNI=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.sdIm=function(a,b){return a;return a;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.nPuz=function(a,b){if(!a)return null;return a;a.I7=b;var rk=a.jd(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.JQSH=function(a,b){a.C0=b;b=b||{};if(!a)return null};
+var kREt={lb:function(a){return a.p3},IP:function(a){return a.Ti},Cw:function(a){return a.Dt},OX:function(a){return a.cn}};
+g.ARyn=function(a,b){a.tM=b;if(!a)return null;a.dk=b;for(var c=0;c<a.length;c++)b.push(a[c]);var hr=a.TM(b);if(!a)return null};
+var TVR0={xv:function(a){return a.C7},dZ:function(a){return a.iL}};
+g.LlQA=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.cm=b;if(!a)return null;var vg=a.vO(b)};
+g.fvYc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.GN=b;a.eS=b;if(!a)return null;return a};
+g.weWe=function(a,b){if(!a)return null;a.FH=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.X5=b};
+g.kUOV=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var xd=a.x1(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.lPWo=function(a,b){var jh=a.PF(b);b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var r7=a.MP(b);var hy=a.YW(b);b=b||{}};
+g.bnJk=function(a,b){return a;a.JZ=b;a.MQ=b};
+g.v9Zf=function(a,b){var n2=a.jo(b);var oq=a.Wx(b);if(!a)return null;b=b||{};var lz=a.tI(b);var bf=a.G7(b);var oe=a.kr(b)};
+g.akTW=function(a,b){if(!a)return null;var ns=a.Y3(b);if(!a)return null};
+g.f8ZG=function(a,b){return a;return a;return a;b=b||{};var q5=a.GM(b);return a};
+g.tcbm=function(a,b){var et=a.An(b);if(!a)return null;b=b||{}};
+var hKB7={xz:function(a){return a.Of},ej:function(a){return a.qv}};
+g.scyf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;a.j2=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var wy=a.NL(b)};
+g.SRxK=function(a,b){a.pW=b;if(!a)return null;var ws=a.Mx(b)};
+g.zOIV=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;a.MI=b;b=b||{};return a};
+g.ZITD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;b=b||{};b=b||{};return a};
+g.VsJn=function(a,b){b=b||{};if(!a)return null;return a;return a};
+g.qCKy=function(a,b){if(!a)return null;if(!a)return null};
+g.ZIVJ=function(a,b){return a;return a;b=b||{};a.Eq=b;if(!a)return null;if(!a)return null;a.Ph=b};
+g.nzGY=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var uw=a.GY(b)};
+g.jnN1=function(a,b){return a;if(!a)return null};
+var ZoOD={Zp:function(a){return a.af},o0:function(a){return a.sy},qM:function(a){return a.td}};
+g.uZRS=function(a,b){return a;b=b||{};var ix=a.QT(b);a.kt=b;var kd=a.v2(b)};
+g.Uvq4=function(a,b){return a;return a};
+g.qSti=function(a,b){b=b||{};return a;return a;if(!a)return null};
+var L8qj={sG:function(a){return a.rv},Me:function(a){return a.EE},OS:function(a){return a.zJ}};
+g.mHwh=function(a,b){b=b||{};return a};
+g.V1k9=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ZYxN=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};a.iB=b;a.Io=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.IPAB=function(a,b){return a;var s6=a.xw(b)};
+var yAI9={EE:function(a){return a.jG},qh:function(a){return a.F8},Pg:function(a){return a.u9}};
+g.kff0=function(a,b){a.W0=b;var hl=a.Bj(b);if(!a)return null};
+g.xOnw=function(a,b){b=b||{};if(!a)return null;b=b||{};var t7=a.PI(b);var bu=a.uO(b)};
+g.q7T2=function(a,b){if(!a)return null;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var uNQi={dq:function(a){return a.ec},dp:function(a){return a.vY},Ng:function(a){return a.i6},hA:function(a){return a.i3}};
+g.HcBx=function(a,b){a.zk=b;var ah=a.Dm(b);var rs=a.s5(b);return a;a.f7=b;if(!a)return null;if(!a)return null};
+g.tHYW=function(a,b){if(!a)return null;a.fy=b;if(!a)return null;b=b||{};return a};
+g.L1Yx=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.DR=b;if(!a)return null};
+g.TuFx=function(a,b){if(!a)return null;var n4=a.kh(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.hr=b};
+g.O1DW=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;if(!a)return null};
+g.dhaM=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;return a;b=b||{};if(!a)return null;var dk=a.bV(b)};
+g.v7HM=function(a,b){if(!a)return null;var ob=a.Nz(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.oa=b;var cb=a.FE(b)};
+var E5mR={yU:function(a){return a.L5},Pz:function(a){return a.Yy},yN:function(a){return a.kf},Wk:function(a){return a.Fn}};
+g.SJRq=function(a,b){b=b||{};a.JA=b;var vp=a.Ae(b);var do=a.WS(b);return a};
+g.KxxP=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var dv=a.b8(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.GQ=b};
+g.BeEC=function(a,b){a.ul=b;a.V9=b;return a;if(!a)return null;a.DA=b;if(!a)return null;var xs=a.o0(b)};
+g.mbyd=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var pq=a.jB(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.Bx=b};
+g.IKpQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var et=a.Pd(b);var in=a.ZN(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var GKjg={te:function(a){return a.fb},qp:function(a){return a.Qc},Y3:function(a){return a.hc}};
+g.P7hc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.jw=b;a.lm=b;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.w5Yk=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var cc=a.lb(b);var zp=a.xu(b);a.P3=b};
+g.WCrU=function(a,b){a.Az=b;return a;return a;var y0=a.VR(b)};
+g.dDM7=function(a,b){var yn=a.fD(b);return a;a.CW=b;return a;return a;a.Lf=b};
+var rqs0={Ah:function(a){return a.Og},MO:function(a){return a.AG}};
+g.QHJU=function(a,b){if(!a)return null;a.B4=b;var kb=a.Sh(b)};
+g.RaDA=function(a,b){a.id=b;var vc=a.dz(b);var sk=a.mz(b);if(!a)return null;b=b||{}};
+g.QmQ1=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.HNOG=function(a,b){a.gA=b;return a};
+g.bAyq=function(a,b){var cd=a.O1(b);var tx=a.wP(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var kfyr={jU:function(a){return a.sT},DP:function(a){return a.YK},jz:function(a){return a.SS},Ed:function(a){return a.FX}};
+g.kmZm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var rq=a.PT(b)};
+g.AaxZ=function(a,b){var sr=a.j2(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.P2=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.KT=b};
+g.rdw9=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var cm=a.jl(b);if(!a)return null;return a;b=b||{}};
+g.UBzY=function(a,b){if(!a)return null;var s0=a.Bw(b)};
+g.s7a7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.GZ=b;b=b||{}};
+g.V2xb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.EH=b;var ad=a.eO(b)};
+g.liqj=function(a,b){a.Xx=b;var de=a.Pe(b);return a;var pd=a.Dw(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.nI=b;var tf=a.Rm(b)};
+g.ZCaC=function(a,b){return a;var z6=a.Pb(b);for(var c=0;c<a.length;c++)b.push(a[c]);var px=a.B4(b)};
+g.duYq=function(a,b){a.Ws=b;var ar=a.Y9(b);return a};
+g.x6iy=function(a,b){a.Dy=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.rT=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.vf=b};
+g.hiPD=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ahnX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.oO=b;var qi=a.Vj(b);if(!a)return null};
+g.LDYi=function(a,b){a.H1=b;return a;b=b||{};a.RD=b;a.B1=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.OlFq=function(a,b){if(!a)return null;var qv=a.b4(b);if(!a)return null;a.NK=b;a.SJ=b;return a};
+g.vHC8=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var qr=a.iu(b)};
+g.wUkl=function(a,b){a.o7=b;return a};
+var QEzc={Mx:function(a){return a.pK},Rc:function(a){return a.OW},HI:function(a){return a.o0},Zo:function(a){return a.Ql}};
+g.t2BJ=function(a,b){if(!a)return null;a.YV=b;a.u4=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Zyyb={mc:function(a){return a.Pz},iV:function(a){return a.TR},C6:function(a){return a.NS}};
+g.H1qa=function(a,b){a.o8=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.BIZV=function(a,b){return a;var ym=a.yk(b);b=b||{};var h1=a.tr(b);b=b||{};var v8=a.QW(b)};
+g.m4j3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.b0=b;for(var c=0;c<a.length;c++)b.push(a[c]);var zg=a.Hn(b);b=b||{};b=b||{};var zk=a.iZ(b)};
+g.kKOn=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.cA=b};
+var vETr={lu:function(a){return a.CR},QK:function(a){return a.wq},zz:function(a){return a.dR}};
+var HcCI={Vp:function(a){return a.Zc},XL:function(a){return a.GY},R2:function(a){return a.Sa}};
+g.Xpts=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+var b1Xu={pA:function(a){return a.Vq},ik:function(a){return a.AH},wb:function(a){return a.pd},pP:function(a){return a.oX}};
+g.jrr0=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var zx=a.cP(b);b=b||{}};
+g.krQ7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.vM=b;return a};
+var JrR4={Dq:function(a){return a.X3},ZJ:function(a){return a.Dc},lg:function(a){return a.zo}};
+var W4t0={Fx:function(a){return a.u8},wS:function(a){return a.JU},Mu:function(a){return a.Z3},do:function(a){return a.ZT},vP:function(a){return a.to}};
+var g2Zs={nS:function(a){return a.aF},p8:function(a){return a.O0},eu:function(a){return a.OT}};
+g.HArI=function(a,b){a.Og=b;var zf=a.qt(b);if(!a)return null;a.Jt=b;b=b||{};if(!a)return null};
+g.JpFM=function(a,b){b=b||{};if(!a)return null;b=b||{}};
+g.F3Jz=function(a,b){if(!a)return null;return a;return a;b=b||{}};
+g.gYbX=function(a,b){var it=a.fI(b);a.bF=b;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var MsZ8={xm:function(a){return a.zv},pP:function(a){return a.S5},O7:function(a){return a.kG},ID:function(a){return a.hh}};
+g.ZzMC=function(a,b){var kx=a.Ko(b);a.U4=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var zw=a.aP(b);if(!a)return null};
+g.N5Bf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.LMJP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var pr=a.YP(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.Jxpr=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var bj=a.Xt(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.of=b;b=b||{}};
+g.Dqaf=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.wedZ=function(a,b){b=b||{};b=b||{};if(!a)return null;b=b||{};return a};
+g.YFk6=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var cu=a.iN(b)};
+g.dhMp=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Oe=b;a.NO=b;var mx=a.u0(b)};
+g.kXI6=function(a,b){a.jf=b;b=b||{};a.Dz=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.BU=b;a.M4=b};
+g.tIRa=function(a,b){if(!a)return null;a.Mg=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};a.Hx=b;b=b||{}};
+g.luhJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.G5=b;if(!a)return null};
+g.KoaD=function(a,b){return a;return a;a.Jn=b;return a};
+g.mDR9=function(a,b){a.EK=b;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.AWYG=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.ItRy=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;b=b||{}};
+g.BFbw=function(a,b){a.U6=b;return a;b=b||{}};
+var eEmQ={ib:function(a){return a.JW},Ss:function(a){return a.QF},RN:function(a){return a.ec},JP:function(a){return a.Oc}};
+g.PfyU=function(a,b){var zg=a.b7(b);if(!a)return null;var to=a.fk(b);return a;b=b||{};a.jR=b};
+g.IlKf=function(a,b){if(!a)return null;a.x8=b;if(!a)return null};
+g.uJmy=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.WokR=function(a,b){if(!a)return null;b=b||{};if(!a)return null;if(!a)return null;var lz=a.dM(b)};
+g.cfUA=function(a,b){a.NN=b;if(!a)return null};
+g.hrEU=function(a,b){var fo=a.cA(b);if(!a)return null;return a;return a;if(!a)return null};
+g.yMcl=function(a,b){a.dY=b;var xd=a.nZ(b);if(!a)return null;return a};
+g.hCZ1=function(a,b){a.uy=b;var tc=a.op(b);var kw=a.wM(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.gXP7=function(a,b){b=b||{};a.T0=b;var na=a.ND(b)};
+var ZNUH={ji:function(a){return a.Kt},gA:function(a){return a.Z1}};
+g.dYQV=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var lniA={pB:function(a){return a.rQ},VZ:function(a){return a.JH},sq:function(a){return a.mg},mw:function(a){return a.Ai}};
+var IEMr={AB:function(a){return a.ig},Xi:function(a){return a.TK},Wk:function(a){return a.hS},Uw:function(a){return a.Ok},QS:function(a){return a.eI}};
+g.dAZZ=function(a,b){b=b||{};return a};
+g.oPwM=function(a,b){a.mR=b;a.s7=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.osYW=function(a,b){var op=a.uO(b);a.Ze=b;a.Ns=b};
+g.aPxU=function(a,b){b=b||{};var h9=a.nh(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.vqgz=function(a,b){var xc=a.Jo(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.PP=b};
+g.hIT8=function(a,b){var ou=a.LO(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.LB=b};
+var KERX={X6:function(a){return a.JN},hs:function(a){return a.L5},XJ:function(a){return a.IO},yw:function(a){return a.Nf},d4:function(a){return a.wZ}};
+g.uKe9=function(a,b){if(!a)return null;a.Rw=b;return a;a.Ao=b};
+g.FeA2=function(a,b){var w1=a.LL(b);var vk=a.KU(b);var ei=a.Dq(b);if(!a)return null;return a};
+g.nwEW=function(a,b){a.Io=b;a.cW=b;var hp=a.X9(b);var x7=a.vB(b);if(!a)return null};
+var tbZz={E0:function(a){return a.LU},Lj:function(a){return a.oO},GH:function(a){return a.ju},B8:function(a){return a.KG},Zc:function(a){return a.Df}};
+g.I8jH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};a.AX=b};
+var Iqu5={vU:function(a){return a.zD},iC:function(a){return a.rw},Ms:function(a){return a.vB}};
+g.RFDv=function(a,b){var fx=a.Ny(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Qc=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GiZl=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.SJBX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ut=a.JC(b);b=b||{};return a;a.xf=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.CiYm=function(a,b){if(!a)return null;return a};
+var RHkf={uk:function(a){return a.Tr},OH:function(a){return a.xJ}};
+var eOIi={vm:function(a){return a.la},gw:function(a){return a.IF}};
+var DUmn={kc:function(a){return a.Mt},Gm:function(a){return a.BZ},ev:function(a){return a.hu},Mt:function(a){return a.sR}};
+g.FXu2=function(a,b){var ev=a.sN(b);return a;b=b||{}};
+var hcoy={Be:function(a){return a.Kc},uq:function(a){return a.nT}};
+g.pbOi=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+var Ohl1={sb:function(a){return a.VO},MW:function(a){return a.QE},EI:function(a){return a.wj},yz:function(a){return a.cr}};
+g.w1JW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.vy=b;return a;a.nO=b;for(var c=0;c<a.length;c++)b.push(a[c]);var an=a.cJ(b)};
+var jbqD={Js:function(a){return a.wH},Wa:function(a){return a.IF}};
+g.GDyx=function(a,b){var im=a.ZL(b);a.ax=b;var ho=a.wb(b);return a};
+var tvOK={oF:function(a){return a.wD},PN:function(a){return a.UR},M3:function(a){return a.IN}};
+g.jUQR=function(a,b){return a;b=b||{};if(!a)return null;if(!a)return null;b=b||{};var ar=a.Yy(b)};
+g.GMYP=function(a,b){var k7=a.V1(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.UL=b};
+g.KNGG=function(a,b){var xh=a.cB(b);return a;b=b||{}};
+g.Q1qC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var JSaO={Px:function(a){return a.Tw},Jj:function(a){return a.Fy},Uv:function(a){return a.K5},zW:function(a){return a.AJ}};
+var q8TS={pW:function(a){return a.W0},hu:function(a){return a.hh},sY:function(a){return a.V9}};
+g.gCwF=function(a,b){return a;var uh=a.kz(b);a.k2=b;return a;a.Nj=b};
+g.FDw9=function(a,b){a.No=b;if(!a)return null;var kl=a.zd(b);var vv=a.dW(b);return a};
+g.v5bX=function(a,b){a.IX=b;a.UP=b;a.IA=b};
+g.jXGx=function(a,b){b=b||{};return a;b=b||{};a.Uc=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var iFPg={OE:function(a){return a.tc},iK:function(a){return a.OD},bk:function(a){return a.ty},pK:function(a){return a.Gi},ea:function(a){return a.HY}};
+g.thJY=function(a,b){if(!a)return null;b=b||{};a.sK=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.kM=b;b=b||{}};
+g.GGl6=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.dW=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var UdvR={FA:function(a){return a.e3},ds:function(a){return a.mn},nl:function(a){return a.Wt},H6:function(a){return a.ff},QD:function(a){return a.t9}};
+g.u1jp=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.KLhY=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.OSJo=function(a,b){if(!a)return null;var bf=a.Lt(b);var zz=a.ev(b);var np=a.ZU(b)};
+g.S5su=function(a,b){a.Eu=b;b=b||{};a.Cb=b;var c2=a.MH(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.lFoW=function(a,b){b=b||{};if(!a)return null;a.ky=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.kJw8=function(a,b){a.dc=b;return a;a.GG=b};
+g.qKjN=function(a,b){if(!a)return null;return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.rmm8=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Txz6=function(a,b){var yg=a.Xp(b);a.NS=b;a.g2=b;if(!a)return null;var eq=a.jb(b);return a;return a};
+var YtIp={dl:function(a){return a.gs},TD:function(a){return a.Pc},QQ:function(a){return a.Rb}};
+g.dsPP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var tu=a.xf(b);var ua=a.h3(b)};
+g.JOO8=function(a,b){var mg=a.GU(b);b=b||{};a.H4=b;a.dK=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.RHqj=function(a,b){b=b||{};b=b||{};var az=a.D6(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var MqBY={h5:function(a){return a.os},zX:function(a){return a.oA},Hq:function(a){return a.Cf},Y3:function(a){return a.Ho}};
+var GOgl={bi:function(a){return a.f9},Pe:function(a){return a.a0},R5:function(a){return a.Mk}};
+g.KBI8=function(a,b){var t2=a.gW(b);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GQVW=function(a,b){if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.QR=b;if(!a)return null};
+var Iuu0={yb:function(a){return a.Fn},zK:function(a){return a.vT},Gn:function(a){return a.Io},uO:function(a){return a.oO},uX:function(a){return a.bW}};
+g.fvfl=function(a,b){if(!a)return null;return a;var b7=a.P7(b);var jj=a.ia(b);a.fb=b};
+g.UshZ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var j3=a.Lh(b);a.u4=b;var tv=a.h6(b)};
+g.xegJ=function(a,b){if(!a)return null;var ud=a.GY(b)};
+g.R9oW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.B4zq=function(a,b){if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Kiv1=function(a,b){var bg=a.gn(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ViNV=function(a,b){return a;a.Fp=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var rq=a.gP(b)};
+var MYWz={nN:function(a){return a.SD},NB:function(a){return a.iI},QP:function(a){return a.vc}};
+g.XpvB=function(a,b){var q3=a.gK(b);if(!a)return null;b=b||{}};
+var hlC6={aa:function(a){return a.dn},UR:function(a){return a.Yg},d1:function(a){return a.tA}};
+g.Svhu=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var ie=a.ZW(b);b=b||{};var ah=a.kJ(b)};
+g.wrKA=function(a,b){return a;if(!a)return null;return a;return a;a.NO=b};
+var krlo={DP:function(a){return a.zY},q0:function(a){return a.fw}};
+g.HyQg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};return a;var yk=a.rg(b);a.Lq=b;b=b||{}};
+g.JBVW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;var z8=a.fW(b);if(!a)return null};
+g.limJ=function(a,b){a.Yq=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var w5=a.Ew(b);for(var c=0;c<a.length;c++)b.push(a[c]);var ep=a.nq(b)};
+var tnrK={zL:function(a){return a.Q2},vz:function(a){return a.vw},YV:function(a){return a.pQ},B2:function(a){return a.vR}};
+g.VMrF=function(a,b){a.Ak=b;a.Z0=b;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.hmxn=function(a,b){a.W9=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.M8=b;var jl=a.fh(b);b=b||{}};
+g.QlQb=function(a,b){var mc=a.Oh(b);return a;a.zF=b;var rj=a.LI(b)};
+var Ytkz={Go:function(a){return a.hG},HE:function(a){return a.Q2},YN:function(a){return a.lE},GL:function(a){return a.ID},Oo:function(a){return a.gC}};
+g.PMg8=function(a,b){a.fU=b;a.tt=b;var v2=a.FS(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.iUwJ=function(a,b){b=b||{};var zb=a.Am(b);if(!a)return null;b=b||{};var up=a.tT(b)};
+g.IWKK=function(a,b){a.xG=b;b=b||{};return a;var ww=a.Cp(b);return a;if(!a)return null;a.dz=b};
+var FnC9={fo:function(a){return a.Bk},LD:function(a){return a.Dj}};
+g.FjVa=function(a,b){if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var cf=a.Cb(b)};
+var e6n6={WF:function(a){return a.vp},iS:function(a){return a.sE},Hj:function(a){return a.Mz},gA:function(a){return a.WO},pc:function(a){return a.gb}};
+g.l5X1=function(a,b){a.KS=b;if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var iRrz={zv:function(a){return a.Sl},rh:function(a){return a.Iu},TX:function(a){return a.TL},Hb:function(a){return a.HN}};
+g.Eop5=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.lE=b};
+g.ztn0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.Xapl=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var hj=a.DV(b);return a;a.ZX=b;var fc=a.nM(b);return a};
+var AJuw={Ur:function(a){return a.Di},J3:function(a){return a.Ih},OE:function(a){return a.om}};
+g.DRDo=function(a,b){var nz=a.KH(b);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.b3=b};
+g.Pyxk=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;if(!a)return null};
+g.O9Xw=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.V7X3=function(a,b){if(!a)return null;if(!a)return null;b=b||{}};
+g.cUKA=function(a,b){a.VN=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.si=b;b=b||{};var yd=a.nn(b);return a};
+g.PuCl=function(a,b){a.su=b;var yt=a.Cf(b)};
+g.towU=function(a,b){return a;a.Rk=b;a.Mh=b;b=b||{};return a;if(!a)return null};
+g.V0jM=function(a,b){var f0=a.w9(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;return a;if(!a)return null};
+g.BFBo=function(a,b){return a;var hq=a.hj(b)};
+g.qwkm=function(a,b){var a7=a.iN(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.k8eZ=function(a,b){if(!a)return null;return a;var ra=a.ON(b)};
+var eegk={UI:function(a){return a.lt},Kt:function(a){return a.e6},zb:function(a){return a.lx},MV:function(a){return a.HM}};
+g.WRH5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.lh=b;return a;if(!a)return null};
+g.rysG=function(a,b){a.Qo=b;var oq=a.Ng(b);var sy=a.kV(b);if(!a)return null};
+g.UQWT=function(a,b){b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;b=b||{};if(!a)return null};
+var Pbnx={dj:function(a){return a.XC},Rx:function(a){return a.dH},YY:function(a){return a.gL},gs:function(a){return a.q6},Sr:function(a){return a.wJ}};
+g.e0m3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var cl=a.Uv(b);var ho=a.qo(b);b=b||{}};
+g.mrAq=function(a,b){b=b||{};a.bZ=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.pJN0=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.Cl=b;var tt=a.Ek(b);if(!a)return null;a.cX=b;if(!a)return null};
+var a8xR={uY:function(a){return a.tK},gY:function(a){return a.nb},Vi:function(a){return a.oC},EI:function(a){return a.lr}};
+g.WVIs=function(a,b){var m6=a.c0(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.tyvw=function(a,b){return a;a.U7=b;return a};
+var mdzt={TN:function(a){return a.IJ},A2:function(a){return a.SP},QZ:function(a){return a.kg},Jg:function(a){return a.Ph},sO:function(a){return a.R6}};
+g.CFiH=function(a,b){a.tk=b;var mk=a.Aw(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Nl=b};
+var enG8={MG:function(a){return a.q6},t5:function(a){return a.wU}};
+var aDxY={Xs:function(a){return a.PT},tJ:function(a){return a.Gd},Yu:function(a){return a.Xh},ug:function(a){return a.R1}};
+g.oBYw=function(a,b){if(!a)return null;var b6=a.Jc(b)};
+g.t1zn=function(a,b){a.xL=b;a.Vz=b;a.Wq=b;if(!a)return null;var vo=a.ZY(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.oAGm=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.kR=b};
+g.IUfa=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.Jc=b;b=b||{}};
+var AFPg={M1:function(a){return a.yy},Ye:function(a){return a.we},dd:function(a){return a.Wj},Ue:function(a){return a.Vx},OG:function(a){return a.Bb}};
+g.TqPT=function(a,b){var zy=a.dH(b);a.hd=b;b=b||{};return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.TKg7=function(a,b){if(!a)return null;if(!a)return null};
+var JlFM={Kc:function(a){return a.sD},VC:function(a){return a.Py}};
+g.TqpB=function(a,b){var j2=a.gB(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var fi=a.zr(b);var z1=a.PI(b);a.F8=b};
+g.qtN6=function(a,b){var mv=a.Se(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var Ifoj={D3:function(a){return a.o6},bw:function(a){return a.L8},Xw:function(a){return a.bq}};
+var khEA={b8:function(a){return a.Eu},D8:function(a){return a.FS}};
+g.n1tl=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+var IsNS={bn:function(a){return a.A4},Bq:function(a){return a.BU}};
+g.SKo7=function(a,b){if(!a)return null;return a};
+g.kcIs=function(a,b){if(!a)return null;return a;return a;a.n5=b};
+g.E7NR=function(a,b){a.Xq=b;var vo=a.hT(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var dWFL={Ul:function(a){return a.St},CN:function(a){return a.nO},WP:function(a){return a.OC}};
+var ukDS={hv:function(a){return a.PS},xN:function(a){return a.Gj},rv:function(a){return a.yS},YG:function(a){return a.o6}};
+g.y2XJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};return a;if(!a)return null};
+g.lpBT=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var sl=a.s1(b);if(!a)return null};
+g.Lgu1=function(a,b){var xm=a.C7(b);a.o5=b};
+g.qSsH=function(a,b){if(!a)return null;return a;return a;b=b||{};a.VW=b;return a};
+var AaQb={UI:function(a){return a.iI},WG:function(a){return a.MQ},Up:function(a){return a.WJ},NJ:function(a){return a.TN},jE:function(a){return a.A8}};
+g.ZvBq=function(a,b){return a;if(!a)return null;a.cL=b;if(!a)return null;if(!a)return null;a.DT=b};
+g.nIrC=function(a,b){a.eQ=b;var rq=a.HZ(b);return a};
+g.unmQ=function(a,b){var dw=a.r4(b);if(!a)return null;var av=a.RE(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.QHmm=function(a,b){b=b||{};var qn=a.yS(b)};
+var IEgp={iO:function(a){return a.xu},RK:function(a){return a.IP},QH:function(a){return a.F8},iK:function(a){return a.r9},dC:function(a){return a.rP}};
+var D5TY={f3:function(a){return a.nY},h7:function(a){return a.UT},zo:function(a){return a.oG},E5:function(a){return a.ra}};
+g.KkWJ=function(a,b){var wr=a.Dm(b);if(!a)return null;a.K0=b;b=b||{};b=b||{}};
+var B9xX={ig:function(a){return a.rW},Rr:function(a){return a.ys},rR:function(a){return a.Rm},To:function(a){return a.K2},Q7:function(a){return a.Hg}};
+g.f2eS=function(a,b){var wv=a.TH(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.mU=b;if(!a)return null;if(!a)return null;var n6=a.So(b)};
+var LnHB={kR:function(a){return a.PA},ra:function(a){return a.TD},qN:function(a){return a.LR},yD:function(a){return a.x7},ar:function(a){return a.OT}};
+g.Jsir=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var m3=a.TP(b);a.x7=b;if(!a)return null;return a};
+var MDQZ={Mv:function(a){return a.zK},Sf:function(a){return a.nj},FN:function(a){return a.Sd},kf:function(a){return a.xz},m3:function(a){return a.V8}};
+g.AwMB=function(a,b){a.k8=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.R7fb=function(a,b){return a;a.Xg=b;var wg=a.NQ(b);a.OH=b;a.se=b;a.RO=b};
+var Jsxg={vn:function(a){return a.da},op:function(a){return a.yQ}};
+g.Zum8=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.jh=b;var xh=a.Ds(b);b=b||{}};
+g.zUNV=function(a,b){var i7=a.T9(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.WY=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.cKqo=function(a,b){var mt=a.gu(b);return a;if(!a)return null};
+var jacV={i6:function(a){return a.dJ},ZL:function(a){return a.YI},IV:function(a){return a.r6},Oe:function(a){return a.gu}};
+g.KjuM=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var lq=a.Vy(b)};
+g.Q4Dr=function(a,b){a.Ax=b;if(!a)return null};
+g.I2x4=function(a,b){var mo=a.GN(b);b=b||{};a.e9=b;var am=a.rU(b);b=b||{};a.fZ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.N4KO=function(a,b){var t0=a.Wp(b);var hc=a.cc(b);a.r2=b;b=b||{}};
+g.UHai=function(a,b){return a;if(!a)return null;b=b||{};b=b||{};if(!a)return null};
+g.NmV4=function(a,b){a.dw=b;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.Dlkx=function(a,b){var e5=a.wD(b);var hj=a.Bb(b);var om=a.q8(b);a.UE=b;var h2=a.g7(b);a.vl=b};
+var rssz={cQ:function(a){return a.xg},XJ:function(a){return a.Xr},e5:function(a){return a.u3},Fc:function(a){return a.zC}};
+g.q5J0=function(a,b){return a;if(!a)return null;return a;var yi=a.S1(b);if(!a)return null};
+g.vPxr=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var FaJE={ER:function(a){return a.e4},ej:function(a){return a.P1}};
+g.ssw8=function(a,b){return a;if(!a)return null;a.u1=b};
+g.k3Jm=function(a,b){b=b||{};var al=a.gk(b);return a;b=b||{};b=b||{}};
+var P1TD={GX:function(a){return a.dn},Fj:function(a){return a.PZ},vh:function(a){return a.I5},s1:function(a){return a.XK},L2:function(a){return a.Jr}};
+g.VtoT=function(a,b){var vo=a.i8(b);if(!a)return null};
+g.XVmF=function(a,b){if(!a)return null;return a;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var v7IC={fN:function(a){return a.ol},ik:function(a){return a.jD},a0:function(a){return a.vV}};
+g.dVTe=function(a,b){return a;var sf=a.np(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var jl=a.o5(b)};
+g.Hpal=function(a,b){var m2=a.PY(b);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xqbZ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Mn=b;if(!a)return null;a.Kj=b;b=b||{};b=b||{}};
+var kQz4={Og:function(a){return a.Oy},sl:function(a){return a.Pa},nw:function(a){return a.SQ}};
+g.xHSo=function(a,b){b=b||{};b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.Y0=b;return a};
+var YCjX={JZ:function(a){return a.Fp},sh:function(a){return a.hg},Ni:function(a){return a.pw},d5:function(a){return a.vo}};
+g.wMyo=function(a,b){var dd=a.gu(b);return a;if(!a)return null};
+var luGz={ZV:function(a){return a.E6},cm:function(a){return a.Zg},ir:function(a){return a.m9},HT:function(a){return a.F3},IC:function(a){return a.WL}};
+g.B2vo=function(a,b){b=b||{};a.Me=b;b=b||{}};
+g.gddg=function(a,b){var yv=a.NG(b);if(!a)return null;var xl=a.q1(b);var d5=a.Nr(b)};
+g.aXOQ=function(a,b){var r1=a.dS(b);var wd=a.ZH(b);a.Wy=b;if(!a)return null;var uy=a.Og(b);b=b||{}};
+var ZKhj={fe:function(a){return a.tg},Hv:function(a){return a.HM},WV:function(a){return a.VI}};
+g.vntk=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var sz=a.vq(b)};
+g.UeyZ=function(a,b){return a;a.Zh=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var beUU={oL:function(a){return a.jz},do:function(a){return a.CW},jM:function(a){return a.ly},vR:function(a){return a.kb},Y1:function(a){return a.g6}};
+g.POpN=function(a,b){if(!a)return null;b=b||{};if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.EsZX=function(a,b){var am=a.IM(b);if(!a)return null};
+var wwBC={lD:function(a){return a.Iu},PD:function(a){return a.Fp},mx:function(a){return a.mr},YE:function(a){return a.Ww},U5:function(a){return a.te}};
+g.cFtO=function(a,b){a.aE=b;a.W8=b;if(!a)return null;a.il=b;for(var c=0;c<a.length;c++)b.push(a[c]);var ul=a.O9(b);return a};
+var j9EK={vD:function(a){return a.nf},wN:function(a){return a.F4},My:function(a){return a.XG},lN:function(a){return a.hr}};
+g.Bku5=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a};
+g.DmdF=function(a,b){b=b||{};return a};
+g.jUfX=function(a,b){var ro=a.YP(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.gq=b};
+g.xtXK=function(a,b){var el=a.h5(b);return a;return a;if(!a)return null;b=b||{};return a;b=b||{}};
+g.zDZC=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var no=a.hj(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.riJR=function(a,b){var wk=a.WX(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var TLWP={NB:function(a){return a.jy},t4:function(a){return a.ks},kq:function(a){return a.N3},RH:function(a){return a.pv},zw:function(a){return a.c2}};
+var OeIW={mo:function(a){return a.zU},Ga:function(a){return a.QD},rn:function(a){return a.yp},zl:function(a){return a.Zl},BN:function(a){return a.r6}};
+g.iuGv=function(a,b){a.yB=b;b=b||{};b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.nFLl=function(a,b){a.uB=b;var wx=a.Eb(b);return a;a.iS=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var QxcZ={Tp:function(a){return a.hD},Bo:function(a){return a.WH},N7:function(a){return a.u4},YS:function(a){return a.n8},MD:function(a){return a.A0}};
+g.VUnn=function(a,b){a.Sy=b;return a;b=b||{}};
+g.oGKP=function(a,b){b=b||{};if(!a)return null};
+var jKYm={WU:function(a){return a.tB},Pf:function(a){return a.FL},Nw:function(a){return a.Ul}};
+g.PmIq=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var Kow0={F7:function(a){return a.kv},Rx:function(a){return a.WW}};
+g.Rjmv=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.zFZS=function(a,b){var y5=a.Dv(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.J8=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.rzyF=function(a,b){var dd=a.Ba(b);for(var c=0;c<a.length;c++)b.push(a[c]);var l0=a.ZW(b);var ee=a.s6(b);var lv=a.Tt(b);var np=a.qr(b)};
+var EiP1={Kz:function(a){return a.th},sj:function(a){return a.Pj},ur:function(a){return a.vN}};
+g.s4Jn=function(a,b){var ck=a.OF(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var gilM={nl:function(a){return a.Sm},x1:function(a){return a.ys},TI:function(a){return a.sm},E7:function(a){return a.qB},Sp:function(a){return a.s5}};
+g.ayC0=function(a,b){var am=a.Ek(b);if(!a)return null;if(!a)return null;a.H3=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.T3rG=function(a,b){a.PR=b;for(var c=0;c<a.length;c++)b.push(a[c]);var i2=a.eL(b);return a;if(!a)return null};
+var yFAS={Cd:function(a){return a.rt},vD:function(a){return a.KY},lX:function(a){return a.vB},HR:function(a){return a.hA},xg:function(a){return a.VD}};
+g.YVeS=function(a,b){a.Rd=b;var xt=a.LQ(b);if(!a)return null;var ex=a.y2(b);var dt=a.Uy(b);if(!a)return null};
+var HYZr={iD:function(a){return a.uf},SH:function(a){return a.a4},rD:function(a){return a.I2},eH:function(a){return a.EK}};
+g.c7bi=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.SF=b};
+g.U2z1=function(a,b){return a;if(!a)return null;a.Lk=b};
+g.PWjB=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ZtbV=function(a,b){if(!a)return null;if(!a)return null;b=b||{};a.Z7=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.akes=function(a,b){a.hW=b;a.Oj=b;if(!a)return null};
+g.wSpT=function(a,b){b=b||{};b=b||{}};
+g.DnUL=function(a,b){var u6=a.lP(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.fQ=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+var noVi={Ca:function(a){return a.Kr},bd:function(a){return a.t5},fc:function(a){return a.jH},c6:function(a){return a.Hc}};
+g.xedL=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var ZKtQ={OT:function(a){return a.vX},rn:function(a){return a.Yo},iw:function(a){return a.zQ}};
+var SvEa={W5:function(a){return a.LQ},zl:function(a){return a.Iz},qB:function(a){return a.Sr}};
+g.N1ST=function(a,b){var ru=a.qL(b);var ns=a.df(b);if(!a)return null};
+g.cxgA=function(a,b){var f6=a.ZH(b);if(!a)return null;var j6=a.Tb(b);if(!a)return null};
+var uCN4={Z8:function(a){return a.Xn},zk:function(a){return a.ud},JE:function(a){return a.HQ}};
+g.W6in=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.J9CF=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var q5=a.K3(b);return a;if(!a)return null;b=b||{};if(!a)return null};
+g.ggSM=function(a,b){return a;var fv=a.yK(b);return a;if(!a)return null};
+g.Trrr=function(a,b){b=b||{};a.Q2=b};
+var Fxvh={u0:function(a){return a.q9},mo:function(a){return a.k6},Sl:function(a){return a.I0}};
+g.T2gp=function(a,b){var ie=a.l1(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.kKc6=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var hs=a.Bg(b)};
+g.kSqs=function(a,b){if(!a)return null;return a;var ge=a.Mg(b)};
+g.dBUP=function(a,b){return a;b=b||{};if(!a)return null;var by=a.Ku(b);b=b||{}};
+var GQLC={Lq:function(a){return a.H9},Ul:function(a){return a.Im},cN:function(a){return a.HJ},ca:function(a){return a.su},JC:function(a){return a.c9}};
+var K2FC={SB:function(a){return a.ln},wP:function(a){return a.cJ},Z6:function(a){return a.NH},xg:function(a){return a.tV}};
+var V4kp={nV:function(a){return a.LY},a3:function(a){return a.r4}};
+g.NGvw=function(a,b){if(!a)return null;a.TJ=b;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.kHNC=function(a,b){var xc=a.WS(b);if(!a)return null;b=b||{};a.Jt=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Phxd=function(a,b){a.nk=b;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var nb=a.VM(b)};
+g.qpYp=function(a,b){return a;b=b||{};a.Em=b;return a;a.py=b;return a;b=b||{}};
+g.gxcE=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Ab=b;var ma=a.Qk(b)};
+g.M2Bj=function(a,b){if(!a)return null;if(!a)return null};
+g.fRQD=function(a,b){b=b||{};return a;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var iiKO={R1:function(a){return a.Pq},Xv:function(a){return a.Ym}};
+g.QWGb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var PXFv={Dr:function(a){return a.yg},ki:function(a){return a.IB}};
+g.cMBb=function(a,b){return a;return a;a.mB=b;a.Fv=b;var cn=a.gU(b)};
+g.zBTe=function(a,b){if(!a)return null;a.b0=b;return a;b=b||{};if(!a)return null;if(!a)return null};
+g.hZgn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.T1=b;b=b||{}};
+var xaxa={uS:function(a){return a.Mn},wn:function(a){return a.aI},Kp:function(a){return a.bX}};
+g.n1HW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.k2=b;b=b||{}};
+var CaSM={dg:function(a){return a.eQ},Nh:function(a){return a.ou},yl:function(a){return a.UH}};
+var gJjN={tc:function(a){return a.IS},Rs:function(a){return a.OW},s1:function(a){return a.oN}};
+g.x4Ng=function(a,b){var tj=a.Bi(b);b=b||{};b=b||{}};
+g.XDlb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var ax=a.ED(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.iCpF=function(a,b){a.KD=b;a.rF=b;var kz=a.Ha(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.cnjE=function(a,b){a.Wf=b;a.z5=b};
+g.uCLi=function(a,b){b=b||{};b=b||{};return a;a.ti=b;var wd=a.lC(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var nsuu={iT:function(a){return a.Sa},rk:function(a){return a.Wn},bd:function(a){return a.Pf},BA:function(a){return a.Bg}};
+g.cWPT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var f1=a.rG(b);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.qF=b;return a};
+g.FEs6=function(a,b){if(!a)return null;a.vV=b;if(!a)return null;if(!a)return null;var wy=a.qu(b)};
+g.Z7oA=function(a,b){var kq=a.AS(b);a.DA=b;b=b||{};if(!a)return null};
+g.uxXr=function(a,b){if(!a)return null;a.xN=b;b=b||{};if(!a)return null;var sd=a.J8(b);b=b||{};a.xd=b};
+g.Kucz=function(a,b){if(!a)return null;return a};
+g.izWc=function(a,b){b=b||{};var vk=a.xk(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var jjTL={RP:function(a){return a.Dx},O0:function(a){return a.Qa},RE:function(a){return a.Qe},vM:function(a){return a.Sw},Mx:function(a){return a.zL}};
+g.DvAB=function(a,b){if(!a)return null;return a;a.zC=b;if(!a)return null};
+g.TJjA=function(a,b){var gg=a.PG(b);if(!a)return null;b=b||{}};
+g.FGpK=function(a,b){a.Aa=b;var ya=a.vB(b);var ju=a.dW(b)};
+g.JrtO=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.afw6=function(a,b){return a;return a;if(!a)return null;if(!a)return null;a.Lf=b;if(!a)return null};
+g.FWGm=function(a,b){a.gz=b;if(!a)return null;var ze=a.G0(b);b=b||{}};
+var vjIV={zI:function(a){return a.EQ},GR:function(a){return a.iA},F5:function(a){return a.bD},EG:function(a){return a.DQ}};
+g.sXeH=function(a,b){b=b||{};a.Va=b;var ry=a.xa(b)};
+g.a4QD=function(a,b){if(!a)return null;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.GBQ4=function(a,b){return a;return a;a.Dw=b};
+g.g9m6=function(a,b){return a;var vq=a.Y2(b)};
+g.fDro=function(a,b){var al=a.lZ(b);if(!a)return null};
+g.PtGZ=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.HhxO=function(a,b){var ee=a.ac(b);return a;b=b||{};if(!a)return null;a.XK=b;for(var c=0;c<a.length;c++)b.push(a[c]);var uu=a.F9(b)};
+g.zkeh=function(a,b){b=b||{};if(!a)return null};
+var p3GQ={sl:function(a){return a.v4},xE:function(a){return a.vG},hc:function(a){return a.HN},xo:function(a){return a.VB}};
+g.tPWS=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Dh=b;if(!a)return null;a.zs=b;b=b||{};a.cn=b};
+var TiHx={oc:function(a){return a.ig},CI:function(a){return a.QM},Gf:function(a){return a.Gg},Qs:function(a){return a.pd},LC:function(a){return a.Oz}};
+g.B6UX=function(a,b){if(!a)return null;if(!a)return null};
+g.Vasd=function(a,b){if(!a)return null;return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.AZO2=function(a,b){b=b||{};var g8=a.D2(b);var cq=a.tx(b)};
+g.IpIy=function(a,b){b=b||{};if(!a)return null;a.Iu=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.LE=b};
+g.LxoK=function(a,b){var nk=a.te(b);return a;b=b||{}};
+g.lvQa=function(a,b){if(!a)return null;b=b||{};var ty=a.Er(b)};
+g.FyN9=function(a,b){return a;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var j4Hl={eV:function(a){return a.rI},ex:function(a){return a.bT},V1:function(a){return a.KI},I3:function(a){return a.rF}};
+g.AXYw=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var aw=a.BS(b);a.U5=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.igDu=function(a,b){b=b||{};var vf=a.ls(b)};
+g.wtPd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;a.rj=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.evAo=function(a,b){if(!a)return null;var bv=a.kS(b);return a;a.QF=b;var vg=a.n8(b)};
+g.TvjV=function(a,b){b=b||{};b=b||{}};
+g.OUyf=function(a,b){var bp=a.ln(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var j6=a.Jh(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.pwWc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.lp=b;if(!a)return null;b=b||{};a.h0=b;b=b||{}};
+g.DxS5=function(a,b){b=b||{};return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.bM=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.BaZ5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var cc=a.nb(b);a.Bo=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.NdB5=function(a,b){return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var wt=a.yO(b);var gy=a.HV(b);var pz=a.o1(b)};
+g.M5NG=function(a,b){return a;a.qS=b;if(!a)return null;var cj=a.Sy(b);a.zh=b};
+g.gSeY=function(a,b){a.xJ=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.gLLK=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var mk=a.nI(b)};
+g.Fdqa=function(a,b){var du=a.GZ(b);b=b||{};b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fDos=function(a,b){b=b||{};b=b||{}};
+var LZmR={TF:function(a){return a.MI},AB:function(a){return a.oj}};
+g.sfFl=function(a,b){a.Gt=b;a.br=b;var gc=a.Xd(b);a.he=b;return a};
+g.UzCG=function(a,b){return a;a.sd=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Iq=b};
+var n9O9={Rq:function(a){return a.sp},vK:function(a){return a.kT},u5:function(a){return a.BZ},Qk:function(a){return a.bo},Bn:function(a){return a.CG}};
+g.nymU=function(a,b){a.qA=b;a.Ff=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var je=a.GH(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.apF1=function(a,b){var ej=a.Dm(b);a.Fz=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var kpGy={Oo:function(a){return a.q9},ha:function(a){return a.o9}};
+var KqB6={b8:function(a){return a.c7},qJ:function(a){return a.AZ},in:function(a){return a.HD},pK:function(a){return a.Sn}};
+g.FrUz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var dj=a.HX(b)};
+g.Rthn=function(a,b){if(!a)return null;b=b||{}};
+g.L8gc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.jK=b};
+g.zfHF=function(a,b){a.mu=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.Cl=b;a.dU=b;var hw=a.cW(b);var de=a.QT(b)};
+var oNLh={Eh:function(a){return a.hj},Sj:function(a){return a.ph},ve:function(a){return a.av},y9:function(a){return a.Vl},L9:function(a){return a.Y4}};
+g.oebb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a};
+var vGcB={BP:function(a){return a.U0},fw:function(a){return a.sh},uz:function(a){return a.xw}};
+g.xJZ4=function(a,b){b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.py=b;a.DJ=b};
+g.BwYi=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.NvoH=function(a,b){a.Vm=b;a.Ox=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.qT=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Bxpz=function(a,b){b=b||{};a.rb=b;b=b||{};a.DA=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var NccS={bK:function(a){return a.Qy},Qm:function(a){return a.I9},bO:function(a){return a.Nb},Eo:function(a){return a.Ij}};
+var RdwL={zM:function(a){return a.KL},sM:function(a){return a.Fo},fT:function(a){return a.gv}};
+g.EtaU=function(a,b){b=b||{};var rt=a.Qy(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ckcy=function(a,b){var xg=a.kL(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.IVwn=function(a,b){if(!a)return null;return a};
+g.L4f6=function(a,b){a.v3=b;b=b||{};var ke=a.US(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Ljsd=function(a,b){a.RF=b;return a;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var Yqt3={iR:function(a){return a.ix},wq:function(a){return a.eR},cM:function(a){return a.fD},wr:function(a){return a.oz}};
+var yDPc={Mg:function(a){return a.hW},kW:function(a){return a.mo},mu:function(a){return a.LU},DM:function(a){return a.lz},Da:function(a){return a.aj}};
+g.Xpc0=function(a,b){return a;var zm=a.ul(b)};
+g.fOWS=function(a,b){b=b||{};b=b||{};var hu=a.Z0(b);return a};
+g.hgAB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var t3=a.zF(b);a.wa=b;b=b||{};b=b||{}};
+var PGJh={ys:function(a){return a.b0},GV:function(a){return a.er}};
+g.ddoT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var fi=a.KY(b)};
+var cUj1={Ay:function(a){return a.aD},TE:function(a){return a.IM}};
+g.J8HP=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var h1oU={pG:function(a){return a.D0},tq:function(a){return a.ER},IR:function(a){return a.zL},tI:function(a){return a.jg},uU:function(a){return a.Vn}};
+var m5cQ={yc:function(a){return a.g8},xu:function(a){return a.wc},pH:function(a){return a.W8}};
+g.JRjH=function(a,b){if(!a)return null;a.Yd=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.JAZX=function(a,b){return a;a.sR=b;var ey=a.v4(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.MS=b;var vo=a.ZM(b)};
+g.AjOW=function(a,b){var vq=a.pT(b);var dd=a.vk(b);var tf=a.XN(b)};
+g.fzWn=function(a,b){a.tu=b;return a;if(!a)return null};
+g.AvgP=function(a,b){a.R4=b;var i3=a.jw(b);b=b||{};b=b||{}};
+var FEMQ={a4:function(a){return a.pg},Y1:function(a){return a.ZA}};
+g.X1ak=function(a,b){var gl=a.e9(b);a.Vi=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var td=a.We(b)};
+g.mheX=function(a,b){a.hk=b;if(!a)return null;a.vm=b};
+g.YfBq=function(a,b){if(!a)return null;if(!a)return null;a.WS=b;a.Of=b;b=b||{}};
+g.nsO3=function(a,b){var nb=a.gc(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GVQL=function(a,b){var o7=a.nK(b);a.vi=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Aaml=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.r7eM=function(a,b){var ly=a.uq(b);a.sV=b;return a;a.nA=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.WKfu=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var bWAa={mW:function(a){return a.Xn},ES:function(a){return a.ZO},qg:function(a){return a.Dv},W0:function(a){return a.in}};
+g.AXRs=function(a,b){b=b||{};var u8=a.cQ(b);b=b||{}};
+g.TJsS=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var vu=a.IH(b)};
+g.HOqH=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Mk=b;for(var c=0;c<a.length;c++)b.push(a[c]);var e6=a.BU(b);var ni=a.dE(b)};
+g.vKmf=function(a,b){return a;if(!a)return null;a.ps=b;return a;return a};
+g.dlwj=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.ma=b};
+g.u4SO=function(a,b){a.jb=b;if(!a)return null;var yt=a.pH(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.MWpP=function(a,b){a.eL=b;b=b||{};a.lk=b};
+g.cySI=function(a,b){a.Tm=b;return a;var lm=a.LD(b)};
+g.f4UX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ak=a.c0(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.tuhi=function(a,b){var xt=a.H9(b);a.th=b};
+var GHdd={X0:function(a){return a.QH},mB:function(a){return a.YO},tc:function(a){return a.rh},lo:function(a){return a.Mh},Gf:function(a){return a.Mr}};
+g.Rpwe=function(a,b){if(!a)return null;if(!a)return null;a.hQ=b;if(!a)return null;return a};
+g.K8qv=function(a,b){if(!a)return null;if(!a)return null;a.C7=b;var zk=a.GH(b)};
+g.QCn6=function(a,b){b=b||{};a.qz=b;b=b||{};var w9=a.ND(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.rNXp=function(a,b){var nl=a.Es(b);if(!a)return null;var qi=a.p2(b);b=b||{}};
+var kMel={yK:function(a){return a.pe},Ir:function(a){return a.q7}};
+g.kLOU=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Pg=b;b=b||{};return a;a.SA=b;var c9=a.fy(b)};
+g.wwOe=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.qC=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.R5We=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Oirt={uy:function(a){return a.ly},Vd:function(a){return a.TG},mI:function(a){return a.KI}};
+var AiBw={mU:function(a){return a.we},Gn:function(a){return a.EA}};
+var J0ig={vl:function(a){return a.LA},kR:function(a){return a.Y3},UR:function(a){return a.QF},Yn:function(a){return a.Xk}};
+g.tZB5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Nd=b;a.ws=b;return a};
+var Uvhp={mx:function(a){return a.fX},Px:function(a){return a.Tk},WV:function(a){return a.hu}};
+var Higa={UD:function(a){return a.z9},dD:function(a){return a.me},Aa:function(a){return a.Ps}};
+g.LyuI=function(a,b){b=b||{};return a;var tw=a.BQ(b);a.Qy=b};
+g.ycqA=function(a,b){var pv=a.Gs(b);if(!a)return null};
+g.AGk5=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.WR=b};
+g.toBe=function(a,b){b=b||{};a.OE=b;return a;b=b||{};var zu=a.Fh(b);b=b||{}};
+g.Fnkb=function(a,b){a.b1=b;var er=a.lx(b)};
+g.NGw8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.QG=b;a.Up=b};
+g.f2g5=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.VQu2=function(a,b){var xw=a.pq(b);var kc=a.vb(b);a.rg=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.kJVb=function(a,b){if(!a)return null;if(!a)return null};
+g.QuPQ=function(a,b){var sl=a.I6(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};var qs=a.BX(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.yZZH=function(a,b){b=b||{};var ik=a.C9(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;var zx=a.BA(b)};
+g.rLFE=function(a,b){b=b||{};var oi=a.K4(b);return a;return a;b=b||{};return a};
+var Thyg={Cy:function(a){return a.kn},ej:function(a){return a.dR},Tl:function(a){return a.S5},ru:function(a){return a.Wz}};
+var o6JT={sy:function(a){return a.E0},wa:function(a){return a.O9},Lc:function(a){return a.JM},PG:function(a){return a.CJ}};
+g.kZCF=function(a,b){a.GQ=b;if(!a)return null};
+g.kEUW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ys=a.tQ(b)};
+g.wks2=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.xu=b;b=b||{};var fb=a.uZ(b)};
+var y9bL={Jx:function(a){return a.Q9},ff:function(a){return a.k7},YU:function(a){return a.P2},WG:function(a){return a.xD},ia:function(a){return a.fo}};
+g.IbHL=function(a,b){return a;return a;var sy=a.uh(b);b=b||{}};
+g.N2nF=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.VhFn=function(a,b){a.GV=b;var ph=a.VJ(b);b=b||{}};
+var UDKs={Kl:function(a){return a.sp},Kk:function(a){return a.eK},Wx:function(a){return a.A2}};
+g.fshM=function(a,b){a.vk=b;if(!a)return null};
+g.eukw=function(a,b){b=b||{};a.KD=b;a.g7=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.dyAd=function(a,b){return a;return a;var eq=a.We(b);a.AG=b;b=b||{};return a;return a};
+g.itfZ=function(a,b){var cv=a.ps(b);if(!a)return null};
+var EdFn={EP:function(a){return a.Tf},ic:function(a){return a.SA},im:function(a){return a.Cr},rz:function(a){return a.Rq},pM:function(a){return a.B4}};
+g.XWbA=function(a,b){if(!a)return null;return a;a.bO=b;var wv=a.i0(b);a.Tx=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var IhJj={M3:function(a){return a.ka},lB:function(a){return a.xT}};
+g.hAhL=function(a,b){var zh=a.I0(b);a.Ug=b;b=b||{};var zn=a.KO(b);return a};
+g.inRz=function(a,b){var sv=a.uq(b);a.p5=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.qAkn=function(a,b){return a;b=b||{}};
+g.Uydh=function(a,b){if(!a)return null;b=b||{};if(!a)return null;var lt=a.q5(b);a.vT=b};
+var gZo1={dJ:function(a){return a.Ds},PL:function(a){return a.DR},kc:function(a){return a.fF},Lo:function(a){return a.fp},Gw:function(a){return a.Sg}};
+g.jPaC=function(a,b){if(!a)return null;a.Ci=b;return a;b=b||{};return a};
+g.Kqec=function(a,b){var yc=a.Yq(b);return a;if(!a)return null};
+g.PxEZ=function(a,b){return a;if(!a)return null;a.x7=b;return a;return a;if(!a)return null};
+var Okyp={Hu:function(a){return a.yn},sD:function(a){return a.Sg},Or:function(a){return a.Mm}};
+g.msVw=function(a,b){if(!a)return null;var hg=a.ey(b);b=b||{}};
+g.gnmJ=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.SvMt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var IOOs={kj:function(a){return a.cR},HW:function(a){return a.ZO},kD:function(a){return a.TC}};
+g.zLiQ=function(a,b){a.BF=b;var yd=a.se(b)};
+var U4yc={ZG:function(a){return a.cb},zt:function(a){return a.wF},NJ:function(a){return a.eO}};
+var ggHZ={SV:function(a){return a.ch},F0:function(a){return a.uL},tf:function(a){return a.t0},Hf:function(a){return a.Iy},De:function(a){return a.QR}};
+var i9iy={F2:function(a){return a.fy},wp:function(a){return a.GO}};
+g.XnBv=function(a,b){a.L6=b;a.F2=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.F4DJ=function(a,b){return a;return a;a.WN=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.wxrB=function(a,b){return a;if(!a)return null;return a;return a;b=b||{}};
+var G8T7={BC:function(a){return a.pD},DH:function(a){return a.ZG},oz:function(a){return a.Yb}};
+g.vJHO=function(a,b){a.Us=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.rfMm=function(a,b){var th=a.tp(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var y4=a.gW(b);var hz=a.IQ(b)};
+g.zVpV=function(a,b){b=b||{};var li=a.l2(b);if(!a)return null};
+g.Sruh=function(a,b){a.Ok=b;a.pF=b};
+g.y8My=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.T5=b;a.pN=b;var gp=a.Do(b);var vr=a.Kb(b);a.VB=b};
+g.cmZS=function(a,b){var wg=a.K8(b);b=b||{};if(!a)return null;if(!a)return null};
+var BgBa={JC:function(a){return a.d6},HJ:function(a){return a.hB},fU:function(a){return a.g1}};
+g.nkOg=function(a,b){return a;if(!a)return null;if(!a)return null;a.Ru=b};
+var hoTz={oG:function(a){return a.Q6},rk:function(a){return a.UT},so:function(a){return a.jl}};
+g.VStC=function(a,b){if(!a)return null;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.nTzx=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var soYr={b7:function(a){return a.ei},cG:function(a){return a.ha},Eo:function(a){return a.QG},dG:function(a){return a.qS},Ax:function(a){return a.zr}};
+g.bczm=function(a,b){var sn=a.mr(b);if(!a)return null;var yh=a.fu(b);b=b||{};a.Na=b;if(!a)return null;if(!a)return null};
+var smbr={R3:function(a){return a.NA},bs:function(a){return a.IE},Ul:function(a){return a.mF},tW:function(a){return a.Xi},ko:function(a){return a.CI}};
+g.qfPT=function(a,b){var xn=a.Fg(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.VF=b;var g1=a.lw(b);return a};
+var wLGu={sB:function(a){return a.nE},tQ:function(a){return a.Gl}};
+g.yakb=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var qy=a.mg(b)};
+g.m4xj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.GyHB=function(a,b){a.Z7=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var ya=a.pa(b)};
+var nZhI={Ee:function(a){return a.JK},d4:function(a){return a.LQ},eW:function(a){return a.Pc},I9:function(a){return a.Fx},Ig:function(a){return a.Fu}};
+g.wPqp=function(a,b){b=b||{};return a;a.Jz=b;var mb=a.Yt(b);if(!a)return null};
+var b8vT={fJ:function(a){return a.Sy},on:function(a){return a.OW},wK:function(a){return a.wY},by:function(a){return a.fk},vc:function(a){return a.Nz}};
+g.AYHD=function(a,b){a.e4=b;if(!a)return null;if(!a)return null};
+g.Sarb=function(a,b){a.Ty=b;a.zj=b;b=b||{};return a;return a};
+g.EQdj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.lhis=function(a,b){b=b||{};if(!a)return null};
+g.AWfx=function(a,b){var rz=a.D3(b);return a;return a};
+g.amfw=function(a,b){return a;var jb=a.DH(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};return a;return a};
+var osLS={Nu:function(a){return a.x2},SZ:function(a){return a.Ew},ha:function(a){return a.sB},Ep:function(a){return a.Iv},Sy:function(a){return a.OW}};
+g.rine=function(a,b){a.An=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.oa=b;a.Wp=b};
+g.SrUq=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.eHSE=function(a,b){if(!a)return null;a.gt=b;var ma=a.Hd(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var tt=a.DE(b);var k9=a.Pz(b)};
+var Sdid={HR:function(a){return a.tV},LT:function(a){return a.zk},tD:function(a){return a.VV},Pl:function(a){return a.kX},uN:function(a){return a.dN}};
+var sxOY={Qm:function(a){return a.zv},ES:function(a){return a.ZW},tP:function(a){return a.C8}};
+g.artL=function(a,b){var nf=a.Mm(b);var h5=a.ne(b);var le=a.PU(b);return a};
+g.hXyC=function(a,b){if(!a)return null;if(!a)return null;var en=a.uA(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.caN3=function(a,b){if(!a)return null;a.EX=b;if(!a)return null;a.e2=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Cp=b;if(!a)return null};
+g.EuRB=function(a,b){return a;a.S3=b;b=b||{};a.R5=b;a.SW=b};
+g.kcLQ=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;var sh=a.Ea(b);if(!a)return null};
+g.qyWd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.g8=b;var tl=a.Ix(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.IPJE=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};a.HQ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Uioh=function(a,b){var y3=a.oe(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.VS=b;if(!a)return null;if(!a)return null;b=b||{}};
+var xuRl={I7:function(a){return a.El},b4:function(a){return a.Lr},oa:function(a){return a.Uk}};
+g.L2oj=function(a,b){var nf=a.Zk(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.yz=b;a.Ck=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.wNpt=function(a,b){var dr=a.Rv(b);a.cq=b;a.G4=b;var sc=a.Yi(b)};
+var CVhE={eq:function(a){return a.UT},OG:function(a){return a.mk},wt:function(a){return a.kC},bb:function(a){return a.Ab}};
+var PzqS={m3:function(a){return a.YR},aR:function(a){return a.q9},TR:function(a){return a.N9},qf:function(a){return a.PG},nU:function(a){return a.EH}};
+var qexc={HU:function(a){return a.Ro},cN:function(a){return a.mD},hr:function(a){return a.oI},MI:function(a){return a.Q1}};
+var DYPn={FQ:function(a){return a.hd},e1:function(a){return a.uR}};
+g.ktlf=function(a,b){return a;b=b||{};a.aw=b};
+g.S5At=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;var go=a.IB(b)};
+var nDL9={vA:function(a){return a.qA},B5:function(a){return a.FP},Wi:function(a){return a.RV},kS:function(a){return a.AC}};
+g.rtnA=function(a,b){a.yC=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.MEM3=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.DbS7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var jeL6={ST:function(a){return a.hG},r2:function(a){return a.yb}};
+g.aVXD=function(a,b){var lx=a.k4(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var rkCZ={DC:function(a){return a.VR},uR:function(a){return a.IK},e4:function(a){return a.So},EH:function(a){return a.E2},PB:function(a){return a.tR}};
+var RsbK={pS:function(a){return a.es},qN:function(a){return a.y9}};
+g.uyM0=function(a,b){var pb=a.Qi(b);a.AJ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.C6mi=function(a,b){if(!a)return null;var dj=a.hE(b)};
+g.Y1Oz=function(a,b){a.i8=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.gc=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.nd=b};
+g.kUQ7=function(a,b){if(!a)return null;a.Ny=b};
+var FgPH={F3:function(a){return a.Ax},WM:function(a){return a.CI},yH:function(a){return a.Rk},Wn:function(a){return a.OH},xm:function(a){return a.WO}};
+g.HBhy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var VfnZ={bD:function(a){return a.NN},OR:function(a){return a.SL},pl:function(a){return a.kS},nf:function(a){return a.qs}};
+var Omff={Ke:function(a){return a.Xr},SA:function(a){return a.pM},Lh:function(a){return a.V9},jk:function(a){return a.YJ}};
+g.x2YH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;if(!a)return null};
+g.LJV9=function(a,b){return a;a.rl=b;if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var XXtX={zy:function(a){return a.F0},Zn:function(a){return a.ty},nc:function(a){return a.fu},tN:function(a){return a.lT}};
+g.XfI2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.bu=b;for(var c=0;c<a.length;c++)b.push(a[c]);var n6=a.gs(b)};
+g.XniN=function(a,b){b=b||{};b=b||{};if(!a)return null;var e8=a.xQ(b);a.jz=b};
+g.hVYk=function(a,b){b=b||{};a.ck=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var uf=a.YJ(b);b=b||{}};
+g.F6Hw=function(a,b){var dr=a.Lq(b);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var dy=a.E4(b)};
+g.N1pb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.oj=b;var xb=a.j8(b);return a;return a;return a;b=b||{}};
+g.NjAV=function(a,b){var pt=a.cS(b);var oh=a.Pw(b)};
+g.Kvpc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.tf=b};
+g.ENEz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.YpxU=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.itEu=function(a,b){if(!a)return null;return a;b=b||{};return a;b=b||{}};
+g.QScx=function(a,b){b=b||{};return a;a.YI=b;b=b||{}};
+var KzK5={iR:function(a){return a.Vy},Vl:function(a){return a.AU},Km:function(a){return a.is},Cc:function(a){return a.qU}};
+var R7ik={cy:function(a){return a.bY},fU:function(a){return a.RB}};
+g.vsCu=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var occu={jb:function(a){return a.M6},Dv:function(a){return a.CT},UG:function(a){return a.LG},q8:function(a){return a.V2}};
+g.m0Fl=function(a,b){return a;return a;return a;b=b||{};b=b||{}};
+var kqzB={ou:function(a){return a.JA},AI:function(a){return a.ls},Qv:function(a){return a.k7},C0:function(a){return a.fz}};
+g.rHuY=function(a,b){b=b||{};return a};
+g.HECU=function(a,b){if(!a)return null;if(!a)return null;a.kp=b;if(!a)return null;var hx=a.NJ(b)};
+g.FwPP=function(a,b){var gs=a.LO(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var en=a.JY(b)};
+var y8Hl={CB:function(a){return a.u2},mg:function(a){return a.tn},sc:function(a){return a.y7}};
+var SRZA={co:function(a){return a.LQ},qI:function(a){return a.N7},FB:function(a){return a.kF},Om:function(a){return a.n3}};
+g.g3Rm=function(a,b){a.o1=b;return a;if(!a)return null};
+g.poyq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.F7G6=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ntUB=function(a,b){a.BL=b;a.BC=b;if(!a)return null;var ne=a.R9(b)};
+var T0EN={U0:function(a){return a.V6},po:function(a){return a.TJ},sQ:function(a){return a.N8},g0:function(a){return a.jM}};
+var QGj7={jw:function(a){return a.AT},Zx:function(a){return a.kp}};
+g.DzUX=function(a,b){if(!a)return null;var td=a.nd(b);var cs=a.ty(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;if(!a)return null};
+g.kMzh=function(a,b){a.sQ=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Y8=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var iZI9={HJ:function(a){return a.jO},Rh:function(a){return a.Jq},wi:function(a){return a.ND},tG:function(a){return a.Sb},r9:function(a){return a.wJ}};
+g.OtEa=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var dyFX={kR:function(a){return a.AH},pb:function(a){return a.da},ct:function(a){return a.SA},q6:function(a){return a.ew},RJ:function(a){return a.SX}};
+var G4ag={Xb:function(a){return a.r4},Bp:function(a){return a.Rw},QB:function(a){return a.yZ},ou:function(a){return a.l5}};
+g.g4s5=function(a,b){var up=a.K1(b);return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.fEZC=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.vx=b;var m3=a.SX(b);a.A6=b;return a};
+var CwX4={Wr:function(a){return a.Hi},Nq:function(a){return a.Ac}};
+g.hSpN=function(a,b){var y8=a.rY(b);var l3=a.ke(b)};
+g.C2ur=function(a,b){if(!a)return null;a.Bi=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;return a};
+g.ehEh=function(a,b){b=b||{};if(!a)return null;b=b||{};return a};
+g.gBje=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.QnyV=function(a,b){if(!a)return null;a.rn=b;a.bP=b};
+g.lJPK=function(a,b){var ax=a.LY(b);b=b||{};var nm=a.an(b);a.I5=b;var gb=a.if(b)};
+g.qsBf=function(a,b){a.QX=b;b=b||{};if(!a)return null;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var b5Ii={Nm:function(a){return a.sE},Sf:function(a){return a.VU},OU:function(a){return a.cI},ow:function(a){return a.s5},ZY:function(a){return a.C7}};
+g.YxIC=function(a,b){a.uv=b;if(!a)return null;a.Ro=b;var nz=a.TP(b);a.Lc=b};
+g.yrJP=function(a,b){return a;a.ND=b;return a;if(!a)return null;return a};
+var H7aX={pG:function(a){return a.KC},aI:function(a){return a.sn},IL:function(a){return a.oG}};
+g.hsQ7=function(a,b){return a;b=b||{};return a;b=b||{};return a};
+g.Tly1=function(a,b){var ry=a.Ui(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;if(!a)return null;a.Ep=b};
+g.FFLJ=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;if(!a)return null};
+g.XVca=function(a,b){if(!a)return null;b=b||{};a.Ib=b;a.JV=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.mSvN=function(a,b){if(!a)return null;b=b||{};var gf=a.oU(b);if(!a)return null;a.ue=b;var by=a.pU(b);a.mw=b};
+g.KGQY=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Nr=b;return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.fRmy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};return a;if(!a)return null};
+g.BGGc=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.Tq=b;a.bl=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var cxnR={OT:function(a){return a.zJ},PU:function(a){return a.Xh},g9:function(a){return a.ae},FG:function(a){return a.AJ}};
+g.WxJ4=function(a,b){a.C4=b;var r2=a.r2(b)};
+g.tFeJ=function(a,b){return a;a.Q4=b;var vt=a.lC(b);a.Sw=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.hCFB=function(a,b){var rx=a.Jg(b);for(var c=0;c<a.length;c++)b.push(a[c]);var xx=a.EQ(b);return a;a.X9=b;return a;return a};
+g.PxW3=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.g6ru=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var wf=a.dE(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.FNfJ=function(a,b){var et=a.P5(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var zz=a.cn(b);b=b||{}};
+g.DaYB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var BPxj={xa:function(a){return a.lk},RS:function(a){return a.pw},XY:function(a){return a.km},Hs:function(a){return a.EF}};
+g.hGEW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.MW=b;for(var c=0;c<a.length;c++)b.push(a[c]);var bi=a.b6(b);a.Cp=b};
+g.raHW=function(a,b){var up=a.S9(b);if(!a)return null;var ln=a.F6(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+g.PQhi=function(a,b){return a;b=b||{};var nb=a.WY(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.uCVB=function(a,b){if(!a)return null;a.hg=b};
+g.HAeW=function(a,b){return a;var a7=a.ak(b);var d5=a.oy(b);b=b||{};return a;b=b||{}};
+var mRQz={KH:function(a){return a.NZ},IP:function(a){return a.He}};
+g.Buxn=function(a,b){return a;return a;a.km=b;var jf=a.EP(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.BQ=b;if(!a)return null};
+g.A3GV=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var GSYH={L6:function(a){return a.PQ},Q2:function(a){return a.aC}};
+g.s8wp=function(a,b){var rz=a.Cp(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Rxmy=function(a,b){var g7=a.C7(b);var r2=a.tV(b);var sk=a.dD(b)};
+g.e9vl=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Dqfh=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var go=a.N4(b)};
+var Txd5={Rv:function(a){return a.dK},Ym:function(a){return a.gn}};
+var MFou={FN:function(a){return a.m3},dB:function(a){return a.Ed},AR:function(a){return a.jU},R8:function(a){return a.C1},Na:function(a){return a.nX}};
+g.hlXD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.HBf0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.be=b;b=b||{};var av=a.SG(b)};
+var l0CA={KJ:function(a){return a.qO},rA:function(a){return a.lO},v7:function(a){return a.TJ}};
+g.CfHh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+var dvmJ={az:function(a){return a.Wy},Q2:function(a){return a.i0},vM:function(a){return a.i3},cO:function(a){return a.rb},oM:function(a){return a.eL}};
+g.ywxV=function(a,b){var rm=a.sH(b);return a;var kn=a.EL(b);if(!a)return null;if(!a)return null;var wu=a.ND(b)};
+var G8rK={A7:function(a){return a.UJ},G0:function(a){return a.Wt},UH:function(a){return a.Jc}};
+g.Jcd5=function(a,b){return a;if(!a)return null};
+g.UQB3=function(a,b){var ll=a.dV(b);var os=a.RU(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.dupz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.WeUN=function(a,b){var cu=a.cb(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.v3pt=function(a,b){return a;a.jZ=b;var pk=a.yr(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.aGwb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.TA=b;a.XK=b};
+g.PRPA=function(a,b){a.xU=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.HU=b;var hm=a.W8(b);return a};
+g.RLY9=function(a,b){var sl=a.ri(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var oj=a.Ed(b);if(!a)return null;if(!a)return null};
+g.LxM1=function(a,b){if(!a)return null;a.aC=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.Izwu=function(a,b){if(!a)return null;a.o0=b};
+var TdZx={nB:function(a){return a.xg},NR:function(a){return a.Z4}};
+var XZPb={EW:function(a){return a.En},Fy:function(a){return a.sK},Ch:function(a){return a.cF},Vs:function(a){return a.vI}};
+g.veiC=function(a,b){return a;var re=a.gb(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var HErm={cn:function(a){return a.Uu},t0:function(a){return a.ga},P7:function(a){return a.CR},sE:function(a){return a.Ru},gs:function(a){return a.C1}};
+g.ghc3=function(a,b){return a;b=b||{};var kn=a.x7(b);if(!a)return null};
+g.BMD2=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.vb=b;b=b||{};a.MG=b;var qd=a.dk(b)};
+var FLfv={XR:function(a){return a.Kk},gK:function(a){return a.Pu}};
+g.iOAq=function(a,b){b=b||{};b=b||{}};
+g.XEut=function(a,b){return a;return a;return a;a.Tb=b};
+var KyiV={BN:function(a){return a.wr},Au:function(a){return a.ov},CB:function(a){return a.Zb}};
+g.uzmk=function(a,b){a.lX=b;return a};
+g.gXKm=function(a,b){var zt=a.ZB(b);if(!a)return null;a.L7=b;if(!a)return null};
+g.BeLC=function(a,b){a.z2=b;if(!a)return null;a.Jx=b;var xi=a.QH(b);return a};
+g.s8hl=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.qP=b};
+g.NlOV=function(a,b){return a;a.r1=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.G3=b;if(!a)return null;if(!a)return null};
+g.cJgM=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.e2iD=function(a,b){if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+var UPt4={HJ:function(a){return a.Ze},Xn:function(a){return a.HJ},So:function(a){return a.HM}};
+g.tUAA=function(a,b){a.y5=b;if(!a)return null};
+g.xzQh=function(a,b){a.GY=b;if(!a)return null;if(!a)return null;var mv=a.Vi(b)};
+g.aQLL=function(a,b){b=b||{};var yz=a.ko(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var wj=a.Rr(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.d0jM=function(a,b){b=b||{};var hp=a.ey(b)};
+g.NjIh=function(a,b){return a;return a};
+var AiPV={v3:function(a){return a.e9},zu:function(a){return a.UF},WQ:function(a){return a.k8}};
+var NTH2={ep:function(a){return a.ON},rN:function(a){return a.JE},T9:function(a){return a.Ql}};
+g.YuxD=function(a,b){b=b||{};if(!a)return null;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Hm=b;var pr=a.TT(b)};
+g.qHO3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;b=b||{}};
+g.yOwV=function(a,b){return a;var n0=a.MW(b);return a;a.gQ=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.qnYW=function(a,b){var ty=a.Js(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.J4=b};
+g.ReFd=function(a,b){a.qS=b;b=b||{};a.mH=b};
+g.hvwr=function(a,b){a.hy=b;return a;a.ll=b;var ur=a.p7(b);if(!a)return null;a.gg=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GRGm=function(a,b){a.DG=b;a.Vs=b;a.tN=b;a.sv=b};
+g.TOmU=function(a,b){if(!a)return null;a.Z6=b;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.vFOx=function(a,b){b=b||{};b=b||{};b=b||{}};
+var G4kt={sA:function(a){return a.z2},Fl:function(a){return a.jf},g2:function(a){return a.sq}};
+var VtDI={Mq:function(a){return a.mA},Z6:function(a){return a.Lo},jx:function(a){return a.Kq},Ml:function(a){return a.Lj},AQ:function(a){return a.Fa}};
+var QlF3={LS:function(a){return a.bI},WE:function(a){return a.Ch},vX:function(a){return a.Da}};
+g.lEfK=function(a,b){return a;b=b||{}};
+g.cVmI=function(a,b){b=b||{};a.Lq=b;b=b||{};a.T1=b};
+g.Omaj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.dxuw=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;b=b||{}};
+var wRxm={OU:function(a){return a.a2},Ko:function(a){return a.Y8},vu:function(a){return a.LQ},Tt:function(a){return a.nJ},qu:function(a){return a.jN}};
+g.dBDu=function(a,b){return a;a.lg=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.iaPY=function(a,b){if(!a)return null;a.de=b;var ov=a.sY(b)};
+g.Dals=function(a,b){if(!a)return null;return a;if(!a)return null;a.Sf=b;a.Qd=b;return a};
+g.TuQp=function(a,b){return a;return a;b=b||{};if(!a)return null};
+var cRhA={Rx:function(a){return a.Zy},Db:function(a){return a.co},UX:function(a){return a.O7}};
+var l0VY={Mb:function(a){return a.ep},zb:function(a){return a.pS},Ky:function(a){return a.SF},Em:function(a){return a.TX},bN:function(a){return a.rC}};
+var tsT5={pR:function(a){return a.fC},na:function(a){return a.zw},l1:function(a){return a.Jz},kf:function(a){return a.J4}};
+g.PMB2=function(a,b){return a;b=b||{}};
+g.U2wj=function(a,b){return a;if(!a)return null;return a;var uu=a.t3(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.UMms=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.tU=b;a.dE=b};
+g.sHOT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;a.gf=b;var si=a.Vc(b)};
+g.VGi8=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xRYZ=function(a,b){b=b||{};a.IO=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.eZMD=function(a,b){var bx=a.Lp(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.ZlJ7=function(a,b){if(!a)return null;if(!a)return null};
+g.aCnI=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;var by=a.cF(b);return a};
+g.PrwW=function(a,b){a.ue=b;b=b||{};a.AN=b;a.AX=b;a.Vd=b};
+g.saj6=function(a,b){b=b||{};a.kt=b;if(!a)return null;var ta=a.kk(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.iFNX=function(a,b){var ht=a.uA(b);b=b||{};return a;return a;b=b||{}};
+g.M6PL=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var t6=a.Or(b)};
+g.nkM7=function(a,b){b=b||{};var ke=a.xd(b)};
+var KvsY={hU:function(a){return a.AJ},u3:function(a){return a.Bu},jv:function(a){return a.tp}};
+g.hOfO=function(a,b){b=b||{};a.aW=b;a.wp=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.ie=b};
+var Zgv2={Il:function(a){return a.Ok},W5:function(a){return a.gD},vN:function(a){return a.O5},r7:function(a){return a.HP},oh:function(a){return a.Pu}};
+g.U6Hs=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var K6z5={JI:function(a){return a.Vd},NJ:function(a){return a.gH},of:function(a){return a.pT},GE:function(a){return a.Dk},zd:function(a){return a.JR}};
+g.jRLy=function(a,b){if(!a)return null;a.pI=b;b=b||{};if(!a)return null;a.WF=b;var ha=a.Kh(b);b=b||{}};
+var qwGT={fA:function(a){return a.ej},ZR:function(a){return a.NJ},nL:function(a){return a.DB}};
+g.q7zZ=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.jSYA=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var q7Do={vV:function(a){return a.jC},G2:function(a){return a.bL}};
+g.nAUZ=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.sqes=function(a,b){a.wk=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.dULq=function(a,b){a.Lw=b;b=b||{};var so=a.g3(b)};
+g.Myvv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var nn=a.jA(b)};
+g.Hmgh=function(a,b){b=b||{};a.Ha=b;var rc=a.Su(b);var lt=a.uU(b);return a;a.BR=b};
+g.iUKN=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.jb=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.C7uq=function(a,b){return a;a.eT=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.vPnn=function(a,b){if(!a)return null;a.Fk=b;b=b||{}};
+var lXbl={SX:function(a){return a.z9},Cc:function(a){return a.x3},Q1:function(a){return a.DI},MS:function(a){return a.p1},TD:function(a){return a.XA}};
+g.Ufd0=function(a,b){b=b||{};a.O9=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var cBRl={rM:function(a){return a.i5},Eo:function(a){return a.KT},FS:function(a){return a.aB}};
+g.xqAw=function(a,b){b=b||{};a.gW=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fRkW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.FW=b};
+g.hmIj=function(a,b){a.zk=b;if(!a)return null};
+g.HNKr=function(a,b){var o4=a.hg(b);var rt=a.fI(b)};
+g.pmag=function(a,b){a.As=b;return a;return a;if(!a)return null;return a;return a};
+g.klls=function(a,b){if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var nj=a.l3(b);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.T9Oo=function(a,b){a.nl=b;if(!a)return null};
+g.OAjf=function(a,b){var nx=a.Pm(b);if(!a)return null;return a;a.Hd=b;var io=a.Oc(b);b=b||{}};
+g.iaKQ=function(a,b){b=b||{};b=b||{};a.gl=b;var xy=a.pi(b)};
+g.LIZM=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var pi=a.kD(b);var wm=a.ND(b)};
+g.QoFB=function(a,b){a.Kg=b;return a;b=b||{}};
+g.E8w8=function(a,b){return a;var cv=a.ld(b)};
+g.ZcVP=function(a,b){return a;b=b||{};a.yt=b};
+g.WrvB=function(a,b){return a;var dq=a.rd(b);b=b||{};return a;var uv=a.MJ(b);return a};
+g.BydU=function(a,b){a.k5=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var TQj0={np:function(a){return a.dK},ap:function(a){return a.Ij}};
+g.fIJr=function(a,b){if(!a)return null;var ni=a.IA(b);a.CK=b};
+var eXW4={ZT:function(a){return a.qf},pI:function(a){return a.kX},Cv:function(a){return a.za},T3:function(a){return a.FP},MK:function(a){return a.ba}};
+g.ytSx=function(a,b){a.Ts=b;return a;if(!a)return null;a.iN=b;var ep=a.q8(b);a.to=b};
+g.Tfhq=function(a,b){var n5=a.pF(b);var jf=a.EZ(b);var xk=a.MJ(b);var zd=a.sc(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Cwtx=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var sb=a.Mz(b)};
+var DFQx={An:function(a){return a.Rq},hs:function(a){return a.tE},Mm:function(a){return a.Z1},Ee:function(a){return a.dE}};
+g.kCrm=function(a,b){b=b||{};b=b||{}};
+var qUoA={cl:function(a){return a.zd},Ow:function(a){return a.CD},vL:function(a){return a.T8}};
+g.MNwZ=function(a,b){b=b||{};var n2=a.vY(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.yKn8=function(a,b){var tb=a.wj(b);b=b||{};return a};
+g.FvET=function(a,b){b=b||{};if(!a)return null;a.To=b;a.Lq=b};
+g.GJBr=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var dt=a.P3(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var UqcC={eW:function(a){return a.cl},Vr:function(a){return a.Lf}};
+g.LJJQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Nw=b;if(!a)return null;a.aS=b};
+var MfLD={fp:function(a){return a.YS},D0:function(a){return a.Zf},e0:function(a){return a.zT},Hi:function(a){return a.A1}};
+g.atD0=function(a,b){b=b||{};var hj=a.dR(b)};
+var oETd={Or:function(a){return a.Rf},xB:function(a){return a.IE},s0:function(a){return a.xw},h4:function(a){return a.ah},eH:function(a){return a.lE}};
+g.KjUI=function(a,b){b=b||{};b=b||{};b=b||{}};
+var h7LR={kr:function(a){return a.ZB},L6:function(a){return a.eO},St:function(a){return a.d5},Rw:function(a){return a.ko},ZU:function(a){return a.hH}};
+g.O3UN=function(a,b){if(!a)return null;b=b||{}};
+g.S5AW=function(a,b){a.hh=b;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.c4=b};
+g.qJcp=function(a,b){if(!a)return null;if(!a)return null;b=b||{}};
+g.dPSw=function(a,b){b=b||{};a.Ak=b;a.G3=b;return a;var ba=a.ck(b);b=b||{};b=b||{}};
+var j4C9={T8:function(a){return a.XK},Rc:function(a){return a.ag},jE:function(a){return a.IV}};
+g.gVx7=function(a,b){if(!a)return null;var kl=a.id(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;b=b||{}};
+g.kxZY=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var g0=a.TT(b)};
+var vZuT={Zc:function(a){return a.Cz},VG:function(a){return a.sM},qn:function(a){return a.c0},r9:function(a){return a.lB},Je:function(a){return a.NC}};
+g.aJzY=function(a,b){var tk=a.CP(b);a.az=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.g3TY=function(a,b){a.SF=b;a.iW=b;var hy=a.t1(b);b=b||{}};
+g.uur4=function(a,b){a.UB=b;b=b||{}};
+g.Yfbt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.i9=b};
+g.yDCF=function(a,b){return a;b=b||{};if(!a)return null;var ac=a.r3(b);b=b||{}};
+var zRYX={Mx:function(a){return a.Wd},IN:function(a){return a.h1},JW:function(a){return a.H5},nG:function(a){return a.XU},Oj:function(a){return a.wa}};
+g.Degk=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.ic=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.yjaE=function(a,b){a.gN=b;b=b||{};a.ke=b};
+var GegF={QA:function(a){return a.MH},R3:function(a){return a.UQ},AK:function(a){return a.WU}};
+g.fLNd=function(a,b){return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.kq=b;if(!a)return null};
+g.keS8=function(a,b){var ib=a.Uu(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.ephe=function(a,b){if(!a)return null;b=b||{};if(!a)return null;if(!a)return null;return a;var g7=a.uZ(b)};
+g.QbSC=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var kl=a.u9(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.sJZQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ld=a.Zj(b);var yq=a.xl(b);return a;return a};
+var DGdj={tz:function(a){return a.sZ},Q6:function(a){return a.hg},CN:function(a){return a.CC},fP:function(a){return a.jV}};
+g.fmJU=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var neuF={Xa:function(a){return a.ov},Wf:function(a){return a.bs},Z8:function(a){return a.xm}};
+var UqmM={Ro:function(a){return a.vi},V5:function(a){return a.Ct},kb:function(a){return a.ob},HU:function(a){return a.tW}};
+var Lzeh={Ql:function(a){return a.e5},bD:function(a){return a.UW}};
+g.xufS=function(a,b){var n0=a.JA(b);return a};
+g.FDrD=function(a,b){var l7=a.I9(b);b=b||{};if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.YfTE=function(a,b){a.QW=b;a.Nw=b;var ja=a.zn(b);var rg=a.WE(b);a.qB=b;if(!a)return null;a.nL=b};
+g.PEIV=function(a,b){if(!a)return null;return a;if(!a)return null;b=b||{}};
+g.LUPf=function(a,b){return a;var kc=a.IA(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var ocxP={tt:function(a){return a.mE},JW:function(a){return a.rl},wc:function(a){return a.vO},f2:function(a){return a.wZ},i2:function(a){return a.zI}};
+var t7In={C0:function(a){return a.uN},el:function(a){return a.aY}};
+g.UkcI=function(a,b){b=b||{};a.Pw=b;a.gi=b;if(!a)return null};
+g.E0ew=function(a,b){if(!a)return null;b=b||{};a.dy=b;return a;return a;var cw=a.rf(b)};
+var J6yQ={yJ:function(a){return a.Du},UH:function(a){return a.at},hh:function(a){return a.Lq},hA:function(a){return a.H7}};
+g.v9lV=function(a,b){a.TA=b;return a;var cj=a.hv(b);var iq=a.ca(b);a.Ln=b};
+var J3ET={ng:function(a){return a.su},Mg:function(a){return a.gK},mt:function(a){return a.Ll},oK:function(a){return a.J8}};
+g.wNwG=function(a,b){b=b||{};a.Sa=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Imx5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a};
+g.Gnyx=function(a,b){b=b||{};if(!a)return null;return a;if(!a)return null;var dm=a.wL(b);a.Ig=b;a.WV=b};
+g.DHj5=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.oD=b};
+g.lUsA=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Z1f2=function(a,b){if(!a)return null;var rm=a.TZ(b);b=b||{};b=b||{};if(!a)return null;a.PL=b;return a};
+g.Ynwn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var tm=a.MT(b);b=b||{}};
+g.ziyC=function(a,b){a.q1=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var ff=a.pi(b);if(!a)return null};
+g.VCcy=function(a,b){b=b||{};b=b||{};return a;var l2=a.Jw(b)};
+var qZU3={Dt:function(a){return a.bl},Oq:function(a){return a.qk},XV:function(a){return a.hp},iE:function(a){return a.rI}};
+var Csrf={pK:function(a){return a.bn},tV:function(a){return a.E8},oY:function(a){return a.cy},i8:function(a){return a.Ci},lZ:function(a){return a.wD}};
+g.qeT7=function(a,b){b=b||{};b=b||{};return a;if(!a)return null;var op=a.tY(b)};
+g.G5gn=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.q2rp=function(a,b){a.PW=b;var pk=a.iH(b)};
+g.Ohw8=function(a,b){a.ky=b;b=b||{}};
+g.bmnM=function(a,b){b=b||{};if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.pxrU=function(a,b){var eu=a.Ny(b);var qp=a.Ed(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GmY4=function(a,b){return a;if(!a)return null;a.u2=b};
+g.JMPk=function(a,b){var qz=a.yp(b);if(!a)return null;a.qF=b;var fq=a.ga(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.gKyf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};a.gE=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var tv=a.Sh(b)};
+g.r8Vm=function(a,b){return a;var ed=a.bc(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Ps=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Y8tE=function(a,b){return a;b=b||{};a.Qw=b;if(!a)return null;return a};
+g.mKNX=function(a,b){return a;if(!a)return null};
+g.TOrK=function(a,b){b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.n7w3=function(a,b){a.pQ=b;if(!a)return null;var va=a.Gv(b)};
+g.qnSH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var s4=a.xf(b)};
+g.pbx9=function(a,b){return a;var gm=a.ZY(b);if(!a)return null};
+g.rKjB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};a.VD=b;var md=a.oD(b);return a;b=b||{}};
+g.Dov1=function(a,b){b=b||{};var kb=a.mp(b);a.SJ=b;var bw=a.eD(b);return a;if(!a)return null;return a};
+g.QMZz=function(a,b){var np=a.lN(b);var pe=a.fV(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.s0lu=function(a,b){a.W1=b;b=b||{}};
+g.jsSr=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ef=a.Nf(b);a.b0=b;var le=a.WD(b)};
+g.z8dg=function(a,b){a.Wp=b;if(!a)return null};
+g.TJmP=function(a,b){if(!a)return null;a.eO=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.FKKj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var qa=a.qI(b);var pq=a.dC(b)};
+g.moYi=function(a,b){b=b||{};a.Lj=b;var dg=a.Me(b)};
+g.T0jU=function(a,b){b=b||{};if(!a)return null;a.Xh=b;if(!a)return null};
+var oOJg={tb:function(a){return a.eL},FN:function(a){return a.gQ},xf:function(a){return a.D0},R6:function(a){return a.YK},i0:function(a){return a.aA}};
+g.qGy9=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.D5=b;return a;var ix=a.BR(b);if(!a)return null};
+g.XUqo=function(a,b){a.kR=b;var oq=a.TB(b);var ng=a.QP(b);if(!a)return null;b=b||{};if(!a)return null};
+g.e6B5=function(a,b){b=b||{};if(!a)return null;if(!a)return null;if(!a)return null};
+var xGgw={C6:function(a){return a.rs},Dh:function(a){return a.Vu}};
+g.CAXi=function(a,b){a.G9=b;a.qW=b;var vw=a.IT(b);a.LZ=b;var re=a.zT(b)};
+g.sRUt=function(a,b){a.Rk=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.du=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.H3eh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Y5=b};
+var Q1WS={Zc:function(a){return a.bl},re:function(a){return a.as},Fp:function(a){return a.eS},xF:function(a){return a.pq}};
+var uFx9={eY:function(a){return a.wM},yS:function(a){return a.Gr},v2:function(a){return a.F8},Zh:function(a){return a.Dq}};
+g.z7ab=function(a,b){if(!a)return null;var vm=a.Jc(b);a.ut=b;return a;if(!a)return null};
+g.ktG5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.gXTp=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var kz=a.p9(b);if(!a)return null;return a;return a};
+g.OZOe=function(a,b){a.YI=b;var sf=a.Wq(b);return a;a.Qd=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.idxo=function(a,b){return a;a.SL=b;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ChgX=function(a,b){b=b||{};b=b||{};b=b||{};var jx=a.X1(b)};
+var RZjH={b0:function(a){return a.Sx},E2:function(a){return a.PX},eb:function(a){return a.NX},hw:function(a){return a.Hd},dU:function(a){return a.zA}};
+g.dYJI=function(a,b){return a;return a;var r5=a.l5(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var JkHg={FG:function(a){return a.Vw},gR:function(a){return a.pY},pQ:function(a){return a.sE},TR:function(a){return a.Tw}};
+g.YXOi=function(a,b){return a;return a;b=b||{}};
+g.Sox0=function(a,b){a.K9=b;b=b||{};return a;a.GH=b;if(!a)return null};
+g.VWvr=function(a,b){a.LI=b;return a;return a;return a;b=b||{};b=b||{}};
+var frHm={sg:function(a){return a.VM},bC:function(a){return a.ju}};
+g.o6t5=function(a,b){if(!a)return null;if(!a)return null;b=b||{};if(!a)return null};
+g.mags=function(a,b){a.J0=b;b=b||{};return a};
+g.siSS=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.v0mx=function(a,b){a.AJ=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;a.J4=b};
+g.dPnB=function(a,b){return a;b=b||{};var iw=a.WR(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.Rbq8=function(a,b){a.XW=b;if(!a)return null};
+g.Irow=function(a,b){a.Ms=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Q9Ol=function(a,b){return a;if(!a)return null;a.Oc=b};
+g.nVL2=function(a,b){var kt=a.eV(b);a.tI=b;return a;var y3=a.MM(b);return a;var xv=a.K9(b)};
+g.Q9tM=function(a,b){var wz=a.uh(b);var d1=a.z1(b);a.yg=b;var ie=a.sD(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.pymW=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;b=b||{};return a;b=b||{}};
+g.tpQo=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.dV=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.xi=b;return a};
+g.OxZT=function(a,b){var iw=a.yy(b);for(var c=0;c<a.length;c++)b.push(a[c]);var ym=a.bp(b);return a;a.gu=b;return a};
+var bXL4={un:function(a){return a.Os},xj:function(a){return a.d6}};
+g.wbul=function(a,b){a.jD=b;a.tr=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Ze=b;a.zl=b};
+g.lRxp=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.tyg0=function(a,b){var zp=a.jM(b);var lt=a.iU(b);var hd=a.cx(b);b=b||{};return a};
+var KUu8={AQ:function(a){return a.OD},XQ:function(a){return a.bA}};
+g.z1YA=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.XuJ5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var r2=a.gH(b);if(!a)return null};
+var WCdt={KV:function(a){return a.UV},a8:function(a){return a.jO},iJ:function(a){return a.VD},qz:function(a){return a.bo}};
+var YCaK={SL:function(a){return a.GY},lS:function(a){return a.Fu},lZ:function(a){return a.ck},Og:function(a){return a.JS},Q5:function(a){return a.cJ}};
+g.mGFu=function(a,b){var wz=a.iu(b);var jm=a.UD(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var s3=a.m8(b);var wc=a.Gm(b)};
+g.xjRY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.gT=b};
+var VYgT={j8:function(a){return a.mg},b8:function(a){return a.Df},BM:function(a){return a.wL},F3:function(a){return a.lc}};
+g.zlOD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.yKP8=function(a,b){var zz=a.et(b);var dh=a.jF(b);b=b||{};if(!a)return null;var pw=a.l7(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.ZV=b};
+g.ulfO=function(a,b){b=b||{};a.rd=b;return a};
+var QBhh={KR:function(a){return a.ki},JF:function(a){return a.oM}};
+var VYn7={Jc:function(a){return a.pv},dx:function(a){return a.bj},Kp:function(a){return a.M5},lJ:function(a){return a.Cf}};
+var SjUy={Fk:function(a){return a.hF},Qr:function(a){return a.pw}};
+var Ffpe={T7:function(a){return a.DV},s2:function(a){return a.or},Xd:function(a){return a.gg}};
+g.mVqK=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var yk=a.HP(b);if(!a)return null;if(!a)return null;if(!a)return null;a.tD=b;if(!a)return null};
+g.fxGW=function(a,b){if(!a)return null;return a;var ie=a.oJ(b)};
+var rZvC={JY:function(a){return a.H8},Ds:function(a){return a.Bl},zT:function(a){return a.tw},OO:function(a){return a.Qy},nF:function(a){return a.Wa}};
+g.KZpA=function(a,b){if(!a)return null;var jr=a.cb(b)};
+g.NRVO=function(a,b){if(!a)return null;b=b||{};var vi=a.DT(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.cR=b;return a;var gx=a.tZ(b)};
+var mVaP={eC:function(a){return a.Zn},mv:function(a){return a.j8}};
+g.tqEb=function(a,b){a.YB=b;if(!a)return null};
+var ZnlY={oo:function(a){return a.mE},kd:function(a){return a.QR}};
+g.uICn=function(a,b){b=b||{};var yp=a.pn(b);a.j2=b;b=b||{}};
+g.RJv5=function(a,b){if(!a)return null;a.XA=b;var vp=a.qD(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.E4nO=function(a,b){a.VI=b;if(!a)return null;if(!a)return null};
+g.vVWq=function(a,b){return a;var ds=a.l6(b);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.yvpb=function(a,b){b=b||{};a.MY=b};
+g.NRoc=function(a,b){b=b||{};if(!a)return null;return a;var qn=a.nq(b)};
+g.QieT=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;return a};
+g.Vchx=function(a,b){b=b||{};if(!a)return null;return a;var mc=a.ym(b);b=b||{};var mm=a.fU(b);var kg=a.Lv(b)};
+g.Gmkh=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var oTFn={kl:function(a){return a.lJ},tV:function(a){return a.xc},Dt:function(a){return a.yI}};
+g.aPLR=function(a,b){if(!a)return null;if(!a)return null};
+var Vdlj={Ax:function(a){return a.O4},yn:function(a){return a.CA},px:function(a){return a.uU}};
+g.ipXS=function(a,b){a.kI=b;for(var c=0;c<a.length;c++)b.push(a[c]);var xw=a.ez(b);var n7=a.w0(b)};
+var KEfg={pm:function(a){return a.jI},ER:function(a){return a.gu},hK:function(a){return a.RS},Hk:function(a){return a.nZ},cf:function(a){return a.RB}};
+var uKMm={IC:function(a){return a.Dt},uY:function(a){return a.TF},ML:function(a){return a.VB}};
+g.hhwT=function(a,b){if(!a)return null;return a};
+g.KiLp=function(a,b){a.f5=b;b=b||{}};
+g.yfv5=function(a,b){a.Gv=b;return a;var vd=a.pW(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.uz=b;b=b||{}};
+g.i7SW=function(a,b){a.xF=b;if(!a)return null;return a;if(!a)return null};
+var i1DC={J3:function(a){return a.M7},K1:function(a){return a.rn},PI:function(a){return a.Ga}};
+g.x5w7=function(a,b){var cy=a.Mn(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.tbA5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.h4KW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var nb=a.Pn(b);b=b||{};b=b||{}};
+var STQM={za:function(a){return a.Gv},pV:function(a){return a.lt}};
+g.KiTt=function(a,b){return a;var zj=a.Xz(b);if(!a)return null};
+g.WPLv=function(a,b){var ec=a.B9(b);a.JY=b;b=b||{};if(!a)return null;b=b||{}};
+g.V5fD=function(a,b){a.gs=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.wKpj=function(a,b){if(!a)return null;a.Gh=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var pv=a.PT(b)};
+g.bgUY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var nw=a.k8(b);var j7=a.fm(b);if(!a)return null};
+g.P3E0=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var rx=a.hH(b)};
+g.yXuQ=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;return a};
+var i8If={A0:function(a){return a.d8},Gv:function(a){return a.io},IH:function(a){return a.of}};
+var B8lH={sE:function(a){return a.KM},vs:function(a){return a.I2},L0:function(a){return a.D0},kJ:function(a){return a.fn},Aq:function(a){return a.iA}};
+g.zjJx=function(a,b){var ys=a.Jr(b);b=b||{}};
+g.dwTR=function(a,b){a.h1=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.q0ws=function(a,b){a.Te=b;a.ZV=b;for(var c=0;c<a.length;c++)b.push(a[c]);var gi=a.gR(b);b=b||{}};
+g.ZcBn=function(a,b){return a;if(!a)return null};
+g.aLpn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.ygmE=function(a,b){if(!a)return null;b=b||{};var ey=a.Xm(b);a.In=b;b=b||{}};
+g.fGOn=function(a,b){return a;if(!a)return null;b=b||{};b=b||{}};
+g.SMdw=function(a,b){return a;return a;a.IF=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var oj=a.Iy(b)};
+g.yONe=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.FPys=function(a,b){a.yv=b;a.LP=b};
+g.OYvT=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.nWwg=function(a,b){return a;return a;if(!a)return null;if(!a)return null;return a;a.DR=b};
+var duEr={lq:function(a){return a.Oo},Pk:function(a){return a.xU},jl:function(a){return a.pW},LU:function(a){return a.Vx}};
+g.Chp4=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.zH=b;a.g8=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ABYA=function(a,b){b=b||{};return a;if(!a)return null;return a;return a;if(!a)return null;var ng=a.C3(b)};
+g.xLt3=function(a,b){b=b||{};b=b||{};var gg=a.Xh(b);return a;var gg=a.Dk(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.QGZ4=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.Da=b;return a};
+var k4nN={GL:function(a){return a.vT},QL:function(a){return a.yB}};
+g.oSyQ=function(a,b){if(!a)return null;var ax=a.HC(b);return a;b=b||{}};
+g.WewW=function(a,b){a.Rn=b;var wp=a.dd(b);for(var c=0;c<a.length;c++)b.push(a[c]);var ks=a.sY(b)};
+g.sWvF=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Kc=b};
+g.gFPa=function(a,b){b=b||{};var tq=a.Vq(b);if(!a)return null;return a};
+var Szny={Dw:function(a){return a.p7},Rt:function(a){return a.pW},eI:function(a){return a.nO},Hd:function(a){return a.J1}};
+g.hUWv=function(a,b){var ih=a.PU(b);var so=a.ff(b)};
+g.Joyh=function(a,b){return a;a.k9=b;var ro=a.bh(b);var lb=a.oq(b)};
+g.RnVv=function(a,b){if(!a)return null;b=b||{};if(!a)return null;return a;var wj=a.nB(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.EOMJ=function(a,b){a.sa=b;var tk=a.WJ(b);if(!a)return null;return a;var my=a.r3(b);if(!a)return null;if(!a)return null};
+g.f8eJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.eHZW=function(a,b){return a;var v8=a.RN(b)};
+var M5lG={hg:function(a){return a.hs},eT:function(a){return a.Li},KE:function(a){return a.N6}};
+g.HmG2=function(a,b){a.sl=b;b=b||{};return a};
+g.Vqhu=function(a,b){if(!a)return null;var ot=a.Fq(b);b=b||{};return a;if(!a)return null};
+g.aEkn=function(a,b){return a;b=b||{};var io=a.xq(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.k4YQ=function(a,b){return a;return a;a.jx=b;return a};
+g.SSiJ=function(a,b){var af=a.yQ(b);var qa=a.nN(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.bW=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.JBjh=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.G4=b};
+var FYjc={Dg:function(a){return a.zl},yI:function(a){return a.ME},TI:function(a){return a.bG},D8:function(a){return a.th}};
+g.jJSg=function(a,b){return a;return a;b=b||{};a.Lz=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.ddDo=function(a,b){var xx=a.XD(b);b=b||{};a.Bl=b;a.dW=b;b=b||{};return a;b=b||{}};
+g.p3Cw=function(a,b){b=b||{};b=b||{};b=b||{};a.cx=b;a.MM=b};
+g.OxsP=function(a,b){a.ju=b;return a;var uh=a.Wl(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var x3Fn={Gx:function(a){return a.qZ},eg:function(a){return a.ap},KK:function(a){return a.hw}};
+g.exOx=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};b=b||{}};
+g.SibN=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;a.MI=b};
+g.kSHb=function(a,b){return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.oH=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.qGx1=function(a,b){b=b||{};a.P8=b;return a};
+g.NobC=function(a,b){if(!a)return null;if(!a)return null;a.fy=b;if(!a)return null;a.fZ=b;return a;return a};
+g.aYQz=function(a,b){b=b||{};var ap=a.pn(b);return a;if(!a)return null};
+g.RGvG=function(a,b){b=b||{};var il=a.Jt(b)};
+g.iDNq=function(a,b){var hr=a.S4(b);a.rN=b};
+g.kQay=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var hDwt={uo:function(a){return a.Uq},OC:function(a){return a.nP},Xs:function(a){return a.Fq},Im:function(a){return a.tb}};
+g.CJi4=function(a,b){return a;b=b||{};return a;return a;if(!a)return null};
+var fBc2={pr:function(a){return a.gL},Kb:function(a){return a.NL},dj:function(a){return a.UK}};
+g.adL9=function(a,b){b=b||{};if(!a)return null;var sm=a.MP(b);var o6=a.wU(b)};
+g.iSmc=function(a,b){var ht=a.rm(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.YO=b;return a};
+g.H6Jp=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+var LpfA={hZ:function(a){return a.aq},mS:function(a){return a.Gu},sa:function(a){return a.sM},bp:function(a){return a.KF},I0:function(a){return a.em}};
+g.eqY9=function(a,b){if(!a)return null;a.Y0=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Srax=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.aO=b;return a};
+g.acbu=function(a,b){if(!a)return null;var hh=a.LV(b);var x6=a.hg(b);return a;a.hk=b;if(!a)return null};
+g.niTh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.yhXu=function(a,b){if(!a)return null;if(!a)return null;var bs=a.ZF(b);if(!a)return null;if(!a)return null};
+var DbXA={Ip:function(a){return a.HZ},oT:function(a){return a.qk},AU:function(a){return a.yB},eW:function(a){return a.jg},DC:function(a){return a.dd}};
+g.sPAG=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.sl=b;var g4=a.fL(b);var dm=a.w0(b);return a};
+var r3J7={ar:function(a){return a.Ww},vP:function(a){return a.ad},Gu:function(a){return a.tK},Le:function(a){return a.UP}};
+var xmz7={gE:function(a){return a.cL},F1:function(a){return a.l3},wx:function(a){return a.JJ},q4:function(a){return a.Wx}};
+g.KGgv=function(a,b){a.hv=b;if(!a)return null;a.AS=b;a.cg=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.G8rP=function(a,b){return a;var rr=a.zg(b);if(!a)return null};
+g.arZF=function(a,b){return a;var zt=a.av(b);a.aW=b};
+g.JOCR=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var mj=a.LQ(b)};
+g.wCyG=function(a,b){var xf=a.VU(b);if(!a)return null;a.EM=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.sLA3=function(a,b){if(!a)return null;a.p2=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var npxl={rU:function(a){return a.cN},Hi:function(a){return a.Mt}};
+g.zrpQ=function(a,b){var qy=a.CC(b);var xr=a.VB(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var iz=a.l3(b)};
+g.AQyK=function(a,b){return a;b=b||{};var me=a.Kd(b);b=b||{}};
+g.BIzV=function(a,b){a.uO=b;a.jP=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.a9bE=function(a,b){if(!a)return null;var l6=a.Bu(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.ZL=b};
+g.BROE=function(a,b){var py=a.bw(b);var j5=a.xc(b);if(!a)return null;a.CJ=b};
+g.nYla=function(a,b){return a;if(!a)return null};
+var ptgT={j7:function(a){return a.g2},RZ:function(a){return a.SV}};
+g.SFls=function(a,b){a.RF=b;a.W5=b;if(!a)return null;a.aq=b;a.nC=b;if(!a)return null;if(!a)return null};
+g.KbU0=function(a,b){if(!a)return null;a.ap=b};
+g.oYEY=function(a,b){if(!a)return null;a.Uy=b;if(!a)return null;var by=a.IT(b);var io=a.mF(b);a.EK=b};
+g.Bkvu=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.MdyQ=function(a,b){return a;b=b||{};if(!a)return null;if(!a)return null;if(!a)return null};
+g.f2Pd=function(a,b){b=b||{};var qr=a.os(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.QYTE=function(a,b){b=b||{};a.kf=b};
+g.I8Z4=function(a,b){a.RY=b;a.Ob=b;return a;b=b||{};return a};
+g.syNG=function(a,b){a.sB=b;b=b||{};a.oU=b;a.zo=b};
+var QbqE={Ve:function(a){return a.PC},yt:function(a){return a.PQ}};
+g.U1Vs=function(a,b){a.wi=b;var ut=a.mQ(b);return a;if(!a)return null;return a};
+g.OaOz=function(a,b){a.qf=b;if(!a)return null};
+g.xwzX=function(a,b){var kn=a.wo(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;var my=a.vJ(b);if(!a)return null};
+g.bjEN=function(a,b){a.BW=b;b=b||{};var pl=a.yJ(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.dO=b};
+var SbVH={WO:function(a){return a.iZ},xb:function(a){return a.bM},C2:function(a){return a.oe},DV:function(a){return a.zB}};
+g.bnNN=function(a,b){return a;a.Ux=b;a.TI=b};
+g.DLwQ=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;return a;if(!a)return null};
+g.cxvf=function(a,b){a.qw=b;b=b||{};var de=a.e8(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.uhGF=function(a,b){a.s7=b;if(!a)return null;a.nI=b;return a;return a;var ve=a.QF(b)};
+var zdzj={ZF:function(a){return a.st},km:function(a){return a.gq},eZ:function(a){return a.Jk}};
+g.yboJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var vi=a.cz(b);a.ha=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.Lgpy=function(a,b){a.fs=b;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var bhwv={nP:function(a){return a.br},r0:function(a){return a.Qv}};
+g.bRQ4=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ORvD=function(a,b){a.lY=b;return a;a.LY=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GeF3=function(a,b){a.t9=b;return a;return a;var jc=a.BE(b)};
+g.FbCo=function(a,b){return a;b=b||{}};
+g.B5My=function(a,b){if(!a)return null;var tu=a.zv(b);if(!a)return null;a.iJ=b};
+var M5F8={mr:function(a){return a.J8},KQ:function(a){return a.r0},md:function(a){return a.JS},rV:function(a){return a.PB},ht:function(a){return a.Uk}};
+var FfX0={cn:function(a){return a.eo},a1:function(a){return a.wd},ei:function(a){return a.Bk}};
+g.eJth=function(a,b){if(!a)return null;return a;return a;return a;if(!a)return null};
+var c2RB={OS:function(a){return a.Oc},LK:function(a){return a.Ia},k4:function(a){return a.cW},h2:function(a){return a.ek}};
+g.RcKT=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;return a;if(!a)return null;var kt=a.G5(b);if(!a)return null};
+var xTy2={ql:function(a){return a.zS},Cv:function(a){return a.KE},kt:function(a){return a.k5},Tr:function(a){return a.s0}};
+g.hVvv=function(a,b){b=b||{};var fb=a.tl(b);if(!a)return null;var tz=a.KF(b);a.Vl=b};
+g.ffA8=function(a,b){if(!a)return null;a.CE=b;b=b||{};a.ti=b};
+g.TSl4=function(a,b){a.ts=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.FUZh=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};return a};
+g.SZML=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.kyDB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.j8pZ=function(a,b){var h3=a.c9(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.swrs=function(a,b){var o2=a.HZ(b);for(var c=0;c<a.length;c++)b.push(a[c]);var ke=a.Nv(b);var aw=a.vt(b);var lv=a.es(b);b=b||{}};
+var wZrw={Te:function(a){return a.WW},Uk:function(a){return a.Ar},Q6:function(a){return a.Mz},tW:function(a){return a.Lv}};
+g.TVNT=function(a,b){var p2=a.n6(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var yLQY={MW:function(a){return a.zw},FQ:function(a){return a.iC},uc:function(a){return a.Sg}};
+g.AARr=function(a,b){a.n6=b;a.Ba=b};
+g.glKg=function(a,b){a.Sw=b;return a;a.xK=b};
+var v7lO={RC:function(a){return a.br},JQ:function(a){return a.ed}};
+g.dgMy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.xKA9=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Si=b;a.UP=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.dQ=b};
+g.WgVV=function(a,b){b=b||{};if(!a)return null};
+g.kILa=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.M4xs=function(a,b){a.Gd=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.zDUo=function(a,b){b=b||{};return a;return a};
+var X6n7={wK:function(a){return a.f6},uh:function(a){return a.OR},Xy:function(a){return a.Um},GF:function(a){return a.MH}};
+g.IZOo=function(a,b){if(!a)return null;return a;var ld=a.om(b)};
+g.zvEn=function(a,b){a.px=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.odWJ=function(a,b){a.bV=b;b=b||{};a.kL=b;b=b||{}};
+g.OitC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.D7wk=function(a,b){a.vX=b;return a;b=b||{};return a;if(!a)return null;if(!a)return null;return a};
+g.eAs5=function(a,b){var y8=a.hc(b);a.QF=b;return a;a.x6=b;return a;b=b||{}};
+g.LCpQ=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var gNQp={g5:function(a){return a.P3},YR:function(a){return a.WN},O4:function(a){return a.Mu}};
+g.IiIa=function(a,b){a.gN=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xXer=function(a,b){return a;b=b||{};var cr=a.Q5(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.vyjo=function(a,b){return a;if(!a)return null;var ds=a.kw(b);a.iG=b;if(!a)return null;a.JY=b};
+g.HTe9=function(a,b){if(!a)return null;a.V0=b;var rz=a.rH(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Yn=b};
+g.UCRU=function(a,b){b=b||{};a.ET=b;a.Io=b;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.lCkU=function(a,b){var jh=a.q9(b);a.vh=b;if(!a)return null};
+var O9s6={js:function(a){return a.cW},uu:function(a){return a.uK},TI:function(a){return a.jS},oy:function(a){return a.Sc},xR:function(a){return a.tu}};
+g.DxdN=function(a,b){var eu=a.hV(b);var r5=a.QL(b);a.yy=b;b=b||{};return a;if(!a)return null;if(!a)return null};
+g.vnv2=function(a,b){if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var fz=a.A4(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.tVvK=function(a,b){a.NT=b;b=b||{};var vo=a.eN(b);return a;return a};
+g.t8qi=function(a,b){a.g9=b;var io=a.qB(b);if(!a)return null};
+g.ehJ5=function(a,b){var eb=a.SC(b);b=b||{};var dz=a.UW(b);if(!a)return null;a.Tu=b;if(!a)return null;return a};
+var bGpv={ku:function(a){return a.pB},uX:function(a){return a.xw},uj:function(a){return a.w8}};
+g.odCX=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var hx=a.MV(b)};
+g.oXM6=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var vu=a.zo(b)};
+g.gXw9=function(a,b){var p5=a.mr(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var ef=a.Rc(b);b=b||{}};
+g.StJV=function(a,b){b=b||{};if(!a)return null};
+g.FDT0=function(a,b){var fg=a.q8(b);a.in=b;a.sJ=b;a.Yr=b;var ng=a.bE(b);return a;b=b||{}};
+var uDZA={Tu:function(a){return a.ED},Nx:function(a){return a.hw},FX:function(a){return a.HN}};
+var swfL={Dq:function(a){return a.Rw},y1:function(a){return a.At},Fl:function(a){return a.Gt},pm:function(a){return a.E6}};
+g.mthp=function(a,b){b=b||{};b=b||{};return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.QDqB=function(a,b){if(!a)return null;return a};
+g.nJse=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.dkoW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;if(!a)return null;a.ov=b};
+g.m6eA=function(a,b){b=b||{};b=b||{};var tt=a.Sg(b)};
+g.USFM=function(a,b){a.KQ=b;a.Oj=b;var zc=a.C2(b)};
+g.RHm3=function(a,b){var g3=a.BV(b);var wb=a.Al(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};a.wL=b};
+var gMuA={eK:function(a){return a.iZ},v6:function(a){return a.Mo}};
+g.RHQn=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;var gr=a.cR(b)};
+g.SlK3=function(a,b){return a;b=b||{};return a;var ya=a.mQ(b)};
+var VNcd={OV:function(a){return a.kD},PX:function(a){return a.vV},Av:function(a){return a.UN}};
+g.ldQf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;a.j7=b;if(!a)return null;var np=a.Y6(b);if(!a)return null};
+g.C6hN=function(a,b){a.Ue=b;a.YE=b;a.ZO=b;a.dd=b;return a;b=b||{};if(!a)return null};
+g.w0F4=function(a,b){var nd=a.lr(b);b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.PjQP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};if(!a)return null;var h4=a.fJ(b);b=b||{}};
+g.fKWz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var qw=a.B6(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fesh=function(a,b){var px=a.Hk(b);if(!a)return null;a.es=b;if(!a)return null;return a;if(!a)return null;a.v9=b};
+var vdq2={WE:function(a){return a.Fb},Oj:function(a){return a.sb},tz:function(a){return a.mD},od:function(a){return a.Qy},Tl:function(a){return a.mK}};
+var VyVT={BE:function(a){return a.Yb},Cb:function(a){return a.uu}};
+g.lFcj=function(a,b){a.rJ=b;b=b||{};return a;if(!a)return null;a.E5=b;a.DV=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.wtnO=function(a,b){b=b||{};if(!a)return null;return a;var sn=a.ar(b)};
+var WkCD={zi:function(a){return a.pv},LG:function(a){return a.V4},SL:function(a){return a.lg},bx:function(a){return a.O8},Wc:function(a){return a.HY}};
+var d8fn={ib:function(a){return a.TQ},fL:function(a){return a.tl},i5:function(a){return a.Ym},bu:function(a){return a.n6}};
+g.fDlJ=function(a,b){a.fy=b;a.oR=b;var gm=a.kO(b);return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.vFjm=function(a,b){b=b||{};var ih=a.ci(b);if(!a)return null};
+g.PgZW=function(a,b){a.CB=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fHe2=function(a,b){if(!a)return null;if(!a)return null;return a;if(!a)return null;if(!a)return null;a.Tq=b};
+g.wyL5=function(a,b){if(!a)return null;b=b||{};a.XR=b};
+g.mnjC=function(a,b){b=b||{};return a;a.iJ=b;b=b||{};b=b||{};var u4=a.xG(b);b=b||{}};
+g.HdBf=function(a,b){b=b||{};b=b||{};return a;a.io=b;for(var c=0;c<a.length;c++)b.push(a[c]);var c8=a.VU(b);b=b||{}};
+var Jon1={VF:function(a){return a.Dh},LR:function(a){return a.NA}};
+g.ziCr=function(a,b){if(!a)return null;return a;a.Fo=b;var lo=a.yQ(b);var mb=a.w2(b);a.nE=b};
+g.eYBK=function(a,b){var dn=a.Sd(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;a.sJ=b};
+var AoC2={c9:function(a){return a.Uy},uL:function(a){return a.Fo}};
+g.bgNE=function(a,b){var zj=a.wM(b);return a;b=b||{};var a0=a.bg(b)};
+g.Hxto=function(a,b){if(!a)return null;return a;a.Ok=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var ws=a.bt(b);a.za=b};
+g.Z4FG=function(a,b){return a;return a;if(!a)return null;if(!a)return null};
+g.OocL=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.fETi=function(a,b){a.YO=b;if(!a)return null;a.ey=b;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LURl=function(a,b){a.xk=b;if(!a)return null;b=b||{};if(!a)return null;var fo=a.Nj(b);if(!a)return null;var r1=a.rw(b)};
+var yIV1={Hl:function(a){return a.u9},it:function(a){return a.vD},sA:function(a){return a.pP},f2:function(a){return a.Zs}};
+var uCYV={fE:function(a){return a.ln},G3:function(a){return a.oC}};
+g.pLxf=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;return a;a.Ri=b};
+var H2fC={uq:function(a){return a.Uf},ZO:function(a){return a.yC},O2:function(a){return a.J0}};
+g.SuTV=function(a,b){var e8=a.yV(b);if(!a)return null};
+g.LPb0=function(a,b){b=b||{};if(!a)return null;var ow=a.go(b);var lm=a.ap(b)};
+var dhYz={ei:function(a){return a.Bo},jc:function(a){return a.aC},sr:function(a){return a.u0},Pn:function(a){return a.fL},V3:function(a){return a.RA}};
+g.H7K7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;if(!a)return null;if(!a)return null};
+var YwMy={Bq:function(a){return a.St},Iy:function(a){return a.au}};
+g.ELvA=function(a,b){return a;a.Kj=b;b=b||{}};
+g.QMQa=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.im=b;var wo=a.Hh(b);if(!a)return null;b=b||{};var s1=a.zx(b)};
+g.ARz8=function(a,b){if(!a)return null;a.Qr=b;return a};
+g.WVHk=function(a,b){var vi=a.pw(b);var tq=a.GR(b);return a;if(!a)return null};
+g.sgIw=function(a,b){b=b||{};b=b||{};var gu=a.WJ(b)};
+g.S6Dy=function(a,b){b=b||{};if(!a)return null;b=b||{};a.KS=b;return a;b=b||{}};
+g.JmRq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var y8=a.LN(b);a.gW=b;var yt=a.pU(b);var zo=a.DL(b);a.qJ=b;a.jC=b};
+g.ybUU=function(a,b){b=b||{};var jv=a.uv(b)};
+var RbgR={Fv:function(a){return a.mf},kY:function(a){return a.ZH},jl:function(a){return a.wc},DX:function(a){return a.x4}};
+g.mClb=function(a,b){var pw=a.yw(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.lM=b};
+g.lfwG=function(a,b){var sp=a.uz(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.myDJ=function(a,b){b=b||{};b=b||{};b=b||{}};
+g.u3yr=function(a,b){a.XZ=b;if(!a)return null;var kx=a.fg(b);a.tj=b;b=b||{}};
+g.vroz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.QU=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.ID=b;var mf=a.vf(b);b=b||{}};
+g.bnlF=function(a,b){if(!a)return null;a.B4=b;if(!a)return null;return a;return a;if(!a)return null};
+g.qdeX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};if(!a)return null};
+g.XGHz=function(a,b){if(!a)return null;b=b||{};return a;a.ae=b;var yz=a.lN(b);return a};
+g.GAqR=function(a,b){return a;if(!a)return null;return a;a.BZ=b;b=b||{}};
+g.towg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var t8=a.oV(b);if(!a)return null;a.dF=b};
+g.QSjJ=function(a,b){return a;b=b||{};if(!a)return null;a.xF=b;return a;var f5=a.Wf(b)};
+var cddt={rB:function(a){return a.cs},xo:function(a){return a.Nf},Ja:function(a){return a.KT}};
+g.MqVd=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.N4=b;b=b||{}};
+g.QXJp=function(a,b){a.u3=b;b=b||{};return a;if(!a)return null;b=b||{};a.eJ=b};
+var uZf3={MP:function(a){return a.lM},Bf:function(a){return a.pA}};
+var yXjP={dL:function(a){return a.VU},i6:function(a){return a.eO}};
+g.TpbP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.uCnN=function(a,b){var vj=a.Ws(b);a.lb=b;b=b||{};b=b||{};if(!a)return null;return a};
+g.fnxb=function(a,b){return a;a.Rb=b;b=b||{};if(!a)return null;a.it=b;a.ZJ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ocOW=function(a,b){var ye=a.AG(b);b=b||{};return a;var yr=a.o9(b);b=b||{};a.li=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xkj9=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var ls=a.Mt(b);var gz=a.fQ(b)};
+g.XnGD=function(a,b){if(!a)return null;b=b||{};var ov=a.rZ(b)};
+g.x1Lz=function(a,b){b=b||{};return a};
+g.iKMr=function(a,b){if(!a)return null;var em=a.m2(b);return a;a.un=b};
+g.G3Ob=function(a,b){b=b||{};b=b||{}};
+var SbFP={vs:function(a){return a.a9},PD:function(a){return a.c2},OF:function(a){return a.um}};
+g.aVfo=function(a,b){a.Z1=b;a.lu=b;return a;a.jj=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.x4Xp=function(a,b){b=b||{};var vi=a.vA(b)};
+g.hhys=function(a,b){var jq=a.J2(b);b=b||{};if(!a)return null};
+g.FmTX=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var vc=a.l4(b);if(!a)return null;a.Ao=b};
+var mYeg={hx:function(a){return a.zK},rj:function(a){return a.VA},hf:function(a){return a.k1}};
+g.rmdm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var iw=a.st(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.OE=b;var mo=a.Eg(b);if(!a)return null};
+g.wYZg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var p9=a.S0(b);if(!a)return null};
+g.I7yh=function(a,b){b=b||{};a.Mb=b};
+g.QSro=function(a,b){b=b||{};if(!a)return null;if(!a)return null;a.mU=b;return a;return a};
+g.nZX6=function(a,b){b=b||{};if(!a)return null;return a;if(!a)return null;b=b||{};var gz=a.wO(b)};
+var NJHD={NS:function(a){return a.u1},OM:function(a){return a.Lo}};
+var RzC8={lU:function(a){return a.BR},Af:function(a){return a.CZ}};
+g.qMJX=function(a,b){return a;b=b||{};a.ZS=b;a.RR=b};
+var uCTL={Up:function(a){return a.iQ},BG:function(a){return a.FT},od:function(a){return a.Ag}};
+g.Y5Wg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.bxBB=function(a,b){a.og=b;a.AJ=b;if(!a)return null};
+var MjT2={Ff:function(a){return a.qR},P3:function(a){return a.OT},M2:function(a){return a.Dp},Dd:function(a){return a.BP}};
+g.WoIt=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};b=b||{}};
+g.cXTM=function(a,b){return a;var qy=a.F3(b);a.AR=b;return a};
+g.Dokt=function(a,b){return a;a.UB=b;a.EL=b;var qm=a.oX(b);a.pD=b};
+g.jGcL=function(a,b){var da=a.Ud(b);b=b||{};b=b||{};b=b||{};var um=a.Wb(b);var ln=a.GB(b);if(!a)return null};
+g.Skfb=function(a,b){var lr=a.Bl(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var jr=a.Yg(b);a.N9=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var YMTJ={e1:function(a){return a.t8},Fi:function(a){return a.wu}};
+g.F0cx=function(a,b){if(!a)return null;a.sI=b;for(var c=0;c<a.length;c++)b.push(a[c]);var ze=a.ah(b);var ao=a.g7(b)};
+g.BOha=function(a,b){a.GG=b;if(!a)return null;var lw=a.oS(b);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.IW=b};
+g.A9uP=function(a,b){b=b||{};b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.IVBs=function(a,b){return a;if(!a)return null;return a;if(!a)return null;b=b||{};a.jG=b;var nb=a.kw(b)};
+g.GTLy=function(a,b){b=b||{};return a};
+g.JxoS=function(a,b){b=b||{};return a;return a;b=b||{}};
+g.X6cS=function(a,b){var eq=a.jP(b);if(!a)return null;if(!a)return null;return a};
+g.wuiI=function(a,b){var ja=a.AN(b);var cr=a.FH(b);a.uO=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.n2Qv=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var ue=a.rX(b);if(!a)return null;b=b||{}};
+g.ilJ4=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.AFZ5=function(a,b){if(!a)return null;b=b||{};return a};
+g.O2M4=function(a,b){var q5=a.Cf(b);var pf=a.qe(b)};
+g.kitQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.d0=b;a.QT=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var lh=a.Wo(b)};
+g.gQI8=function(a,b){b=b||{};if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var w4=a.Ow(b)};
+g.d7br=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.VX=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+var qzgz={JS:function(a){return a.jE},iG:function(a){return a.x9}};
+g.LeU3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Q8WO=function(a,b){var ok=a.V6(b);b=b||{};var eq=a.o3(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var zb=a.Fx(b)};
+g.b3Qs=function(a,b){b=b||{};var le=a.yQ(b);if(!a)return null};
+var muhW={Oz:function(a){return a.jm},U6:function(a){return a.ns},CY:function(a){return a.TF}};
+g.CBDx=function(a,b){return a;a.fM=b;return a;b=b||{};a.yh=b;var ix=a.pY(b)};
+g.VkGB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var sj=a.t0(b);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.rv=b;b=b||{}};
+g.RHjE=function(a,b){if(!a)return null;return a};
+g.dsQI=function(a,b){return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var oq=a.cb(b);var ep=a.zJ(b)};
+g.mMkn=function(a,b){var ya=a.oP(b);var cy=a.Am(b);return a;return a;var qi=a.hc(b);return a};
+g.xKSU=function(a,b){if(!a)return null;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var a0OL={C1:function(a){return a.bw},OQ:function(a){return a.FL}};
+g.H6er=function(a,b){a.Pf=b;for(var c=0;c<a.length;c++)b.push(a[c]);var pa=a.Cn(b);var dm=a.r2(b);b=b||{};if(!a)return null};
+var QjU1={sM:function(a){return a.nL},bO:function(a){return a.LR},qS:function(a){return a.AW},kP:function(a){return a.fO}};
+g.hazU=function(a,b){a.fW=b;if(!a)return null;var uy=a.Ro(b);if(!a)return null};
+g.OxOm=function(a,b){b=b||{};if(!a)return null;var yo=a.Ng(b);for(var c=0;c<a.length;c++)b.push(a[c]);var ab=a.BA(b)};
+var HMG3={h3:function(a){return a.mr},zd:function(a){return a.nE},nY:function(a){return a.sd},Lr:function(a){return a.ML},WF:function(a){return a.jd}};
+var WFYc={iU:function(a){return a.xf},zi:function(a){return a.z8},xv:function(a){return a.jh},Fg:function(a){return a.tJ}};
+g.l8EW=function(a,b){var kf=a.Sp(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.TV=b;return a;a.L2=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.VHZe=function(a,b){if(!a)return null;b=b||{};b=b||{};if(!a)return null;a.SO=b;var jo=a.uR(b)};
+g.HvHD=function(a,b){a.QM=b;return a;b=b||{};if(!a)return null};
+g.EaSn=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.jvxr=function(a,b){a.eF=b;a.wD=b;if(!a)return null;if(!a)return null};
+g.JRSE=function(a,b){var l2=a.Wu(b);a.i8=b;var rx=a.x3(b)};
+g.gqbB=function(a,b){b=b||{};a.Fo=b;a.P7=b;if(!a)return null};
+g.oTUT=function(a,b){if(!a)return null;return a;var wp=a.Uh(b)};
+var Bxhw={ZG:function(a){return a.ox},qy:function(a){return a.e3},kL:function(a){return a.ye}};
+g.z6W8=function(a,b){a.JQ=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.mo=b;var sx=a.Pf(b)};
+g.P8lN=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.E3=b;b=b||{}};
+g.DKBa=function(a,b){return a;if(!a)return null};
+g.vIID=function(a,b){return a;a.t1=b;b=b||{};a.iv=b;b=b||{};a.CI=b};
+var S8qV={k6:function(a){return a.r5},BW:function(a){return a.KJ}};
+var izVc={d8:function(a){return a.pZ},qa:function(a){return a.CK}};
+g.E4qP=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var rIEX={I9:function(a){return a.jS},Ug:function(a){return a.Pl},fP:function(a){return a.M6},TW:function(a){return a.OJ}};
+g.NJlx=function(a,b){var ar=a.hE(b);var qr=a.IX(b);var na=a.xa(b);b=b||{};a.l1=b};
+g.rctG=function(a,b){b=b||{};a.Nv=b};
+var Z7FZ={oz:function(a){return a.i2},Hy:function(a){return a.Z2},l2:function(a){return a.sP},yO:function(a){return a.aB},nK:function(a){return a.XH}};
+g.CZGw=function(a,b){var eg=a.DA(b);a.ns=b;var ke=a.CZ(b);b=b||{}};
+var QGOs={xs:function(a){return a.O3},M6:function(a){return a.PI},P2:function(a){return a.mt}};
+var komV={Q6:function(a){return a.WK},K8:function(a){return a.Yy},Bs:function(a){return a.Xt},um:function(a){return a.ju},Z0:function(a){return a.Rx}};
+var yxS9={h9:function(a){return a.bq},xo:function(a){return a.Yq}};
+var l4PJ={EL:function(a){return a.HK},Xx:function(a){return a.ZL}};
+var XBLC={iv:function(a){return a.Rm},oJ:function(a){return a.tO}};
+g.urRr=function(a,b){var le=a.Ts(b);var ia=a.sN(b)};
+g.zDro=function(a,b){var z7=a.yX(b);if(!a)return null};
+var SfLH={Vo:function(a){return a.GB},rg:function(a){return a.yK},Ba:function(a){return a.Dd},mC:function(a){return a.Vy},KE:function(a){return a.TO}};
+g.FxEj=function(a,b){var c5=a.un(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ugW4=function(a,b){var ld=a.Fx(b);if(!a)return null;a.vM=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.Ysyp=function(a,b){if(!a)return null;a.Jo=b;var ao=a.ga(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;b=b||{}};
+g.uhPD=function(a,b){a.VK=b;b=b||{};b=b||{};b=b||{};return a};
+g.Voj4=function(a,b){var mr=a.T3(b);a.YN=b;return a;if(!a)return null;b=b||{};if(!a)return null};
+g.xhuU=function(a,b){var pf=a.mX(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.NBAP=function(a,b){var qs=a.Kr(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;var lf=a.Dn(b);var i8=a.eI(b);var be=a.jY(b)};
+g.xfCI=function(a,b){return a;return a};
+g.GJis=function(a,b){if(!a)return null;a.WC=b;var bm=a.Kc(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;a.q1=b};
+var cQpO={xC:function(a){return a.Gu},TK:function(a){return a.qQ},rj:function(a){return a.Y5},Xa:function(a){return a.UK},G8:function(a){return a.Bf}};
+g.Yavo=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.cj=b;a.xe=b;return a;a.YY=b};
+g.SPi5=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var n6=a.Wn(b)};
+g.OfZU=function(a,b){return a;var vt=a.Z5(b)};
+g.I8NZ=function(a,b){var he=a.Kw(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var ZVhS={N9:function(a){return a.AN},Xo:function(a){return a.zR}};
+g.fNmO=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.aX=b;a.k7=b;var c7=a.jy(b);a.d3=b;a.oF=b};
+g.sWfY=function(a,b){if(!a)return null;var c8=a.TX(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;return a};
+g.yHTw=function(a,b){var dn=a.gA(b);return a;var ux=a.sc(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ytiV=function(a,b){return a;var by=a.qT(b);for(var c=0;c<a.length;c++)b.push(a[c]);var x1=a.eb(b)};
+g.Vmfr=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var i0A2={Rq:function(a){return a.ya},wJ:function(a){return a.Js},Rw:function(a){return a.i4},si:function(a){return a.BW}};
+g.iNSr=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.K9v2=function(a,b){if(!a)return null;a.ha=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;if(!a)return null};
+g.bExu=function(a,b){b=b||{};b=b||{};if(!a)return null;if(!a)return null;b=b||{};return a;return a};
+g.kec0=function(a,b){a.Ul=b;if(!a)return null;return a;b=b||{};if(!a)return null};
+g.UqFj=function(a,b){return a;b=b||{};b=b||{};b=b||{}};
+g.P8cj=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var AOJT={J3:function(a){return a.F5},V4:function(a){return a.Dd}};
+var MkSh={Bn:function(a){return a.WC},KT:function(a){return a.ja}};
+g.lBM6=function(a,b){var tf=a.YN(b);if(!a)return null;a.EL=b};
+g.dATZ=function(a,b){a.zH=b;return a;if(!a)return null;b=b||{};if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.D9tH=function(a,b){b=b||{};b=b||{};a.z1=b;return a};
+g.TuXR=function(a,b){var j7=a.e5(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.cD=b};
+g.Tyja=function(a,b){a.jE=b;return a;if(!a)return null;var ic=a.T3(b);var zv=a.mh(b);b=b||{};a.sE=b};
+g.yzih=function(a,b){return a;if(!a)return null;a.Qd=b;a.nJ=b;a.ig=b;b=b||{}};
+g.zLSe=function(a,b){var zf=a.TR(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.s7jr=function(a,b){return a;a.NJ=b;if(!a)return null;b=b||{};return a};
+g.rUmP=function(a,b){return a;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};b=b||{}};
+g.twbu=function(a,b){return a;b=b||{};var v9=a.aU(b)};
+var qOeq={wM:function(a){return a.qc},vL:function(a){return a.qT},Dm:function(a){return a.Hk}};
+g.bhrq=function(a,b){var bl=a.H1(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.DX=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var RnCv={Ix:function(a){return a.pY},vQ:function(a){return a.YQ},Wx:function(a){return a.k2},BS:function(a){return a.mG}};
+g.P5p7=function(a,b){a.Im=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Jv=b};
+g.F3i0=function(a,b){b=b||{};a.Du=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.tZ=b;var mb=a.nB(b)};
+g.Rclm=function(a,b){return a;a.EN=b;b=b||{}};
+var ykEy={aY:function(a){return a.Sr},f4:function(a){return a.Mo},Oq:function(a){return a.Cf}};
+g.hlbK=function(a,b){if(!a)return null;a.bp=b};
+g.dWdi=function(a,b){var fb=a.aK(b);if(!a)return null;a.yJ=b;var uy=a.Tb(b);if(!a)return null;a.H8=b;var iv=a.bI(b)};
+g.gNdy=function(a,b){return a;b=b||{};return a;return a;if(!a)return null;return a;if(!a)return null};
+g.kVYt=function(a,b){var hq=a.jc(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.PZty=function(a,b){a.X1=b;a.bZ=b;return a;b=b||{};if(!a)return null};
+g.puAq=function(a,b){var ws=a.he(b);a.dM=b;a.N5=b;return a;a.cs=b};
+var bCno={rj:function(a){return a.K0},BD:function(a){return a.sp},vt:function(a){return a.SP},z7:function(a){return a.l1},CR:function(a){return a.dt}};
+var q2Ii={x4:function(a){return a.i7},x0:function(a){return a.A4},D3:function(a){return a.gJ}};
+var Ydtj={yJ:function(a){return a.bd},yk:function(a){return a.nA}};
+g.xEEj=function(a,b){a.PZ=b;var kd=a.wJ(b);a.cF=b;var d3=a.MO(b);a.B3=b;return a;return a};
+g.kzbd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.KFoG=function(a,b){a.ca=b;if(!a)return null;var qv=a.tt(b)};
+var yCJ7={eG:function(a){return a.O9},vz:function(a){return a.sT},pb:function(a){return a.EW},Pl:function(a){return a.MF}};
+var XYj4={Sa:function(a){return a.jR},OW:function(a){return a.nc},pH:function(a){return a.Ok},tD:function(a){return a.MH}};
+g.sDgI=function(a,b){var we=a.Ox(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;a.Tm=b};
+g.mHel=function(a,b){a.As=b;var ve=a.BY(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.pK=b};
+var xKgg={lA:function(a){return a.A4},AC:function(a){return a.jh}};
+g.mVq4=function(a,b){var uk=a.um(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fUvS=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;a.rO=b;return a};
+g.s1On=function(a,b){return a;b=b||{};var qp=a.UE(b)};
+var bZGj={ko:function(a){return a.Ku},Or:function(a){return a.uw},Hl:function(a){return a.fD},mM:function(a){return a.Cj},OH:function(a){return a.N4}};
+var zpzn={pf:function(a){return a.se},SY:function(a){return a.wD},NG:function(a){return a.Oh}};
+g.pTfH=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.lk=b;return a};
+g.THPC=function(a,b){return a;var hr=a.ML(b)};
+var PHzd={fF:function(a){return a.Z0},WZ:function(a){return a.KW},bh:function(a){return a.P5},i6:function(a){return a.YU}};
+g.M6Vv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;b=b||{}};
+g.NCEW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var ut=a.dc(b);a.yq=b};
+g.HNdO=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xYcU=function(a,b){a.Es=b;if(!a)return null;if(!a)return null;a.B2=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var e5sf={Yx:function(a){return a.jo},ZI:function(a){return a.S5},sB:function(a){return a.hJ}};
+g.EtZo=function(a,b){a.vt=b;return a;b=b||{};if(!a)return null;return a;var zf=a.S8(b)};
+var STya={ET:function(a){return a.d1},X5:function(a){return a.nj},g9:function(a){return a.t0},Nu:function(a){return a.wc}};
+g.HeVM=function(a,b){return a;var bx=a.j8(b);a.FX=b;a.Bk=b;a.Bi=b;a.Z0=b;return a};
+g.LAfV=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};b=b||{}};
+g.TFsf=function(a,b){b=b||{};b=b||{}};
+g.ROEn=function(a,b){b=b||{};b=b||{};var w6=a.fM(b);if(!a)return null;if(!a)return null};
+g.SpQP=function(a,b){if(!a)return null;b=b||{};var qq=a.kz(b);var sm=a.x3(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Itfm=function(a,b){a.wo=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.eZw7=function(a,b){a.Qg=b;a.Qk=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.TacE=function(a,b){b=b||{};return a;a.rA=b;var iy=a.st(b)};
+g.yYcv=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.h6tW=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;var tg=a.TN(b);var vb=a.pP(b);if(!a)return null;a.xJ=b};
+g.hpl5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Mn=b};
+g.CoDg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var zf=a.df(b);var ar=a.z8(b);var cg=a.IH(b);for(var c=0;c<a.length;c++)b.push(a[c]);var cu=a.Zq(b);b=b||{}};
+g.U5hx=function(a,b){a.EG=b;if(!a)return null};
+g.jLDy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.oC=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.dA=b;return a};
+g.gNLm=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GAT8=function(a,b){var qx=a.nb(b);if(!a)return null;a.BS=b;a.bt=b};
+g.dZL1=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.j2=b};
+g.CnQL=function(a,b){var bf=a.l1(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.kr=b;for(var c=0;c<a.length;c++)b.push(a[c]);var wz=a.w0(b);var ov=a.mc(b)};
+var jRag={YI:function(a){return a.pz},iV:function(a){return a.Nr},DG:function(a){return a.sW}};
+g.FPg1=function(a,b){if(!a)return null;return a;a.Xu=b};
+g.aBHe=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var fg=a.JD(b);a.k1=b};
+var eWo3={BE:function(a){return a.Dx},yh:function(a){return a.vN}};
+g.BDHK=function(a,b){a.UR=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Lk=b};
+g.eMHO=function(a,b){return a;b=b||{};a.Rb=b;b=b||{};var en=a.vK(b)};
+var nkxp={Ew:function(a){return a.GU},EC:function(a){return a.wb},g9:function(a){return a.QS}};
+g.DUGp=function(a,b){var mv=a.qc(b);if(!a)return null;b=b||{};return a;b=b||{};var o7=a.LL(b);var bl=a.jP(b)};
+g.uxdg=function(a,b){return a;return a;var rh=a.vD(b);var jq=a.DO(b);var p4=a.K6(b)};
+var N7re={gH:function(a){return a.EW},KN:function(a){return a.dX}};
+g.FNma=function(a,b){return a;if(!a)return null;a.Hj=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var oe=a.zs(b)};
+g.XFDV=function(a,b){return a;if(!a)return null;if(!a)return null};
+g.diZp=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var pp=a.Fa(b)};
+var bjvg={cP:function(a){return a.Bz},KC:function(a){return a.lF}};
+g.Sdsg=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var ug=a.m5(b);a.jt=b;a.C2=b;if(!a)return null};
+g.dCxb=function(a,b){return a;if(!a)return null};
+g.OFJ4=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var ao=a.r4(b)};
+g.sTEY=function(a,b){b=b||{};b=b||{};a.p1=b};
+var xkpV={a4:function(a){return a.oo},dO:function(a){return a.F2},tT:function(a){return a.IZ},mQ:function(a){return a.XI}};
+g.OSXi=function(a,b){return a;b=b||{};var xd=a.Zp(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.rOU1=function(a,b){if(!a)return null;if(!a)return null;b=b||{};a.jR=b;var jr=a.PF(b);var hk=a.om(b);return a};
+g.YzCe=function(a,b){b=b||{};var sl=a.lZ(b)};
+g.w6i5=function(a,b){return a;a.EH=b;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.gmCT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.n8=b;a.Dm=b;b=b||{};return a;return a;a.k3=b};
+var onWS={Z9:function(a){return a.E4},em:function(a){return a.Uu},Xc:function(a){return a.tq},YF:function(a){return a.Ko},QJ:function(a){return a.ja}};
+g.HJZn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var g2=a.e1(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.DAav=function(a,b){return a;b=b||{};a.BS=b;if(!a)return null;var tv=a.C9(b);if(!a)return null};
+g.B0BB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var su=a.Ft(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+var Y2XA={OB:function(a){return a.fm},fd:function(a){return a.yf},Jy:function(a){return a.Uk}};
+var qqNN={eU:function(a){return a.Sc},Rj:function(a){return a.tf},gc:function(a){return a.tf},zV:function(a){return a.Jm},pa:function(a){return a.J0}};
+g.pMPQ=function(a,b){b=b||{};return a;if(!a)return null;return a;a.Gs=b};
+g.ujtF=function(a,b){b=b||{};a.Um=b;if(!a)return null;if(!a)return null;return a};
+g.T8qQ=function(a,b){var wl=a.dN(b);return a;a.PZ=b};
+var VQqC={Pb:function(a){return a.E2},DF:function(a){return a.ub},QG:function(a){return a.ef},LL:function(a){return a.br},yZ:function(a){return a.M4}};
+var VFgI={m6:function(a){return a.zh},Lb:function(a){return a.d8}};
+var MBKL={X8:function(a){return a.Ul},KA:function(a){return a.yn},yM:function(a){return a.Bm},Fk:function(a){return a.JI}};
+g.y0eE=function(a,b){return a;var is=a.Y4(b);if(!a)return null;a.V1=b;if(!a)return null;var k4=a.Jh(b)};
+var PZC8={ie:function(a){return a.gd},kS:function(a){return a.XV},Mv:function(a){return a.I8},L5:function(a){return a.YN},VF:function(a){return a.Eg}};
+g.yoXT=function(a,b){return a;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var hp=a.UE(b)};
+var w1P4={XU:function(a){return a.uP},qZ:function(a){return a.xn},SM:function(a){return a.xP}};
+g.d9bR=function(a,b){var mj=a.MU(b);var ip=a.UK(b);for(var c=0;c<a.length;c++)b.push(a[c]);var xq=a.Ux(b)};
+g.s8uM=function(a,b){b=b||{};b=b||{};return a;a.ku=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fEtD=function(a,b){return a;if(!a)return null};
+g.fjhU=function(a,b){a.ai=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.BByW=function(a,b){return a;if(!a)return null};
+g.uQDt=function(a,b){var sc=a.fr(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.rD=b;a.PO=b};
+g.tUEV=function(a,b){return a;return a;b=b||{};a.gq=b;if(!a)return null;if(!a)return null};
+g.kzg9=function(a,b){var yc=a.HX(b);a.AF=b;b=b||{}};
+var uwlI={Wu:function(a){return a.cS},XQ:function(a){return a.z8},Zm:function(a){return a.pm},dK:function(a){return a.SN},fI:function(a){return a.vD}};
+g.loCz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.K5=b;b=b||{};if(!a)return null;if(!a)return null;if(!a)return null};
+g.BLVi=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+g.L7cj=function(a,b){var nx=a.vC(b);if(!a)return null;var sh=a.x3(b);if(!a)return null;b=b||{}};
+g.cvJb=function(a,b){a.iS=b;return a;a.g9=b;return a;var po=a.o0(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.f5fZ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;var gi=a.OD(b)};
+g.SfBh=function(a,b){var ll=a.a6(b);return a;a.SO=b;b=b||{};b=b||{}};
+var xiAC={v8:function(a){return a.PB},nC:function(a){return a.E0},lk:function(a){return a.XO},HJ:function(a){return a.Gt},Ru:function(a){return a.Ea}};
+g.PNyf=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fUuz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.YM=b};
+g.iGcZ=function(a,b){a.pE=b;return a;b=b||{};b=b||{};var uz=a.FV(b);a.Gg=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.OVa3=function(a,b){var hd=a.uM(b);return a;a.GA=b;if(!a)return null;a.pl=b;return a;if(!a)return null};
+g.JHoc=function(a,b){a.qW=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.QK=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.RB=b};
+g.Ndwe=function(a,b){if(!a)return null;if(!a)return null};
+var KSZq={KD:function(a){return a.lt},Qy:function(a){return a.tq},YL:function(a){return a.BW},Hm:function(a){return a.W7}};
+g.BNwy=function(a,b){if(!a)return null;return a;return a;a.o2=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.xEyC=function(a,b){b=b||{};if(!a)return null;if(!a)return null;var i4=a.v5(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.N7y0=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Pd=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.z8iv=function(a,b){if(!a)return null;a.UP=b;var te=a.fy(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.G6Hw=function(a,b){b=b||{};b=b||{};b=b||{}};
+g.yeNu=function(a,b){a.IF=b;if(!a)return null;b=b||{};b=b||{};a.pU=b};
+g.NTKG=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var fXca={hl:function(a){return a.w8},no:function(a){return a.f3},dv:function(a){return a.mV}};
+g.CYZK=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.uYqq=function(a,b){b=b||{};var zf=a.j4(b);if(!a)return null;var rl=a.Wf(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var b8M6={qe:function(a){return a.t1},yR:function(a){return a.v4}};
+var FeSo={IH:function(a){return a.dl},Dh:function(a){return a.jT},tU:function(a){return a.S9}};
+g.n2kn=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var a1=a.fB(b)};
+var lgLv={fg:function(a){return a.PR},HS:function(a){return a.uC},ba:function(a){return a.x1}};
+var D0Me={u4:function(a){return a.Kb},R3:function(a){return a.Ln},O4:function(a){return a.x6}};
+var TRzR={d1:function(a){return a.tL},he:function(a){return a.NC},ev:function(a){return a.Qk},NC:function(a){return a.XE},aX:function(a){return a.fQ}};
+var CuZ5={gW:function(a){return a.q1},w2:function(a){return a.zb},bR:function(a){return a.vI},Mp:function(a){return a.SM}};
+g.SXzr=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.en=b};
+g.s5gW=function(a,b){if(!a)return null;return a};
+g.ViEw=function(a,b){a.kk=b;a.ZA=b;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.L0XU=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.pZV1=function(a,b){b=b||{};var hh=a.sj(b)};
+var LDqO={OH:function(a){return a.V3},p8:function(a){return a.M0}};
+var wGT7={fm:function(a){return a.w8},y6:function(a){return a.so},dE:function(a){return a.Ah},mV:function(a){return a.mH},OK:function(a){return a.U1}};
+g.QMuI=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.QiPj=function(a,b){b=b||{};var ww=a.yo(b);a.KY=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.Dp=b;b=b||{}};
+g.HmYd=function(a,b){return a;var ag=a.mx(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Xj=b};
+g.Zhge=function(a,b){var bl=a.NN(b);var v6=a.u2(b)};
+g.oBR4=function(a,b){if(!a)return null;b=b||{}};
+var f6hi={fU:function(a){return a.u2},aC:function(a){return a.o6},BC:function(a){return a.Ba}};
+var wpMd={RK:function(a){return a.Vo},Av:function(a){return a.Ai}};
+var vKSj={dP:function(a){return a.jM},Jv:function(a){return a.bn},Ia:function(a){return a.js}};
+g.v5ra=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Sql6=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var qe=a.I9(b)};
+g.rwu0=function(a,b){a.XO=b;b=b||{};a.we=b;var cr=a.e7(b);b=b||{};a.Bs=b};
+g.lMs1=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var s0=a.uv(b);a.Ii=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var X5kR={eM:function(a){return a.Lk},fm:function(a){return a.SA},gC:function(a){return a.Yz},Ez:function(a){return a.OX}};
+g.nOJn=function(a,b){var v3=a.eO(b);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var cx=a.pS(b)};
+g.v5VY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ti=a.o7(b);if(!a)return null;var kc=a.xD(b);b=b||{};var fk=a.SM(b)};
+g.CxiZ=function(a,b){b=b||{};a.j1=b;var hb=a.UI(b)};
+var a3oY={e1:function(a){return a.Gy},I2:function(a){return a.lF},wB:function(a){return a.g1},qZ:function(a){return a.Yc}};
+var oRUh={t0:function(a){return a.Nd},pm:function(a){return a.ka},wy:function(a){return a.RH},pz:function(a){return a.Aw},q1:function(a){return a.gX}};
+g.HOlI=function(a,b){b=b||{};var mx=a.aj(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.dN=b;if(!a)return null};
+var K5Xd={Nf:function(a){return a.Ys},Rj:function(a){return a.i7},ar:function(a){return a.Xk},he:function(a){return a.Cj},Az:function(a){return a.wR}};
+g.cxV6=function(a,b){if(!a)return null;var jf=a.AU(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.LQ=b;a.Yv=b;b=b||{}};
+g.YFy7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var az=a.q9(b);var xf=a.dq(b);return a};
+g.XyG8=function(a,b){a.dI=b;var xp=a.xW(b);b=b||{};return a;return a};
+g.j1Fp=function(a,b){a.qH=b;b=b||{}};
+var YiYI={gn:function(a){return a.eh},NP:function(a){return a.k8}};
+var qVtL={CE:function(a){return a.ze},Hd:function(a){return a.n5},ZB:function(a){return a.Ms},JQ:function(a){return a.vq}};
+g.NuxB=function(a,b){b=b||{};b=b||{};if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.KKOR=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var iqNr={da:function(a){return a.My},oZ:function(a){return a.Z3},wt:function(a){return a.fh},km:function(a){return a.tF},hL:function(a){return a.ca}};
+g.BNpR=function(a,b){a.Bw=b;return a;var ag=a.vg(b);var jf=a.Ck(b);a.Go=b};
+g.O5V4=function(a,b){b=b||{};a.SA=b;if(!a)return null};
+g.jTWc=function(a,b){return a;var ax=a.Vh(b)};
+g.FHNX=function(a,b){a.md=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LKpI=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;var mr=a.l2(b)};
+g.jvHU=function(a,b){a.U2=b;var hh=a.RQ(b);b=b||{};return a;b=b||{};var mm=a.zZ(b);b=b||{}};
+g.WAVz=function(a,b){b=b||{};b=b||{};if(!a)return null;return a;a.Hp=b;b=b||{}};
+g.cQer=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.ELEX=function(a,b){return a;b=b||{};if(!a)return null;return a;b=b||{};var eb=a.Q2(b)};
+g.DCnD=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var i0al={iM:function(a){return a.hC},e4:function(a){return a.gQ},W5:function(a){return a.am}};
+g.fRlY=function(a,b){if(!a)return null;a.VK=b;if(!a)return null};
+g.Tphu=function(a,b){if(!a)return null;if(!a)return null};
+g.NfHq=function(a,b){a.oR=b;a.Zo=b;return a;b=b||{}};
+g.C4E9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var at=a.HD(b)};
+g.FeXj=function(a,b){var eo=a.XO(b);for(var c=0;c<a.length;c++)b.push(a[c]);var cy=a.yz(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.c2AU=function(a,b){var c9=a.ZL(b);var zv=a.ML(b);var dh=a.Jy(b);var nj=a.YM(b)};
+g.FoEn=function(a,b){if(!a)return null;return a;return a;if(!a)return null;var is=a.A5(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var Llfc={O2:function(a){return a.ef},FG:function(a){return a.Sf}};
+g.hIK0=function(a,b){var ih=a.tO(b);b=b||{};var xb=a.Et(b)};
+g.BhYx=function(a,b){if(!a)return null;a.sv=b;b=b||{};a.b9=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.RyQ5=function(a,b){return a;return a;var cs=a.Lo(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.pAwX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ai=a.We(b);var lh=a.rI(b);for(var c=0;c<a.length;c++)b.push(a[c]);var qc=a.UJ(b)};
+g.N6B3=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.RN=b};
+var E9qd={hi:function(a){return a.kq},xP:function(a){return a.b6},hm:function(a){return a.tC}};
+g.CfD4=function(a,b){var xh=a.Uu(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.fh=b};
+var HGIF={So:function(a){return a.QS},fC:function(a){return a.XS}};
+var TXfG={bG:function(a){return a.uL},fI:function(a){return a.h2},X9:function(a){return a.Z3}};
+var yRVq={sb:function(a){return a.SV},vv:function(a){return a.uT}};
+g.Kxl9=function(a,b){if(!a)return null;var di=a.tX(b)};
+var hmKg={HJ:function(a){return a.ic},Dg:function(a){return a.Lg},d8:function(a){return a.u8},cn:function(a){return a.N2}};
+var XXvQ={yk:function(a){return a.Io},q7:function(a){return a.D1},Bf:function(a){return a.jY},dw:function(a){return a.Df},KJ:function(a){return a.Ln}};
+g.juFS=function(a,b){var if=a.pF(b);if(!a)return null;a.Yj=b};
+g.hxpW=function(a,b){a.aP=b;if(!a)return null};
+g.p1uC=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var b8=a.EY(b);b=b||{}};
+g.f8k1=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+g.i9ly=function(a,b){b=b||{};return a;b=b||{}};
+g.IKH9=function(a,b){if(!a)return null;if(!a)return null;var x5=a.T9(b);var zz=a.xq(b);var pg=a.FV(b);a.IM=b};
+g.fWeq=function(a,b){a.JL=b;return a};
+g.PPT9=function(a,b){b=b||{};a.nv=b};
+g.Hwjl=function(a,b){var zj=a.Qh(b);if(!a)return null;if(!a)return null};
+var M5f5={t4:function(a){return a.v6},do:function(a){return a.ei},xa:function(a){return a.rn},FF:function(a){return a.uN}};
+var amWU={Eb:function(a){return a.Jz},tV:function(a){return a.ex}};
+var JGm8={TT:function(a){return a.JS},vr:function(a){return a.Ys},GS:function(a){return a.aZ},vS:function(a){return a.yt},Zj:function(a){return a.Zp}};
+g.ZUCq=function(a,b){return a;var f5=a.Lw(b);var zp=a.EL(b);if(!a)return null;return a;var ab=a.un(b);return a};
+var i1D6={cP:function(a){return a.hO},qJ:function(a){return a.VO}};
+g.kWb9=function(a,b){b=b||{};var st=a.Dd(b);if(!a)return null;if(!a)return null};
+var X8SQ={Wj:function(a){return a.jd},fD:function(a){return a.aV},Ik:function(a){return a.nc},Mp:function(a){return a.Z6},RO:function(a){return a.Ee}};
+g.zacc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.CljA=function(a,b){a.Q8=b;return a;a.si=b;return a};
+g.kZas=function(a,b){if(!a)return null;var fq=a.kc(b);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.MgeL=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var lg=a.Sg(b);a.SJ=b;b=b||{}};
+g.rGHx=function(a,b){a.J6=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};return a;return a};
+g.fYWe=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;var bi=a.PG(b);a.dv=b;var hx=a.Yw(b)};
+g.rvFz=function(a,b){a.Ov=b;a.kP=b};
+g.R2BN=function(a,b){if(!a)return null;if(!a)return null;a.uT=b};
+g.Nhc9=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var wBwd={ex:function(a){return a.dA},dD:function(a){return a.eq},Zb:function(a){return a.pv},qh:function(a){return a.i5}};
+g.TOKC=function(a,b){return a;return a;return a;var mk=a.yS(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.k2q0=function(a,b){b=b||{};var z4=a.Ph(b);b=b||{};a.wA=b;return a};
+g.sLJf=function(a,b){if(!a)return null;a.Hr=b;var je=a.Js(b);a.no=b;var cm=a.RY(b);a.oM=b};
+g.EzHZ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var y8=a.BQ(b);var xr=a.yQ(b);return a;if(!a)return null};
+g.Gcgg=function(a,b){if(!a)return null;a.i6=b};
+g.yOxX=function(a,b){var bn=a.Qf(b);if(!a)return null;a.R9=b;a.rk=b};
+g.hDXp=function(a,b){if(!a)return null;var cx=a.KQ(b);if(!a)return null;a.as=b;b=b||{};b=b||{};b=b||{}};
+g.dqvt=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.aa=b;a.hm=b;if(!a)return null};
+g.VuNj=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;return a};
+g.quze=function(a,b){var a5=a.ec(b);var jw=a.jq(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Pq=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.dyaL=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Fo=b};
+var CNl8={hi:function(a){return a.XO},UO:function(a){return a.Bn},a4:function(a){return a.aN}};
+g.maDo=function(a,b){if(!a)return null;var l2=a.wH(b);if(!a)return null;return a;var dw=a.KO(b)};
+g.W4VT=function(a,b){var km=a.VG(b);if(!a)return null};
+g.CzJz=function(a,b){var wh=a.iD(b);return a;a.gz=b;var et=a.Xd(b);var ve=a.de(b);a.m9=b;b=b||{}};
+g.foYi=function(a,b){b=b||{};return a;return a;if(!a)return null;a.aj=b};
+var KHMU={BQ:function(a){return a.lp},n2:function(a){return a.hf},gb:function(a){return a.m1},GB:function(a){return a.ox}};
+g.ilkK=function(a,b){b=b||{};if(!a)return null;var s9=a.xY(b);b=b||{};return a;return a;var nj=a.sY(b)};
+g.ZCPH=function(a,b){return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.YT=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xlVD=function(a,b){if(!a)return null;var rp=a.eO(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.hvYL=function(a,b){return a;b=b||{}};
+g.NUXC=function(a,b){return a;return a};
+g.Nes8=function(a,b){return a;return a;a.PG=b;if(!a)return null;if(!a)return null;a.co=b};
+g.KMZm=function(a,b){return a;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Zaa2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var vn=a.An(b);return a;if(!a)return null;a.H1=b;var o7=a.yo(b)};
+g.nAAN=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+g.d9hC=function(a,b){return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.P0xA=function(a,b){if(!a)return null;a.CN=b;b=b||{}};
+var ZHmR={am:function(a){return a.tP},Z9:function(a){return a.Bz},VP:function(a){return a.LW}};
+g.ulZ8=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;var be=a.Cx(b);return a};
+g.iJCz=function(a,b){if(!a)return null;if(!a)return null};
+g.EQmr=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.o2ho=function(a,b){var el=a.z6(b);var sm=a.HP(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.jfa9=function(a,b){var gl=a.Js(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;return a;return a};
+g.G9BE=function(a,b){a.ir=b;var ux=a.IL(b)};
+g.cedJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.iIX9=function(a,b){var ji=a.pH(b);var ig=a.j5(b);b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.rScR=function(a,b){b=b||{};var vu=a.Ws(b);return a;var ld=a.in(b);return a;var yn=a.HF(b);a.GD=b};
+g.TwVs=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var xk=a.Fo(b);var jp=a.jQ(b);return a;a.Nv=b};
+g.Abd2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Fr=b;return a};
+var piMq={vA:function(a){return a.HR},KW:function(a){return a.k5},TL:function(a){return a.Fg},Oe:function(a){return a.kD},qc:function(a){return a.ni}};
+g.kPA4=function(a,b){return a;b=b||{};if(!a)return null;var c5=a.IO(b);a.KY=b};
+g.lFCU=function(a,b){a.Sf=b;a.X4=b};
+var pob2={PG:function(a){return a.AV},Ei:function(a){return a.cN},K9:function(a){return a.Yq}};
+var zzqA={jD:function(a){return a.xi},a7:function(a){return a.dI},zX:function(a){return a.OE},pN:function(a){return a.LT}};
+g.nHwl=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.FW=b;return a};
+g.uOJ1=function(a,b){if(!a)return null;if(!a)return null;return a;return a;return a};
+var D8SS={Vw:function(a){return a.GG},WK:function(a){return a.MK},hs:function(a){return a.ng}};
+g.T6l7=function(a,b){if(!a)return null;b=b||{};var nz=a.MT(b);return a;return a};
+g.VTgr=function(a,b){return a;a.AO=b};
+g.Y2O5=function(a,b){b=b||{};var v9=a.fL(b)};
+g.xmdG=function(a,b){b=b||{};var cd=a.U9(b);if(!a)return null;var vj=a.Km(b);b=b||{};return a};
+g.gWYY=function(a,b){b=b||{};if(!a)return null;var tj=a.J7(b);return a;if(!a)return null;return a;b=b||{}};
+g.HOds=function(a,b){return a;if(!a)return null;a.dL=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var ti=a.GP(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Mhip=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Mx=b;b=b||{};a.tp=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Livm=function(a,b){var zu=a.m4(b);if(!a)return null;a.qv=b};
+g.ulBO=function(a,b){return a;if(!a)return null;var l5=a.zU(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.rqIL=function(a,b){if(!a)return null;var pi=a.xP(b);return a;var ce=a.lf(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ScAX=function(a,b){a.sa=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var cctc={kd:function(a){return a.xy},uD:function(a){return a.Bw},zp:function(a){return a.Hv},lC:function(a){return a.r4}};
+var q0Uf={rx:function(a){return a.yP},cE:function(a){return a.qO},Vf:function(a){return a.fM},w7:function(a){return a.Ii},OH:function(a){return a.F8}};
+g.rWlQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};a.hp=b;a.Ad=b};
+var iMgs={A3:function(a){return a.HS},Pb:function(a){return a.OD},QL:function(a){return a.Ii},iR:function(a){return a.VV}};
+g.E6Z4=function(a,b){a.lT=b;if(!a)return null;var mh=a.c3(b)};
+g.ZpJ6=function(a,b){b=b||{};var by=a.oE(b);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ZFtx=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var vb=a.YZ(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Jkek=function(a,b){var tz=a.I9(b);if(!a)return null};
+g.Y2N7=function(a,b){var zf=a.CE(b);var i0=a.bw(b);return a;b=b||{};b=b||{};a.q7=b;a.ax=b};
+g.xzGt=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var tb=a.sI(b);return a};
+g.e0Hu=function(a,b){return a;var px=a.T2(b);b=b||{};return a;if(!a)return null;b=b||{};return a};
+var gbRK={Y8:function(a){return a.Nk},gT:function(a){return a.fG},fw:function(a){return a.W2}};
+g.l8gs=function(a,b){b=b||{};var ir=a.D2(b);b=b||{}};
+g.K2wB=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var OmQn={pJ:function(a){return a.FT},QT:function(a){return a.IW}};
+g.hcYz=function(a,b){var gp=a.wG(b);if(!a)return null;a.hD=b};
+g.ELWs=function(a,b){var jv=a.YC(b);if(!a)return null;return a;b=b||{}};
+g.wLBC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;a.ke=b};
+g.DOEG=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.wkrb=function(a,b){if(!a)return null;a.ZP=b;var og=a.H8(b);if(!a)return null;b=b||{}};
+var OYQ4={oj:function(a){return a.iq},Ry:function(a){return a.t5},fO:function(a){return a.lB}};
+g.vANP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var dh=a.VH(b)};
+var Xhqa={p3:function(a){return a.et},ok:function(a){return a.lb},Mt:function(a){return a.rB}};
+g.gpcJ=function(a,b){var ks=a.xi(b);if(!a)return null};
+g.xzDb=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a;var gp=a.ON(b)};
+g.DGBU=function(a,b){if(!a)return null;if(!a)return null;return a;b=b||{}};
+g.bjAY=function(a,b){if(!a)return null;if(!a)return null;var lp=a.lR(b);a.a6=b};
+g.X4yt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.sQdV=function(a,b){return a;a.ru=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.IZ=b;a.t9=b;var zf=a.ny(b);if(!a)return null};
+g.TYqh=function(a,b){if(!a)return null;if(!a)return null;return a;return a;b=b||{};if(!a)return null;var um=a.xy(b)};
+g.svJD=function(a,b){b=b||{};if(!a)return null;b=b||{};b=b||{};a.ee=b;return a;a.Jz=b};
+g.vvB9=function(a,b){b=b||{};var v9=a.ww(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var C5Hh={pd:function(a){return a.dL},Ca:function(a){return a.RW},dQ:function(a){return a.Yy}};
+g.Q9kw=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Yz=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var ia=a.wI(b)};
+var ERIB={pX:function(a){return a.K5},sb:function(a){return a.Vi},hR:function(a){return a.Wf},RK:function(a){return a.AL},FG:function(a){return a.i2}};
+g.o8CS=function(a,b){b=b||{};b=b||{};var ti=a.w2(b);if(!a)return null;var kg=a.oc(b)};
+g.eIll=function(a,b){var fo=a.h4(b);return a;var dp=a.qE(b);b=b||{};return a;b=b||{};b=b||{}};
+g.rzIr=function(a,b){if(!a)return null;var x1=a.S9(b)};
+g.EOOM=function(a,b){a.HY=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.olOa=function(a,b){var ul=a.rM(b);if(!a)return null;return a;var sg=a.kW(b);var s0=a.ZI(b)};
+g.v2kC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.fIw5=function(a,b){return a;if(!a)return null};
+g.Echl=function(a,b){var bf=a.vA(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.VPPC=function(a,b){return a;a.vn=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var gxD6={V8:function(a){return a.JG},TW:function(a){return a.Jd}};
+g.SnIG=function(a,b){return a;var we=a.oa(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.iOMR=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var g8=a.Ri(b);a.cS=b};
+g.j2Ly=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;if(!a)return null;var bg=a.bT(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.jCx0=function(a,b){b=b||{};a.kH=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.ZG=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var UjU6={Ez:function(a){return a.og},m4:function(a){return a.dH},Xi:function(a){return a.Ie}};
+var kcv7={UC:function(a){return a.ZO},PL:function(a){return a.IK},yi:function(a){return a.Up},d2:function(a){return a.A0}};
+g.Hjrb=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.acRX=function(a,b){if(!a)return null;return a;b=b||{};if(!a)return null;if(!a)return null;var f4=a.yc(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ncGs=function(a,b){var mc=a.GM(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+var tHZF={dR:function(a){return a.SH},Qg:function(a){return a.Bk}};
+g.GFMc=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.TNg1=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.qM=b};
+g.TKnk=function(a,b){b=b||{};if(!a)return null;var ge=a.Du(b);var e7=a.h9(b);return a;return a};
+var n7XF={Xh:function(a){return a.Vx},RV:function(a){return a.jZ}};
+var mFWd={BP:function(a){return a.Ui},LY:function(a){return a.QP},J6:function(a){return a.uR}};
+g.Pbs5=function(a,b){a.Cq=b;var mm=a.PN(b)};
+g.SywL=function(a,b){return a;return a;var jf=a.qj(b);var nh=a.lv(b)};
+g.ehsv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var ZoSP={Ad:function(a){return a.aM},Cr:function(a){return a.fz}};
+var kGe6={z3:function(a){return a.O5},xT:function(a){return a.F8},f6:function(a){return a.nL}};
+g.guTA=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.pU=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.jOJW=function(a,b){a.zf=b;var ll=a.L0(b);var hr=a.oP(b);return a};
+g.fWlO=function(a,b){a.x1=b;b=b||{};var m9=a.r7(b)};
+var iTCQ={sI:function(a){return a.qK},lL:function(a){return a.uD},Gl:function(a){return a.D9},ui:function(a){return a.Ud},NC:function(a){return a.OG}};
+var WVzq={qu:function(a){return a.wT},g8:function(a){return a.ap},bC:function(a){return a.O7}};
+g.PWaG=function(a,b){if(!a)return null;var ro=a.fX(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.uGzq=function(a,b){return a;return a;a.X4=b;return a;b=b||{}};
+g.Rqo9=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var uxwA={i8:function(a){return a.iO},O4:function(a){return a.ir},r7:function(a){return a.F7},Un:function(a){return a.Jk},XZ:function(a){return a.c8}};
+g.W6mj=function(a,b){a.Od=b;if(!a)return null;return a;a.tY=b;var gp=a.hR(b);if(!a)return null};
+g.mpj6=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;return a;return a;return a;return a};
+var iLgP={XY:function(a){return a.GV},MH:function(a){return a.zS}};
+g.Axph=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.HuR6=function(a,b){b=b||{};a.NT=b;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var vFqY={io:function(a){return a.mP},oK:function(a){return a.Ve}};
+g.QyLk=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.jjHn=function(a,b){var wb=a.Zb(b);if(!a)return null;var ne=a.Bn(b);a.ve=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.bQ=b};
+g.tYDy=function(a,b){a.ms=b;b=b||{};var yr=a.Ld(b)};
+g.NSXl=function(a,b){if(!a)return null;a.op=b;return a;b=b||{};return a;if(!a)return null};
+var v6JP={XM:function(a){return a.o7},SH:function(a){return a.gw},wN:function(a){return a.zx}};
+var vci9={QW:function(a){return a.qQ},Fs:function(a){return a.Rv},oc:function(a){return a.hX}};
+g.k3Q0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var jt=a.SW(b);b=b||{};return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.q2a2=function(a,b){var no=a.Jv(b);a.hB=b;if(!a)return null;if(!a)return null;a.CR=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.JRw1=function(a,b){return a;a.Mi=b;return a};
+var NuUu={Jb:function(a){return a.BR},fJ:function(a){return a.Cm}};
+g.UOo2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var xh=a.aP(b);return a};
+g.CDP2=function(a,b){return a;if(!a)return null};
+var X8uL={b1:function(a){return a.Tq},b3:function(a){return a.mN},rd:function(a){return a.ma},t3:function(a){return a.Co}};
+g.azuS=function(a,b){if(!a)return null;if(!a)return null};
+g.h5wj=function(a,b){if(!a)return null;return a;a.Cm=b;b=b||{};a.Ks=b};
+g.FCYL=function(a,b){var b7=a.Xv(b);b=b||{};return a;return a};
+g.U2Im=function(a,b){if(!a)return null;return a};
+g.Nbet=function(a,b){var p8=a.rJ(b);var kq=a.Zh(b);b=b||{};var z5=a.tI(b);var g6=a.qz(b)};
+var jwuv={yi:function(a){return a.dZ},cX:function(a){return a.fi}};
+g.Kjc2=function(a,b){var wv=a.Th(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.nh=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var COvy={nZ:function(a){return a.Mi},KR:function(a){return a.G2},RZ:function(a){return a.Zm}};
+g.PtPm=function(a,b){return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;var yp=a.ci(b);a.Sc=b};
+g.QoQW=function(a,b){a.pW=b;b=b||{}};
+g.yzUf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.mYOX=function(a,b){b=b||{};b=b||{}};
+g.K1QP=function(a,b){b=b||{};if(!a)return null;var xz=a.n8(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.ZdbJ=function(a,b){b=b||{};if(!a)return null;if(!a)return null;a.My=b;b=b||{};a.KR=b};
+g.ZMo7=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.L3=b};
+g.InET=function(a,b){var ex=a.Ei(b);var ek=a.Ta(b);a.N4=b;a.oV=b;a.CQ=b};
+g.cstO=function(a,b){var gt=a.Lw(b);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var bqxC={A8:function(a){return a.gh},qA:function(a){return a.wc}};
+var fMBg={dd:function(a){return a.Kr},kq:function(a){return a.JG},uV:function(a){return a.FI},P4:function(a){return a.Sv}};
+g.AHSL=function(a,b){var cm=a.Yd(b);b=b||{};b=b||{};b=b||{};return a;a.JJ=b;a.JH=b};
+g.QkCY=function(a,b){b=b||{};return a};
+g.jYPr=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.RbWf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.D3=b};
+g.e4V8=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.krdo=function(a,b){var og=a.jT(b);var le=a.uI(b);a.vH=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.QG=b};
+var lxK8={nD:function(a){return a.aQ},RE:function(a){return a.Hy},mm:function(a){return a.cK},uY:function(a){return a.YF},eT:function(a){return a.tF}};
+var IKx2={PK:function(a){return a.U3},nO:function(a){return a.vf}};
+g.jCvG=function(a,b){var hn=a.v0(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.NJ=b;a.vp=b;b=b||{}};
+g.fXBu=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.E3=b;return a};
+g.bgZe=function(a,b){a.Eu=b;b=b||{}};
+g.m7jt=function(a,b){if(!a)return null;b=b||{}};
+g.W3p9=function(a,b){a.VT=b;b=b||{};var ep=a.aj(b);b=b||{};if(!a)return null};
+g.Jbmp=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.hDrx=function(a,b){return a;return a;return a};
+g.kUKR=function(a,b){var yh=a.ky(b);return a};
+var JCIY={nL:function(a){return a.I3},ed:function(a){return a.XN},Us:function(a){return a.Tl},Z0:function(a){return a.Vf}};
+var nQRt={Ss:function(a){return a.DU},jG:function(a){return a.Xr},Cs:function(a){return a.Vj},tY:function(a){return a.Rf},rU:function(a){return a.Vl}};
+var GdOB={eH:function(a){return a.Zq},Sq:function(a){return a.o9},dG:function(a){return a.wR},Eg:function(a){return a.Ow},F7:function(a){return a.fj}};
+g.UEGv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var jmoS={Ob:function(a){return a.Lm},Ht:function(a){return a.P6},XY:function(a){return a.ZL},wv:function(a){return a.qJ},K3:function(a){return a.Xa}};
+var XjxF={VT:function(a){return a.H6},cF:function(a){return a.RZ},f9:function(a){return a.O9},ZO:function(a){return a.Gx}};
+var ndtO={cx:function(a){return a.vO},Kr:function(a){return a.wW},Vx:function(a){return a.TS}};
+g.pXed=function(a,b){var zs=a.vb(b);var pf=a.dW(b);var hn=a.ow(b);a.dL=b};
+g.yVwz=function(a,b){b=b||{};if(!a)return null;a.SD=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.S4N8=function(a,b){var g3=a.J1(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var rm=a.Te(b);b=b||{};if(!a)return null};
+g.A7Vl=function(a,b){if(!a)return null;var iu=a.As(b)};
+var ZFHJ={BT:function(a){return a.D1},NK:function(a){return a.r5},I1:function(a){return a.pc},c6:function(a){return a.Zv}};
+g.YOdR=function(a,b){b=b||{};a.iR=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Y8=b;a.Dp=b};
+var NLb2={mG:function(a){return a.Tn},f7:function(a){return a.TF},BH:function(a){return a.GQ},ku:function(a){return a.uN}};
+g.iyji=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.cP=b};
+g.p6MV=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var Kbhy={MN:function(a){return a.E5},by:function(a){return a.R3}};
+g.ZQAh=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.vIq7=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.zGJS=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var VMYJ={Jq:function(a){return a.XO},v3:function(a){return a.Rl}};
+g.TfnX=function(a,b){if(!a)return null;a.yc=b};
+g.CuR7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.WzTm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;var fu=a.DZ(b);var ac=a.WZ(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.pINt=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var cq=a.RC(b);var ww=a.uV(b);a.PV=b};
+g.fuSa=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.Uqg6=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var ci=a.Q8(b);b=b||{}};
+g.ZEpl=function(a,b){var x1=a.rZ(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var Tqq9={Gr:function(a){return a.FJ},ZP:function(a){return a.au},yq:function(a){return a.Fy},wl:function(a){return a.i0}};
+g.APMN=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.pL=b;return a;a.fE=b};
+g.zDLa=function(a,b){a.JR=b;for(var c=0;c<a.length;c++)b.push(a[c]);var kl=a.mM(b)};
+g.nBam=function(a,b){var rh=a.MH(b);a.h2=b;b=b||{}};
+g.mzlR=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.IVIG=function(a,b){return a;var rt=a.ar(b);var we=a.oI(b);var ee=a.Bl(b);if(!a)return null};
+var MkuY={RY:function(a){return a.xa},Yf:function(a){return a.Ds},z2:function(a){return a.gM}};
+g.dKcY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var my=a.pp(b);for(var c=0;c<a.length;c++)b.push(a[c]);var tr=a.AO(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.pF=b};
+g.QuAd=function(a,b){return a;return a;if(!a)return null;if(!a)return null};
+var WJA2={A0:function(a){return a.iz},v9:function(a){return a.vB}};
+g.rrHB=function(a,b){if(!a)return null;a.Xm=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;a.U5=b};
+var LhF6={nr:function(a){return a.Ve},ix:function(a){return a.E6}};
+var ZfZX={fZ:function(a){return a.WV},fm:function(a){return a.NR}};
+g.GAiG=function(a,b){var zz=a.hi(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.VJ=b};
+g.BCHP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.Fsqa=function(a,b){return a;a.x6=b};
+g.uWUW=function(a,b){var mr=a.NT(b);b=b||{}};
+g.nPwx=function(a,b){var us=a.OB(b);b=b||{};return a;b=b||{}};
+g.Hdfv=function(a,b){b=b||{};var wt=a.VA(b);if(!a)return null;if(!a)return null};
+g.FqBL=function(a,b){return a;b=b||{};return a};
+g.FYFC=function(a,b){var t8=a.nI(b);return a};
+var IZln={zq:function(a){return a.hT},nC:function(a){return a.mf},zr:function(a){return a.iN}};
+g.SWAT=function(a,b){var ke=a.S4(b);a.im=b};
+var Pla0={Fe:function(a){return a.Xa},bo:function(a){return a.Oy}};
+var Xy={aB:function(a){a.reverse()},
+cD:function(a,b){a.splice(0,b)},
+eF:function(a,b){var c=a[0];a[0]=a[b%a.length];a[b%a.length]=c}};
+g.HgFy=function(a,b){a.qh=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var qMol={zp:function(a){return a.h9},Zw:function(a){return a.HA},rG:function(a){return a.R6}};
+g.sGLs=function(a,b){b=b||{};var vb=a.A6(b);if(!a)return null;a.eW=b;a.v2=b;if(!a)return null};
+g.U3Xt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.AoQA=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var jo=a.k4(b);b=b||{};return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.TbBh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.G9=b;if(!a)return null;var z6=a.w1(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var xiF8={EK:function(a){return a.Vr},Lo:function(a){return a.Ht},ud:function(a){return a.Od},Bh:function(a){return a.me}};
+g.z5tS=function(a,b){var ou=a.zg(b);var in=a.xB(b);a.oj=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.jHqo=function(a,b){b=b||{};return a;if(!a)return null;if(!a)return null;return a};
+var JlDz={BB:function(a){return a.Ly},E5:function(a){return a.WX},lb:function(a){return a.Nx},O5:function(a){return a.HE}};
+var P4lV={f7:function(a){return a.lB},R0:function(a){return a.YQ}};
+var mEiq={G0:function(a){return a.qJ},y8:function(a){return a.u4},yp:function(a){return a.FK},jl:function(a){return a.jc}};
+var lyLQ={co:function(a){return a.tc},nP:function(a){return a.Ne},gt:function(a){return a.Q8},BL:function(a){return a.iO}};
+g.z9wF=function(a,b){a.gJ=b;var ow=a.Pq(b);return a;a.Fl=b};
+g.aDZB=function(a,b){if(!a)return null;return a};
+g.ubKr=function(a,b){var mu=a.hI(b);if(!a)return null;b=b||{};if(!a)return null;a.N9=b};
+g.T1Tk=function(a,b){b=b||{};return a};
+g.jKyR=function(a,b){return a;return a;return a;a.Re=b;b=b||{};b=b||{}};
+g.gRPq=function(a,b){var re=a.SX(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.uCsg=function(a,b){return a;return a;return a};
+g.CzAo=function(a,b){if(!a)return null;if(!a)return null;b=b||{}};
+g.vlLD=function(a,b){a.Dk=b;a.Jq=b;var ik=a.MI(b);a.fO=b;if(!a)return null};
+g.qUSm=function(a,b){var ls=a.FZ(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var ul=a.M3(b)};
+var zSub={ku:function(a){return a.tu},iY:function(a){return a.zr}};
+var pvDt={kj:function(a){return a.ie},jO:function(a){return a.j6}};
+g.Rhvn=function(a,b){if(!a)return null;a.g4=b};
+var VRVu={CW:function(a){return a.br},pQ:function(a){return a.Nj},io:function(a){return a.dQ},QL:function(a){return a.nv}};
+g.Vurn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.xE=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.cDOI=function(a,b){var uy=a.Yz(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.RK=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.BuLK=function(a,b){return a;var fw=a.XQ(b);a.og=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Xq=b;if(!a)return null;return a};
+g.vjng=function(a,b){return a;a.RN=b;a.Fv=b;b=b||{}};
+g.jbmR=function(a,b){var ca=a.Mi(b);b=b||{}};
+g.OqYa=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.D5=b;if(!a)return null;b=b||{};return a};
+g.O2KO=function(a,b){var fm=a.y2(b);var vd=a.wi(b);return a;return a;b=b||{}};
+g.WBDT=function(a,b){var mv=a.P9(b);if(!a)return null;var hv=a.L5(b);return a};
+g.fjbs=function(a,b){a.nS=b;var um=a.c4(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LeWU=function(a,b){var jq=a.tg(b);return a};
+g.uxEH=function(a,b){var c3=a.f3(b);b=b||{}};
+g.fMw7=function(a,b){a.e5=b;a.s2=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.h0az=function(a,b){var k8=a.UZ(b);a.Yi=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;if(!a)return null};
+g.BTWD=function(a,b){var jm=a.XH(b);return a;if(!a)return null;var xc=a.L1(b);b=b||{};if(!a)return null;if(!a)return null};
+g.AYh5=function(a,b){return a;b=b||{};return a;if(!a)return null;var xi=a.Q5(b)};
+g.dYG9=function(a,b){a.oP=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;return a;var gx=a.hC(b);b=b||{}};
+g.NNDq=function(a,b){b=b||{};a.lA=b;var ch=a.r7(b)};
+var Upqn={EE:function(a){return a.Yc},Ra:function(a){return a.P1},yE:function(a){return a.ZO},nt:function(a){return a.LF}};
+g.mIOz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var Iury={K7:function(a){return a.xD},la:function(a){return a.nA},bW:function(a){return a.Lh},ao:function(a){return a.Mf},Cs:function(a){return a.qv}};
+g.CikX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.JE=b};
+g.SMK7=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var te=a.ic(b)};
+g.AdtL=function(a,b){if(!a)return null;a.Yv=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.PxoA=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.Tu=b;if(!a)return null};
+g.tAhJ=function(a,b){var ik=a.Jo(b);if(!a)return null;if(!a)return null};
+g.PPwr=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.lbZL=function(a,b){a.Qj=b;a.qt=b;return a;if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.YoUw=function(a,b){var bl=a.Qr(b);b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var kkhu={pC:function(a){return a.or},PI:function(a){return a.EO},ZD:function(a){return a.o3},xM:function(a){return a.te},lK:function(a){return a.PF}};
+g.BCr6=function(a,b){if(!a)return null;b=b||{};if(!a)return null};
+var KtmL={YZ:function(a){return a.b8},a2:function(a){return a.mX},Mm:function(a){return a.GH}};
+g.YQao=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var a5=a.p7(b)};
+var r5Oo={YL:function(a){return a.nT},DU:function(a){return a.j6},S3:function(a){return a.qV},Yk:function(a){return a.TT}};
+var EeEq={UG:function(a){return a.pi},oP:function(a){return a.lL},ef:function(a){return a.K4}};
+g.ubl7=function(a,b){var hl=a.ul(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.zSN0=function(a,b){if(!a)return null;b=b||{};a.pf=b;return a;a.Mb=b;var il=a.z2(b);a.pL=b};
+g.KlN8=function(a,b){b=b||{};a.xD=b;a.tw=b;return a;return a;return a;b=b||{}};
+g.Lpm3=function(a,b){var f3=a.rP(b);var ir=a.Cq(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};var lt=a.IS(b);var mt=a.XI(b)};
+g.zalR=function(a,b){b=b||{};var q6=a.Jr(b);b=b||{};a.s2=b};
+var EJZX={HA:function(a){return a.Cp},oM:function(a){return a.Mk},cj:function(a){return a.SN},NU:function(a){return a.JG},BK:function(a){return a.iw}};
+g.sMhz=function(a,b){b=b||{};var yy=a.IZ(b);a.Ux=b};
+g.SUsr=function(a,b){a.DD=b;a.at=b};
+g.r5r9=function(a,b){a.Bo=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.MQ=b};
+var uVqL={yY:function(a){return a.KZ},vU:function(a){return a.SE},E3:function(a){return a.Ku}};
+g.oLXK=function(a,b){a.vU=b;return a;b=b||{};a.T5=b;a.r4=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.UiLn=function(a,b){b=b||{};b=b||{};return a;var bc=a.OZ(b)};
+g.rlim=function(a,b){return a;if(!a)return null};
+g.OIMj=function(a,b){a.FA=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;if(!a)return null;a.OZ=b;a.O5=b};
+g.MGRh=function(a,b){b=b||{};return a;var vm=a.C1(b);a.tC=b;for(var c=0;c<a.length;c++)b.push(a[c]);var cl=a.EW(b);a.Cx=b};
+g.i5ct=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};if(!a)return null};
+g.Pme6=function(a,b){return a;a.gz=b};
+g.gMJ0=function(a,b){a.VP=b;return a;if(!a)return null};
+g.P2Wv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.Q7yy=function(a,b){a.q7=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.CmE8=function(a,b){a.zq=b;b=b||{};if(!a)return null};
+var V7co={xo:function(a){return a.Ly},SA:function(a){return a.Tc},xG:function(a){return a.vI},LX:function(a){return a.uG}};
+g.Mpev=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.p0=b;b=b||{};var ql=a.UG(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.iG=b};
+g.U0Ex=function(a,b){return a;return a};
+g.t3st=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.l7=b;var mp=a.RO(b);if(!a)return null};
+g.qLi6=function(a,b){a.tb=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var ut=a.N3(b)};
+g.AmBL=function(a,b){a.qD=b;b=b||{};b=b||{};a.yh=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.zc=b;a.yV=b};
+g.uLut=function(a,b){b=b||{};a.VV=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.HL=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var dxjp={Gf:function(a){return a.AN},U4:function(a){return a.Bk},ET:function(a){return a.AC},Oc:function(a){return a.Gm},dv:function(a){return a.JV}};
+g.PQZ1=function(a,b){if(!a)return null;return a;return a;return a;b=b||{};if(!a)return null};
+g.CDJw=function(a,b){a.BH=b;if(!a)return null};
+var gwQD={hq:function(a){return a.s8},Sw:function(a){return a.v1}};
+g.temx=function(a,b){return a;if(!a)return null;a.o0=b;if(!a)return null};
+g.MkmJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var cu=a.kx(b);var oy=a.Pn(b)};
+g.Vxg0=function(a,b){a.tZ=b;return a;var fu=a.RN(b);b=b||{};if(!a)return null};
+g.ZQzE=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var zkuv={fl:function(a){return a.uq},Py:function(a){return a.NA},G1:function(a){return a.Mm},oG:function(a){return a.NH}};
+g.AoxB=function(a,b){return a;if(!a)return null;a.kJ=b;if(!a)return null;if(!a)return null};
+var xWfd={RN:function(a){return a.Y5},qW:function(a){return a.KA}};
+var cbY1={o3:function(a){return a.j1},sa:function(a){return a.VX}};
+var azom={hu:function(a){return a.Gp},g8:function(a){return a.zR}};
+g.SGFh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.lqog=function(a,b){return a;b=b||{};var bx=a.iR(b);if(!a)return null;b=b||{}};
+g.z1IA=function(a,b){var sj=a.Fy(b);var aj=a.Iw(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.B2p8=function(a,b){b=b||{};a.X9=b;if(!a)return null;var w7=a.EO(b)};
+g.GWaw=function(a,b){a.yC=b;if(!a)return null;return a;b=b||{}};
+g.g6Eh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.R7=b;return a};
+g.nlCF=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.vM=b;b=b||{}};
+g.ddAE=function(a,b){a.rg=b;if(!a)return null;return a;if(!a)return null};
+g.oZJi=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.YXGH=function(a,b){return a;b=b||{}};
+var snYI={Wq:function(a){return a.pR},mM:function(a){return a.R7},qD:function(a){return a.ld},VX:function(a){return a.Cn},bF:function(a){return a.CT}};
+var ahLt={Rk:function(a){return a.mt},Uq:function(a){return a.rx},xL:function(a){return a.Lf},ik:function(a){return a.E8},iG:function(a){return a.kr}};
+var UIT5={YE:function(a){return a.sT},Fq:function(a){return a.XE},rR:function(a){return a.ao}};
+var YHWK={tT:function(a){return a.SY},t3:function(a){return a.WD},pB:function(a){return a.pX},RH:function(a){return a.IX}};
+g.tNPF=function(a,b){b=b||{};if(!a)return null};
+g.X8Ar=function(a,b){b=b||{};if(!a)return null;var bq=a.FX(b)};
+g.nEI5=function(a,b){if(!a)return null;return a;a.Jq=b;if(!a)return null};
+g.bKIq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var w1=a.Zx(b);a.Gx=b;if(!a)return null};
+g.hHCS=function(a,b){var i5=a.tv(b);a.Ac=b};
+g.CXup=function(a,b){var hi=a.HN(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.za=b;a.Ro=b;b=b||{};b=b||{};var ba=a.g7(b)};
+var gar5={l1:function(a){return a.zi},fW:function(a){return a.jw},zx:function(a){return a.IB}};
+g.uWNz=function(a,b){b=b||{};if(!a)return null;return a;var uk=a.WB(b);return a;var ke=a.Qv(b);return a};
+g.Xjp9=function(a,b){return a;a.sv=b;a.SI=b;a.cX=b;b=b||{};var j0=a.en(b);b=b||{}};
+g.j5eW=function(a,b){return a;if(!a)return null;a.Zo=b;a.Pz=b;a.HH=b};
+g.CKyL=function(a,b){if(!a)return null;var ed=a.bH(b);b=b||{};b=b||{};var uf=a.c7(b);b=b||{}};
+g.r8QH=function(a,b){return a;return a;return a;if(!a)return null};
+g.F5NF=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.HOnu=function(a,b){if(!a)return null;var ka=a.bl(b);a.vV=b};
+g.SAU0=function(a,b){var bz=a.HK(b);return a;b=b||{};b=b||{};return a};
+var pkTt={KQ:function(a){return a.Ud},dr:function(a){return a.Ik}};
+g.ACLR=function(a,b){a.VV=b;b=b||{};a.cF=b};
+g.ROOD=function(a,b){a.Sf=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var xx=a.kS(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Kc=b};
+g.AyI7=function(a,b){var rk=a.yg(b);if(!a)return null;if(!a)return null;b=b||{};a.JP=b};
+g.LOZ2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.RCib=function(a,b){var db=a.QB(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.rGas=function(a,b){a.id=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.vN=b;if(!a)return null;return a;return a};
+g.pgYu=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.AAXi=function(a,b){if(!a)return null;return a;a.SZ=b;return a;if(!a)return null;if(!a)return null};
+var ewGX={kA:function(a){return a.VI},EH:function(a){return a.Rv},nN:function(a){return a.fi},rO:function(a){return a.wX}};
+g.RRT1=function(a,b){a.JH=b;var ih=a.V8(b)};
+var vEYG={sG:function(a){return a.WS},AB:function(a){return a.sY},u5:function(a){return a.jh},VZ:function(a){return a.WR},oX:function(a){return a.QS}};
+g.Hlfo=function(a,b){b=b||{};var us=a.C0(b);return a;if(!a)return null;if(!a)return null;var k7=a.ww(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.k3nM=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.pWjS=function(a,b){if(!a)return null;return a;b=b||{};a.mh=b};
+g.smUg=function(a,b){b=b||{};b=b||{};a.Lx=b;b=b||{}};
+var KmJN={rg:function(a){return a.rp},SE:function(a){return a.SR},UZ:function(a){return a.Xs},qt:function(a){return a.wb},Yg:function(a){return a.qh}};
+g.vcEk=function(a,b){b=b||{};var ao=a.tz(b);a.Jb=b;var i2=a.I8(b);a.LI=b;b=b||{}};
+g.CmoH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var of=a.iE(b);b=b||{};if(!a)return null;if(!a)return null;b=b||{};var ko=a.Wy(b)};
+g.UGUH=function(a,b){a.xX=b;if(!a)return null;var ql=a.yl(b)};
+g.NpOb=function(a,b){var oa=a.Ta(b);if(!a)return null;a.Pl=b};
+g.jKze=function(a,b){var fk=a.Vk(b);a.aE=b;b=b||{};if(!a)return null};
+g.K9a6=function(a,b){return a;a.LO=b;b=b||{}};
+var M1Jt={qg:function(a){return a.vo},nj:function(a){return a.mt},T5:function(a){return a.Yd},HN:function(a){return a.UL}};
+g.xndn=function(a,b){b=b||{};if(!a)return null;if(!a)return null;b=b||{}};
+g.plvU=function(a,b){if(!a)return null;a.yo=b};
+var NJgD={sG:function(a){return a.OK},kN:function(a){return a.As},sx:function(a){return a.Rf},ZC:function(a){return a.yR},Vv:function(a){return a.dJ}};
+g.ZZj5=function(a,b){return a;return a;if(!a)return null};
+var BHHE={dH:function(a){return a.VJ},ee:function(a){return a.kc},CI:function(a){return a.Sc},I3:function(a){return a.Bm},ol:function(a){return a.Ha}};
+var wJRp={Bp:function(a){return a.kb},TP:function(a){return a.FI}};
+g.wTqD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var pc=a.fr(b);var oe=a.uK(b);b=b||{};var ga=a.g8(b);a.eH=b;if(!a)return null};
+g.C1Sd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var in=a.vi(b);a.QK=b;if(!a)return null;return a};
+var vtL5={tO:function(a){return a.vt},N5:function(a){return a.vD},K4:function(a){return a.d7}};
+g.BUxs=function(a,b){return a;a.dh=b;a.k8=b;b=b||{};return a;var c0=a.Cz(b)};
+var xKn4={ov:function(a){return a.XN},HQ:function(a){return a.U3},zb:function(a){return a.Uy},ty:function(a){return a.wU}};
+g.mYwo=function(a,b){var nf=a.hr(b);if(!a)return null;return a};
+g.buRL=function(a,b){var wv=a.jA(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var oCsK={BE:function(a){return a.rR},qb:function(a){return a.bP},jH:function(a){return a.FM},lQ:function(a){return a.Kb},KV:function(a){return a.SD}};
+g.eUhr=function(a,b){var ow=a.fq(b);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var v4AI={IL:function(a){return a.aa},on:function(a){return a.fh},Jn:function(a){return a.HH}};
+g.XXVq=function(a,b){return a;return a};
+g.YDWN=function(a,b){b=b||{};a.m1=b;b=b||{};a.xM=b;return a;if(!a)return null};
+g.Clf5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};if(!a)return null;return a};
+g.jWBc=function(a,b){return a;if(!a)return null;a.Y9=b;return a;if(!a)return null};
+g.ELIf=function(a,b){a.bC=b;a.Ze=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.jo=b;a.xT=b};
+g.rqj1=function(a,b){a.rL=b;a.ln=b};
+g.rpaN=function(a,b){if(!a)return null;b=b||{};if(!a)return null;var wv=a.AM(b)};
+var MZLR={dJ:function(a){return a.hR},pL:function(a){return a.Pw}};
+var FdV4={Z4:function(a){return a.CG},k4:function(a){return a.qB},dr:function(a){return a.Bt},xn:function(a){return a.lJ},xe:function(a){return a.UZ}};
+g.NAuT=function(a,b){var bw=a.Vr(b);a.v1=b;b=b||{}};
+g.p7dG=function(a,b){a.qx=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};if(!a)return null};
+g.hQS1=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.vfPs=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.bXTG=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.WBup=function(a,b){var kz=a.zX(b);if(!a)return null;b=b||{}};
+g.wICA=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;a.J4=b};
+g.DbH5=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.A3=b};
+g.VwCj=function(a,b){if(!a)return null;return a;if(!a)return null;b=b||{};a.mG=b;return a};
+g.Q1WM=function(a,b){b=b||{};if(!a)return null;return a;b=b||{}};
+var vFVU={GD:function(a){return a.m1},YM:function(a){return a.RO},Wg:function(a){return a.JJ}};
+g.qAIh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};a.J0=b};
+g.Nhgp=function(a,b){a.yS=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var xz=a.J3(b);var zc=a.xT(b);var kg=a.Ut(b);a.zI=b};
+g.CDwp=function(a,b){a.lW=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var pe=a.Il(b);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var DYfN={eA:function(a){return a.ft},PH:function(a){return a.Fi},jq:function(a){return a.wT}};
+g.IOjF=function(a,b){var zp=a.FJ(b);a.dQ=b;return a;var mt=a.jA(b);if(!a)return null};
+g.N0kV=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.qkaW=function(a,b){var df=a.Dv(b);a.PO=b;return a};
+var aqk0={Hn:function(a){return a.mq},cq:function(a){return a.Jr},Ms:function(a){return a.ZW}};
+g.crhq=function(a,b){if(!a)return null;return a;return a;var kr=a.hy(b);b=b||{};return a};
+Qz=function(a){a=a.split("");Xy.eF(a,3);Xy.aB(a,0);Xy.cD(a,2);Xy.eF(a,7);Xy.aB(a,19);Xy.cD(a,1);return a.join("")};
+g.itSO=function(a,b){var lr=a.TZ(b);if(!a)return null;b=b||{}};
+g.uujS=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var lr=a.FE(b);return a};
+g.FMS8=function(a,b){return a;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.uUAn=function(a,b){a.Ul=b;b=b||{}};
+g.vznb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;var pi=a.VA(b)};
+var SxhT={Yv:function(a){return a.p9},BX:function(a){return a.bw},qu:function(a){return a.Bp},nr:function(a){return a.hS}};
+g.GuEO=function(a,b){b=b||{};if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Ji=b};
+g.bFMK=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.eCdI=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.cl=b;if(!a)return null;b=b||{};var tq=a.Ui(b);return a;return a};
+var M3oi={oz:function(a){return a.CI},gM:function(a){return a.Fs},b0:function(a){return a.Xf},G9:function(a){return a.k0}};
+g.CGF5=function(a,b){var io=a.jO(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.YGOs=function(a,b){return a;a.BM=b;a.Gs=b};
+var Axsu={FQ:function(a){return a.se},Kf:function(a){return a.x8},Iy:function(a){return a.iH},o5:function(a){return a.vP},cZ:function(a){return a.WP}};
+g.EzCA=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+var lrac={ZS:function(a){return a.iZ},qc:function(a){return a.MR},Ul:function(a){return a.ly}};
+g.FYgn=function(a,b){if(!a)return null;var nh=a.sB(b)};
+var vPuU={J1:function(a){return a.JM},g0:function(a){return a.iO}};
+g.SXHz=function(a,b){var pd=a.fH(b);a.I3=b;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.OrGb=function(a,b){if(!a)return null;a.NE=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;var wg=a.bD(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var p8wu={Fm:function(a){return a.fw},xz:function(a){return a.NB},Uh:function(a){return a.QZ},iV:function(a){return a.KI},u3:function(a){return a.qH}};
+g.sPTC=function(a,b){a.es=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var WOX1={MK:function(a){return a.Sd},cC:function(a){return a.YN},iy:function(a){return a.aS},my:function(a){return a.dO},rS:function(a){return a.iZ}};
+g.sgkg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var HRVl={l2:function(a){return a.R2},z9:function(a){return a.jb},AG:function(a){return a.rV}};
+var KlvA={Vz:function(a){return a.Ex},eA:function(a){return a.H6},Yc:function(a){return a.Zf}};
+g.Xbp3=function(a,b){return a;return a;return a;if(!a)return null;a.Zz=b;b=b||{};var ij=a.e6(b)};
+g.QmBi=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Hh=b;b=b||{};return a;var s0=a.Qk(b);var pv=a.gS(b)};
+var ARKD={ib:function(a){return a.Bh},Cf:function(a){return a.gX},mX:function(a){return a.qq},xy:function(a){return a.hI}};
+g.QEUw=function(a,b){a.nl=b;for(var c=0;c<a.length;c++)b.push(a[c]);var dv=a.b3(b);b=b||{}};
+g.kxY4=function(a,b){a.M5=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var xs=a.UX(b);b=b||{}};
+g.iFl3=function(a,b){var rj=a.wW(b);b=b||{}};
+g.fflq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var jn=a.l9(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.PpSC=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.nxKU=function(a,b){var lu=a.cP(b);if(!a)return null;return a};
+var cXwS={qH:function(a){return a.Js},yl:function(a){return a.tr},na:function(a){return a.FP},TV:function(a){return a.F7},Yv:function(a){return a.uE}};
+var pxiD={D4:function(a){return a.xn},xN:function(a){return a.gz},Cc:function(a){return a.of},nu:function(a){return a.AB}};
+var WnCi={PU:function(a){return a.W3},GY:function(a){return a.CT}};
+g.MPHs=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.AD=b;a.xs=b};
+g.EmlT=function(a,b){return a;if(!a)return null};
+g.RgpQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;a.dK=b;b=b||{}};
+g.Pwvp=function(a,b){if(!a)return null;return a;if(!a)return null;a.aE=b;return a};
+g.qgLT=function(a,b){return a;return a;a.gN=b;b=b||{};return a;a.mF=b;b=b||{}};
+g.jLZY=function(a,b){b=b||{};b=b||{};var fq=a.p3(b)};
+g.t2Jz=function(a,b){if(!a)return null;b=b||{};var cp=a.Jf(b);b=b||{};a.sb=b};
+var NDXF={Rq:function(a){return a.Zp},y4:function(a){return a.ny}};
+g.s5lM=function(a,b){a.QK=b;return a;b=b||{};if(!a)return null;if(!a)return null;b=b||{}};
+var rcvA={kK:function(a){return a.Sm},lT:function(a){return a.pm}};
+g.vRh2=function(a,b){a.Oi=b;if(!a)return null;return a;b=b||{};var ry=a.qR(b)};
+g.lLmQ=function(a,b){if(!a)return null;b=b||{};if(!a)return null;b=b||{};if(!a)return null;return a};
+g.mRUK=function(a,b){a.og=b;return a;a.Y3=b;if(!a)return null;if(!a)return null};
+g.FKoB=function(a,b){a.vQ=b;b=b||{}};
+var TTTL={LZ:function(a){return a.Nl},m3:function(a){return a.rU}};
+g.Fmen=function(a,b){var pq=a.Fk(b);a.m9=b};
+g.Dlcm=function(a,b){var iz=a.YJ(b);a.pg=b};
+g.m1t2=function(a,b){if(!a)return null;b=b||{};return a;a.Z9=b;if(!a)return null;return a;var bb=a.hF(b)};
+g.eERR=function(a,b){return a;return a;var xr=a.US(b);b=b||{};return a;var im=a.qu(b);var e7=a.jT(b)};
+g.Uumo=function(a,b){a.Wq=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.X6sp=function(a,b){return a;b=b||{};b=b||{};b=b||{}};
+g.EpeG=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.fPx8=function(a,b){b=b||{};a.XP=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.ICN4=function(a,b){a.Um=b;for(var c=0;c<a.length;c++)b.push(a[c]);var kk=a.Zh(b);if(!a)return null};
+g.YoKt=function(a,b){if(!a)return null;return a};
+g.Glwk=function(a,b){var ti=a.vm(b);var a2=a.cE(b);var gc=a.W2(b);if(!a)return null;return a;b=b||{}};
+var GYTy={cM:function(a){return a.gb},TA:function(a){return a.j3}};
+g.vkdS=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var r3=a.wX(b);b=b||{};var sw=a.Cj(b)};
+g.cLWC=function(a,b){b=b||{};return a;a.Dj=b;var yl=a.u2(b);a.F7=b};
+g.UrkY=function(a,b){if(!a)return null;var xd=a.BZ(b);return a;a.oL=b;for(var c=0;c<a.length;c++)b.push(a[c]);var co=a.SX(b);return a};
+g.aBnh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;b=b||{};if(!a)return null;return a};
+g.yaVK=function(a,b){a.Sr=b;if(!a)return null;var vj=a.pV(b);return a;if(!a)return null;if(!a)return null;a.PD=b};
+g.XdCR=function(a,b){if(!a)return null;return a;return a;var pm=a.IY(b)};
+g.QKpR=function(a,b){return a;if(!a)return null;var fy=a.MF(b);var rb=a.WF(b)};
+g.oHkx=function(a,b){return a;if(!a)return null;if(!a)return null;a.Uv=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var er=a.zH(b)};
+g.xDsK=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.E1Qx=function(a,b){var oa=a.xF(b);var be=a.jc(b);b=b||{};if(!a)return null;b=b||{};if(!a)return null};
+g.ztiH=function(a,b){var oh=a.Lz(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Hn=b};
+g.oqu3=function(a,b){var k3=a.db(b);b=b||{};var az=a.Wy(b);var je=a.Nr(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.O4jz=function(a,b){if(!a)return null;return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.AcEN=function(a,b){if(!a)return null;var vz=a.XQ(b)};
+g.TbVX=function(a,b){if(!a)return null;var eh=a.DO(b);var tu=a.kB(b);b=b||{}};
+g.RPlg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var mc=a.BR(b);var y0=a.qb(b);for(var c=0;c<a.length;c++)b.push(a[c]);var mu=a.XX(b);var iq=a.kO(b)};
+g.ENO3=function(a,b){if(!a)return null;return a;var en=a.DT(b);var qk=a.WT(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.wvIK=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;return a;var ro=a.cg(b);if(!a)return null};
+g.T5Zw=function(a,b){a.QM=b;return a;var z1=a.H9(b)};
+g.c4lt=function(a,b){a.ZT=b;var rg=a.OF(b)};
+g.smW2=function(a,b){b=b||{};a.aq=b;var ze=a.Ni(b);var ev=a.iR(b);a.vi=b};
+var Utws={gg:function(a){return a.o0},v6:function(a){return a.Me},sj:function(a){return a.km},cL:function(a){return a.op},u9:function(a){return a.Sr}};
+var Ptdi={yA:function(a){return a.X8},kO:function(a){return a.tb},Qi:function(a){return a.Ty}};
+g.Tvc6=function(a,b){a.hI=b;var dg=a.cI(b);a.hN=b};
+var SLTs={uG:function(a){return a.WP},cc:function(a){return a.tU},dK:function(a){return a.BD},zs:function(a){return a.Qs},pV:function(a){return a.TO}};
+var WjLG={Z6:function(a){return a.nc},gj:function(a){return a.fa},IP:function(a){return a.xH},wc:function(a){return a.nT}};
+var PiAR={Bl:function(a){return a.WU},Df:function(a){return a.ww},i0:function(a){return a.Ou},aR:function(a){return a.rS}};
+g.M9F7=function(a,b){if(!a)return null;b=b||{};b=b||{};if(!a)return null;var vu=a.Oz(b)};
+g.lpAK=function(a,b){var rx=a.TJ(b);b=b||{}};
+g.wyme=function(a,b){a.YT=b;return a;var yh=a.ZB(b);b=b||{}};
+g.M4hJ=function(a,b){a.LX=b;var sb=a.g3(b);var sx=a.zM(b);a.Ly=b;a.y1=b;b=b||{};a.xs=b};
+g.Pgx5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var P1LX={aS:function(a){return a.Ee},YJ:function(a){return a.pX}};
+var sXAe={xU:function(a){return a.Od},Ub:function(a){return a.KO},cT:function(a){return a.U7}};
+g.xmiU=function(a,b){b=b||{};b=b||{};b=b||{};b=b||{}};
+g.HKYi=function(a,b){b=b||{};b=b||{}};
+var JddM={dD:function(a){return a.hd},sy:function(a){return a.Ap},q2:function(a){return a.OP},Nk:function(a){return a.Bc},uV:function(a){return a.Kf}};
+g.W5TP=function(a,b){b=b||{};return a;a.Ti=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var gMz6={gS:function(a){return a.Vt},IT:function(a){return a.g2},wi:function(a){return a.n3},WQ:function(a){return a.Fm}};
+var YcUa={h4:function(a){return a.wn},EY:function(a){return a.fF}};
+g.TdIf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var v1=a.T3(b);var mh=a.dS(b);return a};
+var GCj9={jI:function(a){return a.Kp},Xg:function(a){return a.fx},Ji:function(a){return a.oT},EC:function(a){return a.Fx},aB:function(a){return a.LS}};
+g.X1Mk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.ueon=function(a,b){if(!a)return null;return a};
+var mQBM={gM:function(a){return a.v4},La:function(a){return a.HB}};
+g.g0C8=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var od=a.LX(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Z7=b;return a};
+var spmQ={VX:function(a){return a.tE},f2:function(a){return a.uO},WE:function(a){return a.F3},d8:function(a){return a.Gv},Vf:function(a){return a.I1}};
+g.tzRy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;var no=a.YO(b);b=b||{}};
+g.ublC=function(a,b){a.qm=b;a.gc=b;a.cM=b;a.yN=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.ILnN=function(a,b){b=b||{};a.JV=b};
+g.V4Lu=function(a,b){return a;var kv=a.A6(b)};
+g.opt1=function(a,b){if(!a)return null;b=b||{}};
+g.JFEh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var mg=a.nY(b);if(!a)return null;var sp=a.yI(b);b=b||{};return a};
+var rSQk={Es:function(a){return a.Ws},DZ:function(a){return a.JM}};
+var Ajm5={es:function(a){return a.Ym},Z6:function(a){return a.Cp}};
+g.XvYJ=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.aZ=b;var wt=a.AU(b);return a;b=b||{}};
+g.GqEQ=function(a,b){b=b||{};var ug=a.cE(b);b=b||{};b=b||{};b=b||{};b=b||{};a.PC=b};
+g.hdek=function(a,b){var ow=a.Mv(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.DuKk=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var wi=a.YH(b);b=b||{};b=b||{}};
+g.sQmA=function(a,b){a.E2=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.WZKs=function(a,b){a.ud=b;if(!a)return null;b=b||{};if(!a)return null;b=b||{}};
+g.cvZt=function(a,b){if(!a)return null;return a;if(!a)return null;if(!a)return null;if(!a)return null;b=b||{};var rk=a.sf(b)};
+g.BWAs=function(a,b){a.fx=b;b=b||{};var yo=a.MP(b);if(!a)return null;return a;if(!a)return null};
+g.CtUh=function(a,b){b=b||{};a.sq=b;return a;var fq=a.KU(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.pWca=function(a,b){if(!a)return null;return a;var rg=a.ra(b);var rl=a.D1(b);var rw=a.NW(b);a.Z2=b};
+g.qPYI=function(a,b){var t8=a.kI(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.v6=b;a.Cf=b};
+var ZWa3={ru:function(a){return a.hc},cw:function(a){return a.tX},vT:function(a){return a.N8},h7:function(a){return a.Iu},me:function(a){return a.Mu}};
+g.h7Qm=function(a,b){if(!a)return null;b=b||{};return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.sexj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var xh=a.vx(b);return a;if(!a)return null;b=b||{}};
+g.OEl2=function(a,b){b=b||{};var ar=a.BI(b);a.z2=b};
+g.vPG2=function(a,b){if(!a)return null;if(!a)return null};
+g.dQUF=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var u6=a.W5(b);var mw=a.WY(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var vQtF={Iw:function(a){return a.is},sX:function(a){return a.hl},wf:function(a){return a.uX},JW:function(a){return a.FW}};
+g.lpy5=function(a,b){var cg=a.rf(b);b=b||{};if(!a)return null};
+g.OhO4=function(a,b){b=b||{};a.Uo=b;a.X4=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.cwsW=function(a,b){if(!a)return null;a.qp=b};
+var cilg={dK:function(a){return a.LI},Du:function(a){return a.PY},Ag:function(a){return a.LQ}};
+var IXk5={ix:function(a){return a.a8},eP:function(a){return a.Ll}};
+var FbNi={UI:function(a){return a.uN},d7:function(a){return a.Vr}};
+g.cika=function(a,b){var o4=a.GW(b);var yf=a.JY(b);var xh=a.By(b);if(!a)return null;var ru=a.ED(b);a.yc=b;a.X8=b};
+g.mMAJ=function(a,b){a.gY=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.W9=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var xGz8={mO:function(a){return a.OV},mr:function(a){return a.VL},TO:function(a){return a.Ux},x8:function(a){return a.S6},Yx:function(a){return a.Xh}};
+var rxtW={Uj:function(a){return a.VX},zo:function(a){return a.bB},dj:function(a){return a.gi},jB:function(a){return a.Be}};
+var BRIC={RA:function(a){return a.FN},Vq:function(a){return a.pB},cI:function(a){return a.AI},dR:function(a){return a.mC},nx:function(a){return a.fq}};
+g.qZxw=function(a,b){var tn=a.Jz(b);if(!a)return null;b=b||{};var sv=a.YT(b)};
+g.WvSL=function(a,b){if(!a)return null;return a};
+g.Atmr=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var z2=a.Ob(b);a.JU=b;b=b||{}};
+g.P5rn=function(a,b){return a;if(!a)return null;if(!a)return null;a.z7=b;return a;a.Jw=b};
+g.xkDz=function(a,b){var ia=a.H4(b);return a;if(!a)return null;b=b||{};a.CX=b};
+g.ePXz=function(a,b){var zj=a.vo(b);if(!a)return null;a.rE=b;for(var c=0;c<a.length;c++)b.push(a[c]);var ah=a.aT(b)};
+var tUnn={q5:function(a){return a.vj},vp:function(a){return a.Ze},kY:function(a){return a.EL},ts:function(a){return a.r8}};
+g.LhyW=function(a,b){var jn=a.EX(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;var te=a.tG(b);if(!a)return null;var ba=a.RF(b);return a};
+g.nqbU=function(a,b){a.Jv=b;a.z5=b;b=b||{};return a;var te=a.HU(b);return a};
+g.eHBE=function(a,b){var ki=a.zi(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var ym=a.PW(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ApOx=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var td=a.U0(b);return a;if(!a)return null;if(!a)return null;if(!a)return null};
+g.UDLm=function(a,b){var ti=a.ia(b);return a;a.CQ=b;b=b||{};var yz=a.jO(b);return a};
+g.yWNk=function(a,b){return a;return a;b=b||{};a.M5=b;var xd=a.zK(b);return a};
+g.UKsN=function(a,b){a.Zp=b;b=b||{};return a;a.V0=b};
+var YuEl={QY:function(a){return a.hi},gl:function(a){return a.SS},V7:function(a){return a.i6},lg:function(a){return a.Lp}};
+g.hWRR=function(a,b){var rb=a.wr(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var kCF8={h8:function(a){return a.Kq},jQ:function(a){return a.m4}};
+var gVJR={ia:function(a){return a.R1},tx:function(a){return a.JQ}};
+g.MroA=function(a,b){var ik=a.Us(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Ca=b;return a;var dm=a.t6(b);b=b||{};if(!a)return null};
+g.oABL=function(a,b){return a;return a;b=b||{};var f5=a.Xx(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.hbGC=function(a,b){if(!a)return null;a.Ra=b;if(!a)return null;a.Y6=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var oMDR={L8:function(a){return a.IL},fr:function(a){return a.Xn},xG:function(a){return a.Iv}};
+var V1lU={Eo:function(a){return a.yn},en:function(a){return a.z8}};
+g.VkX1=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var Opdi={Zz:function(a){return a.zN},eG:function(a){return a.DF}};
+var Trx5={o8:function(a){return a.Aj},zY:function(a){return a.AY}};
+g.X3K4=function(a,b){var n2=a.uG(b);b=b||{};a.dp=b;return a;if(!a)return null;a.Xp=b;var u0=a.YF(b)};
+g.VVQG=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.qKVB=function(a,b){return a;var xa=a.fv(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var hv=a.hB(b);var ji=a.t2(b);b=b||{}};
+g.Gpak=function(a,b){a.wi=b;a.BL=b};
+g.o4dd=function(a,b){var se=a.A9(b);var fw=a.wA(b);var my=a.Yd(b)};
+var Wpzu={Y2:function(a){return a.Ex},tK:function(a){return a.Z7},Sd:function(a){return a.M6},Db:function(a){return a.lz},tU:function(a){return a.nS}};
+g.zjAk=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.BRgi=function(a,b){if(!a)return null;b=b||{};var p4=a.pF(b)};
+g.syrc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.yh=b};
+g.iJPk=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.R7uL=function(a,b){a.vr=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.aPco=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.OO=b;if(!a)return null;return a};
+g.BEfC=function(a,b){b=b||{};a.VA=b;a.SZ=b;b=b||{};var z3=a.bQ(b)};
+g.qbV9=function(a,b){a.vF=b;a.CB=b;a.Fq=b;a.sT=b;var gw=a.Tt(b);a.rX=b;if(!a)return null};
+g.KIy1=function(a,b){var ne=a.Y0(b);return a;a.oX=b;b=b||{};var bq=a.fg(b)};
+g.D8I4=function(a,b){a.fD=b;var wd=a.b7(b);a.g1=b};
+var Zqjq={t8:function(a){return a.bK},ts:function(a){return a.cg}};
+g.ZoEl=function(a,b){b=b||{};a.Vd=b;var hz=a.lu(b);if(!a)return null;a.hU=b;a.Dn=b;a.Yf=b};
+g.hisg=function(a,b){a.Nr=b;a.Tc=b};
+var ERRu={pe:function(a){return a.an},No:function(a){return a.uJ}};
+var dhSV={dL:function(a){return a.tI},XC:function(a){return a.B9},Ur:function(a){return a.Uq}};
+g.FnUX=function(a,b){a.eR=b;var yi=a.od(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var JdNS={hg:function(a){return a.B4},KC:function(a){return a.Ik},w9:function(a){return a.qE},so:function(a){return a.mQ},UH:function(a){return a.xp}};
+g.kjJd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var zz=a.YJ(b);if(!a)return null};
+g.SpNp=function(a,b){var be=a.wV(b);if(!a)return null;return a};
+g.PAYP=function(a,b){if(!a)return null;a.j7=b;return a;b=b||{};if(!a)return null;if(!a)return null};
+g.vkh4=function(a,b){var jb=a.f0(b);b=b||{};var ma=a.kz(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var X2pR={zf:function(a){return a.gL},Na:function(a){return a.sb},Ks:function(a){return a.HX},dn:function(a){return a.NT},Pf:function(a){return a.NZ}};
+g.JEzw=function(a,b){a.qZ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var K6fX={dw:function(a){return a.Xj},fR:function(a){return a.nf},cS:function(a){return a.Sl}};
+g.qum0=function(a,b){return a;var qp=a.Hp(b);for(var c=0;c<a.length;c++)b.push(a[c]);var sw=a.Hb(b);a.fY=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.ctvA=function(a,b){var tx=a.fJ(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.za=b};
+g.Xpva=function(a,b){b=b||{};b=b||{}};
+g.h1Eq=function(a,b){a.GT=b;a.yS=b;var vm=a.q1(b);b=b||{}};
+g.CoQa=function(a,b){return a;a.qr=b;a.ao=b;if(!a)return null;a.xu=b;b=b||{};var cl=a.LI(b)};
+g.wQhd=function(a,b){b=b||{};b=b||{};a.FL=b};
+g.NygY=function(a,b){var km=a.Kq(b);b=b||{};if(!a)return null;if(!a)return null};
+g.nufA=function(a,b){return a;a.eB=b;b=b||{};a.bS=b;return a};
+g.aalt=function(a,b){if(!a)return null;b=b||{};a.E1=b;if(!a)return null;var iw=a.K5(b)};
+g.BAPs=function(a,b){var kw=a.OP(b);return a;if(!a)return null;b=b||{};if(!a)return null;var j2=a.Ji(b)};
+g.RBwN=function(a,b){b=b||{};a.Jh=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Kp=b};
+var L1ZN={Px:function(a){return a.od},le:function(a){return a.bY},wc:function(a){return a.O3},ZK:function(a){return a.nm},ee:function(a){return a.Ey}};
+var KZov={Mh:function(a){return a.nP},TL:function(a){return a.yB},uf:function(a){return a.KP}};
+g.hStT=function(a,b){var xa=a.Bj(b);return a;var k3=a.o8(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.VUnQ=function(a,b){var lk=a.Fg(b);return a;var cc=a.uA(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var YYUl={bK:function(a){return a.Fr},IN:function(a){return a.gH}};
+g.v5xt=function(a,b){return a;if(!a)return null;var v7=a.nK(b);return a};
+g.dwv9=function(a,b){a.cn=b;if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.rJU3=function(a,b){return a;b=b||{}};
+g.cEHW=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var p8=a.bZ(b)};
+var YZXX={V4:function(a){return a.hd},Lp:function(a){return a.Fa}};
+g.SkGs=function(a,b){var vj=a.BW(b);a.Jo=b;return a;var gi=a.Lw(b);if(!a)return null;a.S9=b;var qe=a.So(b)};
+g.iEcf=function(a,b){a.wc=b;b=b||{};if(!a)return null;return a};
+g.fOlx=function(a,b){return a;return a;return a;var pj=a.CU(b);if(!a)return null;if(!a)return null;if(!a)return null};
+g.cjPH=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.st=b};
+g.isFp=function(a,b){a.jM=b;var ok=a.iU(b);return a;if(!a)return null};
+g.HMqF=function(a,b){if(!a)return null;return a;return a};
+g.l3HR=function(a,b){return a;if(!a)return null};
+g.tzmF=function(a,b){if(!a)return null;return a;a.mC=b;return a};
+g.cwwc=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.GNuU=function(a,b){if(!a)return null;var ro=a.dV(b);a.e9=b;var c5=a.zt(b);b=b||{};if(!a)return null};
+g.WjCo=function(a,b){return a;a.hv=b;b=b||{};b=b||{};b=b||{};if(!a)return null;b=b||{}};
+g.ASSt=function(a,b){if(!a)return null;return a;if(!a)return null};
+g.mDiG=function(a,b){a.xr=b;b=b||{};var zg=a.uo(b);if(!a)return null};
+g.aHcD=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var z7AL={Nh:function(a){return a.lc},Gs:function(a){return a.KZ}};
+var gxJT={lC:function(a){return a.Al},b8:function(a){return a.Oq}};
+g.TJzi=function(a,b){b=b||{};b=b||{};return a;return a;a.PB=b};
+g.aaYb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.zF=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.BE=b};
+g.n3Rr=function(a,b){var ac=a.Mx(b);b=b||{}};
+g.JVr6=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.aa=b;var qh=a.yc(b);var vc=a.yk(b);return a};
+g.hQcX=function(a,b){return a;a.G8=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var za=a.nl(b)};
+g.v5oH=function(a,b){var nb=a.eG(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.yh=b};
+g.LqGP=function(a,b){if(!a)return null;a.Tq=b;return a};
+var XOUG={Cv:function(a){return a.rt},Ys:function(a){return a.Td},WA:function(a){return a.nC},tR:function(a){return a.pb},Sj:function(a){return a.J4}};
+g.juc5=function(a,b){var pe=a.sU(b);var qm=a.bE(b)};
+var l0Sv={Bg:function(a){return a.qF},oo:function(a){return a.h9},Zu:function(a){return a.Td}};
+g.swAj=function(a,b){b=b||{};return a;a.oy=b;var qf=a.tE(b);if(!a)return null;return a;b=b||{}};
+g.xMRe=function(a,b){return a;var zg=a.PE(b);b=b||{}};
+g.QbDK=function(a,b){var fr=a.by(b);var iv=a.S0(b);return a;b=b||{};if(!a)return null};
+g.BcrY=function(a,b){a.av=b;a.GR=b;var pi=a.Tu(b)};
+var AkVL={f8:function(a){return a.ll},BM:function(a){return a.W8}};
+g.bbJW=function(a,b){b=b||{};b=b||{}};
+g.VHQ2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;var tz=a.c9(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var HmC2={aj:function(a){return a.up},hS:function(a){return a.e5},PC:function(a){return a.ez},nK:function(a){return a.K1}};
+g.vkhE=function(a,b){return a;var as=a.x0(b)};
+g.eMFw=function(a,b){b=b||{};a.wj=b};
+g.GNCn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var w9=a.Jw(b);a.nF=b};
+g.TOtY=function(a,b){b=b||{};var tr=a.UA(b);if(!a)return null;if(!a)return null;if(!a)return null};
+var Q0rV={iP:function(a){return a.DF},G0:function(a){return a.jy},t8:function(a){return a.Vf},DH:function(a){return a.vN},j7:function(a){return a.YK}};
+g.kscA=function(a,b){return a;return a;return a;if(!a)return null};
+var ZNmi={iB:function(a){return a.xQ},hC:function(a){return a.M2}};
+g.L4U2=function(a,b){if(!a)return null;if(!a)return null};
+g.CiBD=function(a,b){a.W9=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;b=b||{}};
+g.vrCQ=function(a,b){return a;var i6=a.lD(b)};
+g.KSX2=function(a,b){a.um=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.E5V4=function(a,b){b=b||{};a.ST=b;var nl=a.Z2(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.bhr6=function(a,b){var m3=a.j4(b);var xn=a.X6(b);var lo=a.ex(b);return a;var nl=a.zY(b)};
+var NURk={iL:function(a){return a.la},U2:function(a){return a.dS},Ut:function(a){return a.xn}};
+g.ZZPa=function(a,b){if(!a)return null;if(!a)return null;return a;a.Bz=b};
+g.Ouav=function(a,b){var f5=a.eJ(b);b=b||{}};
+g.HzKU=function(a,b){b=b||{};b=b||{};a.KI=b;if(!a)return null};
+var jlxw={Tu:function(a){return a.cg},XC:function(a){return a.IT},At:function(a){return a.vw},ZX:function(a){return a.G8}};
+g.roX5=function(a,b){return a;if(!a)return null;if(!a)return null;a.bt=b;a.xX=b;var ra=a.mh(b)};
+g.gGnD=function(a,b){if(!a)return null;b=b||{};return a;var fl=a.cB(b);return a;var bd=a.zJ(b)};
+var GzEq={Y4:function(a){return a.E9},i6:function(a){return a.U2},PF:function(a){return a.Ff},cx:function(a){return a.UF},UL:function(a){return a.oA}};
+g.GzIQ=function(a,b){return a;if(!a)return null;return a};
+g.SKMz=function(a,b){a.ts=b;if(!a)return null};
+g.EDGE=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var f6=a.mI(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var RNZH={Pi:function(a){return a.XI},CD:function(a){return a.yf}};
+g.zdm1=function(a,b){a.mS=b;return a};
+var QIvd={L6:function(a){return a.tt},iL:function(a){return a.nY},P5:function(a){return a.dy},Jx:function(a){return a.C0}};
+g.QtMw=function(a,b){var no=a.z1(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.p1=b;if(!a)return null;if(!a)return null;b=b||{}};
+g.OaZe=function(a,b){a.xJ=b;var zo=a.Ds(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var itTX={be:function(a){return a.mL},H1:function(a){return a.hQ},mn:function(a){return a.MK},r2:function(a){return a.Jx},n2:function(a){return a.sb}};
+g.NgUe=function(a,b){a.yz=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.rm=b;b=b||{}};
+g.HCu6=function(a,b){b=b||{};var yf=a.hv(b);if(!a)return null;if(!a)return null};
+var Zcqs={ho:function(a){return a.Gt},Tf:function(a){return a.pC}};
+var tcYj={tM:function(a){return a.D8},cr:function(a){return a.rB}};
+var tnZJ={ru:function(a){return a.I3},fU:function(a){return a.FK},Es:function(a){return a.Gr},bX:function(a){return a.BX},tj:function(a){return a.EY}};
+g.YVQa=function(a,b){if(!a)return null;return a;var zz=a.JS(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.Tyvx=function(a,b){var uv=a.DH(b);b=b||{};if(!a)return null;b=b||{}};
+var O6Lc={NZ:function(a){return a.kf},FP:function(a){return a.OV}};
+var ZJzR={kb:function(a){return a.CR},Uk:function(a){return a.DG}};
+g.hbRR=function(a,b){var c5=a.Fc(b);a.cn=b;a.HO=b};
+g.VKvN=function(a,b){return a;var tm=a.Ai(b)};
+g.uacr=function(a,b){a.Ha=b;a.yJ=b};
+g.dPXz=function(a,b){b=b||{};var mw=a.rQ(b)};
+var S4Kz={Ti:function(a){return a.Mv},Nb:function(a){return a.aS}};
+var FcY3={Bf:function(a){return a.zL},u7:function(a){return a.ts}};
+g.iAja=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.mU=b;if(!a)return null;return a};
+g.ZZdO=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.uK=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.Fks7=function(a,b){if(!a)return null;b=b||{}};
+g.Fsuj=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Ak=b;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var iZTn={tV:function(a){return a.pR},u4:function(a){return a.Sm},ki:function(a){return a.BX},hi:function(a){return a.Rt}};
+g.jWRx=function(a,b){var d9=a.WM(b);return a;if(!a)return null;var fa=a.d2(b);return a;a.Un=b;a.nx=b};
+g.GAZO=function(a,b){if(!a)return null;a.jz=b;b=b||{}};
+g.x3p8=function(a,b){b=b||{};var xt=a.Z5(b);a.uU=b;return a;a.Pa=b;return a};
+g.A4sG=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ZHS1=function(a,b){a.x0=b;var e7=a.Sw(b);b=b||{};var gl=a.Yn(b);b=b||{};if(!a)return null};
+var PCoD={nS:function(a){return a.fq},QC:function(a){return a.td},wx:function(a){return a.eT}};
+g.M4Dm=function(a,b){return a;b=b||{};b=b||{};return a;var y2=a.C1(b);var vp=a.vt(b)};
+var WJh6={Lg:function(a){return a.yk},Te:function(a){return a.gr},OT:function(a){return a.V0}};
+g.g6dR=function(a,b){var n5=a.N6(b);var uo=a.cW(b);b=b||{};if(!a)return null;var ip=a.t1(b);return a};
+var ajja={Uo:function(a){return a.Hi},JQ:function(a){return a.vL}};
+g.IsMk=function(a,b){var jl=a.UE(b);b=b||{};return a;b=b||{};b=b||{}};
+g.YInX=function(a,b){if(!a)return null;b=b||{};b=b||{};a.k0=b;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var tEDm={kZ:function(a){return a.iP},da:function(a){return a.KF},Yv:function(a){return a.E6}};
+var L3HB={T1:function(a){return a.w7},eu:function(a){return a.sU}};
+g.KtA1=function(a,b){b=b||{};if(!a)return null;a.m9=b;var zu=a.WV(b);b=b||{};var gk=a.yY(b)};
+var Q5kW={dk:function(a){return a.OE},iF:function(a){return a.oO},dN:function(a){return a.um},VZ:function(a){return a.i1}};
+g.YKM9=function(a,b){a.a7=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.de=b;var sr=a.xZ(b)};
+g.TcjZ=function(a,b){if(!a)return null;if(!a)return null};
+var g7vx={fK:function(a){return a.jl},Lb:function(a){return a.n1}};
+g.iXoI=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.A1=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.zGL5=function(a,b){if(!a)return null;a.Wd=b;a.Y6=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.O2=b};
+var Y9x7={di:function(a){return a.C1},W6:function(a){return a.CS},I8:function(a){return a.SU},Fe:function(a){return a.UD}};
+g.G7QM=function(a,b){return a;b=b||{};a.Au=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.hD=b;a.WI=b;var t4=a.Zw(b)};
+g.a5Ld=function(a,b){var lz=a.hW(b);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.VImD=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.zu=b;return a;var xb=a.o5(b);a.gn=b};
+g.suDV=function(a,b){a.pu=b;return a};
+g.zicr=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var qn=a.vO(b);var tv=a.Xh(b)};
+g.Itv7=function(a,b){if(!a)return null;b=b||{};a.kw=b;a.eF=b;return a};
+g.e3y3=function(a,b){return a;var mv=a.zL(b);b=b||{};if(!a)return null};
+g.epte=function(a,b){b=b||{};b=b||{}};
+g.Jdsi=function(a,b){a.kr=b;var af=a.o3(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.nL=b;if(!a)return null};
+g.erih=function(a,b){if(!a)return null;var to=a.Sw(b);if(!a)return null};
+g.bVyY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var db=a.pW(b);b=b||{}};
+g.X9A9=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};if(!a)return null};
+g.pVUi=function(a,b){b=b||{};return a};
+var nOBF={cm:function(a){return a.ft},ba:function(a){return a.zS},Em:function(a){return a.Um},ij:function(a){return a.nU},ev:function(a){return a.gd}};
+g.PsLx=function(a,b){if(!a)return null;b=b||{};b=b||{}};
+var KcRV={WN:function(a){return a.vY},xs:function(a){return a.de},tN:function(a){return a.Hk},FQ:function(a){return a.OL},VA:function(a){return a.qx}};
+g.s8ip=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.s3nK=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.htVG=function(a,b){a.z1=b;var pr=a.Ex(b);return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.yd=b};
+g.vzJ6=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var jo=a.GS(b);var nd=a.y3(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.V5=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var ToGX={L0:function(a){return a.Jt},NT:function(a){return a.Xg},wz:function(a){return a.rX},rp:function(a){return a.Mi},Gz:function(a){return a.QG}};
+g.ycj6=function(a,b){b=b||{};if(!a)return null;b=b||{}};
+g.vkwN=function(a,b){return a;b=b||{}};
+g.KYQR=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var jh=a.kN(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.MP=b};
+var V1we={TY:function(a){return a.Mu},D6:function(a){return a.og},ao:function(a){return a.jR},tN:function(a){return a.dZ}};
+g.teZE=function(a,b){b=b||{};return a;if(!a)return null;b=b||{};if(!a)return null;var m8=a.XJ(b)};
+var CKMn={eU:function(a){return a.lG},rN:function(a){return a.je}};
+g.V8lz=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};a.KT=b};
+g.CcFE=function(a,b){a.eF=b;a.ag=b;b=b||{}};
+g.UcxW=function(a,b){if(!a)return null;return a};
+g.pnu8=function(a,b){return a;var wf=a.ko(b);var qu=a.Lt(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var u2JX={v8:function(a){return a.gy},DJ:function(a){return a.Bb}};
+g.HRmv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.TC=b;b=b||{};var lf=a.K5(b);if(!a)return null};
+g.QZzd=function(a,b){b=b||{};b=b||{};if(!a)return null;return a;if(!a)return null;a.dU=b};
+var W3PM={oo:function(a){return a.KS},Km:function(a){return a.JG},lN:function(a){return a.fU},JX:function(a){return a.tx}};
+g.YWMb=function(a,b){a.aD=b;return a;a.zQ=b;if(!a)return null;b=b||{};if(!a)return null};
+g.DcCA=function(a,b){return a;var zo=a.td(b)};
+var RAWO={RJ:function(a){return a.QY},un:function(a){return a.oC},pl:function(a){return a.VO},ne:function(a){return a.xB}};
+g.QIyE=function(a,b){a.fh=b;var ea=a.BD(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.d6Xu=function(a,b){var mq=a.cR(b);a.y6=b};
+g.i3zC=function(a,b){a.Pw=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Cg=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ssyD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;var hd=a.Km(b);var yl=a.Pw(b);b=b||{};b=b||{}};
+g.xQuv=function(a,b){a.pt=b;a.xh=b;return a};
+g.fBTQ=function(a,b){return a;var ht=a.tD(b);if(!a)return null};
+g.ETFn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var gTwk={cp:function(a){return a.Hl},sU:function(a){return a.zP},Mc:function(a){return a.Wt},pX:function(a){return a.Wf},cK:function(a){return a.RO}};
+var hptX={wU:function(a){return a.CD},Ku:function(a){return a.OA},Mh:function(a){return a.rp},TX:function(a){return a.jH},ay:function(a){return a.VJ}};
+g.DvRd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Wow2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.zV=b};
+g.K3Kb=function(a,b){var cf=a.Gn(b);a.oL=b};
+g.h1rr=function(a,b){b=b||{};a.Hv=b};
+var RXni={uq:function(a){return a.hJ},m3:function(a){return a.NW},KG:function(a){return a.bF}};
+g.jCxZ=function(a,b){var yv=a.QZ(b);b=b||{}};
+var TmTQ={Ho:function(a){return a.PR},kV:function(a){return a.KL},tL:function(a){return a.fo},ue:function(a){return a.Vf}};
+var hZWl={iK:function(a){return a.VG},XQ:function(a){return a.ZY}};
+g.ZDFL=function(a,b){b=b||{};var es=a.gk(b);b=b||{};var zs=a.F1(b)};
+g.zdSV=function(a,b){a.AZ=b;a.N7=b;a.My=b;if(!a)return null;a.ZJ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Jgam={dP:function(a){return a.Wf},nC:function(a){return a.JG},kn:function(a){return a.Cc},j0:function(a){return a.Z7},Is:function(a){return a.vL}};
+g.fOLA=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var jrOp={pv:function(a){return a.S9},mL:function(a){return a.GC},HC:function(a){return a.ZD}};
+var uuAS={f6:function(a){return a.qQ},Nk:function(a){return a.T4},Q7:function(a){return a.ao}};
+var FFjM={Db:function(a){return a.Tk},iR:function(a){return a.fB},xV:function(a){return a.AO}};
+g.Chh7=function(a,b){var xc=a.tn(b);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.U9y0=function(a,b){if(!a)return null;a.oW=b;a.OZ=b;var kh=a.si(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.wtfK=function(a,b){a.bj=b;var yi=a.cG(b);b=b||{};a.j2=b;b=b||{};if(!a)return null;return a};
+g.ldJu=function(a,b){b=b||{};if(!a)return null;if(!a)return null;var bs=a.LB(b);return a};
+var rdnW={j0:function(a){return a.ya},Ky:function(a){return a.Rj},qo:function(a){return a.dk}};
+var IDwI={dm:function(a){return a.I7},Qe:function(a){return a.kf},Pe:function(a){return a.kk},E0:function(a){return a.mV}};
+g.jIpr=function(a,b){if(!a)return null;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var zw=a.hH(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var C9uK={RY:function(a){return a.C3},hb:function(a){return a.CK}};
+g.pEoo=function(a,b){if(!a)return null;a.PB=b;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.X3zQ=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.Se=b;b=b||{};return a;a.Ta=b};
+g.r4Qy=function(a,b){a.K0=b;return a;var dz=a.Oh(b);return a;return a;if(!a)return null};
+var Pwp0={yi:function(a){return a.Jq},vo:function(a){return a.qK},uI:function(a){return a.Zj},pZ:function(a){return a.HI}};
+var O9i6={xL:function(a){return a.Gr},wZ:function(a){return a.xb},cn:function(a){return a.Qe},Lz:function(a){return a.Zb}};
+g.Hyxx=function(a,b){b=b||{};b=b||{};var sv=a.pd(b)};
+g.bRxX=function(a,b){if(!a)return null;return a};
+var j9wX={uS:function(a){return a.J7},ir:function(a){return a.rA},Bh:function(a){return a.gr},LX:function(a){return a.Ze}};
+var cuqz={px:function(a){return a.tW},WJ:function(a){return a.ne},Lc:function(a){return a.Eu},X7:function(a){return a.Mr},fr:function(a){return a.oY}};
+g.qJoE=function(a,b){b=b||{};b=b||{};b=b||{};a.u1=b};
+g.MUi7=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.qagW=function(a,b){b=b||{};a.FB=b;return a;return a;var r6=a.xk(b)};
+var esP5={Dp:function(a){return a.zG},Y6:function(a){return a.Jf},f5:function(a){return a.Yb}};
+g.kXay=function(a,b){b=b||{};var iu=a.cF(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Pdl2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var as=a.i8(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.BUFe=function(a,b){a.eR=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.dmrU=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;var ol=a.tY(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.KXOt=function(a,b){var ka=a.cd(b);a.xK=b};
+g.oRkX=function(a,b){var jt=a.B3(b);return a};
+var vDvF={VE:function(a){return a.vf},AR:function(a){return a.pk},sD:function(a){return a.if},pj:function(a){return a.Mw},zg:function(a){return a.P8}};
+g.VNuP=function(a,b){return a;var rx=a.mA(b)};
+g.HtEH=function(a,b){a.EM=b;b=b||{};if(!a)return null;var cj=a.T5(b);var sy=a.pG(b);b=b||{}};
+g.zuZS=function(a,b){if(!a)return null;b=b||{};return a};
+g.xTuC=function(a,b){return a;b=b||{};if(!a)return null;a.kT=b};
+var vxeO={ge:function(a){return a.Tn},NW:function(a){return a.os}};
+g.yJit=function(a,b){var ey=a.Ot(b);a.Dc=b;b=b||{};var je=a.PF(b)};
+var dMmd={Ln:function(a){return a.d0},R0:function(a){return a.ga},xK:function(a){return a.Le},RX:function(a){return a.HG},kL:function(a){return a.Bp}};
+g.ETdL=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var tNUq={NB:function(a){return a.WY},NP:function(a){return a.Ug},jQ:function(a){return a.lm}};
+g.FxV0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.ia=b;a.d6=b;if(!a)return null;if(!a)return null;var u1=a.Im(b)};
+g.hwQx=function(a,b){a.Am=b;var hd=a.HL(b);return a};
+g.hiLq=function(a,b){var xp=a.BB(b);if(!a)return null;var mt=a.XB(b);var lb=a.n2(b);return a;var o4=a.BS(b)};
+g.HoTx=function(a,b){return a;return a;return a;var dm=a.xo(b);if(!a)return null};
+var PlgK={S5:function(a){return a.p4},cr:function(a){return a.DY},lZ:function(a){return a.Vm},xl:function(a){return a.O8}};
+g.T5v1=function(a,b){if(!a)return null;a.ru=b;if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var YSjU={L6:function(a){return a.IG},Ff:function(a){return a.xs},R0:function(a){return a.Dl}};
+g.dQtC=function(a,b){var hg=a.jg(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.DcdJ=function(a,b){var gx=a.Y7(b);if(!a)return null;a.Yv=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.DdPW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.Zbgl=function(a,b){var xp=a.Kh(b);b=b||{};a.nM=b;b=b||{};a.KI=b};
+g.yLut=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var eBJ9={hX:function(a){return a.JH},f7:function(a){return a.RD}};
+g.wyGT=function(a,b){if(!a)return null;a.S7=b;return a;a.sk=b;var ey=a.a3(b);b=b||{}};
+g.G0Z3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.UFwM=function(a,b){var mg=a.em(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.CLgF=function(a,b){a.hK=b;var yf=a.ba(b)};
+g.vsjX=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.e8=b;return a};
+var WnTJ={zq:function(a){return a.Kc},x5:function(a){return a.PS}};
+var DWFq={BD:function(a){return a.Fk},Qs:function(a){return a.CS},y0:function(a){return a.g0},Bx:function(a){return a.Sq},D3:function(a){return a.d6}};
+g.LmHS=function(a,b){a.KM=b;a.ci=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;if(!a)return null};
+g.XhrN=function(a,b){return a;var lu=a.Je(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var rkEP={bK:function(a){return a.oJ},be:function(a){return a.Fr},lD:function(a){return a.kj}};
+g.JlWT=function(a,b){b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.h5gl=function(a,b){a.qX=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.TJOn=function(a,b){if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var mi=a.I0(b)};
+var E6hs={KO:function(a){return a.AE},zD:function(a){return a.IZ},gN:function(a){return a.n1},dJ:function(a){return a.Ws}};
+g.QBEM=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var n7=a.iZ(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.k7=b;return a};
+g.UPt6=function(a,b){return a;a.pO=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;if(!a)return null;b=b||{}};
+var HrRU={nK:function(a){return a.kV},Zb:function(a){return a.HG}};
+g.HqZo=function(a,b){return a;return a;b=b||{};b=b||{}};
+g.DuQC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.sPfn=function(a,b){var yb=a.s4(b);if(!a)return null;a.ri=b;a.r5=b;b=b||{};var xo=a.AL(b)};
+g.mPwx=function(a,b){var cr=a.J9(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var clrU={kp:function(a){return a.CX},h6:function(a){return a.Tz}};
+var Erq4={fA:function(a){return a.Zt},Wl:function(a){return a.MA}};
+g.Njoz=function(a,b){if(!a)return null;var qc=a.Ql(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var k3ca={Ac:function(a){return a.yx},WL:function(a){return a.pm},v5:function(a){return a.yC},ma:function(a){return a.Vc},Ho:function(a){return a.vM}};
+g.aTxf=function(a,b){if(!a)return null;var mz=a.tt(b);a.hs=b;b=b||{};a.yT=b};
+g.o1Sb=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.L3Y4=function(a,b){a.Ic=b;b=b||{};return a;if(!a)return null};
+g.rPNP=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var m8=a.qT(b);var x3=a.Vp(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.mQgM=function(a,b){if(!a)return null;b=b||{};if(!a)return null;return a;var vw=a.uS(b);var bs=a.no(b)};
+g.RHS4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var slfJ={KI:function(a){return a.ra},Se:function(a){return a.Ov},pc:function(a){return a.yy},dF:function(a){return a.EU}};
+g.RFCu=function(a,b){var da=a.nN(b);var nf=a.IQ(b);return a;if(!a)return null;var w6=a.Po(b)};
+g.B2Yv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;if(!a)return null};
+g.lDLv=function(a,b){b=b||{};if(!a)return null};
+g.ZEMF=function(a,b){var e6=a.MR(b);if(!a)return null;var qs=a.Sb(b);a.VR=b;a.Yf=b;if(!a)return null};
+g.fetk=function(a,b){if(!a)return null;a.mT=b;return a;a.yK=b};
+var w3wW={W6:function(a){return a.hI},ef:function(a){return a.Ow},AL:function(a){return a.aC},hw:function(a){return a.u7},YQ:function(a){return a.ld}};
+g.OFeK=function(a,b){a.b2=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};return a};
+g.CCVt=function(a,b){a.Rj=b;for(var c=0;c<a.length;c++)b.push(a[c]);var z7=a.Oq(b);var e0=a.OS(b)};
+var krFf={j5:function(a){return a.Cu},Ip:function(a){return a.Ao},xO:function(a){return a.FU},AR:function(a){return a.os},Mu:function(a){return a.cK}};
+g.p7UX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var sy=a.Qr(b);return a;if(!a)return null;var yh=a.bL(b)};
+g.R7Cy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var OxNv={zC:function(a){return a.gW},OY:function(a){return a.kp},M2:function(a){return a.Le},nR:function(a){return a.Nq}};
+g.p3Iw=function(a,b){a.Ay=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var kg=a.Kt(b);b=b||{};a.Mk=b};
+g.SeVC=function(a,b){var q6=a.oM(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};return a};
+var wDsT={Xd:function(a){return a.S3},LV:function(a){return a.rN}};
+g.RaHb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.Ia=b;b=b||{};a.y1=b;var ws=a.vQ(b);a.Wc=b};
+var obaF={tJ:function(a){return a.b7},ra:function(a){return a.sM}};
+g.wFgN=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.ZDRq=function(a,b){if(!a)return null;if(!a)return null;a.Ny=b};
+g.Y3bN=function(a,b){var bo=a.wL(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.uYth=function(a,b){b=b||{};if(!a)return null;if(!a)return null};
+g.sGZn=function(a,b){a.xk=b;a.CS=b;b=b||{};b=b||{};return a};
+g.EPcB=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var pe=a.uH(b);a.rN=b};
+g.grXN=function(a,b){if(!a)return null;b=b||{}};
+g.UNcv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.tr=b;a.KP=b;var al=a.nA(b);var lp=a.NH(b)};
+g.Ssg0=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var wi=a.RV(b);b=b||{};if(!a)return null;b=b||{};b=b||{}};
+var XYQB={mz:function(a){return a.QM},ah:function(a){return a.MA}};
+var jsgT={LI:function(a){return a.Tb},CX:function(a){return a.Go},sE:function(a){return a.e5},Pp:function(a){return a.n5}};
+var gNYD={GZ:function(a){return a.Yc},QP:function(a){return a.uy},OL:function(a){return a.SA},wm:function(a){return a.QX},Es:function(a){return a.UY}};
+g.SUPS=function(a,b){return a;var wn=a.NI(b)};
+g.r6B6=function(a,b){var hz=a.vt(b);return a;var rq=a.HO(b);return a};
+g.t3Rz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Hy=b;return a;if(!a)return null;b=b||{};a.fh=b;var t7=a.nA(b)};
+var T1ze={Qi:function(a){return a.ki},YC:function(a){return a.bF},TF:function(a){return a.yz},IW:function(a){return a.tY}};
+var F8IL={YG:function(a){return a.DW},NQ:function(a){return a.o1},tt:function(a){return a.pc},Om:function(a){return a.rQ},hq:function(a){return a.o2}};
+var tLPx={kX:function(a){return a.OG},nB:function(a){return a.tL},PG:function(a){return a.T1},mK:function(a){return a.iy},N2:function(a){return a.Kk}};
+var Eerr={FA:function(a){return a.L6},pC:function(a){return a.rz},RF:function(a){return a.Ia},CS:function(a){return a.TM}};
+g.nHRx=function(a,b){a.YL=b;return a;if(!a)return null;var ub=a.bu(b)};
+g.R1BY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};b=b||{}};
+var wwED={DW:function(a){return a.Eq},Y2:function(a){return a.Uy},yR:function(a){return a.Lx},Yg:function(a){return a.Wy},k7:function(a){return a.CE}};
+g.Xzjf=function(a,b){a.Fl=b;return a;return a;a.p6=b;a.uw=b;b=b||{};a.cT=b};
+var VTiQ={Kl:function(a){return a.ZB},Wr:function(a){return a.xU},xr:function(a){return a.ms},dW:function(a){return a.Ho},ts:function(a){return a.xc}};
+g.DhcQ=function(a,b){a.Io=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var sx=a.pL(b);return a};
+g.LEc5=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var Gohz={nF:function(a){return a.Nd},Cq:function(a){return a.Db}};
+var d4Sh={Nt:function(a){return a.wr},V1:function(a){return a.up},j4:function(a){return a.GL},ja:function(a){return a.se},bh:function(a){return a.nd}};
+g.pLIn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var eb=a.LJ(b)};
+var UAmK={sZ:function(a){return a.pv},Q9:function(a){return a.mi},sH:function(a){return a.I8},Gj:function(a){return a.Bi}};
+g.xhan=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Urur=function(a,b){a.Sm=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;return a;if(!a)return null};
+g.HVC5=function(a,b){b=b||{};if(!a)return null;return a;if(!a)return null};
+var ECPi={uP:function(a){return a.u0},KR:function(a){return a.q1},nT:function(a){return a.TZ}};
+g.G0hu=function(a,b){var nz=a.oL(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;a.VF=b;var op=a.IP(b);var bd=a.Z0(b)};
+g.eTVq=function(a,b){var ns=a.UA(b);a.Ph=b;return a;var lx=a.GB(b);a.Us=b;return a};
+g.v8is=function(a,b){if(!a)return null;return a;var xv=a.qj(b);var nm=a.ar(b)};
+g.QWsC=function(a,b){a.QK=b;if(!a)return null;var of=a.gY(b);if(!a)return null};
+g.f4jo=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var lw=a.VF(b);b=b||{};if(!a)return null;a.UD=b;if(!a)return null};
+g.ruOw=function(a,b){if(!a)return null;if(!a)return null;return a};
+g.fVRT=function(a,b){b=b||{};if(!a)return null;if(!a)return null;if(!a)return null;return a};
+g.tNC3=function(a,b){b=b||{};b=b||{};a.WP=b;return a;a.d6=b;a.og=b};
+g.raoI=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.dolL=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var V5d5={Tw:function(a){return a.rL},hw:function(a){return a.lL},iB:function(a){return a.cz}};
+g.cErO=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var g5=a.Nu(b);var kw=a.Vf(b)};
+g.iAq5=function(a,b){var bc=a.zc(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LLve=function(a,b){a.Jj=b;return a;a.X0=b;var u2=a.bQ(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.YRSI=function(a,b){return a;return a;return a;if(!a)return null;a.Oz=b};
+g.BetY=function(a,b){if(!a)return null;b=b||{};return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.rBml=function(a,b){if(!a)return null;if(!a)return null;a.sa=b;if(!a)return null;b=b||{};a.gZ=b;return a};
+g.gJoW=function(a,b){a.Tu=b;var hh=a.Gb(b);b=b||{};b=b||{};if(!a)return null};
+g.bUSX=function(a,b){var zl=a.Os(b);b=b||{};return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.mJVR=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Ta=b;a.SW=b};
+g.GyJa=function(a,b){if(!a)return null;if(!a)return null;b=b||{};a.jZ=b;if(!a)return null};
+g.blap=function(a,b){var eo=a.kT(b);if(!a)return null};
+g.pjh7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.sq=b;if(!a)return null;return a};
+var ymbt={qa:function(a){return a.tS},bU:function(a){return a.p4},sv:function(a){return a.xA},Xg:function(a){return a.xo},nY:function(a){return a.Pr}};
+g.I3ll=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Fg=b};
+g.cXgb=function(a,b){var g8=a.Vv(b);b=b||{}};
+var H8kQ={X2:function(a){return a.KX},Gv:function(a){return a.kC},Jw:function(a){return a.MW},T7:function(a){return a.WT}};
+g.gdAf=function(a,b){if(!a)return null;b=b||{}};
+g.fQI1=function(a,b){return a;var jl=a.Qw(b);var io=a.LC(b);var g9=a.rd(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var dd=a.ou(b)};
+g.pKJk=function(a,b){b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var QpNv={ax:function(a){return a.Ij},Xt:function(a){return a.ma},BS:function(a){return a.IZ},Vu:function(a){return a.rn}};
+g.LiyX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;b=b||{}};
+g.gMJd=function(a,b){b=b||{};return a;return a;b=b||{};return a};
+var KTlM={ql:function(a){return a.ue},D9:function(a){return a.mM},P2:function(a){return a.Wa},y7:function(a){return a.XQ}};
+var DBTT={bp:function(a){return a.rr},Je:function(a){return a.rI},vo:function(a){return a.NK},BD:function(a){return a.zh},co:function(a){return a.NG}};
+g.dgUg=function(a,b){var iz=a.JT(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.SP=b};
+g.LfuD=function(a,b){a.Op=b;b=b||{}};
+g.Y3Gx=function(a,b){a.Un=b;var xp=a.PL(b);a.MP=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var op=a.ce(b)};
+g.ZkK5=function(a,b){return a;if(!a)return null;a.eP=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a};
+g.VYxc=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var nn=a.Px(b);var qi=a.I6(b);b=b||{};var x2=a.gL(b);return a};
+g.uISu=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var wv=a.CS(b);var ws=a.oE(b);var jo=a.IT(b);return a};
+g.FUZo=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.EIUA=function(a,b){b=b||{};var sa=a.Vx(b);a.mu=b};
+g.l9Jy=function(a,b){var nl=a.wP(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.hUoF=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.vdWX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.OB=b;var p8=a.EC(b);a.h9=b;return a;return a;b=b||{}};
+var DWEL={i0:function(a){return a.Mr},Gw:function(a){return a.Zi},hS:function(a){return a.o7},ta:function(a){return a.nV}};
+g.xEiL=function(a,b){a.cu=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.Lgui=function(a,b){b=b||{};var iu=a.OJ(b);return a;b=b||{}};
+g.kGSM=function(a,b){if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.TkVr=function(a,b){if(!a)return null;var jx=a.IB(b);if(!a)return null};
+g.NXh1=function(a,b){var zr=a.NL(b);a.FQ=b};
+g.NaOs=function(a,b){a.Gw=b;a.c5=b;if(!a)return null;if(!a)return null;a.uV=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.xeaV=function(a,b){return a;return a;return a;a.E3=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.xvQn=function(a,b){a.KC=b;a.Wn=b;if(!a)return null;a.iA=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var i6GJ={yJ:function(a){return a.EK},y6:function(a){return a.Mu},FS:function(a){return a.rF},PA:function(a){return a.El},io:function(a){return a.at}};
+var avuH={KD:function(a){return a.YE},Xh:function(a){return a.cq}};
+g.NOKL=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var tw=a.kQ(b);for(var c=0;c<a.length;c++)b.push(a[c]);var f7=a.YO(b);return a;b=b||{}};
+g.KaJN=function(a,b){if(!a)return null;var ke=a.Qi(b);if(!a)return null;return a;a.GH=b;if(!a)return null;a.N2=b};
+var S9Yq={Fp:function(a){return a.tW},xW:function(a){return a.lQ},P1:function(a){return a.CJ},Uo:function(a){return a.Ac},iF:function(a){return a.at}};
+var rqhz={s2:function(a){return a.U1},tI:function(a){return a.Gh}};
+g.Q0Rk=function(a,b){if(!a)return null;b=b||{};var fz=a.oW(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.FO=b};
+var GKQf={uh:function(a){return a.ns},Lw:function(a){return a.Ce},Ca:function(a){return a.Jf},Pg:function(a){return a.pl}};
+g.e2Y0=function(a,b){var pd=a.Ec(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Es=b;return a};
+g.iVQf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.WT=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LJbu=function(a,b){return a;var cm=a.Uh(b);for(var c=0;c<a.length;c++)b.push(a[c]);var xp=a.Ta(b);a.hN=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var HxWB={pH:function(a){return a.OW},on:function(a){return a.be},vY:function(a){return a.ks}};
+g.KHc0=function(a,b){if(!a)return null;a.Ed=b;var l7=a.ji(b)};
+g.cnLA=function(a,b){var yd=a.oB(b);var v5=a.sV(b);var lr=a.dt(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var yPOE={fW:function(a){return a.Gn},PB:function(a){return a.Ty}};
+var PdwZ={nD:function(a){return a.zl},e5:function(a){return a.EU},Y7:function(a){return a.bE},Vc:function(a){return a.K9},lK:function(a){return a.lm}};
+g.iunr=function(a,b){a.kz=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.gW=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.dXH6=function(a,b){if(!a)return null;return a};
+var h3Wa={k8:function(a){return a.iB},c7:function(a){return a.Gz},hD:function(a){return a.xo},OR:function(a){return a.XX}};
+g.ocge=function(a,b){if(!a)return null;var sg=a.tl(b);b=b||{}};
+var pnn5={j2:function(a){return a.fw},Pn:function(a){return a.n0},Lb:function(a){return a.NG},wW:function(a){return a.Ui}};
+g.o6wP=function(a,b){b=b||{};a.Mi=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.IMrA=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.ihKQ=function(a,b){a.T0=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var gx=a.OZ(b);b=b||{}};
+g.NJSq=function(a,b){a.zw=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.X4Nt=function(a,b){var s7=a.gN(b);var nt=a.SQ(b);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.EDIm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.hL=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var hg=a.YM(b)};
+g.hYLD=function(a,b){if(!a)return null;if(!a)return null;b=b||{};a.An=b;return a;b=b||{};a.yE=b};
+g.oJnz=function(a,b){if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var ne=a.ah(b);var zn=a.KD(b);a.hq=b;a.S5=b};
+g.iiFi=function(a,b){b=b||{};var bc=a.Es(b);b=b||{};a.Ru=b;return a};
+g.qElT=function(a,b){var tj=a.HD(b);b=b||{};var yr=a.Ks(b);a.jk=b;var zu=a.fT(b);if(!a)return null;return a};
+g.HDa5=function(a,b){var mw=a.e6(b);var jc=a.Hy(b);return a;if(!a)return null;return a;a.qC=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.c2rD=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.ZpFv=function(a,b){return a;b=b||{};b=b||{};var vh=a.CN(b);a.mH=b};
+var xunJ={YO:function(a){return a.Vg},QV:function(a){return a.Kj},G3:function(a){return a.dD},d6:function(a){return a.ye}};
+g.XyI8=function(a,b){return a;b=b||{};return a;b=b||{}};
+var t1VZ={aa:function(a){return a.Ab},QT:function(a){return a.ZB},Ln:function(a){return a.dl}};
+g.WntL=function(a,b){var ho=a.fk(b);var hy=a.Af(b);return a;if(!a)return null;var iv=a.hG(b);var pj=a.uu(b)};
+g.HHfQ=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var E5vJ={iY:function(a){return a.yf},up:function(a){return a.Xm},iJ:function(a){return a.Oa},OS:function(a){return a.p7}};
+g.vFeE=function(a,b){a.es=b;return a;var pu=a.mV(b);if(!a)return null;b=b||{}};
+g.YogQ=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var ot=a.Yz(b);a.jm=b;a.cF=b};
+g.PsK9=function(a,b){if(!a)return null;a.yW=b;b=b||{}};
+g.xNkq=function(a,b){if(!a)return null;if(!a)return null};
+var MgMe={Mj:function(a){return a.Fm},VO:function(a){return a.AV},rl:function(a){return a.dW},KK:function(a){return a.MG}};
+g.D3zP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;var qo=a.QH(b);return a;b=b||{};var d0=a.YR(b);a.Zi=b};
+g.ntwa=function(a,b){var mz=a.aI(b);return a;b=b||{};b=b||{};if(!a)return null};
+g.QKBV=function(a,b){a.km=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.SNtA=function(a,b){a.y4=b;if(!a)return null;var oa=a.P6(b);if(!a)return null;if(!a)return null;b=b||{};b=b||{}};
+g.iFLE=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var ac=a.Z3(b);return a;b=b||{};return a;a.fQ=b};
+g.zwHx=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;return a;b=b||{}};
+g.aiBU=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var iv=a.Gi(b);if(!a)return null;return a;a.m8=b;if(!a)return null};
+var pEQm={ML:function(a){return a.Dw},Lm:function(a){return a.lK},Zx:function(a){return a.vL}};
+g.m4Y3=function(a,b){b=b||{};var ot=a.yJ(b);var yn=a.CV(b);return a};
+var d6iy={Nu:function(a){return a.hn},Tx:function(a){return a.TS},qc:function(a){return a.Yi}};
+g.XQTR=function(a,b){var gy=a.WT(b);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.Py=b};
+var wnHN={CJ:function(a){return a.Pi},Xu:function(a){return a.XT},mg:function(a){return a.YT},Jj:function(a){return a.WB}};
+g.V8IN=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.kW=b};
+g.jRmU=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var pewB={XS:function(a){return a.nL},kd:function(a){return a.ym},xv:function(a){return a.mf}};
+g.SQbd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};var yz=a.xD(b);return a;a.sT=b};
+g.rECe=function(a,b){if(!a)return null;a.wC=b;if(!a)return null;if(!a)return null;b=b||{};a.BL=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fqdf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Ej=b;b=b||{}};
+g.c1fO=function(a,b){b=b||{};var yu=a.Tv(b)};
+g.yVKI=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var zd=a.hQ(b);var co=a.HW(b);if(!a)return null;a.QB=b};
+g.BbsZ=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var ut=a.FL(b);var au=a.l6(b);return a};
+var yxM4={Xl:function(a){return a.bS},qd:function(a){return a.hJ},rF:function(a){return a.LR},xc:function(a){return a.BY}};
+g.lvd5=function(a,b){a.ci=b;a.HQ=b;return a};
+var eCvO={OK:function(a){return a.G4},bv:function(a){return a.ZT},OB:function(a){return a.OZ}};
+g.fosR=function(a,b){a.Iz=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.z7Kc=function(a,b){a.Vh=b;b=b||{};if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.oZlO=function(a,b){b=b||{};var hd=a.Ll(b);if(!a)return null;if(!a)return null;return a;b=b||{};var wo=a.tF(b)};
+g.wmge=function(a,b){a.jx=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Aupi=function(a,b){if(!a)return null;return a};
+g.bCcB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.fA=b;return a;return a;a.cW=b;return a};
+g.YcyN=function(a,b){return a;b=b||{};b=b||{};var e5=a.PV(b);if(!a)return null;if(!a)return null};
+g.HfeC=function(a,b){b=b||{};var zc=a.Tr(b);return a};
+g.kPbR=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.vFu4=function(a,b){a.Tj=b;if(!a)return null;return a};
+g.Cvv2=function(a,b){a.j9=b;return a;return a;a.oj=b};
+g.M6Ph=function(a,b){var kb=a.Ps(b);var ha=a.Ha(b);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var pl=a.m9(b)};
+var zMu1={C7:function(a){return a.rt},VU:function(a){return a.yZ},Qm:function(a){return a.Ox},QN:function(a){return a.E4},ea:function(a){return a.oM}};
+var foWV={Fk:function(a){return a.Un},SJ:function(a){return a.eQ},bG:function(a){return a.uM},a9:function(a){return a.MS}};
+g.fNmq=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.HQRh=function(a,b){if(!a)return null;b=b||{};a.Ql=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.kcmj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.oY=b;a.gF=b;return a};
+var p5vT={ng:function(a){return a.W2},gt:function(a){return a.Zf},n0:function(a){return a.Ob}};
+g.iXbb=function(a,b){return a;a.bT=b;for(var c=0;c<a.length;c++)b.push(a[c]);var s6=a.Fs(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var YrIi={Mu:function(a){return a.QW},MM:function(a){return a.MK},xP:function(a){return a.o3},m4:function(a){return a.SI},Er:function(a){return a.W7}};
+g.Ddh9=function(a,b){return a;if(!a)return null;var hz=a.Ld(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GuQk=function(a,b){b=b||{};var mm=a.xJ(b);b=b||{};if(!a)return null;a.mE=b;return a};
+g.BuSr=function(a,b){var m9=a.AG(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.NKIV=function(a,b){if(!a)return null;if(!a)return null;var xc=a.wd(b);b=b||{}};
+var dgLx={Gq:function(a){return a.cN},zb:function(a){return a.TS},ux:function(a){return a.eX},mo:function(a){return a.CI}};
+g.Mqu1=function(a,b){a.QP=b;b=b||{};a.AS=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Z2TP=function(a,b){if(!a)return null;var bj=a.SJ(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.lnNd=function(a,b){if(!a)return null;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var wgHA={EM:function(a){return a.Wa},Wu:function(a){return a.P6},IS:function(a){return a.oo}};
+var KxdJ={GX:function(a){return a.Oz},ef:function(a){return a.bF},Q2:function(a){return a.OB},Vt:function(a){return a.yX}};
+g.enS3=function(a,b){return a;a.sZ=b;var z2=a.KJ(b);return a};
+var auHV={xs:function(a){return a.nB},km:function(a){return a.WL},gm:function(a){return a.Tf},aE:function(a){return a.KS}};
+g.btPT=function(a,b){var fe=a.mt(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+g.qanD=function(a,b){a.J6=b;b=b||{};return a;if(!a)return null;if(!a)return null;var u7=a.kW(b)};
+g.I2Py=function(a,b){return a;var nd=a.kx(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;b=b||{}};
+g.LAuk=function(a,b){var bz=a.Ch(b);a.ms=b;b=b||{};b=b||{};a.lU=b};
+g.g4po=function(a,b){a.Tt=b;b=b||{}};
+g.bbPO=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.KIU8=function(a,b){b=b||{};if(!a)return null;return a;b=b||{};return a;var gm=a.xK(b)};
+g.xLlF=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.Ll=b;if(!a)return null};
+g.lEKs=function(a,b){var lh=a.Vd(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.iaaF=function(a,b){a.d4=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var kx=a.m0(b);var jd=a.P7(b)};
+g.EmHW=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;return a;return a;var gb=a.TQ(b)};
+g.LuqO=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var hp=a.Qt(b);var pk=a.r4(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Uamh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var mc=a.IS(b);if(!a)return null};
+g.SCyd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var d2=a.PU(b)};
+g.bHdm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.owZf=function(a,b){var nc=a.KD(b);return a;a.pF=b};
+g.VsU4=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};if(!a)return null};
+g.nOxy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var em=a.hs(b);b=b||{};if(!a)return null;if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.moGE=function(a,b){b=b||{};if(!a)return null};
+g.DyfD=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;b=b||{};if(!a)return null};
+g.SoSa=function(a,b){return a;b=b||{};if(!a)return null};
+g.MqsE=function(a,b){var st=a.A5(b);var ra=a.n9(b);b=b||{};b=b||{};return a;return a;var qp=a.S0(b)};
+g.aElr=function(a,b){b=b||{};return a;var h3=a.TA(b)};
+var RaeG={kA:function(a){return a.QV},x4:function(a){return a.ef},lp:function(a){return a.iP},JA:function(a){return a.qw}};
+g.VrI2=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;b=b||{};var fr=a.YM(b);b=b||{}};
+var o0Gk={oc:function(a){return a.y7},T4:function(a){return a.F2},sp:function(a){return a.w2}};
+g.swBA=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var gryB={XM:function(a){return a.Xg},yr:function(a){return a.nE}};
+g.j3zK=function(a,b){a.Pf=b;var ab=a.u0(b);if(!a)return null};
+g.RzxI=function(a,b){var xl=a.D9(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.L2qP=function(a,b){return a;if(!a)return null;b=b||{};if(!a)return null;var jg=a.g0(b);a.hg=b};
+g.pUBl=function(a,b){var yl=a.oH(b);a.cl=b;a.ey=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.T5Sg=function(a,b){b=b||{};b=b||{};b=b||{};a.RL=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var vx=a.ol(b)};
+g.hKme=function(a,b){b=b||{};a.Wn=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.PpA5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var ty=a.ZD(b);b=b||{};if(!a)return null;b=b||{}};
+g.cqvz=function(a,b){a.KL=b;return a;var ln=a.e4(b);a.pu=b;var xg=a.pe(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.G6Wp=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.ZzN3=function(a,b){var ut=a.AA(b);b=b||{};var yn=a.zC(b);b=b||{}};
+g.x0me=function(a,b){b=b||{};var qk=a.oH(b);a.vR=b;a.KA=b;var kx=a.Rg(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.H5YR=function(a,b){var ry=a.tY(b);if(!a)return null;if(!a)return null};
+var xvjp={ve:function(a){return a.kL},jh:function(a){return a.Te},JN:function(a){return a.v1},ip:function(a){return a.xT},GF:function(a){return a.KJ}};
+g.rZaC=function(a,b){b=b||{};b=b||{};return a;var r8=a.ng(b);b=b||{};b=b||{}};
+g.rDEf=function(a,b){var bb=a.bp(b);if(!a)return null;if(!a)return null;if(!a)return null;return a;a.b2=b;if(!a)return null};
+g.sVbV=function(a,b){b=b||{};return a};
+g.Nae8=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.dYjq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.pH=b;var ro=a.c5(b);if(!a)return null;b=b||{}};
+g.E4Kr=function(a,b){a.Cf=b;if(!a)return null};
+var frrs={HU:function(a){return a.hz},JL:function(a){return a.hf},z8:function(a){return a.ps},p7:function(a){return a.FQ}};
+var hBsV={V7:function(a){return a.LH},s5:function(a){return a.N5}};
+var C0bY={xk:function(a){return a.av},hC:function(a){return a.Dx},r1:function(a){return a.AY},dv:function(a){return a.tW}};
+g.hGZM=function(a,b){var ci=a.zg(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var xf=a.zV(b)};
+g.qehU=function(a,b){return a;b=b||{};return a};
+g.cqUc=function(a,b){if(!a)return null;a.Hs=b;var ve=a.BX(b);a.gS=b;for(var c=0;c<a.length;c++)b.push(a[c]);var nr=a.AB(b);a.WH=b};
+g.YIHC=function(a,b){return a;var u0=a.rV(b);var hb=a.cI(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var LBO4={d0:function(a){return a.hm},gI:function(a){return a.gr}};
+g.dhu4=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};a.pd=b;b=b||{}};
+var ABRs={fU:function(a){return a.my},G9:function(a){return a.ek},ch:function(a){return a.qk},Ot:function(a){return a.lU}};
+g.BTOs=function(a,b){if(!a)return null;var sh=a.Dq(b);return a;if(!a)return null};
+g.vDno=function(a,b){var g3=a.Hb(b);if(!a)return null;a.EB=b;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.M6X5=function(a,b){if(!a)return null;b=b||{};var fc=a.jR(b);if(!a)return null};
+g.VRvN=function(a,b){if(!a)return null;b=b||{};return a;if(!a)return null;return a};
+g.YAct=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;return a;if(!a)return null};
+var sdKC={UW:function(a){return a.aG},Bd:function(a){return a.iK}};
+var pHB2={fI:function(a){return a.pA},Ds:function(a){return a.G8},J7:function(a){return a.YF},bU:function(a){return a.Pv}};
+g.piJl=function(a,b){return a;a.Xh=b;a.wy=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.fgqV=function(a,b){return a;a.Mn=b};
+g.cbbv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.GW=b;if(!a)return null;var ml=a.wP(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.YNnS=function(a,b){var on=a.Gc(b);if(!a)return null;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.z5zk=function(a,b){if(!a)return null;if(!a)return null;a.zh=b;if(!a)return null;b=b||{}};
+g.hniV=function(a,b){b=b||{};b=b||{}};
+var nxui={Lv:function(a){return a.bi},PV:function(a){return a.fF},MO:function(a){return a.T5},XM:function(a){return a.Rm}};
+g.kjdz=function(a,b){b=b||{};return a;if(!a)return null};
+g.ZFZM=function(a,b){var ur=a.pO(b);var i7=a.Mq(b);b=b||{};if(!a)return null;b=b||{};if(!a)return null};
+g.GhIu=function(a,b){a.O5=b;if(!a)return null;b=b||{};return a;var x6=a.sl(b);if(!a)return null;if(!a)return null};
+g.vyds=function(a,b){var lh=a.jv(b);var yz=a.hO(b)};
+g.hNKD=function(a,b){b=b||{};return a};
+g.ZaGp=function(a,b){var t2=a.MN(b);if(!a)return null;var m3=a.rx(b);return a;b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.EqWT=function(a,b){a.zQ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Sbbz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var bh=a.EJ(b);b=b||{};return a;var yx=a.Gr(b);a.Eg=b;if(!a)return null};
+var d2Yz={Tw:function(a){return a.pY},jX:function(a){return a.Cp},SY:function(a){return a.ZN},ZI:function(a){return a.wX},AN:function(a){return a.NZ}};
+g.AdiH=function(a,b){a.Vj=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var ps=a.Xu(b);a.jQ=b;b=b||{}};
+g.GoxW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.Af=b;b=b||{}};
+g.VCAu=function(a,b){if(!a)return null;return a;a.Qa=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.P5=b};
+var gMg6={YS:function(a){return a.tb},gN:function(a){return a.hd},gF:function(a){return a.Xb},GI:function(a){return a.ue}};
+var d0fy={lE:function(a){return a.EC},Am:function(a){return a.Sm}};
+g.LxxR=function(a,b){var yh=a.dT(b);for(var c=0;c<a.length;c++)b.push(a[c]);var je=a.Z7(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.sspd=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.XAay=function(a,b){return a;var f5=a.lH(b)};
+g.JHo0=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var U7XV={Py:function(a){return a.l0},Mx:function(a){return a.Fz},nt:function(a){return a.eA},YA:function(a){return a.Ka},YD:function(a){return a.ju}};
+g.iGQD=function(a,b){b=b||{};if(!a)return null};
+g.Fei6=function(a,b){if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a};
+g.mGYe=function(a,b){if(!a)return null;return a;b=b||{};a.Ee=b;return a};
+g.EVld=function(a,b){a.t4=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.lIpo=function(a,b){var gg=a.Ke(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var t9=a.uU(b);a.qZ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Kiuf={VV:function(a){return a.Vb},fJ:function(a){return a.hl},MB:function(a){return a.HN}};
+g.evDW=function(a,b){b=b||{};a.gb=b;var sr=a.K6(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.mvob=function(a,b){if(!a)return null;a.oK=b;var ct=a.Kd(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+g.cXey=function(a,b){if(!a)return null;return a;if(!a)return null;a.qs=b;a.b6=b;if(!a)return null};
+g.K5Gf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.HG=b;a.Dh=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LfCS=function(a,b){var ot=a.j4(b);var im=a.Fi(b);return a};
+var GZwt={Zk:function(a){return a.mj},K3:function(a){return a.lJ},lC:function(a){return a.Wm},to:function(a){return a.UD},Bj:function(a){return a.b8}};
+g.LCzq=function(a,b){return a;return a;a.lP=b};
+g.SWSK=function(a,b){return a;b=b||{};a.xy=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Wxxf={CJ:function(a){return a.gP},R6:function(a){return a.FT},Q8:function(a){return a.Ni}};
+var A7dO={Sg:function(a){return a.eU},jZ:function(a){return a.jI},T7:function(a){return a.jK},MC:function(a){return a.mb}};
+g.xfVO=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.vt=b;a.Jj=b;var fl=a.Hp(b)};
+g.g3Wi=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;return a};
+g.T0Hz=function(a,b){a.l0=b;return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var C2eX={F5:function(a){return a.yf},rW:function(a){return a.ul},O1:function(a){return a.g4}};
+var OLRQ={dI:function(a){return a.Mj},bV:function(a){return a.AZ},v1:function(a){return a.Z6},Xy:function(a){return a.VE}};
+var ITAQ={Wz:function(a){return a.SC},lu:function(a){return a.hG},zA:function(a){return a.tI},vL:function(a){return a.Ni}};
+var PysT={W1:function(a){return a.rg},R8:function(a){return a.YU},Cn:function(a){return a.nI},LW:function(a){return a.oV}};
+g.Uwsq=function(a,b){var df=a.lu(b);var z7=a.dn(b);b=b||{}};
+g.l7Iy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var kc=a.F7(b);if(!a)return null;return a;var em=a.an(b)};
+g.jQxI=function(a,b){b=b||{};var gp=a.sl(b);a.PB=b;if(!a)return null;var q8=a.kT(b)};
+var ovGz={jo:function(a){return a.XT},tV:function(a){return a.aE}};
+g.vVSB=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};
+g.SGwD=function(a,b){a.Ke=b;a.JG=b;b=b||{};if(!a)return null};
+g.PRHS=function(a,b){b=b||{};if(!a)return null;return a};
+var FCJ0={nR:function(a){return a.Gn},D4:function(a){return a.rH},WP:function(a){return a.Tj}};
+var U6ds={Bk:function(a){return a.P1},bU:function(a){return a.ai},HI:function(a){return a.cS},xc:function(a){return a.uv}};
+g.NFYO=function(a,b){var ha=a.QG(b);var g9=a.J3(b)};
+g.dyYQ=function(a,b){var qp=a.R5(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var ZniU={lV:function(a){return a.H1},GJ:function(a){return a.rU}};
+g.m7ET=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var udhN={Ay:function(a){return a.Av},Zn:function(a){return a.eZ},w5:function(a){return a.CW},xy:function(a){return a.pt},zQ:function(a){return a.as}};
+var Q9Na={HV:function(a){return a.T0},p1:function(a){return a.j3},NA:function(a){return a.sy}};
+g.wOPk=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.aKsH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.A8=b;a.o6=b;var s2=a.lf(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var d4M8={t8:function(a){return a.lK},ua:function(a){return a.Ng},RW:function(a){return a.QS},FA:function(a){return a.Dr},XQ:function(a){return a.jZ}};
+g.cNzi=function(a,b){a.EL=b;a.uL=b;a.cI=b};
+g.emTm=function(a,b){b=b||{};a.IV=b};
+g.laSh=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.ht=b;var kz=a.Sz(b)};
+var XxYz={HU:function(a){return a.I9},dX:function(a){return a.xP},dD:function(a){return a.s3}};
+g.ZUw2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.okUB=function(a,b){a.MH=b;b=b||{};a.LO=b;return a};
+g.eZLb=function(a,b){var tb=a.ID(b);a.aB=b;a.cA=b};
+g.U0rU=function(a,b){var e8=a.Sf(b);a.H2=b;b=b||{};b=b||{}};
+g.Oucy=function(a,b){b=b||{};if(!a)return null;return a;return a;return a;if(!a)return null;a.Rt=b};
+g.VLpk=function(a,b){a.pA=b;var vr=a.lU(b);var tv=a.hR(b);b=b||{};b=b||{};b=b||{}};
+g.O8GR=function(a,b){var qu=a.nQ(b);if(!a)return null;return a};
+g.DoEX=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};var ya=a.Cg(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var ZtBz={da:function(a){return a.zE},l9:function(a){return a.Tz},uM:function(a){return a.ar},ZH:function(a){return a.qT},Zg:function(a){return a.Lr}};
+var CvUr={w9:function(a){return a.gL},un:function(a){return a.MU},wi:function(a){return a.fw},Pl:function(a){return a.d2}};
+g.CmRq=function(a,b){a.XZ=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.MZAV=function(a,b){a.oQ=b;a.Ld=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ZCUV=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var cn=a.nM(b);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Rcz4=function(a,b){if(!a)return null;var oe=a.Dz(b);a.lQ=b;if(!a)return null;if(!a)return null};
+g.ncpc=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;return a;var cs=a.PT(b);return a;var xu=a.Vs(b)};
+g.SkON=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.y1tj=function(a,b){b=b||{};a.qp=b;a.cO=b;b=b||{}};
+g.WSHE=function(a,b){a.tS=b;var zv=a.kQ(b);a.Zc=b;var xl=a.Zw(b)};
+g.QnAu=function(a,b){var xu=a.jZ(b);a.ax=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.snri=function(a,b){if(!a)return null;var re=a.A7(b);if(!a)return null};
+var e8Dj={yW:function(a){return a.OJ},xp:function(a){return a.Tm},S9:function(a){return a.ni},WK:function(a){return a.nO},pt:function(a){return a.RH}};
+g.VFOs=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.RBzA=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+g.rcZq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var GERw={lW:function(a){return a.Q5},HK:function(a){return a.Na}};
+g.sDXT=function(a,b){a.Qw=b;for(var c=0;c<a.length;c++)b.push(a[c]);var if=a.Op(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.We=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.VqWc=function(a,b){var us=a.Wa(b);if(!a)return null;return a;a.lM=b;a.NK=b;a.QP=b};
+g.yDpk=function(a,b){var xa=a.lR(b);if(!a)return null;if(!a)return null};
+var I2gT={sy:function(a){return a.RP},sg:function(a){return a.eu}};
+g.U7QP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.BiO3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var yr=a.HD(b);b=b||{};if(!a)return null;if(!a)return null;a.h4=b};
+g.USsg=function(a,b){if(!a)return null;var ie=a.LI(b);return a};
+var WWwV={DS:function(a){return a.Uh},kF:function(a){return a.DA}};
+var ymSR={rs:function(a){return a.Of},go:function(a){return a.p9},vc:function(a){return a.jJ},Au:function(a){return a.nI}};
+g.KVhI=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var nq=a.kB(b)};
+g.yHhy=function(a,b){b=b||{};return a;b=b||{};if(!a)return null;b=b||{}};
+var Xkof={Rd:function(a){return a.YX},D8:function(a){return a.pj}};
+g.ePZQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.kmAq=function(a,b){a.ML=b;if(!a)return null;b=b||{};if(!a)return null;a.xJ=b;a.eE=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.iIkF=function(a,b){return a;a.SQ=b;if(!a)return null;if(!a)return null};
+g.eIlT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.awWj=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var tp=a.xO(b)};
+g.aSVS=function(a,b){return a;var cc=a.Do(b)};
+var AWl8={zx:function(a){return a.vH},rU:function(a){return a.EM},np:function(a){return a.lA},YV:function(a){return a.pb},Jx:function(a){return a.fI}};
+var Q4AC={DC:function(a){return a.RG},OD:function(a){return a.Hz},v2:function(a){return a.iK}};
+var nIO3={Sw:function(a){return a.Va},fE:function(a){return a.dC}};
+g.NsDc=function(a,b){if(!a)return null;a.PM=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var HAI1={Y3:function(a){return a.o3},J0:function(a){return a.By}};
+g.I8lD=function(a,b){a.on=b;return a;b=b||{};var qm=a.J6(b);return a;a.e7=b};
+g.vSu4=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var vm=a.Dx(b);a.RN=b};
+g.SmzC=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var qt=a.BH(b)};
+var uEVD={pb:function(a){return a.L4},tN:function(a){return a.Ca},jY:function(a){return a.Ir},tl:function(a){return a.YJ}};
+g.q8uy=function(a,b){a.V1=b;if(!a)return null;var fo=a.Dc(b)};
+g.qbYH=function(a,b){return a;var bv=a.D2(b);var lb=a.DB(b);if(!a)return null};
+g.mvFL=function(a,b){return a;if(!a)return null};
+g.fDwK=function(a,b){if(!a)return null;return a;b=b||{}};
+var TuyG={ls:function(a){return a.kr},nJ:function(a){return a.Vc}};
+g.ibKf=function(a,b){if(!a)return null;return a};
+g.AHRz=function(a,b){return a;b=b||{}};
+g.vlcF=function(a,b){return a;a.NF=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var svjC={u3:function(a){return a.Ej},F5:function(a){return a.F0},pF:function(a){return a.bl},hM:function(a){return a.FA},dK:function(a){return a.J3}};
+var GYpY={nS:function(a){return a.QS},RA:function(a){return a.sb},r1:function(a){return a.GH},kD:function(a){return a.k9},Vp:function(a){return a.Xs}};
+g.lJdi=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var ga=a.hQ(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.aTBf=function(a,b){var zn=a.Tk(b);return a;return a};
+g.M9K1=function(a,b){var ca=a.xn(b);b=b||{};a.cG=b;a.I1=b};
+g.nVd8=function(a,b){a.MS=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.AasO=function(a,b){var yn=a.BK(b);b=b||{};if(!a)return null;if(!a)return null};
+var DGuo={tn:function(a){return a.KZ},JU:function(a){return a.pj},iY:function(a){return a.WP},Cm:function(a){return a.Fd}};
+g.ScSY=function(a,b){return a;a.gA=b;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var mu=a.TS(b);b=b||{}};
+g.DCAl=function(a,b){return a;var pu=a.Bq(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var SRir={wX:function(a){return a.bo},OR:function(a){return a.VK},u2:function(a){return a.SM},Us:function(a){return a.H3}};
+var ZeCz={HT:function(a){return a.Gy},kn:function(a){return a.ac},Ll:function(a){return a.EP}};
+var E8rA={Ym:function(a){return a.kW},NN:function(a){return a.rI}};
+g.XwM3=function(a,b){b=b||{};a.GG=b;var am=a.Ic(b);a.FI=b;var hu=a.Gk(b);b=b||{}};
+g.JBBy=function(a,b){return a;b=b||{};if(!a)return null;b=b||{};b=b||{};return a};
+var XxED={wj:function(a){return a.TF},nB:function(a){return a.JS},xi:function(a){return a.iY}};
+g.O8D4=function(a,b){if(!a)return null;return a;b=b||{}};
+var xOtv={d7:function(a){return a.nq},Jq:function(a){return a.p1}};
+g.OAXM=function(a,b){return a;if(!a)return null};
+g.HTjj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var r6=a.Uv(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.M4Rb=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var sPtS={ad:function(a){return a.eD},tV:function(a){return a.zZ},Jm:function(a){return a.Ma},xw:function(a){return a.KR}};
+g.SQfY=function(a,b){return a;a.JF=b;a.N2=b;var kk=a.DJ(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.RVED=function(a,b){return a;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.BDpa=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var umY2={hj:function(a){return a.Sf},OL:function(a){return a.Uh},Vk:function(a){return a.lq}};
+var d1lI={LS:function(a){return a.KV},AH:function(a){return a.JV},Bp:function(a){return a.eL}};
+g.k6XQ=function(a,b){b=b||{};b=b||{};var sf=a.Od(b);b=b||{}};
+g.S5IS=function(a,b){if(!a)return null;return a;var r3=a.ZO(b)};
+g.MxXN=function(a,b){a.bG=b;return a};
+g.fLjN=function(a,b){var zn=a.aw(b);var is=a.Jr(b);a.a5=b};
+var f7lQ={IU:function(a){return a.d1},gd:function(a){return a.HS},iX:function(a){return a.BR},dQ:function(a){return a.na},fv:function(a){return a.wu}};
+g.gtJD=function(a,b){a.V1=b;if(!a)return null;b=b||{};if(!a)return null;a.qT=b};
+g.X3Ni=function(a,b){var mo=a.fF(b);var pd=a.D1(b);var tw=a.UY(b)};
+g.BTYv=function(a,b){b=b||{};var kw=a.IO(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var L9bA={II:function(a){return a.MA},pq:function(a){return a.QQ},YZ:function(a){return a.fX},tO:function(a){return a.yY}};
+g.QtMd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.VS=b};
+var ZPRo={Jp:function(a){return a.J3},P4:function(a){return a.wf},h1:function(a){return a.hT},NM:function(a){return a.MN}};
+g.JjzP=function(a,b){if(!a)return null;b=b||{};if(!a)return null};
+var iCih={MA:function(a){return a.ve},NV:function(a){return a.NA},h2:function(a){return a.Be},HL:function(a){return a.sg}};
+g.vhQ9=function(a,b){a.Az=b;return a;b=b||{};if(!a)return null};
+var XtxF={AS:function(a){return a.AL},F4:function(a){return a.Ar},n7:function(a){return a.Xr},lC:function(a){return a.Li},OM:function(a){return a.ai}};
+g.JEqm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.za=b;b=b||{}};
+var Ledz={xK:function(a){return a.iC},wq:function(a){return a.nx},jh:function(a){return a.aQ},IO:function(a){return a.lA}};
+g.Undj=function(a,b){var nq=a.LM(b);return a;a.Lq=b;a.D9=b};
+g.hWKG=function(a,b){b=b||{};var sa=a.GT(b);var o5=a.Lu(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.lFB9=function(a,b){a.Am=b;var ry=a.Y5(b);var nx=a.IB(b);var nw=a.Ol(b);return a;if(!a)return null};
+var k0tN={Jo:function(a){return a.Nw},p9:function(a){return a.Ty},na:function(a){return a.Bz}};
+g.zdGC=function(a,b){a.x9=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var lr=a.YA(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.CXk1=function(a,b){var fb=a.Rx(b);var lu=a.ZS(b)};
+g.bMtT=function(a,b){a.eY=b;var ut=a.XI(b);a.Bn=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.uA=b};
+g.whoo=function(a,b){if(!a)return null;return a};
+g.MzI8=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.NC=b;b=b||{}};
+g.s8Nk=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.iqD4=function(a,b){var zx=a.Px(b);return a};
+g.HpyB=function(a,b){var ad=a.Yp(b);if(!a)return null;var xn=a.ve(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.DpUs=function(a,b){b=b||{};var z4=a.qA(b);if(!a)return null;if(!a)return null};
+g.XbK9=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+var U0hz={TR:function(a){return a.wg},Wb:function(a){return a.RZ}};
+g.OEDj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var iy=a.zk(b);return a;return a};
+g.kKpM=function(a,b){a.zS=b;a.Fu=b;var h8=a.YU(b);if(!a)return null};
+g.vArT=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.YS=b;if(!a)return null};
+g.VhqN=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;a.vQ=b;a.MA=b};
+g.htwE=function(a,b){a.nL=b;a.Mp=b;return a;if(!a)return null;var ms=a.d3(b)};
+var L2N1={Xs:function(a){return a.RM},CE:function(a){return a.YB}};
+var lNCd={Ts:function(a){return a.za},u1:function(a){return a.Qq},hM:function(a){return a.yn},Qy:function(a){return a.Vr},yC:function(a){return a.Wf}};
+g.sMm6=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var n4=a.yD(b);b=b||{}};
+g.PybJ=function(a,b){a.py=b;return a};
+g.W1Eg=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var xa=a.Bc(b)};
+g.VDqC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.lpeM=function(a,b){if(!a)return null;return a;var kk=a.Xp(b)};
+g.DQqZ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.YVWe=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;if(!a)return null;b=b||{};b=b||{}};
+g.OxBk=function(a,b){var d5=a.NG(b);return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var bi=a.dg(b)};
+g.LRMl=function(a,b){var xd=a.Vo(b);if(!a)return null;return a};
+g.gRCy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var q4=a.Yo(b);a.WP=b;b=b||{};b=b||{};if(!a)return null};
+g.NkVZ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var ku=a.Vj(b)};
+var AkU5={yM:function(a){return a.t7},TC:function(a){return a.QX}};
+var tSMY={hH:function(a){return a.OD},vg:function(a){return a.WH},tk:function(a){return a.HR}};
+g.aDK0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.kN=b};
+g.gdiG=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ExFG=function(a,b){a.UH=b;if(!a)return null;b=b||{}};
+g.qTay=function(a,b){return a;if(!a)return null};
+var siTu={Aa:function(a){return a.Th},B8:function(a){return a.k6},mn:function(a){return a.XU},pP:function(a){return a.Dh},Wp:function(a){return a.FW}};
+g.V7jn=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.KC=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var lt=a.wM(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.DHOl=function(a,b){return a;var v2=a.co(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.zoLF=function(a,b){a.Rf=b;b=b||{}};
+g.VqyJ=function(a,b){var nd=a.vB(b);return a;if(!a)return null;b=b||{};if(!a)return null;if(!a)return null};
+g.kdL7=function(a,b){a.XF=b;for(var c=0;c<a.length;c++)b.push(a[c]);var vb=a.vo(b);a.od=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var hmVe={Yw:function(a){return a.RJ},fT:function(a){return a.g7}};
+g.RZGd=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var pw=a.xs(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.bh=b};
+g.nOkJ=function(a,b){return a;a.E9=b};
+g.gPqs=function(a,b){if(!a)return null;var qw=a.h2(b);if(!a)return null;b=b||{};a.Rm=b};
+g.LZzN=function(a,b){if(!a)return null;a.lO=b};
+g.UrHE=function(a,b){a.pA=b;b=b||{}};
+var DHcW={VB:function(a){return a.bB},ex:function(a){return a.HP},z2:function(a){return a.yi},SU:function(a){return a.KM},CX:function(a){return a.Md}};
+g.mZri=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.VT=b;a.Rs=b};
+var DEih={i7:function(a){return a.XK},XT:function(a){return a.EL},TQ:function(a){return a.tY},tV:function(a){return a.KT},Bm:function(a){return a.zZ}};
+g.U2sS=function(a,b){return a;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.EqU7=function(a,b){if(!a)return null;b=b||{};if(!a)return null;return a};
+g.dBzj=function(a,b){return a;var zc=a.Us(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;return a};
+g.WsBH=function(a,b){return a;var vj=a.Sl(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;a.V8=b};
+g.rSle=function(a,b){var ui=a.zO(b);a.aG=b;var p0=a.Ik(b);b=b||{};a.jh=b;var xh=a.xP(b)};
+g.tNVL=function(a,b){return a;a.dQ=b;a.H3=b};
+var Q5CI={IJ:function(a){return a.lr},Jj:function(a){return a.tE}};
+g.DClf=function(a,b){if(!a)return null;a.VG=b;b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.WW=b};
+var wMIQ={Q5:function(a){return a.BV},GK:function(a){return a.gc},Rl:function(a){return a.ju},EH:function(a){return a.tF},k6:function(a){return a.gz}};
+g.YVLV=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var ca=a.fM(b)};
+g.xfT5=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;b=b||{}};
+g.j2Si=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;var dq=a.Gz(b);if(!a)return null;a.Nq=b};
+g.mYtF=function(a,b){return a;b=b||{}};
+g.B7Xc=function(a,b){b=b||{};if(!a)return null};
+var MCHb={Nw:function(a){return a.rn},Fy:function(a){return a.Wa},ug:function(a){return a.sY}};
+g.m0OX=function(a,b){a.tp=b;b=b||{};a.h2=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.QoMW=function(a,b){b=b||{};a.Zw=b;if(!a)return null};
+g.FMwk=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.Fq=b;b=b||{};a.W7=b};
+g.L0hu=function(a,b){var la=a.lU(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.U7pz=function(a,b){return a;return a};
+g.IEr6=function(a,b){a.AZ=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.pY=b;var gx=a.kv(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ZVfN=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.fd=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ENb0=function(a,b){b=b||{};a.gD=b};
+g.clVn=function(a,b){a.ja=b;return a;if(!a)return null;return a;if(!a)return null};
+var zpTC={Ic:function(a){return a.V6},hm:function(a){return a.PY},uI:function(a){return a.fA},KE:function(a){return a.ht}};
+g.ZAAq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.lQdN=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var oo=a.cd(b);return a};
+g.aZeb=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.bH=b;a.Lo=b};
+g.GsE7=function(a,b){a.J7=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var ur=a.tx(b);var aw=a.UI(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.X9X3=function(a,b){if(!a)return null;return a;return a};
+g.SJZx=function(a,b){return a;a.ti=b;var ft=a.YY(b);b=b||{};var hm=a.mb(b);a.QP=b};
+g.d1G4=function(a,b){var te=a.cZ(b);if(!a)return null;a.gA=b;if(!a)return null;var nn=a.C5(b);a.Lt=b;var b8=a.qm(b)};
+var a9lt={Xg:function(a){return a.u6},tm:function(a){return a.SG},S6:function(a){return a.Yf},j8:function(a){return a.HV},ez:function(a){return a.u2}};
+g.mNJx=function(a,b){b=b||{};if(!a)return null};
+g.owbV=function(a,b){b=b||{};if(!a)return null};
+var D0gm={Ls:function(a){return a.qn},tg:function(a){return a.RW},ZM:function(a){return a.on}};
+g.plaH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.TXeG=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a};
+g.knVD=function(a,b){return a;var zn=a.Wt(b);b=b||{};a.tX=b;a.Yt=b;return a};
+g.Tww2=function(a,b){b=b||{};var p6=a.qH(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.WqLw=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.PEbm=function(a,b){a.xL=b;var hk=a.jA(b);return a;a.tm=b};
+g.pval=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var cs=a.gN(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.OuoO=function(a,b){if(!a)return null;a.lE=b;return a;a.xe=b;var cu=a.ac(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.YCin=function(a,b){var ji=a.EU(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.PtPx=function(a,b){return a;if(!a)return null;return a;return a;return a};
+g.rEt0=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var k6=a.ke(b);b=b||{}};
+g.fozU=function(a,b){return a;return a;b=b||{};var gh=a.RH(b)};
+var J5kg={du:function(a){return a.t2},SC:function(a){return a.XS},pU:function(a){return a.mK},e6:function(a){return a.zc},rl:function(a){return a.Eb}};
+g.ondp=function(a,b){var oo=a.pk(b);var vj=a.r1(b);a.Lo=b;b=b||{};return a;b=b||{};return a};
+g.pvQT=function(a,b){a.dZ=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var bucn={VN:function(a){return a.oR},UR:function(a){return a.UC},Xi:function(a){return a.Dk},e6:function(a){return a.gL},rq:function(a){return a.We}};
+var Oauo={fc:function(a){return a.po},lv:function(a){return a.pz},Py:function(a){return a.DF}};
+g.zuk4=function(a,b){return a;return a;b=b||{};var dr=a.n3(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.H8x9=function(a,b){if(!a)return null;var b2=a.VU(b);a.wA=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var jNxv={J1:function(a){return a.yf},rz:function(a){return a.I1},t8:function(a){return a.CX},Ow:function(a){return a.BP}};
+var lndC={pr:function(a){return a.Ah},zN:function(a){return a.en},rX:function(a){return a.bS},FZ:function(a){return a.ZS},uG:function(a){return a.i0}};
+g.mtsJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var fs=a.NV(b)};
+g.YHQF=function(a,b){var ji=a.ef(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.iczZ=function(a,b){a.Fu=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.tiLC=function(a,b){return a;b=b||{};if(!a)return null;if(!a)return null;var vi=a.b1(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.bKFD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Fp=b;for(var c=0;c<a.length;c++)b.push(a[c]);var je=a.CF(b);a.Ii=b};
+g.xMBs=function(a,b){a.q1=b;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.Ii=b;if(!a)return null};
+g.WVBM=function(a,b){if(!a)return null;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.tVPc=function(a,b){a.uQ=b;var t0=a.Pm(b);if(!a)return null};
+var nKwa={Mf:function(a){return a.Sl},Z4:function(a){return a.d4}};
+g.RyDc=function(a,b){var oq=a.Lr(b);var py=a.Im(b);b=b||{}};
+g.eFCf=function(a,b){var q4=a.Qm(b);if(!a)return null};
+g.LGBo=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;var nb=a.bT(b)};
+g.uNfj=function(a,b){if(!a)return null;a.GM=b};
+g.ReOC=function(a,b){a.S2=b;a.WZ=b};
+g.pjuT=function(a,b){return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};b=b||{}};
+g.I8Zl=function(a,b){if(!a)return null;var ah=a.sX(b);if(!a)return null;if(!a)return null};
+g.fmUp=function(a,b){var tx=a.ge(b);b=b||{};var ed=a.IO(b);a.oD=b;return a;a.o5=b;if(!a)return null};
+g.CxKr=function(a,b){return a;var sh=a.dO(b);return a;return a;return a};
+g.ayUJ=function(a,b){return a;var gu=a.LO(b);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var w4=a.aI(b);var zs=a.hR(b)};
+var A8FY={iv:function(a){return a.TQ},Nj:function(a){return a.zP},IT:function(a){return a.pk}};
+g.OmyK=function(a,b){return a;if(!a)return null;var rf=a.DW(b);a.ax=b;if(!a)return null;var m5=a.N9(b);if(!a)return null};
+var BaTD={GE:function(a){return a.xY},Eq:function(a){return a.j7}};
+g.agLM=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var rp=a.dG(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.L8=b;var dt=a.xm(b)};
+var hyPG={rn:function(a){return a.z4},eg:function(a){return a.o7},Ya:function(a){return a.BL},ai:function(a){return a.Qv},qF:function(a){return a.WZ}};
+g.vApy=function(a,b){b=b||{};return a};
+g.mdFC=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.UbXj=function(a,b){var fh=a.u4(b);b=b||{};if(!a)return null;if(!a)return null;var s6=a.Z5(b);if(!a)return null};
+g.yuy3=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var iw=a.Di(b)};
+g.zMg4=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var og=a.gc(b);return a};
+g.B8I6=function(a,b){a.ra=b;a.X4=b;var a3=a.fC(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.LC=b;return a};
+g.IrbC=function(a,b){return a;var l6=a.iC(b)};
+g.XoNS=function(a,b){a.Tx=b;b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.v7=b};
+g.TWW1=function(a,b){b=b||{};var fy=a.FC(b)};
+var Ecym={vd:function(a){return a.z6},Q7:function(a){return a.hT},ki:function(a){return a.dn},Mb:function(a){return a.OC}};
+g.Z2Kx=function(a,b){b=b||{};a.At=b;if(!a)return null;var zz=a.Y5(b)};
+var TrTw={LM:function(a){return a.JX},m0:function(a){return a.H2},WQ:function(a){return a.CO},Am:function(a){return a.t6},Xl:function(a){return a.mF}};
+g.m4Wk=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var lr=a.pc(b);a.Ya=b;if(!a)return null};
+g.vUrJ=function(a,b){b=b||{};if(!a)return null;if(!a)return null;b=b||{}};
+g.JsMC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.RCri=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.UBQR=function(a,b){if(!a)return null;var rh=a.Vs(b)};
+g.ystY=function(a,b){return a;b=b||{};return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.t1=b;a.Bs=b};
+g.mrQm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};return a;if(!a)return null;a.y7=b};
+g.aXMP=function(a,b){var jx=a.uV(b);return a;var xe=a.cO(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.Ah=b};
+g.g5hW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var du=a.YA(b)};
+g.iiiQ=function(a,b){if(!a)return null;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var lj=a.Vr(b);return a};
+g.AHrs=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Ic=b};
+g.ADUq=function(a,b){if(!a)return null;if(!a)return null;a.Cb=b};
+var dTo3={Nf:function(a){return a.CC},qR:function(a){return a.qr},n9:function(a){return a.oR}};
+g.AvTp=function(a,b){return a;a.Kd=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.TzXp=function(a,b){a.TQ=b;return a;var dg=a.Kg(b)};
+g.p7AI=function(a,b){if(!a)return null;var cq=a.Ur(b);return a;return a;if(!a)return null};
+var A7XK={Py:function(a){return a.Fc},Ux:function(a){return a.Zf},PR:function(a){return a.x6}};
+var Lgpl={iB:function(a){return a.bv},Ao:function(a){return a.mc},ha:function(a){return a.nm},HI:function(a){return a.Us},bx:function(a){return a.uS}};
+g.t8nz=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;b=b||{};a.iu=b};
+var Mope={jx:function(a){return a.h8},ac:function(a){return a.ME},A2:function(a){return a.dY}};
+var eKyD={va:function(a){return a.Mm},hV:function(a){return a.k3},kX:function(a){return a.a5},Uj:function(a){return a.X5},YJ:function(a){return a.Rn}};
+g.UkkY=function(a,b){a.wE=b;if(!a)return null;a.Zz=b;if(!a)return null};
+var Jdin={d7:function(a){return a.RX},oO:function(a){return a.fH},lC:function(a){return a.lP},K7:function(a){return a.L3}};
+g.Q0SZ=function(a,b){b=b||{};a.yj=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.dQBt=function(a,b){b=b||{};if(!a)return null;var nt=a.td(b);return a;a.uu=b;for(var c=0;c<a.length;c++)b.push(a[c]);var sh=a.dI(b)};
+g.AhEG=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;var s8=a.Rr(b);var yu=a.hi(b)};
+g.P6se=function(a,b){b=b||{};var jz=a.M4(b);var tv=a.BT(b);if(!a)return null;a.W8=b;a.OZ=b};
+g.Jbo0=function(a,b){var ut=a.Ih(b);if(!a)return null};
+var BYEl={jh:function(a){return a.O8},r2:function(a){return a.Mr},SY:function(a){return a.Cb}};
+g.cDZw=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.uzeD=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.y3yb=function(a,b){var sw=a.E8(b);var bw=a.IQ(b)};
+g.dhjQ=function(a,b){b=b||{};var by=a.y1(b);if(!a)return null;b=b||{};a.HL=b;b=b||{}};
+var KAo5={AR:function(a){return a.ZU},Ck:function(a){return a.VZ},e5:function(a){return a.aX}};
+var xPhv={y3:function(a){return a.q2},fH:function(a){return a.Zs},Jg:function(a){return a.HX},TQ:function(a){return a.FM}};
+g.ahGs=function(a,b){return a;b=b||{};a.Jc=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.c3rU=function(a,b){var h5=a.DB(b);a.ZS=b;a.tf=b;return a};
+g.Qerd=function(a,b){a.Qv=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;var dg=a.Nh(b);return a};
+g.AKMa=function(a,b){a.Ga=b;if(!a)return null;var v7=a.Ks(b);var f4=a.Af(b)};
+g.grp1=function(a,b){b=b||{};a.Yi=b};
+g.oTEQ=function(a,b){if(!a)return null;if(!a)return null;b=b||{}};
+g.jhyw=function(a,b){return a;a.UI=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.zgK8=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var jhh3={sh:function(a){return a.Hq},ix:function(a){return a.Sp},ie:function(a){return a.O2}};
+g.gEmK=function(a,b){return a;return a;a.og=b;var ql=a.Hn(b);a.zA=b};
+g.G8VE=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;return a;if(!a)return null};
+g.noqv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Sl=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.YtVO=function(a,b){var ps=a.oc(b);a.mH=b;return a;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var jx=a.Qb(b)};
+g.HFvR=function(a,b){return a;a.j2=b};
+g.nnWO=function(a,b){if(!a)return null;a.I5=b};
+g.VEyh=function(a,b){return a;return a;b=b||{}};
+g.IyBf=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;return a;return a;a.yV=b};
+var MSjW={ZE:function(a){return a.zy},Nv:function(a){return a.So},V1:function(a){return a.FA},uB:function(a){return a.Yf},RK:function(a){return a.be}};
+g.TuHz=function(a,b){var zy=a.av(b);if(!a)return null;a.cN=b;return a};
+g.BaBj=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.nz=b;a.Lp=b;b=b||{};b=b||{}};
+g.aMHF=function(a,b){var rd=a.Wz(b);if(!a)return null;if(!a)return null;return a;return a};
+var DnAW={L5:function(a){return a.hK},aT:function(a){return a.hR},B8:function(a){return a.H3}};
+g.pQdq=function(a,b){a.rL=b;var fv=a.qV(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.p8=b};
+g.h5Hq=function(a,b){b=b||{};var bn=a.mF(b);var mi=a.xF(b);var tx=a.R1(b);var ho=a.Ef(b)};
+g.t3DK=function(a,b){if(!a)return null;var dc=a.rb(b);var bl=a.Rk(b);a.mJ=b;a.Bp=b};
+g.KLcX=function(a,b){var fu=a.Ra(b);return a;var n4=a.kl(b);if(!a)return null;return a;a.s9=b};
+g.GaOE=function(a,b){var yv=a.R8(b);if(!a)return null};
+var wXzB={nH:function(a){return a.eR},xs:function(a){return a.EV},mk:function(a){return a.Ue},su:function(a){return a.m5},Ur:function(a){return a.TE}};
+g.QyHJ=function(a,b){return a;b=b||{}};
+g.O4Bq=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;return a;return a};
+g.WHaI=function(a,b){b=b||{};a.hG=b;b=b||{};if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.bWpb=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var kuEF={ZY:function(a){return a.Of},jd:function(a){return a.sj}};
+g.dpzg=function(a,b){if(!a)return null;var lb=a.Fs(b);b=b||{};return a;return a;if(!a)return null};
+var LsFy={UC:function(a){return a.GX},Ax:function(a){return a.ns},b1:function(a){return a.Oc}};
+g.fpda=function(a,b){return a;if(!a)return null;if(!a)return null;var x9=a.XG(b)};
+g.vtCG=function(a,b){var kp=a.Cr(b);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var ze=a.mz(b)};
+g.qXc9=function(a,b){b=b||{};a.ON=b;a.Wn=b;b=b||{}};
+var B9bA={wm:function(a){return a.uo},op:function(a){return a.Eb},Cw:function(a){return a.MQ}};
+var Xix5={MV:function(a){return a.FB},KW:function(a){return a.Dh}};
+var iMUB={DU:function(a){return a.zP},cn:function(a){return a.zS},vi:function(a){return a.Og}};
+g.DZVA=function(a,b){var ew=a.VJ(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var aWT8={Ta:function(a){return a.SG},g6:function(a){return a.NH},Ko:function(a){return a.pa},tp:function(a){return a.cd},So:function(a){return a.NE}};
+g.zMDE=function(a,b){if(!a)return null;if(!a)return null;a.Xf=b;b=b||{};var fl=a.C2(b);var gp=a.Jt(b)};
+g.elGQ=function(a,b){b=b||{};return a;a.Vg=b;b=b||{};b=b||{};a.q2=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.t3ID=function(a,b){b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.AhoA=function(a,b){b=b||{};a.n6=b};
+g.wZSg=function(a,b){if(!a)return null;var hx=a.WM(b);for(var c=0;c<a.length;c++)b.push(a[c]);var dh=a.AF(b);return a};
+var o7JY={RO:function(a){return a.oT},FG:function(a){return a.V3},jQ:function(a){return a.FV},GO:function(a){return a.C9},Uh:function(a){return a.pR}};
+var BaFf={eu:function(a){return a.rA},iq:function(a){return a.hX}};
+var WukW={X1:function(a){return a.D6},cy:function(a){return a.CL},LA:function(a){return a.I4},jz:function(a){return a.ru}};
+var uwoI={Ei:function(a){return a.PB},fN:function(a){return a.Y4},TL:function(a){return a.CQ},fE:function(a){return a.IL}};
+g.nLdc=function(a,b){a.MD=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null};
+g.KEWu=function(a,b){b=b||{};return a;if(!a)return null};
+g.fSR1=function(a,b){if(!a)return null;if(!a)return null;a.jY=b;var zv=a.Zo(b);a.mK=b;var bq=a.Uq(b);var wg=a.g3(b)};
+g.orHc=function(a,b){b=b||{};a.o7=b;var kn=a.Ar(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var CgPq={a8:function(a){return a.jf},dT:function(a){return a.m8},nx:function(a){return a.ih}};
+g.hwHv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Ky=b;a.ik=b;return a;return a;var lh=a.QF(b)};
+g.tEUz=function(a,b){b=b||{};return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.ZqVW=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;return a;b=b||{}};
+g.TdhT=function(a,b){b=b||{};b=b||{};var vn=a.ZK(b)};
+g.suEb=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var do=a.vv(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.LlnA=function(a,b){return a;return a};
+g.qLz9=function(a,b){return a;var h7=a.ll(b);return a;var x6=a.r3(b);if(!a)return null;a.ye=b};
+g.pimT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var jb=a.Ip(b);if(!a)return null;a.Hg=b;b=b||{}};
+var QNSG={lh:function(a){return a.CT},E5:function(a){return a.gy},Dl:function(a){return a.ZV}};
+g.DyBc=function(a,b){b=b||{};if(!a)return null;a.M7=b;return a};
+g.SeID=function(a,b){a.aU=b;a.gR=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var bQBZ={sb:function(a){return a.yd},U5:function(a){return a.Wm},Ef:function(a){return a.Xr},V1:function(a){return a.fN}};
+g.Yvy1=function(a,b){return a;return a;return a;return a};
+g.S1Xu=function(a,b){return a;return a;if(!a)return null};
+g.yEKP=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var xu=a.lJ(b);var qr=a.Uk(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var jqSv={jI:function(a){return a.qW},Jw:function(a){return a.Ew},Lb:function(a){return a.oW},oX:function(a){return a.Jn},Vb:function(a){return a.Td}};
+g.zRXA=function(a,b){if(!a)return null;b=b||{};a.Wq=b;a.fv=b;if(!a)return null;return a;b=b||{}};
+var ZdT1={IF:function(a){return a.pO},e8:function(a){return a.Xc},Mw:function(a){return a.eg}};
+var nFyW={Og:function(a){return a.NQ},RG:function(a){return a.ou},Wo:function(a){return a.I6},Ti:function(a){return a.BJ}};
+var UvJB={pO:function(a){return a.Mv},ft:function(a){return a.FS},ht:function(a){return a.HF},ZM:function(a){return a.ow}};
+var pGjP={nR:function(a){return a.za},b2:function(a){return a.Gb},yn:function(a){return a.R7}};
+g.nhtY=function(a,b){var kk=a.DC(b);a.XE=b;return a;var vx=a.Nr(b)};
+g.g4QL=function(a,b){b=b||{};if(!a)return null;if(!a)return null;if(!a)return null;return a};
+g.aWkj=function(a,b){a.d9=b;return a;if(!a)return null;b=b||{};a.ti=b;a.VU=b};
+g.khJd=function(a,b){a.Qf=b;if(!a)return null;var hv=a.SP(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var rw=a.yn(b)};
+g.i8DD=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.tM=b};
+g.FErL=function(a,b){return a;return a;a.AB=b;var kx=a.kO(b);b=b||{};var q0=a.MW(b);return a};
+g.zZxr=function(a,b){if(!a)return null;a.wF=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.ENDs=function(a,b){a.Cb=b;return a;var kn=a.Rn(b);b=b||{}};
+g.LNtO=function(a,b){if(!a)return null;if(!a)return null};
+g.zBA8=function(a,b){var fq=a.r9(b);return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.F1PM=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.um=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.VdlI=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.hQ=b;var pv=a.l8(b);return a;var al=a.tD(b);if(!a)return null};
+var Bmcf={N9:function(a){return a.Jx},KL:function(a){return a.O2},qd:function(a){return a.sD}};
+g.whcq=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var iw=a.kC(b);return a;var gb=a.Oo(b);b=b||{};a.Na=b};
+var o4dY={Y7:function(a){return a.nC},BL:function(a){return a.nd}};
+g.JjuM=function(a,b){if(!a)return null;b=b||{};a.mp=b;var br=a.LQ(b);a.yf=b;if(!a)return null;a.Ky=b};
+g.Efxw=function(a,b){if(!a)return null;var m0=a.ND(b);a.Ev=b;b=b||{};var gf=a.NA(b);b=b||{}};
+g.GsWM=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};b=b||{};var cz=a.YP(b);a.yQ=b};
+g.jQSZ=function(a,b){var fz=a.le(b);a.yD=b;a.bg=b;if(!a)return null};
+g.anp0=function(a,b){return a;a.Kv=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};if(!a)return null};
+var iyeH={yn:function(a){return a.Eo},LJ:function(a){return a.og},h5:function(a){return a.Fo}};
+g.a6SM=function(a,b){b=b||{};if(!a)return null;var ef=a.xa(b);b=b||{}};
+var sVfC={MS:function(a){return a.x0},fM:function(a){return a.N6}};
+g.yjKK=function(a,b){b=b||{};a.og=b;var wh=a.hr(b);if(!a)return null};
+g.vlJI=function(a,b){var m1=a.yB(b);b=b||{};if(!a)return null;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.AqbR=function(a,b){b=b||{};b=b||{};var v2=a.wv(b)};
+g.tQpv=function(a,b){if(!a)return null;b=b||{};if(!a)return null;return a};
+g.MbTF=function(a,b){a.aI=b;if(!a)return null;if(!a)return null;b=b||{};var um=a.xD(b);var fi=a.V2(b);var rs=a.qQ(b)};
+g.fdaN=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.vF=b;a.gT=b;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+var iUtv={Fh:function(a){return a.q2},RY:function(a){return a.wA}};
+g.AQL6=function(a,b){var ms=a.Zz(b);b=b||{};a.ER=b;return a;return a;var ld=a.hB(b);return a};
+g.YiHy=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var ol=a.M8(b);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var FwcV={DO:function(a){return a.yu},ra:function(a){return a.gd},kL:function(a){return a.Az},Gm:function(a){return a.Su},Vm:function(a){return a.Qb}};
+g.jpr4=function(a,b){b=b||{};b=b||{};var bu=a.ho(b);return a};
+var hNI4={vh:function(a){return a.xj},BU:function(a){return a.rB}};
+g.W8LM=function(a,b){b=b||{};var so=a.v0(b);a.Q0=b};
+g.okpt=function(a,b){b=b||{};a.Qi=b;var ib=a.cW(b);if(!a)return null};
+g.yRqH=function(a,b){return a;var x3=a.XS(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var s7=a.ce(b);return a};
+g.z0kO=function(a,b){a.oW=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;a.d1=b;if(!a)return null};
+g.Bgxn=function(a,b){var dc=a.L9(b);var bg=a.iV(b);return a;a.oK=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null};
+var aHsG={Ol:function(a){return a.AM},Br:function(a){return a.vN},lf:function(a){return a.z8},Jo:function(a){return a.ni},bL:function(a){return a.yq}};
+g.pif0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.gTL3=function(a,b){b=b||{};a.hJ=b;b=b||{};return a};
+var PiRO={xM:function(a){return a.Wa},B9:function(a){return a.Sc},kX:function(a){return a.I6},oN:function(a){return a.a9},sD:function(a){return a.WP}};
+var PMEF={Cm:function(a){return a.om},wg:function(a){return a.mY}};
+g.cWw2=function(a,b){var dl=a.Fg(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.Em=b;return a;if(!a)return null;a.zf=b;b=b||{}};
+var PAp9={HF:function(a){return a.L2},c5:function(a){return a.bg}};
+g.vOAY=function(a,b){b=b||{};var jp=a.Q1(b);a.DY=b;b=b||{};var zy=a.aG(b);var ew=a.IG(b)};
+g.uMOa=function(a,b){if(!a)return null;b=b||{};if(!a)return null};
+g.sSPz=function(a,b){b=b||{};a.Ic=b;a.J3=b;b=b||{};if(!a)return null;var y4=a.aE(b)};
+g.b9sA=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.Li=b};
+g.XIoz=function(a,b){var s6=a.se(b);a.uh=b;if(!a)return null;return a;a.W6=b;return a};
+g.suXd=function(a,b){a.Hl=b;var hc=a.WG(b);a.Lv=b};
+var rys7={dm:function(a){return a.Wp},cj:function(a){return a.Q6}};
+g.NQwS=function(a,b){var xj=a.uY(b);for(var c=0;c<a.length;c++)b.push(a[c]);var ab=a.B0(b)};
+g.OKVp=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;return a;var ek=a.Zf(b);b=b||{};if(!a)return null};
+var H0ap={W3:function(a){return a.fW},I4:function(a){return a.tu},Rx:function(a){return a.nR},Yr:function(a){return a.VP}};
+g.KClF=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.yUUg=function(a,b){var as=a.PB(b);return a;var pq=a.dP(b);a.IL=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var xDr7={NJ:function(a){return a.NQ},AU:function(a){return a.jj},bo:function(a){return a.ue},dp:function(a){return a.U1},Vv:function(a){return a.qE}};
+g.HKXo=function(a,b){b=b||{};a.c7=b;a.Th=b;var si=a.iF(b)};
+g.Mgod=function(a,b){b=b||{};b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var yk=a.MF(b);var hn=a.sR(b)};
+g.qQEY=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null};
+g.sWQL=function(a,b){var ig=a.fl(b);if(!a)return null;if(!a)return null;if(!a)return null;return a};
+g.zWqo=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var il=a.nP(b);a.oG=b;b=b||{}};
+g.CiY0=function(a,b){return a;var is=a.eU(b);return a;b=b||{};var wf=a.rf(b)};
+g.Qkh7=function(a,b){return a;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.WfuJ=function(a,b){var ax=a.Jm(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.vO=b};
+var rVjy={Mg:function(a){return a.nX},fg:function(a){return a.oA},Dd:function(a){return a.hl},MU:function(a){return a.tE}};
+g.s8Wc=function(a,b){b=b||{};b=b||{};var my=a.FX(b);return a;var nh=a.UI(b);var wo=a.EB(b);if(!a)return null};
+var jhHn={Y0:function(a){return a.o7},ge:function(a){return a.GO},oj:function(a){return a.vI}};
+var GVar={h1:function(a){return a.Pa},qM:function(a){return a.sk}};
+g.N6cc=function(a,b){a.t7=b;if(!a)return null;var li=a.wY(b)};
+g.vgDJ=function(a,b){var x7=a.EN(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.Jbtc=function(a,b){return a;var ri=a.na(b);var jl=a.B8(b);a.Xw=b};
+var e1qA={vr:function(a){return a.mz},oX:function(a){return a.K0},bo:function(a){return a.wO},ll:function(a){return a.By}};
+var OUnr={nT:function(a){return a.a8},V6:function(a){return a.wm},br:function(a){return a.KV},yN:function(a){return a.YW}};
+var vIcE={HL:function(a){return a.s7},Xg:function(a){return a.JS},ds:function(a){return a.SB},R4:function(a){return a.DB},Dq:function(a){return a.wG}};
+g.Dwyl=function(a,b){a.Le=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.LkY2=function(a,b){b=b||{};b=b||{}};
+g.sSCY=function(a,b){b=b||{};b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var yf=a.il(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.auRH=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a};
+var xtkm={Xe:function(a){return a.c2},Wc:function(a){return a.HR},vQ:function(a){return a.cX},CT:function(a){return a.c6}};
+g.AJBR=function(a,b){var ku=a.pl(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var mh=a.U6(b)};
+var nSNH={GK:function(a){return a.ZF},jG:function(a){return a.Y8},LZ:function(a){return a.H7}};
+g.KOJD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;b=b||{};if(!a)return null};
+g.gyLU=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var ey=a.ty(b);return a;b=b||{}};
+g.UudL=function(a,b){var qd=a.Bn(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var GwJw={Rj:function(a){return a.Sk},ti:function(a){return a.lI}};
+g.ewua=function(a,b){return a;var yl=a.FU(b);if(!a)return null};
+g.UBFn=function(a,b){var zj=a.fh(b);return a;b=b||{};if(!a)return null;a.tV=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.yBbs=function(a,b){b=b||{};if(!a)return null;return a};
+var zmwk={bi:function(a){return a.mo},kl:function(a){return a.FF},WO:function(a){return a.nO},zp:function(a){return a.Md}};
+g.mMVK=function(a,b){return a;a.O8=b;a.Sp=b;a.mA=b};
+g.OYwL=function(a,b){var jn=a.fv(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var xd=a.Ks(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.S1=b};
+g.IFIY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var UrVU={wB:function(a){return a.hF},kl:function(a){return a.sy},bA:function(a){return a.Za}};
+g.CuXl=function(a,b){if(!a)return null;a.QU=b;return a;a.ab=b;a.Th=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.oP=b};
+g.frCn=function(a,b){b=b||{};b=b||{};return a;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var E9LM={dD:function(a){return a.z0},L1:function(a){return a.Gl},eC:function(a){return a.g2},fA:function(a){return a.te},XP:function(a){return a.fk}};
+var O0zW={hq:function(a){return a.ah},IO:function(a){return a.ph}};
+g.Oesi=function(a,b){a.Gn=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.uG=b;if(!a)return null;if(!a)return null};
+var o9Du={y9:function(a){return a.qw},oE:function(a){return a.qL},aS:function(a){return a.uQ}};
+var KkQX={ez:function(a){return a.uh},q2:function(a){return a.Mk},Tu:function(a){return a.Qs},vc:function(a){return a.RO}};
+g.FlCj=function(a,b){if(!a)return null;var ot=a.uc(b);return a;a.e1=b;a.pt=b;var gq=a.d1(b)};
+var HII1={z7:function(a){return a.Rt},QJ:function(a){return a.LH},vK:function(a){return a.ND},fw:function(a){return a.pa},di:function(a){return a.Ul}};
+g.NrlE=function(a,b){b=b||{};var jd=a.t9(b)};
+g.BwBz=function(a,b){b=b||{};a.In=b;if(!a)return null;if(!a)return null;a.JZ=b};
+g.ruue=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.R2=b};
+g.wVKz=function(a,b){return a;b=b||{};if(!a)return null};
+g.s1j3=function(a,b){return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var tg=a.Uw(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+var swAk={rj:function(a){return a.zR},iA:function(a){return a.yN},VU:function(a){return a.FF}};
+g.LEID=function(a,b){b=b||{};a.qF=b;a.VT=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.xY=b};
+g.hXQW=function(a,b){return a;if(!a)return null;if(!a)return null;return a;b=b||{}};
+g.bFrY=function(a,b){b=b||{};var tv=a.eC(b)};
+g.lsTE=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.S2d3=function(a,b){a.aD=b;for(var c=0;c<a.length;c++)b.push(a[c]);var ts=a.ce(b);a.kJ=b};
+g.MhOi=function(a,b){a.t3=b;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.PcpD=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};var id=a.J3(b);b=b||{}};
+g.yGTu=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var ga=a.l1(b);a.mv=b;var ur=a.oe(b);a.Pe=b};
+g.YTZL=function(a,b){var sz=a.jN(b);a.Ip=b;if(!a)return null;return a};
+g.y3D8=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.SOoQ=function(a,b){if(!a)return null;return a;a.Jp=b;b=b||{};var lp=a.zJ(b);a.s9=b};
+g.pzsi=function(a,b){if(!a)return null;a.gV=b;return a;a.LQ=b;if(!a)return null;if(!a)return null};
+g.daCO=function(a,b){return a;var cm=a.MT(b);if(!a)return null;b=b||{}};
+var kqGR={YX:function(a){return a.XK},Fq:function(a){return a.CI},fS:function(a){return a.YR}};
+g.ZQC3=function(a,b){b=b||{};return a;return a;return a};
+g.Jxw7=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var gp=a.AW(b);var gr=a.Tw(b);a.uq=b;b=b||{}};
+g.XzJQ=function(a,b){a.BM=b;return a;var rt=a.e1(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.rb=b;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.BIwt=function(a,b){b=b||{};return a;b=b||{};b=b||{};var eg=a.PI(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.j1Tk=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var ga=a.Pe(b);if(!a)return null};
+var HsNg={PL:function(a){return a.tb},YI:function(a){return a.aq},kA:function(a){return a.UE},sx:function(a){return a.Cm},u7:function(a){return a.WU}};
+g.M4SD=function(a,b){return a;var at=a.Va(b);return a};
+g.uya2=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var d8=a.qY(b);a.z9=b};
+g.JUhd=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};a.lM=b;if(!a)return null};
+g.jiQd=function(a,b){return a;if(!a)return null;b=b||{};if(!a)return null};
+g.W2j7=function(a,b){b=b||{};if(!a)return null;return a;a.dM=b;a.Zu=b};
+var vbG2={UD:function(a){return a.I9},Ha:function(a){return a.L7}};
+g.PBSi=function(a,b){b=b||{};b=b||{};if(!a)return null;return a;a.aK=b};
+var jHwx={Cf:function(a){return a.oL},eP:function(a){return a.yY},Sa:function(a){return a.y9},Hj:function(a){return a.hN},ku:function(a){return a.d2}};
+g.jcCd=function(a,b){a.nQ=b;var cj=a.U9(b);b=b||{}};
+g.TTBO=function(a,b){var yc=a.Hl(b);var wp=a.ZB(b);if(!a)return null;return a;if(!a)return null};
+g.fleh=function(a,b){return a;b=b||{}};
+g.kvxP=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var qz=a.JE(b)};
+g.UIVy=function(a,b){return a;a.lb=b;var z6=a.gI(b)};
+var iQVm={NU:function(a){return a.wW},zr:function(a){return a.pR},q3:function(a){return a.Ma},c7:function(a){return a.dU}};
+var EWHC={Yn:function(a){return a.LC},to:function(a){return a.D5},QE:function(a){return a.Wd},vD:function(a){return a.Db}};
+var zCD5={JK:function(a){return a.Si},dH:function(a){return a.r2},S6:function(a){return a.eJ}};
+g.EWP1=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{}};
+g.K8dF=function(a,b){a.UM=b;return a;a.HS=b;if(!a)return null;if(!a)return null;return a;if(!a)return null};
+g.sukH=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var nx=a.sx(b);a.Us=b};
+g.UvC3=function(a,b){a.vK=b;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.KDoT=function(a,b){return a;a.L0=b};
+g.oww5=function(a,b){var dt=a.NZ(b);return a;return a;a.Hs=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.eiMV=function(a,b){var zn=a.Vb(b);a.Bt=b;var r5=a.cZ(b);var dd=a.B0(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.qOzB=function(a,b){b=b||{};a.c4=b;a.d6=b;a.yu=b;return a;return a};
+g.MulA=function(a,b){var tv=a.CQ(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.I7=b;var ht=a.Kb(b);a.BB=b};
+var xIvm={Up:function(a){return a.FY},Gc:function(a){return a.gj},gS:function(a){return a.tL}};
+g.WPdt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.XZ=b};
+g.Rcxv=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var XdcQ={dD:function(a){return a.Gl},cw:function(a){return a.eT},AY:function(a){return a.OF},Hg:function(a){return a.ru}};
+g.oykP=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.inX1=function(a,b){b=b||{};a.mU=b;if(!a)return null;a.B7=b;a.QS=b;var gu=a.pQ(b)};
+var DTSO={i1:function(a){return a.zp},iZ:function(a){return a.kB},RC:function(a){return a.PI}};
+g.TjeA=function(a,b){if(!a)return null;var rv=a.G2(b);if(!a)return null;a.Kf=b};
+g.nmtg=function(a,b){return a;b=b||{};if(!a)return null};
+g.Hrs0=function(a,b){var me=a.dK(b);var bh=a.vX(b);return a;b=b||{}};
+g.hJVg=function(a,b){a.ze=b;return a;return a;b=b||{};a.FC=b;var nx=a.K7(b)};
+g.puNe=function(a,b){if(!a)return null;a.jN=b;return a;a.HG=b;return a;return a};
+g.OYhd=function(a,b){a.lY=b;if(!a)return null};
+var kPEZ={Hd:function(a){return a.eK},Bt:function(a){return a.tL},mV:function(a){return a.q0}};
+g.DhUX=function(a,b){if(!a)return null;return a;b=b||{};var st=a.ST(b);var ff=a.wH(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var odrf={dH:function(a){return a.VW},DZ:function(a){return a.MO},EL:function(a){return a.t3},Hs:function(a){return a.dY},JV:function(a){return a.nP}};
+var RdIL={Le:function(a){return a.vC},ef:function(a){return a.LV},Lm:function(a){return a.M1},t0:function(a){return a.Y0},dN:function(a){return a.aV}};
+g.Nur1=function(a,b){var jr=a.E9(b);b=b||{};b=b||{};return a};
+var vpuY={aB:function(a){return a.si},vc:function(a){return a.ix},wP:function(a){return a.Ff},yD:function(a){return a.AE},yU:function(a){return a.Wa}};
+g.ZNWm=function(a,b){a.Ek=b;return a;var mw=a.fj(b);b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.M9zk=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{};a.C3=b};
+var BldW={dN:function(a){return a.F9},ja:function(a){return a.Np},l0:function(a){return a.N5}};
+g.wJlh=function(a,b){if(!a)return null;if(!a)return null;if(!a)return null;return a;a.YY=b;b=b||{};if(!a)return null};
+g.Txoi=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var iz=a.Hs(b);b=b||{};var ut=a.Ah(b);b=b||{};a.mW=b};
+g.WTQ6=function(a,b){b=b||{};a.E6=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var Zoy0={Qn:function(a){return a.F5},qG:function(a){return a.fu},En:function(a){return a.wu}};
+var bqcn={MU:function(a){return a.H7},EF:function(a){return a.dT},FM:function(a){return a.wM},VW:function(a){return a.MU}};
+var IPaA={eY:function(a){return a.w4},ZO:function(a){return a.Wi},GL:function(a){return a.Jt},qt:function(a){return a.QA},RT:function(a){return a.nN}};
+g.K7Ei=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var mk=a.fO(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;a.qE=b};
+g.apDL=function(a,b){b=b||{};if(!a)return null;a.cz=b;a.vR=b;var xz=a.ny(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.XSnn=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.y0=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.Hdk5=function(a,b){if(!a)return null;a.yt=b;b=b||{};return a};
+g.STx7=function(a,b){var za=a.RO(b);if(!a)return null};
+g.SDWx=function(a,b){a.JL=b;a.Qt=b;var hq=a.w8(b);if(!a)return null;a.Ro=b;var ti=a.Gt(b)};
+g.aFDG=function(a,b){if(!a)return null;if(!a)return null;var sh=a.KK(b)};
+g.ILeb=function(a,b){a.cL=b;for(var c=0;c<a.length;c++)b.push(a[c]);var wl=a.bF(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.d1=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+var l9Fr={nw:function(a){return a.Vb},TL:function(a){return a.jp},Iy:function(a){return a.pZ}};
+var bbSs={Bw:function(a){return a.Kw},qX:function(a){return a.Tl},nO:function(a){return a.gZ}};
+g.KkV4=function(a,b){if(!a)return null;var fz=a.lp(b);a.Yq=b;return a;if(!a)return null;a.ap=b;return a};
+g.FuBu=function(a,b){if(!a)return null;if(!a)return null};
+var m9aa={S1:function(a){return a.XM},Me:function(a){return a.Cj},DM:function(a){return a.Pv},v5:function(a){return a.pv}};
+g.hpIc=function(a,b){a.iC=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;var w3=a.XV(b);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+g.KjAd=function(a,b){return a;var tl=a.vU(b);if(!a)return null;return a;a.LW=b};
+g.skdc=function(a,b){var dr=a.yQ(b);return a};
+var r3sd={Dq:function(a){return a.NI},Ta:function(a){return a.FR},K6:function(a){return a.f2},rg:function(a){return a.Ls},Bd:function(a){return a.iQ}};
+g.TdYu=function(a,b){b=b||{};var wt=a.dK(b)};
+g.vXzd=function(a,b){var n5=a.od(b);if(!a)return null;return a};
+g.dNJk=function(a,b){if(!a)return null;a.Aw=b;a.ab=b;var bs=a.TY(b);b=b||{}};
+g.MeiR=function(a,b){return a;a.Kr=b};
+g.cSrw=function(a,b){if(!a)return null;if(!a)return null;return a;var qn=a.Bo(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var uvJH={By:function(a){return a.Kh},T6:function(a){return a.af},tn:function(a){return a.uv}};
+var rMC1={aK:function(a){return a.kS},u9:function(a){return a.ar},h4:function(a){return a.nb},pH:function(a){return a.Xj}};
+g.qwrB=function(a,b){b=b||{};a.st=b;return a;var wu=a.hT(b);var ki=a.oA(b)};
+g.RlED=function(a,b){var qw=a.I0(b);a.pd=b;var x2=a.u6(b);if(!a)return null;a.u8=b;if(!a)return null;return a};
+g.uQno=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null};
+g.ZLv0=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var pn=a.ER(b)};
+g.LWPP=function(a,b){b=b||{};var gr=a.YN(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.txuH=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var mmFo={s7:function(a){return a.ly},QA:function(a){return a.bk}};
+g.mGVZ=function(a,b){a.Rt=b;if(!a)return null;a.v5=b};
+g.Y4Vt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.JTIO=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.OS=b};
+var KXha={v2:function(a){return a.oD},xi:function(a){return a.TV}};
+g.TNZm=function(a,b){var oe=a.jQ(b);b=b||{};a.ja=b;var ly=a.Yr(b)};
+g.g0jq=function(a,b){b=b||{};a.og=b;b=b||{}};
+g.iZQW=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;return a;return a;var cx=a.TB(b)};
+g.X9Mj=function(a,b){b=b||{};return a;return a};
+g.L1r1=function(a,b){var d1=a.yU(b);b=b||{};var ei=a.pW(b);return a;b=b||{};var a9=a.So(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.v8IS=function(a,b){if(!a)return null;var fz=a.Wd(b)};
+g.rnRB=function(a,b){var fp=a.fC(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};return a};
+g.CSL4=function(a,b){if(!a)return null;a.ke=b};
+g.GGXi=function(a,b){if(!a)return null;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var hd=a.Hz(b)};
+var qjBF={Gp:function(a){return a.ql},sr:function(a){return a.O8},zW:function(a){return a.Hz},ed:function(a){return a.bq},G0:function(a){return a.cb}};
+g.TeQP=function(a,b){return a;return a;a.VX=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.BmEJ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};b=b||{};return a;return a};
+g.OLLx=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.tWI6=function(a,b){a.SC=b;if(!a)return null;return a;var gl=a.XQ(b);a.kZ=b;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.uLCl=function(a,b){return a;if(!a)return null;a.dF=b};
+var wtvD={gP:function(a){return a.rB},VZ:function(a){return a.Gx},lY:function(a){return a.RQ},Wv:function(a){return a.Xd},fm:function(a){return a.TK}};
+g.bPKn=function(a,b){b=b||{};if(!a)return null;if(!a)return null};
+var aIzA={Cb:function(a){return a.FR},RL:function(a){return a.N3},Lm:function(a){return a.AG},jr:function(a){return a.eu}};
+g.VHK7=function(a,b){b=b||{};var gr=a.C4(b)};
+g.EaKp=function(a,b){a.sl=b;if(!a)return null;return a;a.mp=b;return a};
+g.F2BG=function(a,b){a.YT=b;b=b||{};return a;var wi=a.Q7(b);if(!a)return null};
+g.c9k7=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);var pf=a.pF(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var olM4={Si:function(a){return a.SO},lW:function(a){return a.Ih},sI:function(a){return a.b3}};
+g.EPdA=function(a,b){a.OU=b;b=b||{};a.sO=b;if(!a)return null;var ou=a.k5(b);return a};
+g.aJr4=function(a,b){var gx=a.Wl(b);var gw=a.W2(b)};
+g.V8jf=function(a,b){if(!a)return null;a.cW=b;return a;b=b||{}};
+g.tFTp=function(a,b){b=b||{};b=b||{};if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;b=b||{}};
+g.uqvH=function(a,b){return a;a.fn=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;a.Ps=b};
+g.kJXh=function(a,b){b=b||{};if(!a)return null};
+g.jQOe=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.BD=b;var qt=a.PI(b)};
+g.YvoV=function(a,b){if(!a)return null;b=b||{};if(!a)return null;a.JJ=b;a.Nx=b};
+g.p6O0=function(a,b){a.HR=b;a.h3=b;var h9=a.pj(b);a.yF=b;if(!a)return null;b=b||{}};
+var iBmR={Q8:function(a){return a.ta},pu:function(a){return a.zI}};
+var DQZw={sV:function(a){return a.Va},ah:function(a){return a.U9},PI:function(a){return a.Hf},bf:function(a){return a.Q3}};
+g.x0eY=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+var QBRE={df:function(a){return a.pu},DW:function(a){return a.dY}};
+g.rNMS=function(a,b){if(!a)return null;b=b||{};if(!a)return null;if(!a)return null};
+var rgJu={pf:function(a){return a.xF},PX:function(a){return a.PV}};
+g.g4SU=function(a,b){a.R0=b;return a;var vm=a.WG(b);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var gq=a.EE(b)};
+g.r0R3=function(a,b){var l4=a.j3(b);if(!a)return null};
+g.VeIH=function(a,b){if(!a)return null;b=b||{};a.q8=b;return a;if(!a)return null;return a};
+var u1Dr={Ey:function(a){return a.Er},Ud:function(a){return a.pU},dv:function(a){return a.Di},WU:function(a){return a.WS}};
+g.T3DN=function(a,b){a.k3=b;if(!a)return null;a.Ik=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.ZJ=b;return a};
+var ztut={ZD:function(a){return a.PE},R8:function(a){return a.SY},Z9:function(a){return a.Lu},ut:function(a){return a.eg},TD:function(a){return a.Az}};
+var orq4={kU:function(a){return a.KC},e0:function(a){return a.zJ},q3:function(a){return a.RD}};
+g.fcyZ=function(a,b){b=b||{};a.DE=b};
+g.jrqD=function(a,b){if(!a)return null;var bl=a.dG(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+g.uXkC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);var ar=a.dM(b);var gp=a.K7(b);if(!a)return null};
+g.aGWv=function(a,b){b=b||{};b=b||{};a.ZH=b;var ec=a.Uh(b);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};a.wW=b};
+g.cxea=function(a,b){b=b||{};return a;return a;return a};
+g.QipR=function(a,b){a.Td=b;if(!a)return null;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;if(!a)return null};
+var MrTI={Df:function(a){return a.gU},mj:function(a){return a.wh}};
+g.jQF8=function(a,b){if(!a)return null;b=b||{};return a;b=b||{};return a};
+g.UtYE=function(a,b){b=b||{};var w7=a.EL(b);a.qR=b;var jx=a.nB(b)};
+var tTSi={Qh:function(a){return a.JP},sg:function(a){return a.yL}};
+var aSM1={l8:function(a){return a.N3},HL:function(a){return a.tU},Ax:function(a){return a.qP},Aj:function(a){return a.qb}};
+g.RxfC=function(a,b){b=b||{};a.mP=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.RJJu=function(a,b){a.lS=b;var xz=a.vh(b);a.jw=b;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.lpCb=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{};var fl=a.xv(b)};
+g.PoRQ=function(a,b){if(!a)return null;b=b||{};b=b||{};var tq=a.Q2(b);if(!a)return null};
+g.zTfM=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.QmBU=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.GgBr=function(a,b){return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.wV=b;a.VX=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.gh=b};
+var lbqX={Zn:function(a){return a.Yl},Lo:function(a){return a.w9},GW:function(a){return a.HD},HK:function(a){return a.IE},cL:function(a){return a.U7}};
+g.ckWt=function(a,b){var so=a.fa(b);for(var c=0;c<a.length;c++)b.push(a[c]);a.N3=b;b=b||{};if(!a)return null};
+g.avIm=function(a,b){b=b||{};return a;b=b||{};var od=a.Go(b)};
+var qCy9={Xl:function(a){return a.rH},Dc:function(a){return a.Nl}};
+var eOIG={sl:function(a){return a.Oz},lC:function(a){return a.HY},R4:function(a){return a.tF}};
+var T9sO={i1:function(a){return a.Vu},j2:function(a){return a.zM},pS:function(a){return a.YW},jp:function(a){return a.hN}};
+var HQNY={fc:function(a){return a.ar},Yv:function(a){return a.mu},BP:function(a){return a.zz},lv:function(a){return a.Hb}};
+g.tRTO=function(a,b){if(!a)return null;a.xY=b;a.kb=b};
+g.EjR5=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var eu=a.uY(b)};
+var wbU4={Iy:function(a){return a.gV},At:function(a){return a.Z2},Gn:function(a){return a.Vy},W5:function(a){return a.eQ}};
+g.V1jm=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.uE=b;return a};
+var UyzZ={ff:function(a){return a.lr},p3:function(a){return a.Cx},Zr:function(a){return a.wU},mX:function(a){return a.GQ},is:function(a){return a.NS}};
+g.oYmb=function(a,b){a.Wl=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.gQgk=function(a,b){return a;return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.qAkU=function(a,b){return a;b=b||{};a.cF=b;a.n8=b;b=b||{};if(!a)return null};
+var nrhM={qC:function(a){return a.oy},s6:function(a){return a.LB},b1:function(a){return a.Je},ty:function(a){return a.Mw}};
+g.fjOK=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);return a;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c]);var w6=a.Ks(b);a.yz=b};
+g.FSo2=function(a,b){var je=a.sE(b);if(!a)return null};
+g.hZSb=function(a,b){if(!a)return null;var om=a.D8(b);var t2=a.P5(b);return a;if(!a)return null;var wf=a.vL(b);return a};
+g.Z2YB=function(a,b){var ku=a.Il(b);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.M1Y3=function(a,b){var uw=a.Do(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.tWqz=function(a,b){var ld=a.uK(b);var e0=a.wM(b);b=b||{};a.pQ=b;var hd=a.ti(b);b=b||{}};
+g.QOKa=function(a,b){if(!a)return null;var uw=a.mA(b);if(!a)return null;return a;if(!a)return null};
+g.ivg4=function(a,b){if(!a)return null;a.kX=b;if(!a)return null;b=b||{};var b1=a.aO(b)};
+g.vJV1=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};b=b||{};return a};
+g.EtAf=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var mq=a.ku(b);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var y1Br={KM:function(a){return a.T7},Mp:function(a){return a.mw},u9:function(a){return a.IL},Gn:function(a){return a.Mj}};
+g.uiZ8=function(a,b){a.eB=b;var rn=a.EW(b);a.Rr=b};
+var BqUs={GQ:function(a){return a.fB},hA:function(a){return a.j9},rj:function(a){return a.gd},R4:function(a){return a.tB}};
+var MKWn={rV:function(a){return a.fS},Ii:function(a){return a.Ns}};
+var yzYr={Vb:function(a){return a.hS},BP:function(a){return a.Px},cV:function(a){return a.la}};
+g.LJJw=function(a,b){b=b||{};b=b||{};var s4=a.iQ(b);return a;b=b||{};if(!a)return null;a.yI=b};
+g.aFsL=function(a,b){b=b||{};var xk=a.LW(b)};
+g.GagY=function(a,b){var ro=a.gh(b);if(!a)return null;b=b||{};var ra=a.yu(b)};
+var eVsl={f4:function(a){return a.xe},QG:function(a){return a.c5},rP:function(a){return a.rQ},bp:function(a){return a.r1},de:function(a){return a.mj}};
+var YOXM={SY:function(a){return a.yn},H5:function(a){return a.qe},rg:function(a){return a.wp},bq:function(a){return a.gJ}};
+var f4nT={Pk:function(a){return a.gj},wb:function(a){return a.mB},v8:function(a){return a.TU},MG:function(a){return a.gB},qx:function(a){return a.ae}};
+g.O9iM=function(a,b){return a;var mx=a.AS(b);b=b||{};var bc=a.GW(b);return a;a.RE=b};
+g.IJCG=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.pK=b;return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.rdh4=function(a,b){b=b||{};b=b||{};b=b||{};b=b||{}};
+g.yyZ1=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.I3=b};
+g.CvH7=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.to=b};
+g.yMi7=function(a,b){var ce=a.eG(b);a.pK=b;b=b||{};if(!a)return null;b=b||{};b=b||{};a.uF=b};
+var UyBw={dJ:function(a){return a.OJ},q1:function(a){return a.sx},gu:function(a){return a.n4},lZ:function(a){return a.kG}};
+g.nFhH=function(a,b){if(!a)return null;b=b||{};b=b||{};var op=a.z3(b)};
+g.amyC=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;var y5=a.jC(b);for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null};
+var XAsl={Pk:function(a){return a.jx},Tt:function(a){return a.QP},ba:function(a){return a.vf},iH:function(a){return a.XW}};
+g.OCfT=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.mz=b;for(var c=0;c<a.length;c++)b.push(a[c]);return a;b=b||{}};
+var Dijd={Vt:function(a){return a.Vn},bz:function(a){return a.xl},UR:function(a){return a.le},O0:function(a){return a.mB}};
+g.KEHY=function(a,b){b=b||{};b=b||{};return a;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.UIgI=function(a,b){b=b||{};var xu=a.nv(b)};
+g.wHpv=function(a,b){var ed=a.G3(b);if(!a)return null};
+var flTA={h0:function(a){return a.DW},el:function(a){return a.Zd},jF:function(a){return a.KG},nH:function(a){return a.cK},hX:function(a){return a.eE}};
+var HTXB={CS:function(a){return a.KY},gv:function(a){return a.K4},RO:function(a){return a.aj},TG:function(a){return a.OP},qh:function(a){return a.Sb}};
+var WQVd={G8:function(a){return a.CP},Ky:function(a){return a.id},x4:function(a){return a.oc}};
+var xLPm={qB:function(a){return a.qW},oL:function(a){return a.wI},ow:function(a){return a.nz},cE:function(a){return a.pW},xn:function(a){return a.sN}};
+g.b5HZ=function(a,b){return a;var uw=a.Ye(b);a.LW=b;var mn=a.vD(b);if(!a)return null;b=b||{};if(!a)return null};
+g.vXL4=function(a,b){var mc=a.j7(b);var wg=a.tm(b);a.K0=b};
+g.H4mT=function(a,b){return a;b=b||{};var ig=a.dc(b)};
+g.pCSn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);a.YE=b;var ql=a.jE(b)};
+g.gJQS=function(a,b){b=b||{};return a};
+g.msfd=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var au=a.K3(b);a.gD=b;a.yF=b};
+g.Mdyw=function(a,b){var aj=a.W4(b);return a;b=b||{};var qz=a.DZ(b);if(!a)return null;var p1=a.P8(b);b=b||{}};
+var rgaW={F5:function(a){return a.qD},MH:function(a){return a.yi},R8:function(a){return a.Kc},bp:function(a){return a.BA},vg:function(a){return a.yT}};
+g.VxdC=function(a,b){var ps=a.fI(b);for(var c=0;c<a.length;c++)b.push(a[c]);var pt=a.IX(b);a.x6=b;a.mX=b;return a};
+var GbJn={LN:function(a){return a.JU},at:function(a){return a.lN},O6:function(a){return a.K0},AF:function(a){return a.iS}};
+g.LwlA=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{}};
+g.XCZY=function(a,b){return a;var yu=a.B8(b);if(!a)return null;return a};
+g.ctSU=function(a,b){a.pg=b;var hs=a.PA(b);var cy=a.Kw(b);if(!a)return null};
+g.rNqs=function(a,b){return a;return a};
+g.f3IB=function(a,b){if(!a)return null;if(!a)return null;a.G9=b;var by=a.WQ(b);for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.UWBp=function(a,b){if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.bYOK=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;for(var c=0;c<a.length;c++)b.push(a[c]);a.aj=b;var j6=a.lv(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.P6DU=function(a,b){var y8=a.Ia(b);return a;a.a5=b;a.uZ=b;b=b||{}};
+g.QlYt=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);var dv=a.FM(b);var qw=a.Wb(b);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.u1=b};
+g.dIrH=function(a,b){b=b||{};a.as=b};
+g.B6tW=function(a,b){if(!a)return null;var wy=a.bM(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.jRF1=function(a,b){return a;a.vv=b};
+var Jhi1={NR:function(a){return a.FS},Si:function(a){return a.iE}};
+g.EnGJ=function(a,b){return a;a.l6=b;a.a8=b;for(var c=0;c<a.length;c++)b.push(a[c]);a.Re=b;b=b||{}};
+var JhTH={GW:function(a){return a.gZ},Y2:function(a){return a.aV}};
+g.oKhR=function(a,b){return a;if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.TeeY=function(a,b){a.TT=b;var bi=a.Gy(b);var sq=a.Sr(b);if(!a)return null};
+g.c1O3=function(a,b){var i5=a.dm(b);a.zP=b;if(!a)return null;return a};
+g.YwbQ=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);var za=a.k7(b);b=b||{};return a};
+var U1GO={gk:function(a){return a.J0},ow:function(a){return a.cF},ai:function(a){return a.om},zP:function(a){return a.iU},r5:function(a){return a.Pq}};
+g.Jprq=function(a,b){b=b||{};var di=a.BY(b);return a;a.yL=b};
+g.h6ev=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var lx=a.M1(b);b=b||{}};
+g.YIM0=function(a,b){return a;a.nH=b;return a;a.WE=b};
+var dkGE={OG:function(a){return a.vd},K4:function(a){return a.ge},ia:function(a){return a.E7},m5:function(a){return a.l2},Rr:function(a){return a.n5}};
+g.rEh8=function(a,b){var nt=a.zJ(b);if(!a)return null;a.HU=b};
+g.kVtt=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);var m0=a.eU(b);if(!a)return null;a.za=b;b=b||{};return a};
+var rmRe={Wj:function(a){return a.JY},vB:function(a){return a.bM},zZ:function(a){return a.j6},Nf:function(a){return a.GM}};
+var daVf={C8:function(a){return a.jI},Y5:function(a){return a.SD},pV:function(a){return a.g1}};
+g.rXxu=function(a,b){var wg=a.fT(b);if(!a)return null;var vg=a.EH(b)};
+g.X6eU=function(a,b){var zd=a.KU(b);if(!a)return null;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c])};
+var E4hi={la:function(a){return a.z9},ov:function(a){return a.oJ},bw:function(a){return a.d5}};
+var Gkn7={g5:function(a){return a.ZC},pZ:function(a){return a.wU},x9:function(a){return a.Co},i5:function(a){return a.IQ},Az:function(a){return a.jI}};
+var cLp8={oo:function(a){return a.RK},Wr:function(a){return a.FV}};
+var Ntdl={ks:function(a){return a.e3},pw:function(a){return a.Es},sO:function(a){return a.jI}};
+var VUp8={Hr:function(a){return a.Lp},LC:function(a){return a.yt}};
+var BYqt={qx:function(a){return a.M5},zo:function(a){return a.tC},Oz:function(a){return a.nO}};
+var ZVs1={Bq:function(a){return a.Dc},dZ:function(a){return a.Hy}};
+g.IyOn=function(a,b){return a;return a;return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+g.I6Fa=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.fc=b};
+g.PVzl=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);a.Nm=b;b=b||{};return a;if(!a)return null;var ho=a.t8(b);b=b||{}};
+g.bWif=function(a,b){if(!a)return null;return a};
+g.UFqt=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a;var tf=a.pb(b);b=b||{}};
+g.uPpu=function(a,b){for(var c=0;c<a.length;c++)b.push(a[c]);if(!a)return null;if(!a)return null;if(!a)return null};
+var K6xd={RX:function(a){return a.Ht},cJ:function(a){return a.Xk},cJ:function(a){return a.yk},o3:function(a){return a.FZ}};
+var nmNR={sG:function(a){return a.ly},OM:function(a){return a.kL}};
+g.UeU0=function(a,b){return a;var au=a.VO(b);b=b||{};b=b||{}};
+g.jPED=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);var w1=a.EU(b);a.t4=b;b=b||{}};
+g.xiqm=function(a,b){var wi=a.Sr(b);for(var c=0;c<a.length;c++)b.push(a[c])};
+g.F3Ky=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c])};
+var Tgv7={NV:function(a){return a.Yx},xO:function(a){return a.gd},UD:function(a){return a.nW},tU:function(a){return a.fx},oB:function(a){return a.By}};
+g.tmJK=function(a,b){b=b||{};a.Qi=b;return a};
+g.hjxz=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};if(!a)return null;return a};
+g.h1nM=function(a,b){return a;a.NL=b};
+g.N5b0=function(a,b){a.mW=b;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);a.YE=b;b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.mY=b};
+var JoSw={Tw:function(a){return a.rk},L9:function(a){return a.DD},nQ:function(a){return a.qH},oJ:function(a){return a.kf}};
+var aZFR={vn:function(a){return a.dJ},JC:function(a){return a.YP},jX:function(a){return a.YA},aS:function(a){return a.tj},uE:function(a){return a.bw}};
+var VrJe={Mr:function(a){return a.bo},br:function(a){return a.Mw},JD:function(a){return a.xK},Er:function(a){return a.Ue},n2:function(a){return a.IO}};
+g.bZrh=function(a,b){if(!a)return null;var pe=a.Ob(b)};
+g.VOZH=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+var RmAA={eG:function(a){return a.iP},Ny:function(a){return a.PN},hH:function(a){return a.EV}};
+g.sMRw=function(a,b){b=b||{};b=b||{};var gx=a.NQ(b);var fo=a.z5(b)};
+g.Gstj=function(a,b){return a;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c])};
+var oMBd={Pq:function(a){return a.yA},GF:function(a){return a.rk}};
+g.oech=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);return a;if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);for(var c=0;c<a.length;c++)b.push(a[c]);return a};
+g.PLgI=function(a,b){b=b||{};for(var c=0;c<a.length;c++)b.push(a[c]);a.pd=b;var hq=a.Sx(b);a.eh=b};
+var avFl={UJ:function(a){return a.kI},wT:function(a){return a.Cx},hJ:function(a){return a.rt},Mm:function(a){return a.yV}};
+g.aXSW=function(a,b){b=b||{};var kp=a.xb(b)};
+g.YCJn=function(a,b){if(!a)return null;for(var c=0;c<a.length;c++)b.push(a[c]);b=b||{};var ze=a.hn(b);for(var c=0;c<a.length;c++)b.push(a[c]);var ar=a.mV(b)};
+var qre1={Uy:function(a){return a.ru},v5:function(a){return a.Bl},Gs:function(a){return a.V3}};
+g.BPKy=function(a,b){return a;var oc=a.uZ(b);a.rn=b;if(!a)return null;if(!a)return null;return a};
+})(_yt_player);
@@ -0,0 +1,57 @@
+package my.cute.parser.youtube;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * a {@link PageFetcher.Response} whose body has already been read into memory. the whole body
+ * counts as received, but only what's been read from {@link #body()} counts as read
+ */
+class BufferedResponse implements PageFetcher.Response {
+
+	private final CountingInputStream body;
+	private final long wireBytes;
+
+	BufferedResponse(byte[] body) {
+		this(body, body.length);
+	}
+
+	/**
+	 * @param body the decoded body
+	 * @param wireBytes the size of the body as it was received
+	 */
+	BufferedResponse(byte[] body, long wireBytes) {
+		this.body = new CountingInputStream(new ByteArrayInputStream(body));
+		this.wireBytes = wireBytes;
+	}
+
+	@Override
+	public InputStream body() {
+		return this.body;
+	}
+
+	@Override
+	public long contentLength() {
+		return this.wireBytes;
+	}
+
+	@Override
+	public long wireBytes() {
+		return this.wireBytes;
+	}
+
+	@Override
+	public long decodedBytes() {
+		return this.body.getCount();
+	}
+
+	@Override
+	public void abort() {
+		//nothing to drop
+	}
+
+	@Override
+	public void close() {
+		//nothing to release
+	}
+}
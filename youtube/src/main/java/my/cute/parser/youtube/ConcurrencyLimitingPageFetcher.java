@@ -0,0 +1,303 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link PageFetcher} decorator that limits how many requests are in flight to each host at once,
+ * adjusting each host's limit as it goes (additive increase, multiplicative decrease). requests
+ * over the limit wait in a bounded per-host queue, and the time spent waiting comes out of their
+ * timeout. see {@link YoutubeParserBuilder#concurrencyLimit(int, int)}
+ * <p>
+ * a host's limit grows by about one for every limit's worth of successful requests, as long as
+ * the limit is actually being used. it's halved when the host pushes back (429, any 5xx, or a
+ * timeout), and cut by a tenth when a request takes much longer than the host's recent average,
+ * which is usually the first sign of throttling. the limit never drops below one
+ * <p>
+ * a sync request holds its slot until its response comes back, not while its body is read:
+ * watch pages are processed as they stream in, and processing can need player js from the same
+ * host, which would otherwise wait on a slot held by the page that needs it (forever, once every
+ * slot is held that way). its latency is the time until the response came back. an async request
+ * holds its slot until its whole body has arrived, since nothing is fetched while it's waiting
+ */
+class ConcurrencyLimitingPageFetcher implements PageFetcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitingPageFetcher.class);
+
+	static final int INITIAL_LIMIT = 4;
+	private static final double BACKOFF = 0.5;
+	private static final double LATENCY_BACKOFF = 0.9;
+	/*
+	 * a request counts as slow once it takes this many times the average
+	 */
+	private static final double LATENCY_TOLERANCE = 2;
+	/*
+	 * weight of each new sample in the average latency, and how many samples are needed before
+	 * it's trusted
+	 */
+	private static final double LATENCY_SMOOTHING = 0.1;
+	private static final int LATENCY_WARMUP = 10;
+
+	private final PageFetcher delegate;
+	private final int maxLimit;
+	private final int maxQueued;
+	private final ConcurrentHashMap<String, HostLimit> hosts = new ConcurrentHashMap<>();
+
+	/**
+	 * @param delegate the fetcher to limit
+	 * @param maxLimit the most requests that will ever be in flight to one host at once
+	 * @param maxQueued the most requests that can wait for a slot for one host. requests beyond
+	 * that fail straight away
+	 */
+	ConcurrencyLimitingPageFetcher(PageFetcher delegate, int maxLimit, int maxQueued) {
+		this.delegate = delegate;
+		this.maxLimit = maxLimit;
+		this.maxQueued = maxQueued;
+	}
+
+	@Override
+	public Response fetch(URL url, int timeoutMillis) throws IOException {
+		HostLimit host = this.host(url);
+		long queued = System.nanoTime();
+		host.await(host.acquire(), timeoutMillis);
+		long start = System.nanoTime();
+		int left = timeLeft(timeoutMillis, start - queued);
+		if(left < 0) {
+			//handed a slot just as the wait timed out, with no time left to use it
+			host.release(null, -1);
+			throw host.timedOut();
+		}
+		Response response;
+		try {
+			response = this.delegate.fetch(url, left);
+		} catch (IOException | RuntimeException e) {
+			host.release(e, -1);
+			throw e;
+		}
+		host.release(null, System.nanoTime() - start);
+		return response;
+	}
+
+	@Override
+	public CompletableFuture<Response> fetchAsync(URL url, int timeoutMillis) {
+		HostLimit host = this.host(url);
+		long queued = System.nanoTime();
+		CompletableFuture<Void> slot = host.acquire();
+		if(slot == null) return CompletableFuture.failedFuture(host.rejected());
+		if(!slot.isDone() && timeoutMillis > 0) {
+			slot.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).exceptionally(throwable -> {
+				host.cancel(slot);
+				return null;
+			});
+		}
+		return slot
+				.exceptionally(throwable -> {
+					throw new CompletionException(host.timedOut());
+				})
+				.thenCompose(ignored -> {
+					long start = System.nanoTime();
+					int left = timeLeft(timeoutMillis, start - queued);
+					if(left < 0) {
+						host.release(null, -1);
+						return CompletableFuture.failedFuture(host.timedOut());
+					}
+					CompletableFuture<Response> response;
+					try {
+						response = this.delegate.fetchAsync(url, left);
+					} catch (RuntimeException e) {
+						response = CompletableFuture.failedFuture(e);
+					}
+					return response.whenComplete((result, throwable) -> host.release(throwable, System.nanoTime() - start));
+				});
+	}
+
+	/**
+	 * @param timeoutMillis the timeout for a request, 0 for none
+	 * @param waitedNanos how long the request waited for a slot
+	 * @return what's left of the timeout for the request itself: 0 if there was no timeout, or -1
+	 * if there's none left
+	 */
+	static int timeLeft(int timeoutMillis, long waitedNanos) {
+		if(timeoutMillis <= 0) return 0;
+		long left = timeoutMillis - TimeUnit.NANOSECONDS.toMillis(waitedNanos);
+		return left > 0 ? (int) left : -1;
+	}
+
+	private HostLimit host(URL url) {
+		return this.hosts.computeIfAbsent(url.getHost(), HostLimit::new);
+	}
+
+	/**
+	 * @return the current limit for the given host, or -1 if nothing has been fetched from it
+	 */
+	int getLimit(String host) {
+		HostLimit limit = this.hosts.get(host);
+		return limit == null ? -1 : limit.getLimit();
+	}
+
+	/**
+	 * @return true if the given failure means the host is overloaded or throttling us
+	 */
+	static boolean isOverload(Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+				? throwable.getCause() : throwable;
+		if(cause instanceof HttpStatusException) {
+			int status = ((HttpStatusException) cause).getStatusCode();
+			return status == 429 || status >= 500;
+		}
+		return cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException;
+	}
+
+	/**
+	 * the limit and queue for one host
+	 */
+	private final class HostLimit {
+
+		private final String host;
+		private double limit = Math.min(INITIAL_LIMIT, ConcurrencyLimitingPageFetcher.this.maxLimit);
+		private int inFlight = 0;
+		private double averageNanos = 0;
+		private int samples = 0;
+		private final ArrayDeque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+
+		HostLimit(String host) {
+			this.host = host;
+		}
+
+		synchronized int getLimit() {
+			return (int) this.limit;
+		}
+
+		/**
+		 * @return a future that completes when the caller has a slot (already complete if one was
+		 * free), or null if the queue is full
+		 */
+		synchronized CompletableFuture<Void> acquire() {
+			if(this.inFlight < (int) this.limit) {
+				this.inFlight++;
+				return CompletableFuture.completedFuture(null);
+			}
+			if(this.waiting.size() >= ConcurrencyLimitingPageFetcher.this.maxQueued) return null;
+			CompletableFuture<Void> slot = new CompletableFuture<>();
+			this.waiting.add(slot);
+			logger.debug("QX queued request to " + this.host + ", " + this.waiting.size() + " waiting");
+			return slot;
+		}
+
+		/**
+		 * blocks until the given slot is free
+		 * @param slot from {@link #acquire()}
+		 * @param timeoutMillis how long to wait, 0 for no limit
+		 * @throws IOException if the queue was full, the wait timed out, or the thread was
+		 * interrupted
+		 */
+		void await(CompletableFuture<Void> slot, int timeoutMillis) throws IOException {
+			if(slot == null) throw this.rejected();
+			if(slot.isDone()) return;
+			try {
+				if(timeoutMillis > 0) {
+					slot.get(timeoutMillis, TimeUnit.MILLISECONDS);
+				} else {
+					slot.get();
+				}
+			} catch (TimeoutException e) {
+				if(this.cancel(slot)) throw this.timedOut();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				if(this.cancel(slot)) throw new InterruptedIOException("interrupted waiting for a slot for " + this.host);
+			} catch (ExecutionException e) {
+				throw new AssertionError(e);
+			}
+		}
+
+		/**
+		 * gives up on a slot that hasn't been handed out yet
+		 * @return true if the slot was given up, false if it had already been handed out, in which
+		 * case the caller has it after all
+		 */
+		boolean cancel(CompletableFuture<Void> slot) {
+			synchronized(this) {
+				this.waiting.remove(slot);
+			}
+			//fails if it was handed out in the meantime
+			return slot.completeExceptionally(new TimeoutException());
+		}
+
+		IOException rejected() {
+			logger.warn(ConcurrencyLimitingPageFetcher.this + ": too many requests queued for " + this.host
+					+ ", rejecting");
+			return new IOException("too many requests queued for " + this.host);
+		}
+
+		IOException timedOut() {
+			return new SocketTimeoutException("timed out waiting for a slot for " + this.host);
+		}
+
+		/**
+		 * frees a slot, adjusting the limit for how the request went, and hands it (plus any
+		 * others the limit now allows) to waiting requests
+		 * @param failure what the request failed with, or null if it succeeded
+		 * @param nanos how long the request took, or -1 if it didn't get as far as a response
+		 */
+		void release(Throwable failure, long nanos) {
+			List<CompletableFuture<Void>> next = new ArrayList<>();
+			synchronized(this) {
+				this.inFlight--;
+				if(failure == null) {
+					this.sample(nanos);
+				} else if (isOverload(failure)) {
+					this.backOff(BACKOFF, failure.toString());
+				}
+				while(this.inFlight < (int) this.limit && !this.waiting.isEmpty()) {
+					next.add(this.waiting.poll());
+					this.inFlight++;
+				}
+			}
+			for(CompletableFuture<Void> slot : next) {
+				//if the waiter gave up just now, pass its slot on
+				if(!slot.complete(null)) this.release(null, -1);
+			}
+		}
+
+		private void sample(long nanos) {
+			if(nanos < 0) return;
+			boolean slow = this.samples >= LATENCY_WARMUP && nanos > this.averageNanos * LATENCY_TOLERANCE;
+			this.averageNanos = this.samples == 0 ? nanos
+					: this.averageNanos + (nanos - this.averageNanos) * LATENCY_SMOOTHING;
+			this.samples++;
+			if(slow) {
+				this.backOff(LATENCY_BACKOFF, "slow response (" + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms)");
+			} else if (this.inFlight * 2 >= (int) this.limit) {
+				//only grow a limit that's actually being used
+				int before = (int) this.limit;
+				this.limit = Math.min(this.limit + 1 / this.limit, ConcurrencyLimitingPageFetcher.this.maxLimit);
+				if((int) this.limit != before) logger.debug("QX raised limit for " + this.host + " to " + (int) this.limit);
+			}
+		}
+
+		private void backOff(double ratio, String reason) {
+			this.limit = Math.max(1, this.limit * ratio);
+			logger.debug("QX lowered limit for " + this.host + " to " + (int) this.limit + " after " + reason);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConcurrencyLimitingPageFetcher[max=" + this.maxLimit + ", queue=" + this.maxQueued + "]";
+	}
+}
@@ -0,0 +1,134 @@
+package my.cute.parser.youtube;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * http content coding support for the {@link PageFetcher} implementations. watch pages and player
+ * js are mostly text and compress very well, so both fetchers ask for gzip or deflate and decode
+ * the body as it's read
+ */
+final class ContentEncoding {
+
+	/**
+	 * value sent in the <code>Accept-Encoding</code> header of every request
+	 */
+	static final String ACCEPT_ENCODING = "gzip, deflate";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private ContentEncoding() {}
+
+	/**
+	 * wraps the given body in a stream that decodes it according to the given content coding
+	 * @param body the body as received
+	 * @param contentEncoding the value of the response's <code>Content-Encoding</code> header, or
+	 * null if it didn't have one
+	 * @return stream over the decoded body. an empty body (eg a 204 response) is left empty, 
+	 * since it has no header to decode
+	 * @throws IOException if the content coding isn't supported, or the body's header couldn't be
+	 * read
+	 */
+	static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+		if(contentEncoding == null) return body;
+		switch(contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+		case "":
+		case "identity":
+			return body;
+		case "gzip":
+		case "x-gzip": {
+			PushbackInputStream pushback = new PushbackInputStream(body, 1);
+			int first = pushback.read();
+			if(first == -1) return pushback;
+			pushback.unread(first);
+			return new GZIPInputStream(pushback, BUFFER_SIZE);
+		}
+		case "deflate":
+			return inflate(body);
+		default:
+			throw new IOException("unsupported content encoding " + contentEncoding);
+		}
+	}
+
+	/**
+	 * decodes a body that has already been read in full
+	 * @see #decode(InputStream, String)
+	 */
+	static byte[] decode(byte[] body, String contentEncoding) throws IOException {
+		if(contentEncoding == null || body.length == 0) return body;
+		try (InputStream decoded = decode(new ByteArrayInputStream(body), contentEncoding)) {
+			return decoded.readAllBytes();
+		}
+	}
+
+	/**
+	 * "deflate" is supposed to mean zlib-wrapped deflate, but some servers send raw deflate data
+	 * instead, so check for a zlib header first
+	 */
+	private static InputStream inflate(InputStream body) throws IOException {
+		PushbackInputStream pushback = new PushbackInputStream(body, 2);
+		byte[] header = pushback.readNBytes(2);
+		if(header.length == 0) return pushback;
+		pushback.unread(header);
+		boolean zlib = header.length == 2 && (header[0] & 0x0f) == 8 
+				&& (((header[0] & 0xff) << 8) | (header[1] & 0xff)) % 31 == 0;
+		Inflater inflater = new Inflater(!zlib);
+		return new InflaterInputStream(pushback, inflater, BUFFER_SIZE) {
+			@Override
+			public void close() throws IOException {
+				//a custom inflater isn't released by InflaterInputStream itself
+				try {
+					super.close();
+				} finally {
+					inflater.end();
+				}
+			}
+		};
+	}
+
+	/**
+	 * a response body being decoded as it's read, with counts of how many bytes have been read on
+	 * each side of the decoding
+	 */
+	static final class DecodedBody {
+
+		private final CountingInputStream wire;
+		private final CountingInputStream decoded;
+
+		/**
+		 * @param body the body as received. closed if it can't be decoded
+		 * @param contentEncoding see {@link ContentEncoding#decode(InputStream, String)}
+		 * @throws IOException if the body can't be decoded
+		 */
+		DecodedBody(InputStream body, String contentEncoding) throws IOException {
+			this.wire = new CountingInputStream(body);
+			try {
+				this.decoded = new CountingInputStream(decode(this.wire, contentEncoding));
+			} catch (IOException e) {
+				body.close();
+				throw e;
+			}
+		}
+
+		/**
+		 * @return the decoded body
+		 */
+		InputStream stream() {
+			return this.decoded;
+		}
+
+		long getWireBytes() {
+			return this.wire.getCount();
+		}
+
+		long getDecodedBytes() {
+			return this.decoded.getCount();
+		}
+	}
+}
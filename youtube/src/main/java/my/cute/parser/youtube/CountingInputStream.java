@@ -0,0 +1,50 @@
+package my.cute.parser.youtube;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * input stream wrapper that keeps track of how many bytes have been read through it
+ */
+class CountingInputStream extends FilterInputStream {
+
+	private long count = 0;
+
+	CountingInputStream(InputStream in) {
+		super(in);
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if(b != -1) this.count++;
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int read = super.read(b, off, len);
+		if(read > 0) this.count += read;
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(n);
+		if(skipped > 0) this.count += skipped;
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	/**
+	 * @return the number of bytes read (or skipped) through this stream so far
+	 */
+	long getCount() {
+		return this.count;
+	}
+}
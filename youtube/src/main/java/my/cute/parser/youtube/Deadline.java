@@ -0,0 +1,198 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * an end-to-end time limit for a parse, which can also be ended early by cancelling it. every
+ * fetch made through {@link #wrap(PageFetcher)} gets no more than the time that's left as its
+ * timeout, and fails straight away once the deadline has ended. any response still open when
+ * it ends is aborted, which closes its socket, so a parse stuck reading a slow page stops there
+ * and then rather than when its read timeout finally fires
+ */
+final class Deadline {
+
+	private static final Logger logger = LoggerFactory.getLogger(Deadline.class);
+
+	/**
+	 * no limit: fetches keep the timeout they're given and nothing is tracked
+	 */
+	static final Deadline NONE = new Deadline(0);
+
+	private final long endNanos;
+	/*
+	 * completes when the deadline passes or is cancelled. never completes for NONE
+	 */
+	private final CompletableFuture<Void> ended = new CompletableFuture<>();
+	private final Set<PageFetcher.Response> open = new HashSet<>();
+	private boolean cancelled = false;
+
+	private Deadline(long endNanos) {
+		this.endNanos = endNanos;
+	}
+
+	/**
+	 * @param budget how long from now until the deadline
+	 * @return a deadline that ends when the given time is up
+	 */
+	static Deadline after(Duration budget) {
+		long nanos = budget.toNanos();
+		Deadline deadline = new Deadline(System.nanoTime() + nanos);
+		CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS).execute(() -> deadline.end(false));
+		return deadline;
+	}
+
+	/**
+	 * ends the deadline now, aborting anything still being fetched under it
+	 */
+	void cancel() {
+		if(this != NONE) this.end(true);
+	}
+
+	private void end(boolean cancel) {
+		List<PageFetcher.Response> responses;
+		synchronized(this) {
+			if(this.ended.isDone()) return;
+			this.cancelled = cancel;
+			responses = new ArrayList<>(this.open);
+			this.open.clear();
+		}
+		this.ended.complete(null);
+		if(!responses.isEmpty())
+			logger.debug("QX " + (cancel ? "cancelled" : "deadline passed") + ", aborting " + responses.size() + " open responses");
+		for(PageFetcher.Response response : responses) {
+			try {
+				response.abort();
+			} catch (RuntimeException e) {
+				logger.debug("QX error aborting response", e);
+			}
+		}
+	}
+
+	/**
+	 * @return true if the deadline has passed or been cancelled. always false for {@link #NONE}
+	 */
+	boolean hasEnded() {
+		return this.ended.isDone();
+	}
+	
+	/**
+	 * @throws IOException if the deadline has ended: a {@link SocketTimeoutException} if it
+	 * passed, an {@link InterruptedIOException} if it was cancelled
+	 */
+	void check() throws IOException {
+		if(!this.ended.isDone()) return;
+		synchronized(this) {
+			if(this.cancelled) throw new InterruptedIOException("parse cancelled");
+		}
+		throw new SocketTimeoutException("parse deadline passed");
+	}
+
+	/**
+	 * @param timeoutMillis the timeout a fetch would normally get, 0 for none
+	 * @return the timeout to use instead: the given one or the time left, whichever is shorter
+	 * @throws IOException if the deadline has ended
+	 */
+	int timeout(int timeoutMillis) throws IOException {
+		this.check();
+		if(this == NONE) return timeoutMillis;
+		long left = TimeUnit.NANOSECONDS.toMillis(this.endNanos - System.nanoTime());
+		if(left <= 0) {
+			this.end(false);
+			this.check();
+		}
+		return (int) (timeoutMillis <= 0 ? Math.min(left, Integer.MAX_VALUE) : Math.min(timeoutMillis, left));
+	}
+
+	/**
+	 * waits for the given future, or for the deadline to end, whichever comes first
+	 * @return the future's result, or null if the deadline ended first
+	 * @throws java.util.concurrent.CompletionException if the future failed
+	 */
+	<T> T await(CompletableFuture<T> future) {
+		if(this != NONE) CompletableFuture.anyOf(future, this.ended).join();
+		return future.isDone() || this == NONE ? future.join() : null;
+	}
+
+	/**
+	 * @return a fetcher that fetches through the given one under this deadline
+	 */
+	PageFetcher wrap(PageFetcher fetcher) {
+		if(this == NONE) return fetcher;
+		return (url, timeoutMillis) -> this.track(fetcher.fetch(url, this.timeout(timeoutMillis)));
+	}
+
+	private PageFetcher.Response track(PageFetcher.Response response) throws IOException {
+		synchronized(this) {
+			if(!this.ended.isDone()) {
+				this.open.add(response);
+				return new TrackedResponse(response);
+			}
+		}
+		response.abort();
+		this.check();
+		throw new AssertionError("deadline ended but check passed");
+	}
+
+	private synchronized void untrack(PageFetcher.Response response) {
+		this.open.remove(response);
+	}
+
+	/**
+	 * stops being tracked once closed or aborted
+	 */
+	private final class TrackedResponse implements PageFetcher.Response {
+
+		private final PageFetcher.Response response;
+		private final AtomicBoolean done = new AtomicBoolean();
+
+		TrackedResponse(PageFetcher.Response response) {
+			this.response = response;
+		}
+
+		@Override
+		public InputStream body() throws IOException {
+			return this.response.body();
+		}
+
+		@Override
+		public long contentLength() {
+			return this.response.contentLength();
+		}
+
+		@Override
+		public long wireBytes() {
+			return this.response.wireBytes();
+		}
+
+		@Override
+		public long decodedBytes() {
+			return this.response.decodedBytes();
+		}
+
+		@Override
+		public void abort() {
+			if(this.done.compareAndSet(false, true)) Deadline.this.untrack(this.response);
+			this.response.abort();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if(this.done.compareAndSet(false, true)) Deadline.this.untrack(this.response);
+			this.response.close();
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package my.cute.parser.youtube;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * the signature descrambling rules extracted from one version of youtube's player js. the 
+ * <code>trans</code> map from the vlc script (helper method name -&gt; "reverse", "splice", or 
+ * "swap") and the sequence of steps found with {@link YoutubeParser#DESCRAMBLE_INDEX} are compiled 
+ * into a small program: one opcode and one int argument per step. every video served by the same 
+ * player version uses the same rules, so once compiled the program can be rerun on any number of 
+ * signatures without touching the js again
+ * <p>
+ * running the program works in place on a char[] and allocates nothing per step. results are
+ * identical to the original StringBuilder implementation (including its exceptions for swap 
+ * indices that are out of range)
+ * <p>
+ * immutable, so safe to share between threads
+ */
+final class Descrambler {
+	
+	static final byte OP_REVERSE = 0;
+	static final byte OP_SPLICE = 1;
+	static final byte OP_SWAP = 2;
+	
+	/*
+	 * scratch space for apply(String). signatures are ~100 chars so this stays tiny
+	 */
+	private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+
+	private final byte[] ops;
+	private final int[] args;
+	private final boolean incomplete;
+	private final String description;
+
+	/**
+	 * compiles the given rules into a program
+	 * @param trans map of helper method name to transformation name
+	 * @param stepMethods the helper method name for each descrambling step, in order
+	 * @param stepIndices the index argument for each descrambling step, in order. must be the same
+	 * length as stepMethods
+	 */
+	Descrambler(Map<String, String> trans, String[] stepMethods, int[] stepIndices) {
+		if(stepMethods.length != stepIndices.length)
+			throw new IllegalArgumentException("step methods and indices have different lengths");
+		byte[] ops = new byte[stepMethods.length];
+		int[] args = new int[stepMethods.length];
+		int count = 0;
+		boolean missing = false;
+		for(int i=0; i < stepMethods.length; i++) {
+			String savedTrans = trans.get(stepMethods[i]);
+			if(savedTrans == null) {
+				//original implementation just skips these
+				missing = true;
+				continue;
+			} else if (savedTrans.equals("reverse")) {
+				ops[count] = OP_REVERSE;
+			} else if (savedTrans.equals("splice")) {
+				ops[count] = OP_SPLICE;
+			} else if (savedTrans.equals("swap")) {
+				ops[count] = OP_SWAP;
+			} else {
+				throw new IllegalArgumentException("unknown transformation " + savedTrans);
+			}
+			args[count] = stepIndices[i];
+			count++;
+		}
+		this.ops = Arrays.copyOf(ops, count);
+		this.args = Arrays.copyOf(args, count);
+		this.incomplete = missing;
+		this.description = "Descrambler[trans=" + trans + ", steps=" + count + "]";
+	}
+
+	/**
+	 * runs the descrambling program on the given signature
+	 * @param signature the scrambled signature
+	 * @return the descrambled signature
+	 * @throws StringIndexOutOfBoundsException if a swap step refers to an index outside the 
+	 * signature
+	 */
+	String apply(String signature) {
+		int length = signature.length();
+		char[] chars = BUFFER.get();
+		if(chars.length < length) {
+			chars = new char[Math.max(length, chars.length * 2)];
+			BUFFER.set(chars);
+		}
+		signature.getChars(0, length, chars, 0);
+		length = this.run(chars, length);
+		return new String(chars, 0, length);
+	}
+	
+	/**
+	 * runs the descrambling program in place on the first <code>length</code> characters of the 
+	 * given array. on return the descrambled signature occupies the start of the array
+	 * @param chars the scrambled signature
+	 * @param length the length of the scrambled signature
+	 * @return the length of the descrambled signature
+	 * @throws StringIndexOutOfBoundsException if a swap step refers to an index outside the 
+	 * signature
+	 */
+	int run(char[] chars, int length) {
+		for(int i=0; i < this.ops.length; i++) {
+			int index = this.args[i];
+			switch(this.ops[i]) {
+			case OP_REVERSE:
+				reverse(chars, length);
+				break;
+			case OP_SPLICE:
+				//same as StringBuilder.delete(0, index), which clamps to the length
+				if(index > length) index = length;
+				System.arraycopy(chars, index, chars, 0, length - index);
+				length -= index;
+				break;
+			case OP_SWAP:
+				if(index >= length || length == 0)
+					throw new StringIndexOutOfBoundsException("swap index " + index + " out of range for length " + length);
+				char first = chars[0];
+				chars[0] = chars[index];
+				chars[index] = first;
+				break;
+			default:
+				throw new AssertionError(this.ops[i]);
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * @return true if at least one step refers to a helper method whose transformation couldn't be
+	 * identified. such steps are skipped, so the result is probably wrong
+	 */
+	boolean isIncomplete() {
+		return this.incomplete;
+	}
+
+	@Override
+	public String toString() {
+		return this.description;
+	}
+	
+	/**
+	 * reverses the first <code>length</code> characters of the given array the same way 
+	 * StringBuilder.reverse() does, ie surrogate pairs are kept in their original order
+	 */
+	private static void reverse(char[] chars, int length) {
+		boolean surrogates = false;
+		for(int i=0, j=length-1; i < j; i++, j--) {
+			char c = chars[i];
+			char d = chars[j];
+			chars[i] = d;
+			chars[j] = c;
+			if(Character.isSurrogate(c) || Character.isSurrogate(d)) surrogates = true;
+		}
+		if(length % 2 == 1 && Character.isSurrogate(chars[length / 2])) surrogates = true;
+		if(surrogates) {
+			for(int i=0; i < length - 1; i++) {
+				char low = chars[i];
+				if(Character.isLowSurrogate(low)) {
+					char high = chars[i + 1];
+					if(Character.isHighSurrogate(high)) {
+						chars[i++] = high;
+						chars[i] = low;
+					}
+				}
+			}
+		}
+	}
+}
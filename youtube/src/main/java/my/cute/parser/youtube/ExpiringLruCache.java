@@ -0,0 +1,89 @@
+package my.cute.parser.youtube;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * small thread-safe cache with a fixed maximum size. once full, the least recently used entry
+ * is evicted to make room for new entries. every entry also has its own expiry time, after which
+ * it's treated as missing and dropped the next time it's looked at
+ * <p>
+ * all access is synchronized on the cache, so callers should do any expensive work needed to
+ * produce a value <b>outside</b> of the cache and then {@link #put(Object, Object)} the result
+ * @param <K> key type
+ * @param <V> value type
+ */
+class ExpiringLruCache<K, V> {
+
+	private static class Entry<V> {
+		private final V value;
+		private final long expiresAt;
+
+		private Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	private final int maxSize;
+	private final long defaultTtlNanos;
+	private final LinkedHashMap<K, Entry<V>> map;
+
+	/**
+	 * @param maxSize the maximum number of entries this cache will hold at once
+	 * @param defaultTtlNanos how long entries added via {@link #put(Object, Object)} stay valid, in
+	 * nanoseconds
+	 */
+	ExpiringLruCache(int maxSize, long defaultTtlNanos) {
+		if(maxSize < 1) throw new IllegalArgumentException("cache size must be positive, got " + maxSize);
+		if(defaultTtlNanos < 0) throw new IllegalArgumentException("ttl must not be negative, got " + defaultTtlNanos);
+		this.maxSize = maxSize;
+		this.defaultTtlNanos = defaultTtlNanos;
+		//access-ordered so eldest entry is always the least recently used one
+		this.map = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return this.size() > ExpiringLruCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @param key the key to look up
+	 * @return the value associated with the given key, or null if there is no such value or it
+	 * has expired
+	 */
+	synchronized V get(K key) {
+		Entry<V> entry = this.map.get(key);
+		if(entry == null) return null;
+		if(System.nanoTime() - entry.expiresAt >= 0) {
+			this.map.remove(key);
+			return null;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * adds the given value to the cache, using this cache's default ttl
+	 */
+	void put(K key, V value) {
+		this.put(key, value, this.defaultTtlNanos);
+	}
+
+	/**
+	 * adds the given value to the cache with a specific ttl, replacing any previous value for
+	 * the same key. a ttl of 0 or less means the value is not stored at all
+	 * @param key the key
+	 * @param value the value
+	 * @param ttlNanos how long the value should stay valid, in nanoseconds
+	 */
+	synchronized void put(K key, V value, long ttlNanos) {
+		if(ttlNanos <= 0) {
+			this.map.remove(key);
+			return;
+		}
+		this.map.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+	}
+}
@@ -0,0 +1,64 @@
+package my.cute.parser.youtube;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * flight recorder event covering one network hop: a watch page, get_video_info response, or 
+ * player js, from starting the request until the body has been read. for blocking parses pages are
+ * processed as they're read, so this includes processing too, and any player js fetched along 
+ * the way shows up as its own event nested inside
+ * <p>
+ * disabled unless a recording is running (eg <code>jcmd &lt;pid&gt; JFR.start</code>), in which 
+ * case creating, beginning, and ending an event is about free. fields are only filled in after
+ * {@link #shouldCommit()} says the event will actually be recorded
+ */
+@Name("my.cute.parser.youtube.Fetch")
+@Label("Youtube Fetch")
+@Category("Youtube Parser")
+@Description("A page fetched while parsing a youtube link")
+@StackTrace(false)
+final class FetchEvent extends jdk.jfr.Event {
+	
+	static final String WATCH_PAGE = "watch page";
+	static final String VIDEO_INFO = "get_video_info";
+	static final String PLAYER_JS = "player js";
+
+	@Label("Page")
+	@Description("What was fetched: watch page, get_video_info, or player js")
+	String page;
+	
+	@Label("Host")
+	String host;
+	
+	@Label("Video Id")
+	@Description("The video the page is for. Not set for player js, which is shared between videos")
+	String videoId;
+	
+	@Label("Bytes Read")
+	@Description("Bytes of the body read, after decoding. -1 if unknown")
+	@DataAmount
+	long bytesRead = -1;
+	
+	@Label("Wire Bytes")
+	@Description("Bytes of the body read, as received. -1 if unknown")
+	@DataAmount
+	long wireBytes = -1;
+	
+	@Label("Bytes Skipped")
+	@Description("Bytes of the body left unread because reading stopped early once a stream url was found. "
+			+ "-1 if the length of the body wasn't known")
+	@DataAmount
+	long bytesSkipped = 0;
+	
+	@Label("Branch")
+	@Description("Where the page's result came from, if it had one")
+	String branch;
+	
+	@Label("Success")
+	boolean success;
+}
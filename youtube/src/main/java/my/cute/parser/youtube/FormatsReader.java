@@ -0,0 +1,451 @@
+package my.cute.parser.youtube;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * pulls the few fields the parser needs out of the <code>formats</code> and
+ * <code>adaptiveFormats</code> arrays of a player response, walking the json once instead of
+ * splitting it up with regexes. only <code>itag</code>, <code>height</code>, <code>bitrate</code>,
+ * <code>mimeType</code>, <code>url</code>, and <code>signatureCipher</code> are kept, everything 
+ * else (including nested objects like <code>colorInfo</code>, which {@link YoutubeParser#STREAM_MAP} 
+ * splits formats on) is skipped over
+ * <p>
+ * the player response can show up either as plain json or escaped inside a javascript string
+ * (<code>\"formats\":[...</code>, the case {@link YoutubeParser#REDUNDANT_ESCAPE} is for). the
+ * escaped form is read as is, by undoing that extra layer of escaping as characters are read
+ */
+final class FormatsReader {
+
+	/**
+	 * one entry of a formats or adaptiveFormats array
+	 */
+	static final class Format {
+
+		private int itag = -1;
+		private int height = -1;
+		private long bitrate = -1;
+		/*
+		 * the url and cipher are only decoded if they're asked for, which is usually just for
+		 * the one format picked. these are where their (still escaped) strings start
+		 */
+		private int urlStart = -1;
+		private int cipherStart = -1;
+		private int mimeTypeStart = -1;
+		private final String json;
+		private final boolean escaped;
+		private final boolean adaptive;
+
+		private Format(String json, boolean escaped, boolean adaptive) {
+			this.json = json;
+			this.escaped = escaped;
+			this.adaptive = adaptive;
+		}
+
+		/**
+		 * @return the itag, or -1 if the format didn't have one
+		 */
+		int getItag() {
+			return this.itag;
+		}
+
+		/**
+		 * @return the video height, or -1 if the format didn't have one (eg audio)
+		 */
+		int getHeight() {
+			return this.height;
+		}
+
+		/**
+		 * @return the bitrate in bits per second, or -1 if the format didn't have one
+		 */
+		long getBitrate() {
+			return this.bitrate;
+		}
+
+		/**
+		 * @return the (unescaped) stream url, or null if the format didn't have one, which is the
+		 * case for formats with a signature cipher
+		 */
+		String getUrl() {
+			return this.decode(this.urlStart);
+		}
+
+		/**
+		 * @return the (unescaped) <code>signatureCipher</code>, or failing that the value of any
+		 * other key ending in <code>cipher</code> or <code>Cipher</code>, or null if there's none
+		 */
+		String getCipher() {
+			return this.decode(this.cipherStart);
+		}
+		
+		/**
+		 * @return the (unescaped) mime type, eg <code>video/mp4; codecs="avc1.42001E, mp4a.40.2"</code>,
+		 * or null if the format didn't have one
+		 */
+		String getMimeType() {
+			return this.decode(this.mimeTypeStart);
+		}
+		
+		/**
+		 * @return true if the format has a signature cipher, without decoding it
+		 */
+		boolean hasCipher() {
+			return this.cipherStart != -1;
+		}
+		
+		private String decode(int start) {
+			if(start == -1) return null;
+			FormatsReader reader = new FormatsReader(this.json, start, this.json.length(), this.escaped);
+			return reader.readString() ? reader.buffer.toString() : null;
+		}
+
+		/**
+		 * @return true if this is from adaptiveFormats, ie a video-only or audio-only stream
+		 */
+		boolean isAdaptive() {
+			return this.adaptive;
+		}
+
+		@Override
+		public String toString() {
+			return "Format[itag=" + this.itag + ", height=" + this.height + ", bitrate=" + this.bitrate
+					+ (this.adaptive ? ", adaptive" : "") + (this.cipherStart != -1 ? ", ciphered" : "") + "]";
+		}
+	}
+
+	private final String json;
+	private final boolean escaped;
+	private int position;
+	/*
+	 * position before the last character read, so it can be put back
+	 */
+	private int lastPosition;
+	private final int end;
+	/*
+	 * reused for keys and values
+	 */
+	private final StringBuilder buffer = new StringBuilder();
+
+	private FormatsReader(String json, int start, int end, boolean escaped) {
+		this.json = json;
+		this.position = start;
+		this.end = end;
+		this.escaped = escaped;
+	}
+
+	/**
+	 * finds the first <code>formats</code> and <code>adaptiveFormats</code> arrays in the given
+	 * text, eg a line of a watch page, and reads them
+	 * @param text text containing a player response, as plain or escaped json
+	 * @return the formats, followed by the adaptive formats, or null if there are neither
+	 */
+	static List<Format> read(String text) {
+		List<Format> formats = new ArrayList<>();
+		boolean foundFormats = false;
+		boolean foundAdaptive = false;
+		int index = 0;
+		while(!(foundFormats && foundAdaptive)) {
+			index = text.indexOf("ormats", index);
+			if(index == -1) break;
+			int keyStart = index - 1;
+			index += 6;
+			if(keyStart < 0) continue;
+			boolean adaptive;
+			if(text.charAt(keyStart) == 'f') {
+				if(foundFormats) continue;
+				adaptive = false;
+			} else if (text.charAt(keyStart) == 'F' && text.startsWith("adaptive", keyStart - 8)) {
+				if(foundAdaptive) continue;
+				adaptive = true;
+				keyStart -= 8;
+			} else {
+				continue;
+			}
+			//the key has to be a whole string, quoted the same on both sides
+			boolean escaped;
+			int arrayStart;
+			if(keyStart >= 2 && text.startsWith("\\\"", keyStart - 2) && text.startsWith("\\\":[", index)) {
+				escaped = true;
+				arrayStart = index + 3;
+			} else if (keyStart >= 1 && text.charAt(keyStart - 1) == '"' && text.startsWith("\":[", index)) {
+				escaped = false;
+				arrayStart = index + 2;
+			} else {
+				continue;
+			}
+			FormatsReader reader = new FormatsReader(text, arrayStart, text.length(), escaped);
+			reader.readArray(formats, adaptive);
+			if(adaptive) {
+				foundAdaptive = true;
+			} else {
+				foundFormats = true;
+			}
+			index = reader.position;
+		}
+		return foundFormats || foundAdaptive ? formats : null;
+	}
+
+	/**
+	 * reads the contents of a formats array, without the surrounding brackets, as captured by
+	 * {@link YoutubeParser#FORMATS_EXTRACT} or {@link VideoInfoReader#getFormats()} (once decoded)
+	 * @param contents the contents of the array, as plain json
+	 * @return the formats in the array
+	 */
+	static List<Format> readContents(String contents) {
+		List<Format> formats = new ArrayList<>();
+		new FormatsReader(contents, 0, contents.length(), false).readElements(formats, false);
+		return formats;
+	}
+
+	/**
+	 * reads an array of formats, starting at its opening bracket
+	 */
+	private void readArray(List<Format> formats, boolean adaptive) {
+		if(this.next() != '[') return;
+		this.readElements(formats, adaptive);
+	}
+
+	/**
+	 * reads formats until the closing bracket of their array, or the end of the text if there
+	 * isn't one. stops early on anything that isn't a formats array, keeping what was read so far
+	 */
+	private void readElements(List<Format> formats, boolean adaptive) {
+		while(true) {
+			int c = this.nextNonWhitespace();
+			if(c == -1 || c == ']') return;
+			if(c == ',') continue;
+			if(c != '{') return;
+			Format format = new Format(this.json, this.escaped, adaptive);
+			if(!this.readFormat(format)) return;
+			formats.add(format);
+		}
+	}
+
+	/**
+	 * reads the fields of a format, just after its opening brace
+	 * @return true if the format was read up to its closing brace
+	 */
+	private boolean readFormat(Format format) {
+		while(true) {
+			int c = this.nextNonWhitespace();
+			if(c == '}') return true;
+			if(c == ',') continue;
+			if(c != '"') return false;
+			if(!this.readString()) return false;
+			if(this.nextNonWhitespace() != ':') return false;
+
+			if(this.keyIs("itag")) {
+				format.itag = (int) Math.min(this.readNumber(), Integer.MAX_VALUE);
+			} else if (this.keyIs("height")) {
+				format.height = (int) Math.min(this.readNumber(), Integer.MAX_VALUE);
+			} else if (this.keyIs("bitrate")) {
+				format.bitrate = this.readNumber();
+			} else if (this.keyIs("url")) {
+				format.urlStart = this.skipStringValue();
+			} else if (this.keyIs("signatureCipher")) {
+				format.cipherStart = this.skipStringValue();
+			} else if (this.keyIs("mimeType")) {
+				format.mimeTypeStart = this.skipStringValue();
+			} else if (format.cipherStart == -1 && this.isCipherKey()) {
+				//same as SIG_CIPHER_BACKUP, for older names
+				format.cipherStart = this.skipStringValue();
+			} else if (!this.skipValue()) {
+				return false;
+			}
+		}
+	}
+
+	private boolean keyIs(String key) {
+		StringBuilder buffer = this.buffer;
+		int length = key.length();
+		if(buffer.length() != length) return false;
+		for(int i=0; i < length; i++) {
+			if(buffer.charAt(i) != key.charAt(i)) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if the last key read is letters ending in <code>cipher</code> or <code>Cipher</code>
+	 */
+	private boolean isCipherKey() {
+		StringBuilder buffer = this.buffer;
+		int length = buffer.length();
+		if(length < 6 || (buffer.charAt(length - 6) != 'c' && buffer.charAt(length - 6) != 'C')) return false;
+		for(int i=0; i < length; i++) {
+			char c = buffer.charAt(i);
+			if(!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) return false;
+		}
+		return buffer.indexOf("ipher", length - 5) == length - 5;
+	}
+
+	/**
+	 * @return the number at the current position, or -1 if there isn't one (or it's negative,
+	 * or it's a string). too large values are clamped to Long.MAX_VALUE
+	 */
+	private long readNumber() {
+		int c = this.nextNonWhitespace();
+		if(c < '0' || c > '9') {
+			this.position = this.lastPosition;
+			this.skipValue();
+			return -1;
+		}
+		long value = 0;
+		while(c >= '0' && c <= '9') {
+			value = value > (Long.MAX_VALUE - 9) / 10 ? Long.MAX_VALUE : value * 10 + (c - '0');
+			c = this.next();
+		}
+		//the character after the number belongs to whatever's next
+		this.position = this.lastPosition;
+		//fraction or exponent, not expected here but skip it properly
+		if(c == '.' || c == 'e' || c == 'E') this.skipValue();
+		return value;
+	}
+
+	/**
+	 * skips the string value at the current position
+	 * @return where the contents of the string start (just after the opening quote), or -1 if 
+	 * the value isn't a string
+	 */
+	private int skipStringValue() {
+		if(this.nextNonWhitespace() != '"') {
+			this.position = this.lastPosition;
+			this.skipValue();
+			return -1;
+		}
+		int start = this.position;
+		return this.skipString() ? start : -1;
+	}
+
+	/**
+	 * reads a json string into the buffer, just after its opening quote, decoding json escapes
+	 * @return true if the string was terminated
+	 */
+	private boolean readString() {
+		StringBuilder buffer = this.buffer;
+		buffer.setLength(0);
+		while(true) {
+			int c = this.next();
+			if(c == -1) return false;
+			if(c == '"') return true;
+			if(c != '\\') {
+				buffer.append((char) c);
+				continue;
+			}
+			c = this.next();
+			switch(c) {
+				case 'b': buffer.append('\b'); break;
+				case 'f': buffer.append('\f'); break;
+				case 'n': buffer.append('\n'); break;
+				case 'r': buffer.append('\r'); break;
+				case 't': buffer.append('\t'); break;
+				case 'u':
+					int value = 0;
+					for(int i=0; i < 4; i++) {
+						int digit = Character.digit(this.next(), 16);
+						if(digit < 0) return false;
+						value = value * 16 + digit;
+					}
+					buffer.append((char) value);
+					break;
+				case -1:
+					return false;
+				default:
+					//\" \\ \/ and anything else just stand for the character itself
+					buffer.append((char) c);
+			}
+		}
+	}
+
+	/**
+	 * skips over whatever value is at the current position, including nested objects and arrays
+	 * @return true if a complete value was skipped
+	 */
+	private boolean skipValue() {
+		int depth = 0;
+		while(true) {
+			int c = this.nextNonWhitespace();
+			switch(c) {
+				case -1:
+					return false;
+				case '"':
+					//strings can contain brackets, so they have to be read properly
+					if(!this.skipString()) return false;
+					break;
+				case '{':
+				case '[':
+					depth++;
+					break;
+				case '}':
+				case ']':
+					if(depth == 0) {
+						//the end of whatever contains this value
+						this.position = this.lastPosition;
+						return true;
+					}
+					depth--;
+					break;
+				case ',':
+					if(depth == 0) {
+						this.position = this.lastPosition;
+						return true;
+					}
+					break;
+				default:
+					//numbers, true, false, null, or the inside of nested values
+			}
+			if(depth == 0 && (c == '"' || c == '}' || c == ']')) return true;
+		}
+	}
+
+	private boolean skipString() {
+		if(!this.escaped) {
+			//most of the json is strings, so skip them without going through next()
+			String json = this.json;
+			for(int i=this.position; i < this.end; i++) {
+				char c = json.charAt(i);
+				if(c == '"') {
+					this.position = i + 1;
+					return true;
+				}
+				if(c == '\\') i++;
+			}
+			this.position = this.end;
+			return false;
+		}
+		while(true) {
+			int c = this.next();
+			if(c == -1) return false;
+			if(c == '"') return true;
+			if(c == '\\' && this.next() == -1) return false;
+		}
+	}
+
+	private int nextNonWhitespace() {
+		int c;
+		do {
+			c = this.next();
+		} while(c == ' ' || c == '\n' || c == '\r' || c == '\t');
+		return c;
+	}
+
+	/**
+	 * @return the next character of the json, after undoing the javascript string escaping if
+	 * it's escaped, or -1 at the end of the text
+	 */
+	private int next() {
+		this.lastPosition = this.position;
+		if(this.position >= this.end) return -1;
+		char c = this.json.charAt(this.position++);
+		if(this.escaped && c == '\\' && this.position < this.end) {
+			char escaped = this.json.charAt(this.position);
+			//same characters as REDUNDANT_ESCAPE
+			if(escaped == '"' || escaped == '\\' || escaped == '/') {
+				this.position++;
+				return escaped;
+			}
+		}
+		return c;
+	}
+}
@@ -0,0 +1,46 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link PageFetcher} decorator that sends every request to one fixed scheme, host, and port, 
+ * keeping only the path and query of the original url. see 
+ * {@link YoutubeParserBuilder#hostOverride(URI)}
+ */
+class HostOverridePageFetcher implements PageFetcher {
+
+	private final PageFetcher delegate;
+	private final URI base;
+
+	HostOverridePageFetcher(PageFetcher delegate, URI base) {
+		this.delegate = delegate;
+		this.base = base;
+	}
+
+	@Override
+	public Response fetch(URL url, int timeoutMillis) throws IOException {
+		return this.delegate.fetch(this.override(url), timeoutMillis);
+	}
+
+	@Override
+	public CompletableFuture<Response> fetchAsync(URL url, int timeoutMillis) {
+		try {
+			return this.delegate.fetchAsync(this.override(url), timeoutMillis);
+		} catch (MalformedURLException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	private URL override(URL url) throws MalformedURLException {
+		return new URL(this.base.getScheme(), this.base.getHost(), this.base.getPort(), url.getFile());
+	}
+
+	@Override
+	public String toString() {
+		return "HostOverridePageFetcher[" + this.base + "]";
+	}
+}
@@ -0,0 +1,360 @@
+package my.cute.parser.youtube;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PageFetcher} backed by a single {@link HttpClient}. the client keeps connections alive
+ * and reuses them between requests (and multiplexes requests over one connection where http/2 
+ * is available), so repeated requests to the same hosts skip connection setup. async fetches
+ * don't block any thread while waiting on the network. gzip and deflate compressed responses are
+ * accepted and decoded
+ * <p>
+ * the client's own request timeout only covers waiting for the response headers, so the body
+ * gets a read timeout of its own, like URLConnection's: if it goes the whole timeout without any
+ * data arriving, the exchange is dropped and the read fails with a {@link SocketTimeoutException}
+ */
+public class HttpClientPageFetcher implements PageFetcher {
+
+	private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+	private final HttpClient client;
+
+	/**
+	 * creates a fetcher with its own http client, using the client's default executor
+	 */
+	public HttpClientPageFetcher() {
+		this((Executor) null);
+	}
+
+	/**
+	 * creates a fetcher with its own http client
+	 * @param executor the executor for the http client, or null to use the client's default
+	 */
+	public HttpClientPageFetcher(Executor executor) {
+		this(createClient(executor));
+	}
+
+	/**
+	 * @param client the http client to fetch with. should be set to follow redirects
+	 */
+	public HttpClientPageFetcher(HttpClient client) {
+		this.client = client;
+	}
+
+	private static HttpClient createClient(Executor executor) {
+		HttpClient.Builder builder = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_2)
+				.followRedirects(HttpClient.Redirect.NORMAL)
+				.connectTimeout(DEFAULT_CONNECT_TIMEOUT);
+		if(executor != null) builder.executor(executor);
+		return builder.build();
+	}
+
+	@Override
+	public Response fetch(URL url, int timeoutMillis) throws IOException {
+		HttpResponse<InputStream> response;
+		try {
+			response = this.client.send(this.createRequest(url, timeoutMillis), BodyHandlers.ofInputStream());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("interrupted while fetching " + url);
+		}
+		if(response.statusCode() >= 400) {
+			response.body().close();
+			throw new HttpStatusException(url.toString(), response.statusCode());
+		}
+		InputStream body = timeoutMillis > 0 ? new TimedInputStream(response.body(), timeoutMillis) : response.body();
+		return new StreamingResponse(response, new ContentEncoding.DecodedBody(body, getContentEncoding(response)));
+	}
+
+	@Override
+	public CompletableFuture<Response> fetchAsync(URL url, int timeoutMillis) {
+		HttpRequest request;
+		try {
+			request = this.createRequest(url, timeoutMillis);
+		} catch (IOException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		BodyHandler<byte[]> handler = timeoutMillis > 0 
+				? responseInfo -> new TimedSubscriber(timeoutMillis) 
+				: BodyHandlers.ofByteArray();
+		return this.client.sendAsync(request, handler)
+				.thenApply(response -> {
+					if(response.statusCode() >= 400) 
+						throw new CompletionException(new HttpStatusException(url.toString(), response.statusCode()));
+					byte[] body = response.body();
+					try {
+						return new BufferedResponse(ContentEncoding.decode(body, getContentEncoding(response)), body.length);
+					} catch (IOException e) {
+						throw new CompletionException(e);
+					}
+				});
+	}
+
+	private HttpRequest createRequest(URL url, int timeoutMillis) throws IOException {
+		try {
+			HttpRequest.Builder builder = HttpRequest.newBuilder(url.toURI())
+					.header("Accept-Encoding", ContentEncoding.ACCEPT_ENCODING)
+					.GET();
+			//0 means no timeout, as it does for URLConnection, but HttpRequest won't take a zero duration
+			if(timeoutMillis > 0) builder.timeout(Duration.ofMillis(timeoutMillis));
+			return builder.build();
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			throw new IOException("invalid url " + url, e);
+		}
+	}
+
+	private static String getContentEncoding(HttpResponse<?> response) {
+		return response.headers().firstValue("content-encoding").orElse(null);
+	}
+
+	@Override
+	public String toString() {
+		return "HttpClientPageFetcher";
+	}
+
+	private static class StreamingResponse implements Response {
+
+		private final HttpResponse<InputStream> response;
+		private final ContentEncoding.DecodedBody body;
+
+		private StreamingResponse(HttpResponse<InputStream> response, ContentEncoding.DecodedBody body) {
+			this.response = response;
+			this.body = body;
+		}
+
+		@Override
+		public InputStream body() {
+			return this.body.stream();
+		}
+
+		@Override
+		public long contentLength() {
+			return this.response.headers().firstValueAsLong("content-length").orElse(-1);
+		}
+
+		@Override
+		public long wireBytes() {
+			return this.body.getWireBytes();
+		}
+
+		@Override
+		public long decodedBytes() {
+			return this.body.getDecodedBytes();
+		}
+
+		@Override
+		public void abort() {
+			//closing the body before it's been read in full cancels the exchange and drops the connection
+			try {
+				this.response.body().close();
+			} catch (IOException e) {
+				//dropping it anyway
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.body.stream().close();
+		}
+	}
+
+	/**
+	 * runs the given action if whatever it's timing goes the whole timeout without making any
+	 * progress. only one check is scheduled at a time, however often progress is made
+	 */
+	private static final class ReadTimeout {
+
+		private final long timeoutNanos;
+		private final Runnable onTimeout;
+		private long lastProgressNanos;
+		private boolean waiting = false;
+		private boolean scheduled = false;
+		private volatile boolean timedOut = false;
+
+		private ReadTimeout(int timeoutMillis, Runnable onTimeout) {
+			this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+			this.onTimeout = onTimeout;
+		}
+
+		/**
+		 * starts waiting for progress
+		 */
+		synchronized void start() {
+			this.waiting = true;
+			this.lastProgressNanos = System.nanoTime();
+			if(!this.scheduled) this.schedule(this.timeoutNanos);
+		}
+
+		synchronized void progress() {
+			this.lastProgressNanos = System.nanoTime();
+		}
+
+		/**
+		 * stops waiting. anything that happens until the next {@link #start()} isn't timed
+		 */
+		synchronized void stop() {
+			this.waiting = false;
+		}
+
+		boolean hasTimedOut() {
+			return this.timedOut;
+		}
+
+		private void schedule(long nanos) {
+			this.scheduled = true;
+			CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS).execute(this::check);
+		}
+
+		private void check() {
+			synchronized(this) {
+				this.scheduled = false;
+				if(!this.waiting) return;
+				long idle = System.nanoTime() - this.lastProgressNanos;
+				if(idle < this.timeoutNanos) {
+					this.schedule(this.timeoutNanos - idle);
+					return;
+				}
+				this.waiting = false;
+				this.timedOut = true;
+			}
+			this.onTimeout.run();
+		}
+	}
+
+	/**
+	 * a streamed body that's closed if a read blocks for longer than the timeout
+	 */
+	private static final class TimedInputStream extends FilterInputStream {
+
+		private final ReadTimeout timeout;
+
+		private TimedInputStream(InputStream in, int timeoutMillis) {
+			super(in);
+			this.timeout = new ReadTimeout(timeoutMillis, this::closeQuietly);
+		}
+
+		@Override
+		public int read() throws IOException {
+			this.timeout.start();
+			try {
+				int b = super.read();
+				this.check();
+				return b;
+			} catch (IOException e) {
+				this.check();
+				throw e;
+			} finally {
+				this.timeout.stop();
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			this.timeout.start();
+			try {
+				int read = super.read(b, off, len);
+				this.check();
+				return read;
+			} catch (IOException e) {
+				this.check();
+				throw e;
+			} finally {
+				this.timeout.stop();
+			}
+		}
+
+		/**
+		 * a read cut short by closing the stream can fail or just look like the end of the body,
+		 * so either way it's reported as a timeout
+		 */
+		private void check() throws SocketTimeoutException {
+			if(this.timeout.hasTimedOut()) throw new SocketTimeoutException("read timed out");
+		}
+
+		private void closeQuietly() {
+			try {
+				this.in.close();
+			} catch (IOException e) {
+				//dropping it anyway
+			}
+		}
+	}
+
+	/**
+	 * collects a body into a byte array like {@link BodySubscribers#ofByteArray()}, but cancels the
+	 * exchange and fails if the body goes longer than the timeout without any data arriving
+	 */
+	private static final class TimedSubscriber implements BodySubscriber<byte[]> {
+
+		private final BodySubscriber<byte[]> delegate = BodySubscribers.ofByteArray();
+		private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+		private final ReadTimeout timeout;
+		private volatile Flow.Subscription subscription;
+
+		private TimedSubscriber(int timeoutMillis) {
+			this.timeout = new ReadTimeout(timeoutMillis, this::timedOut);
+			this.delegate.getBody().whenComplete((body, throwable) -> {
+				if(throwable == null) this.body.complete(body);
+				else this.body.completeExceptionally(throwable);
+			});
+		}
+
+		private void timedOut() {
+			this.body.completeExceptionally(new SocketTimeoutException("read timed out"));
+			this.subscription.cancel();
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			this.delegate.onSubscribe(subscription);
+			this.timeout.start();
+		}
+
+		@Override
+		public void onNext(List<ByteBuffer> item) {
+			this.timeout.progress();
+			this.delegate.onNext(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.timeout.stop();
+			this.delegate.onError(throwable);
+		}
+
+		@Override
+		public void onComplete() {
+			this.timeout.stop();
+			this.delegate.onComplete();
+		}
+
+		@Override
+		public CompletionStage<byte[]> getBody() {
+			return this.body;
+		}
+	}
+}
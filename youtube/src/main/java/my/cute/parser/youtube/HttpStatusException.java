@@ -0,0 +1,30 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+
+/**
+ * thrown by a {@link PageFetcher} when the server responds with an error status (400 and up)
+ */
+public class HttpStatusException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int statusCode;
+
+	public HttpStatusException(String url, int statusCode) {
+		super("Server returned HTTP response code: " + statusCode + " for URL: " + url);
+		this.statusCode = statusCode;
+	}
+
+	public HttpStatusException(String url, int statusCode, Throwable cause) {
+		this(url, statusCode);
+		this.initCause(cause);
+	}
+
+	/**
+	 * @return the status code the server responded with
+	 */
+	public int getStatusCode() {
+		return this.statusCode;
+	}
+}
@@ -34,6 +34,32 @@ interface JSPage extends AutoCloseable {
 	 */
 	String extract(String pattern) throws IOException, SocketTimeoutException, IllegalArgumentException, PatternSyntaxException;
 	
+	/**
+	 * looks up a function defined at the very start of a statement, ie 
+	 * <pre>name=function(&lt;params&gt;){&lt;body&gt;};</pre>
+	 * and returns its body. this gives the same result as extracting the pattern 
+	 * <code>^name=function\([^)]*\)\{(.*?)\};</code>, but definitions are indexed by name as the page 
+	 * is read, so this is a hash lookup for anything already read and no pattern is compiled
+	 * @param name the name of the function
+	 * @return the body of the first such function definition, or null if there isn't one
+	 * @throws IOException if an IOException occurred when reading data from this page
+	 * @throws SocketTimeoutException if a timeout occurred when reading data from this page
+	 */
+	String extractFunctionBody(String name) throws IOException, SocketTimeoutException;
+	
+	/**
+	 * looks up an object literal assigned to a name following a space or comma, ie 
+	 * <pre>name={&lt;body&gt;};</pre>
+	 * (typically as part of a <code>var</code> statement) and returns its body. this gives the same
+	 * result as extracting the pattern <code>[ ,]name=\{(.*?)\};</code>, but like 
+	 * {@link #extractFunctionBody(String)} it's a hash lookup for anything already read
+	 * @param name the name the object is assigned to
+	 * @return the body of the first such object definition, or null if there isn't one
+	 * @throws IOException if an IOException occurred when reading data from this page
+	 * @throws SocketTimeoutException if a timeout occurred when reading data from this page
+	 */
+	String extractObjectBody(String name) throws IOException, SocketTimeoutException;
+	
 	@Override
 	public void close() throws IOException;
 }
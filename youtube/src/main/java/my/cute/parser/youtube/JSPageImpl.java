@@ -1,34 +1,172 @@
 package my.cute.parser.youtube;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
-import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * reads the js at a url one statement at a time, where a statement is any run of lines ending 
+ * in <code>};</code> (line breaks are dropped when joining lines, as in the vlc script). the page
+ * is only read as far as needed to satisfy each call to extract, and statements that have already
+ * been read are kept so later calls can check them again without refetching
+ * <p>
+ * as statements are read, definitions of the form <code>name=function(...){...};</code> (at the 
+ * start of a statement) and <code>name={...};</code> (after a space or comma) are indexed by name,
+ * so {@link #extractFunctionBody(String)} and {@link #extractObjectBody(String)} don't have to scan
+ * the saved statements again
+ */
 class JSPageImpl implements JSPage {
 	
+	private static final Logger logger = LoggerFactory.getLogger(JSPageImpl.class);
+	
 	private final static int DEFAULT_TIMEOUT = 10000;
+	/*
+	 * player js is a couple MB at most, so this is plenty while still putting a ceiling on
+	 * what a misbehaving page can make us hold onto
+	 */
+	final static int DEFAULT_MAX_SAVED_CHARS = 8 * 1024 * 1024;
 	
-	private final URL url;
-	private final BufferedReader reader;
+	private final String source;
+	private final Reader reader;
+	/*
+	 * null if reading from a reader that was passed in
+	 */
+	private final PageFetcher.Response response;
+	/*
+	 * flight recorder event for the download, recorded on close. null along with response
+	 */
+	private final FetchEvent event;
+	private boolean failed = false;
 	private final List<String> lines;
-	private final Pattern endOfLine = Pattern.compile("};$");
+	private final int maxSavedChars;
+	private long savedChars = 0;
+	private boolean saving = true;
 	
-	JSPageImpl(String url, int timeout) throws MalformedURLException, IOException, SocketTimeoutException {
-		this.url = new URL(url);
-		URLConnection con = this.url.openConnection();
-		con.setConnectTimeout(timeout);
-		con.setReadTimeout(timeout);
-		this.reader = new BufferedReader(new InputStreamReader(con.getInputStream(), StandardCharsets.UTF_8));
+	/*
+	 * streaming state. chunks are read from the stream into buffer, and the statement currently 
+	 * being built up is kept in statement
+	 */
+	private final char[] buffer = new char[8192];
+	private int bufferPosition = 0;
+	private int bufferEnd = 0;
+	private boolean endOfStream = false;
+	private final StringBuilder statement = new StringBuilder();
+	
+	/*
+	 * name -> location of the first definition with that name, for saved statements only
+	 */
+	private final Map<String, Definition> functions = new HashMap<>();
+	private final Map<String, Definition> objects = new HashMap<>();
+	
+	/**
+	 * location of a definition body: the statement it's in and the index in that statement where
+	 * the body starts (ie just after the opening brace)
+	 */
+	private static class Definition {
+		private final String statement;
+		private final int bodyStart;
+		
+		private Definition(String statement, int bodyStart) {
+			this.statement = statement;
+			this.bodyStart = bodyStart;
+		}
+		
+		/**
+		 * @return everything from the start of the body up to the first <code>};</code>, or null 
+		 * if there is no <code>};</code> after the body start
+		 */
+		private String getBody() {
+			int end = this.statement.indexOf("};", this.bodyStart);
+			return end == -1 ? null : this.statement.substring(this.bodyStart, end);
+		}
+	}
+	
+	/**
+	 * @param fetcher the fetcher to download the js with
+	 * @param url the url of the js to read
+	 * @param timeout connect and read timeout, in milliseconds
+	 * @param maxSavedChars the maximum number of characters of already-read statements to keep for
+	 * later calls to extract. once this is reached, further statements are still searched as they're
+	 * read but aren't kept. a single statement longer than this fails the read instead
+	 */
+	JSPageImpl(PageFetcher fetcher, String url, int timeout, int maxSavedChars) throws MalformedURLException, IOException, SocketTimeoutException {
+		this(new URL(url), new FetchEvent(), fetcher, timeout, maxSavedChars);
+	}
+	
+	private JSPageImpl(URL url, FetchEvent event, PageFetcher fetcher, int timeout, int maxSavedChars) throws IOException {
+		this(fetch(url, event, fetcher, timeout), url.toString(), maxSavedChars, event);
+	}
+	
+	private JSPageImpl(PageFetcher.Response response, String url, int maxSavedChars, FetchEvent event) throws IOException {
+		this(new InputStreamReader(response.body(), StandardCharsets.UTF_8), url, maxSavedChars, response, event);
+	}
+	
+	/**
+	 * starts the given event and makes the request. if the request fails the event is recorded here,
+	 * otherwise it's recorded on close
+	 */
+	private static PageFetcher.Response fetch(URL url, FetchEvent event, PageFetcher fetcher, int timeout) throws IOException {
+		event.begin();
+		try {
+			return fetcher.fetch(url, timeout);
+		} catch (IOException e) {
+			event.end();
+			if(event.shouldCommit()) {
+				event.page = FetchEvent.PLAYER_JS;
+				event.host = url.getHost();
+				event.success = false;
+				event.commit();
+			}
+			throw e;
+		}
+	}
+	
+	JSPageImpl(PageFetcher fetcher, String url, int timeout) throws MalformedURLException, IOException, SocketTimeoutException {
+		this(fetcher, url, timeout, DEFAULT_MAX_SAVED_CHARS);
+	}
+	
+	JSPageImpl(String url, int timeout, int maxSavedChars) throws MalformedURLException, IOException, SocketTimeoutException {
+		this(new URLConnectionPageFetcher(), url, timeout, maxSavedChars);
+	}
+	
+	/**
+	 * reads js from the given reader instead of a url, eg for js that has already been downloaded
+	 * @param reader the js to read
+	 * @param source where the js came from, for logging
+	 * @param maxSavedChars see {@link #JSPageImpl(PageFetcher, String, int, int)}
+	 */
+	JSPageImpl(Reader reader, String source, int maxSavedChars) {
+		this(reader, source, maxSavedChars, null, null);
+	}
+	
+	private JSPageImpl(Reader reader, String source, int maxSavedChars, PageFetcher.Response response, FetchEvent event) {
+		this.source = source;
+		this.reader = reader;
+		this.response = response;
+		this.event = event;
 		this.lines = new ArrayList<>();
+		this.maxSavedChars = maxSavedChars;
+	}
+	
+	JSPageImpl(Reader reader, String source) {
+		this(reader, source, DEFAULT_MAX_SAVED_CHARS);
+	}
+	
+	JSPageImpl(String url, int timeout) throws MalformedURLException, IOException, SocketTimeoutException {
+		this(url, timeout, DEFAULT_MAX_SAVED_CHARS);
 	}
 	
 	JSPageImpl(String url) throws MalformedURLException, IOException {
@@ -63,27 +201,222 @@ class JSPageImpl implements JSPage {
 		return this.extract(Pattern.compile(pattern));
 	}
 	
+	@Override
+	public String extractFunctionBody(String name) throws IOException, SocketTimeoutException {
+		return this.extractDefinition(name, this.functions, true);
+	}
+	
+	@Override
+	public String extractObjectBody(String name) throws IOException, SocketTimeoutException {
+		return this.extractDefinition(name, this.objects, false);
+	}
+	
+	private String extractDefinition(String name, Map<String, Definition> index, boolean function) 
+			throws IOException, SocketTimeoutException {
+		Definition definition = index.get(name);
+		if(definition != null) {
+			String body = definition.getBody();
+			if(body != null) return body;
+		}
+		
+		//not found in saved statements. check remainder of stream
+		String line;
+		while((line = this.readLine()) != null) {
+			if(this.saving) {
+				//readLine already indexed it
+				definition = index.get(name);
+			} else {
+				//statement wasn't saved, so it wasn't indexed either. index it on its own
+				Map<String, Definition> functions = new HashMap<>();
+				Map<String, Definition> objects = new HashMap<>();
+				indexDefinitions(line, functions, objects);
+				definition = (function ? functions : objects).get(name);
+			}
+			if(definition != null) {
+				String body = definition.getBody();
+				if(body != null) return body;
+			}
+		}
+		
+		//no match
+		return null;
+	}
+	
+	/**
+	 * @return the number of bytes of js read so far after decoding, or -1 if reading from a reader
+	 * that was passed in
+	 */
+	long getBytesRead() {
+		return this.response == null ? -1 : this.response.decodedBytes();
+	}
+	
+	/**
+	 * @return the number of bytes of js read so far as received, or -1 if reading from a reader 
+	 * that was passed in
+	 */
+	long getWireBytes() {
+		return this.response == null ? -1 : this.response.wireBytes();
+	}
+	
 	@Override
 	public void close() throws IOException {
 		this.reader.close();
+		if(this.response != null) {
+			logger.debug("QX read " + this.response.decodedBytes() + " bytes (" + this.response.wireBytes() 
+				+ " on the wire) from " + this.source);
+			this.commitEvent();
+			this.response.close();
+		}
+	}
+	
+	private void commitEvent() {
+		this.event.end();
+		if(!this.event.shouldCommit()) return;
+		this.event.page = FetchEvent.PLAYER_JS;
+		try {
+			this.event.host = new URL(this.source).getHost();
+		} catch (MalformedURLException e) {
+			//can't happen, it was fetched
+			this.event.host = this.source;
+		}
+		this.event.bytesRead = this.response.decodedBytes();
+		this.event.wireBytes = this.response.wireBytes();
+		this.event.success = !this.failed;
+		this.event.commit();
 	}
 	
+	/**
+	 * reads the next statement from the stream. physical lines are appended to a reused buffer and
+	 * only the end of the buffer is checked after each line, so this is linear in the size of the 
+	 * page
+	 * @return the next statement, or null if the end of the stream has been reached
+	 * @throws IOException if the statement is longer than the limit on saved characters
+	 */
 	private String readLine() throws IOException, SocketTimeoutException {
-		String line = "";
+		if(this.endOfStream) return null;
 		
-		do {
-			String singleLine = this.reader.readLine();
-			if(singleLine == null) break;
-			line += singleLine;
-		} while(!endOfLine.matcher(line).find());
+		StringBuilder statement = this.statement;
+		statement.setLength(0);
+		while(true) {
+			if(this.bufferPosition == this.bufferEnd) {
+				int read;
+				try {
+					read = this.reader.read(this.buffer);
+				} catch (IOException e) {
+					this.failed = true;
+					throw e;
+				}
+				if(read == -1) {
+					this.endOfStream = true;
+					break;
+				}
+				this.bufferPosition = 0;
+				this.bufferEnd = read;
+			}
+			int start = this.bufferPosition;
+			int end = start;
+			while(end < this.bufferEnd && this.buffer[end] != '\n' && this.buffer[end] != '\r') end++;
+			statement.append(this.buffer, start, end - start);
+			this.bufferPosition = end;
+			if(statement.length() > this.maxSavedChars) {
+				//never going to end, or at least not before we've held onto far more than we'd save
+				this.failed = true;
+				this.endOfStream = true;
+				statement.setLength(0);
+				statement.trimToSize();
+				throw new IOException("statement longer than " + this.maxSavedChars + " characters in " + this.source);
+			}
+			if(end < this.bufferEnd) {
+				//reached a line break
+				this.bufferPosition++;
+				if(isEndOfStatement(statement)) break;
+			}
+		}
 		
-		if(line.isEmpty()) {
+		if(statement.length() == 0) {
 			//end of stream
 			return null;
-		} else {
-			this.lines.add(line);
-			return line;
 		}
+		String line = statement.toString();
+		if(statement.capacity() > this.buffer.length * 64) {
+			//don't hang onto a huge buffer just because one statement was huge
+			statement.setLength(0);
+			statement.trimToSize();
+		}
+		this.save(line);
+		return line;
+	}
+	
+	private void save(String line) {
+		if(!this.saving) return;
+		if(this.savedChars + line.length() > this.maxSavedChars) {
+			this.saving = false;
+			logger.debug(this + ": reached limit of " + this.maxSavedChars + " saved characters, no longer saving statements");
+			return;
+		}
+		this.lines.add(line);
+		this.savedChars += line.length();
+		indexDefinitions(line, this.functions, this.objects);
+	}
+	
+	/**
+	 * finds function and object definitions in the given statement and adds them to the given 
+	 * indexes, unless a definition with the same name is already present. see 
+	 * {@link JSPage#extractFunctionBody(String)} and {@link JSPage#extractObjectBody(String)} for
+	 * the forms that are recognized
+	 * @param statement the statement to search
+	 * @param functions index to add function definitions to
+	 * @param objects index to add object definitions to
+	 */
+	private static void indexDefinitions(String statement, Map<String, Definition> functions, Map<String, Definition> objects) {
+		int length = statement.length();
+		
+		//name=function(<anything but ')'>){ at the start of the statement
+		int nameEnd = identifierEnd(statement, 0);
+		if(nameEnd > 0 && statement.startsWith("=function(", nameEnd)) {
+			int paramsEnd = statement.indexOf(')', nameEnd + "=function(".length());
+			if(paramsEnd != -1 && paramsEnd + 1 < length && statement.charAt(paramsEnd + 1) == '{') {
+				functions.putIfAbsent(statement.substring(0, nameEnd), new Definition(statement, paramsEnd + 2));
+			}
+		}
+		
+		//<' ' or ','>name={ anywhere
+		for(int i=0; i < length; i++) {
+			char c = statement.charAt(i);
+			if(c != ' ' && c != ',') continue;
+			int nameStart = i + 1;
+			nameEnd = identifierEnd(statement, nameStart);
+			if(nameEnd > nameStart && nameEnd + 1 < length 
+					&& statement.charAt(nameEnd) == '=' && statement.charAt(nameEnd + 1) == '{') {
+				objects.putIfAbsent(statement.substring(nameStart, nameEnd), new Definition(statement, nameEnd + 2));
+			}
+			//nothing in the identifier can start another match, so skip past it
+			if(nameEnd > nameStart) i = nameEnd - 1;
+		}
+	}
+	
+	/**
+	 * @return the index just past the js identifier starting at the given index, or the given index
+	 * itself if there's no identifier there
+	 */
+	private static int identifierEnd(String statement, int start) {
+		int i = start;
+		while(i < statement.length() && isIdentifierChar(statement.charAt(i))) i++;
+		return i;
+	}
+	
+	private static boolean isIdentifierChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '$';
+	}
+	
+	private static boolean isEndOfStatement(CharSequence line) {
+		int length = line.length();
+		return length >= 2 && line.charAt(length - 2) == '}' && line.charAt(length - 1) == ';';
+	}
+	
+	@Override
+	public String toString() {
+		return "JSPageImpl[" + this.source + "]";
 	}
 
 }
@@ -0,0 +1,302 @@
+package my.cute.parser.youtube;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * classifies links by walking their characters directly, giving the same answer as building a 
+ * {@link ParsedURL} and running {@link YoutubeParser#PROBE_START}, {@link YoutubeParser#WATCH_PATTERNS},
+ * {@link YoutubeParser#CONSENT}, and {@link YoutubeParser#YOUTUBE_SHORTENED} over its path, but 
+ * without allocating anything. probe is called on every word of every chat message, so this is
+ * by far the hottest code in the parser
+ * <p>
+ * to give the same answers, this mirrors how {@link URL} splits up a link: surrounding whitespace
+ * and a leading <code>url:</code> are ignored, the protocol is case insensitive, the fragment is
+ * dropped, the port has to be a number, and the host can't contain control characters. the one case that isn't mirrored by hand is a 
+ * bracketed (ipv6) host, which is rare enough that the link is just handed to {@link URL} to check
+ */
+final class LinkClassifier {
+
+	private LinkClassifier() {}
+	
+	/**
+	 * @param link the link to classify
+	 * @return the kind of link
+	 */
+	static LinkKind classify(CharSequence link) {
+		return classify(link, 0, link.length());
+	}
+	
+	/**
+	 * classifies the link in the given range of a sequence
+	 * @param text the sequence containing the link
+	 * @param start the index of the first character of the link
+	 * @param end the index just past the last character of the link
+	 * @return the kind of link
+	 */
+	static LinkKind classify(CharSequence text, int start, int end) {
+		int pathStart = pathStart(text, start, end);
+		if(pathStart == -1) return LinkKind.NOT_YOUTUBE;
+		return classifyPath(text, pathStart, pathEnd(text, pathStart, end));
+	}
+	
+	/**
+	 * finds where the path {@link ParsedURL} would build for the link in the given range starts, 
+	 * ie the start of its authority. the path runs from there to {@link #pathEnd(CharSequence, int, int)}:
+	 * authority + path + ?query is exactly that range of the link
+	 * @param text the sequence containing the link
+	 * @param start the index of the first character of the link
+	 * @param end the index just past the last character of the link
+	 * @return the index the path starts at, or -1 if the link isn't http or https or {@link ParsedURL} 
+	 * would reject it
+	 */
+	static int pathStart(CharSequence text, int start, int end) {
+		//URL trims anything <= ' ' from both ends
+		while(end > start && text.charAt(end - 1) <= ' ') end--;
+		while(start < end && text.charAt(start) <= ' ') start++;
+		if(regionMatchesIgnoreCase(text, start, end, "url:")) start += 4;
+		
+		int position;
+		if(regionMatchesIgnoreCase(text, start, end, "http:")) {
+			position = start + 5;
+		} else if (regionMatchesIgnoreCase(text, start, end, "https:")) {
+			position = start + 6;
+		} else {
+			return -1;
+		}
+		
+		int limit = indexOf(text, '#', position, end);
+		if(limit == -1) limit = end;
+		//no authority, which ParsedURL rejects. four slashes is a unc name, which has none either
+		if(!startsWith(text, position, limit, "//") || startsWith(text, position, limit, "////")) 
+			return -1;
+		int authorityStart = position + 2;
+		int authorityEnd = authorityStart;
+		while(authorityEnd < limit && text.charAt(authorityEnd) != '/' && text.charAt(authorityEnd) != '?') 
+			authorityEnd++;
+		if(!isValidAuthority(text, authorityStart, authorityEnd, start, end)) return -1;
+		return authorityStart;
+	}
+	
+	/**
+	 * @param text the sequence containing the link
+	 * @param pathStart the start of the path, as returned by {@link #pathStart(CharSequence, int, int)}
+	 * @param end the index just past the last character of the link
+	 * @return the index just past the end of the path, ie the start of the fragment or the end of
+	 * the link minus any trailing whitespace
+	 */
+	static int pathEnd(CharSequence text, int pathStart, int end) {
+		while(end > pathStart && text.charAt(end - 1) <= ' ') end--;
+		int fragment = indexOf(text, '#', pathStart, end);
+		return fragment == -1 ? end : fragment;
+	}
+	
+	/**
+	 * classifies a path as built by {@link ParsedURL}, ie the link minus its protocol and fragment
+	 * @param path the path
+	 * @return the kind of link the path is from, assuming its protocol is http or https
+	 */
+	static LinkKind classifyPath(CharSequence path) {
+		return classifyPath(path, 0, path.length());
+	}
+	
+	/**
+	 * finds every word in the given text that {@link #classify(CharSequence)} accepts, in one pass. 
+	 * words are separated by whitespace or control characters. every youtube link contains 
+	 * <code>youtu</code> (youtu.be or youtube.com), so a word is only classified once that turns 
+	 * up in it, and everything else is skipped over without looking at it twice
+	 * @param text the text to search
+	 * @param maxLinks stop after finding this many links
+	 * @return the links found, in the order they appear
+	 */
+	static List<LinkMatch> findLinks(CharSequence text, int maxLinks) {
+		List<LinkMatch> links = new ArrayList<>();
+		int length = text.length();
+		int wordStart = 0;
+		int i = 0;
+		while(i < length && links.size() < maxLinks) {
+			char c = text.charAt(i);
+			if(isSeparator(c)) {
+				wordStart = ++i;
+			} else if (c == 'y' && startsWith(text, i, length, "youtu")) {
+				int wordEnd = i + 5;
+				while(wordEnd < length && !isSeparator(text.charAt(wordEnd))) wordEnd++;
+				LinkKind kind = classify(text, wordStart, wordEnd);
+				if(kind.isYoutube()) {
+					links.add(new LinkMatch(wordStart, wordEnd, kind, text.subSequence(wordStart, wordEnd).toString()));
+				}
+				i = wordEnd;
+			} else {
+				i++;
+			}
+		}
+		return links;
+	}
+	
+	private static boolean isSeparator(char c) {
+		return c <= ' ' || Character.isWhitespace(c);
+	}
+	
+	/**
+	 * classifies the path in the given range of a sequence
+	 * @see #classifyPath(CharSequence)
+	 */
+	static LinkKind classifyPath(CharSequence text, int start, int end) {
+		if(startsWith(text, start, end, "consent.youtube.com/")) return LinkKind.CONSENT;
+		if(startsWith(text, start, end, "youtu.be/")) return LinkKind.SHORTENED;
+		
+		int position;
+		if(startsWith(text, start, end, "www.")) {
+			position = start + 4;
+		} else if (startsWith(text, start, end, "music.")) {
+			position = start + 6;
+		} else if (startsWith(text, start, end, "gaming.")) {
+			position = start + 7;
+		} else {
+			return LinkKind.NOT_YOUTUBE;
+		}
+		//PROBE_START doesn't require anything in particular after this
+		if(!startsWith(text, position, end, "youtube.com")) return LinkKind.NOT_YOUTUBE;
+		
+		//every content pattern starts with a slash, so only look for them at slashes
+		boolean live = false;
+		boolean videoInfo = false;
+		boolean v = false;
+		boolean embed = false;
+		for(int i=start; i < end; i++) {
+			if(text.charAt(i) != '/') continue;
+			int next = i + 1;
+			if(startsWith(text, next, end, "watch?")) return LinkKind.WATCH;
+			if(!live && startsWith(text, next, end, "live")) live = isLiveEnd(text, next + 4, end);
+			if(!videoInfo) videoInfo = startsWith(text, next, end, "get_video_info?");
+			if(!v) v = startsWith(text, next, end, "v/");
+			if(!embed) embed = startsWith(text, next, end, "embed/");
+		}
+		if(live) return LinkKind.LIVE;
+		if(videoInfo) return LinkKind.GET_VIDEO_INFO;
+		if(v) return LinkKind.V;
+		if(embed) return LinkKind.EMBED;
+		return LinkKind.NOT_YOUTUBE;
+	}
+	
+	/**
+	 * @return true if <code>(?:$|\\?)</code> matches at the given index, remembering that without
+	 * MULTILINE <code>$</code> also matches before a line terminator at the very end
+	 */
+	private static boolean isLiveEnd(CharSequence text, int index, int end) {
+		int remaining = end - index;
+		if(remaining == 0) return true;
+		char c = text.charAt(index);
+		if(c == '?') return true;
+		if(remaining == 1) return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+		return remaining == 2 && c == '\r' && text.charAt(index + 1) == '\n';
+	}
+	
+	/**
+	 * checks the parts of the authority that would make {@link URL} reject the link: the port, 
+	 * characters that aren't allowed in a host, and a bracketed host
+	 * @param linkStart start of the whole link, for handing it to URL if needed
+	 * @param linkEnd end of the whole link
+	 */
+	private static boolean isValidAuthority(CharSequence text, int start, int end, int linkStart, int linkEnd) {
+		int at = -1;
+		for(int i=start; i < end; i++) {
+			if(text.charAt(i) != '@') continue;
+			//more than one @ leaves URL with no host at all, so nothing else is checked
+			if(at != -1) return true;
+			at = i;
+		}
+		int hostStart = at == -1 ? start : at + 1;
+		if(hostStart < end && text.charAt(hostStart) == '[') {
+			try {
+				new URL(text.subSequence(linkStart, linkEnd).toString());
+				return true;
+			} catch (MalformedURLException e) {
+				return false;
+			}
+		}
+		int colon = indexOf(text, ':', hostStart, end);
+		int hostEnd = colon == -1 ? end : colon;
+		for(int i=hostStart; i < hostEnd; i++) {
+			if(isIllegalHostChar(text.charAt(i))) return false;
+		}
+		if(colon == -1 || colon + 1 == end) return true;
+		return isValidPort(text, colon + 1, end);
+	}
+	
+	/**
+	 * @return true for the characters URL refuses to have in a host: ascii control characters, 
+	 * and unicode lookalikes of the ascii delimiters (see sun.net.util.IPAddressUtil)
+	 */
+	private static boolean isIllegalHostChar(char c) {
+		if(c < ' ' || c == '\u007f') return true;
+		if(c < '\u2047') return false;
+		switch(c) {
+			case '\u2047': case '\u2048': case '\u2049': case '\u2100': case '\u2101': case '\u2105': 
+			case '\u2106': case '\u2a74': case '\ufe55': case '\ufe56': case '\ufe5f': case '\ufe6b': 
+			case '\uff03': case '\uff0f': case '\uff1a': case '\uff1f': case '\uff20':
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	/**
+	 * @return true if {@link Integer#parseInt(CharSequence, int, int, int)} would accept the given
+	 * range and the result is at least -1 (which URL treats as no port)
+	 */
+	private static boolean isValidPort(CharSequence text, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		char first = text.charAt(i);
+		if(first < '0') {
+			if(first == '-') {
+				negative = true;
+			} else if (first != '+') {
+				return false;
+			}
+			i++;
+			if(i == end) return false;
+		}
+		long value = 0;
+		for(; i < end; i++) {
+			int digit = Character.digit(text.charAt(i), 10);
+			if(digit < 0) return false;
+			//once past the int range the value doesn't matter, but the rest still has to be digits
+			if(value <= Integer.MAX_VALUE) value = value * 10 + digit;
+		}
+		return negative ? value <= 1 : value <= Integer.MAX_VALUE;
+	}
+	
+	private static boolean startsWith(CharSequence text, int start, int end, String prefix) {
+		int length = prefix.length();
+		if(end - start < length) return false;
+		for(int i=0; i < length; i++) {
+			if(text.charAt(start + i) != prefix.charAt(i)) return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * @param prefix lower case ascii
+	 */
+	private static boolean regionMatchesIgnoreCase(CharSequence text, int start, int end, String prefix) {
+		int length = prefix.length();
+		if(end - start < length) return false;
+		for(int i=0; i < length; i++) {
+			char c = text.charAt(start + i);
+			if(c >= 'A' && c <= 'Z') c += 'a' - 'A';
+			if(c != prefix.charAt(i)) return false;
+		}
+		return true;
+	}
+	
+	private static int indexOf(CharSequence text, char c, int start, int end) {
+		for(int i=start; i < end; i++) {
+			if(text.charAt(i) == c) return i;
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,275 @@
+package my.cute.parser.youtube;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * everything that can be told about a link without fetching anything: what kind of youtube link
+ * it is, the video it's for, and the parameters callers usually want alongside that. see
+ * {@link YoutubeParser#analyze(String)}
+ */
+public final class LinkInfo {
+
+	private final String link;
+	private final LinkKind kind;
+	private final String videoId;
+	private final int timestamp;
+	private final String fmt;
+	private final String list;
+
+	private LinkInfo(String link, LinkKind kind, String videoId, int timestamp, String fmt, String list) {
+		this.link = link;
+		this.kind = kind;
+		this.videoId = videoId;
+		this.timestamp = timestamp;
+		this.fmt = fmt;
+		this.list = list;
+	}
+
+	/**
+	 * @param link the link to analyze
+	 * @return the analysis of the given link
+	 */
+	static LinkInfo of(String link) {
+		return of(link, true);
+	}
+
+	/**
+	 * classifies the link and then picks out the parameters it needs in a single pass over the
+	 * path, the same path {@link ParsedURL} would build. nothing is copied out of the link except
+	 * the values that are actually returned
+	 * @param unwrap whether to look inside consent links for the link they wrap
+	 */
+	private static LinkInfo of(String link, boolean unwrap) {
+		int end = link.length();
+		int pathStart = LinkClassifier.pathStart(link, 0, end);
+		if(pathStart == -1) return new LinkInfo(link, LinkKind.NOT_YOUTUBE, null, -1, null, null);
+		int pathEnd = LinkClassifier.pathEnd(link, pathStart, end);
+		LinkKind kind = LinkClassifier.classifyPath(link, pathStart, pathEnd);
+		if(!kind.isYoutube()) return new LinkInfo(link, kind, null, -1, null, null);
+
+		/*
+		 * start and end of the first value of each parameter we care about, found the same way
+		 * as QueryParams (first name= after a ? or &, up to the next &)
+		 */
+		int vStart = -1, vEnd = -1;
+		int videoIdStart = -1, videoIdEnd = -1;
+		int tStart = -1, tEnd = -1;
+		int fmtStart = -1, fmtEnd = -1;
+		int listStart = -1, listEnd = -1;
+		int continueStart = -1, continueEnd = -1;
+		for(int i=pathStart; i < pathEnd; i++) {
+			char c = link.charAt(i);
+			if(c != '?' && c != '&') continue;
+			int name = i + 1;
+			int value;
+			if(vStart == -1 && (value = valueStart(link, name, pathEnd, "v")) != -1) {
+				vStart = value;
+				vEnd = valueEnd(link, value, pathEnd);
+			} else if (videoIdStart == -1 && (value = valueStart(link, name, pathEnd, "video_id")) != -1) {
+				videoIdStart = value;
+				videoIdEnd = valueEnd(link, value, pathEnd);
+			} else if (tStart == -1 && (value = valueStart(link, name, pathEnd, "t")) != -1) {
+				tStart = value;
+				tEnd = valueEnd(link, value, pathEnd);
+			} else if (fmtStart == -1 && (value = valueStart(link, name, pathEnd, "fmt")) != -1) {
+				fmtStart = value;
+				fmtEnd = valueEnd(link, value, pathEnd);
+			} else if (listStart == -1 && (value = valueStart(link, name, pathEnd, "list")) != -1) {
+				listStart = value;
+				listEnd = valueEnd(link, value, pathEnd);
+			} else if (continueStart == -1 && (value = valueStart(link, name, pathEnd, "continue")) != -1) {
+				continueStart = value;
+				continueEnd = valueEnd(link, value, pathEnd);
+			}
+		}
+
+		if(kind == LinkKind.CONSENT) {
+			//everything interesting is in the link being continued to, same as rewrite
+			if(!unwrap || continueStart == -1) return new LinkInfo(link, kind, null, -1, null, null);
+			LinkInfo wrapped;
+			try {
+				wrapped = of(URLDecoder.decode(link.substring(continueStart, continueEnd), StandardCharsets.UTF_8), false);
+			} catch (IllegalArgumentException e) {
+				return new LinkInfo(link, kind, null, -1, null, null);
+			}
+			return new LinkInfo(link, kind, wrapped.videoId, wrapped.timestamp, wrapped.fmt, wrapped.list);
+		}
+
+		String videoId;
+		switch(kind) {
+			case WATCH:
+				videoId = substringOrNull(link, vStart, vEnd);
+				break;
+			case GET_VIDEO_INFO:
+				videoId = substringOrNull(link, videoIdStart, videoIdEnd);
+				break;
+			case SHORTENED:
+				videoId = shortenedVideoId(link, pathStart, pathEnd);
+				break;
+			case EMBED:
+			case V:
+				videoId = pathVideoId(link, pathStart, pathEnd);
+				break;
+			default:
+				videoId = null;
+		}
+		return new LinkInfo(link, kind, videoId, tStart == -1 ? -1 : timestamp(link, tStart, tEnd),
+				fmtStart == -1 ? null : link.substring(fmtStart, fmtEnd),
+				listStart == -1 ? null : link.substring(listStart, listEnd));
+	}
+
+	/**
+	 * @return the index just past <code>name=</code> if that's what starts at the given index,
+	 * otherwise -1
+	 */
+	private static int valueStart(String link, int index, int end, String name) {
+		int length = name.length();
+		if(end - index <= length || link.charAt(index + length) != '=') return -1;
+		return link.startsWith(name, index) ? index + length + 1 : -1;
+	}
+
+	private static int valueEnd(String link, int valueStart, int end) {
+		int ampersand = link.indexOf('&', valueStart);
+		return ampersand == -1 || ampersand > end ? end : ampersand;
+	}
+
+	/**
+	 * @return the given range of the link, or null if it's empty or missing
+	 */
+	private static String substringOrNull(String link, int start, int end) {
+		return start == -1 || start == end ? null : link.substring(start, end);
+	}
+
+	/**
+	 * same as {@link YoutubeParser#YOUTUBE_SHORTENED_EXTRACT}: after <code>youtu.be/</code> and an
+	 * optional <code>watch?v=</code>, up to the first ? or &amp;
+	 */
+	private static String shortenedVideoId(String link, int pathStart, int pathEnd) {
+		int start = pathStart + "youtu.be/".length();
+		if(link.startsWith("watch?v=", start) && start + 8 <= pathEnd) start += 8;
+		int end = start;
+		while(end < pathEnd && link.charAt(end) != '?' && link.charAt(end) != '&') end++;
+		return substringOrNull(link, start, end);
+	}
+
+	/**
+	 * same as {@link YoutubeParser#VIDEO_ID_EXTRACT}: whatever follows the first path segment,
+	 * up to the query, eg <code>ID</code> in <code>/embed/ID?x=y</code>
+	 */
+	private static String pathVideoId(String link, int pathStart, int pathEnd) {
+		for(int i=link.indexOf('/', pathStart); i != -1 && i < pathEnd; i=link.indexOf('/', i + 1)) {
+			if(i + 1 == pathEnd || link.charAt(i + 1) == '/') continue;
+			int next = link.indexOf('/', i + 1);
+			if(next == -1 || next >= pathEnd) return null;
+			int end = next + 1;
+			while(end < pathEnd && link.charAt(end) != '?') end++;
+			return substringOrNull(link, next + 1, end);
+		}
+		return null;
+	}
+
+	/**
+	 * reads a <code>t=</code> value as {@link YoutubeParser#getTimestamp(String)} does: up to
+	 * three <code>&lt;number&gt;&lt;h, m or s&gt;</code> parts, or failing that a number of seconds
+	 * @return the timestamp in seconds, or -1 if there isn't a valid one
+	 */
+	private static int timestamp(String link, int start, int end) {
+		long total = 0;
+		int parts = 0;
+		int i = start;
+		while(parts < 3) {
+			int digits = i;
+			long value = 0;
+			while(i < end && link.charAt(i) >= '0' && link.charAt(i) <= '9') {
+				value = Math.min(value * 10 + (link.charAt(i) - '0'), Integer.MAX_VALUE + 1L);
+				i++;
+			}
+			char unit = i == digits || i == end ? 0 : Character.toLowerCase(link.charAt(i));
+			if(unit == 'h') {
+				value *= 3600;
+			} else if (unit == 'm') {
+				value *= 60;
+			} else if (unit != 's') {
+				//not a whole part, so the parts end before it
+				i = digits;
+				break;
+			}
+			total += value;
+			parts++;
+			i++;
+		}
+		if(parts > 0 && (i == end || link.charAt(i) == '|' || link.charAt(i) == '?')) {
+			return total > Integer.MAX_VALUE ? -1 : (int) total;
+		}
+
+		//otherwise just the leading number, if there is one
+		long seconds = 0;
+		for(i=start; i < end && link.charAt(i) >= '0' && link.charAt(i) <= '9'; i++) {
+			seconds = seconds * 10 + (link.charAt(i) - '0');
+			if(seconds > Integer.MAX_VALUE) return -1;
+		}
+		return i == start ? -1 : (int) seconds;
+	}
+
+	/**
+	 * @return the link this is an analysis of
+	 */
+	public String getLink() {
+		return this.link;
+	}
+
+	/**
+	 * @return the kind of link, as with {@link YoutubeParser#classify(CharSequence)}
+	 */
+	public LinkKind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * @return true if {@link YoutubeParser#probe(String)} would accept the link
+	 */
+	public boolean isYoutube() {
+		return this.kind.isYoutube();
+	}
+
+	/**
+	 * @return the id of the video the link is for (the <code>v</code> in a watch page url, the
+	 * path of a youtu.be link, and so on), or null if it doesn't name one, eg a channel's live
+	 * page. for consent links, this and the other parameters are from the link they wrap
+	 */
+	public String getVideoId() {
+		return this.videoId;
+	}
+
+	/**
+	 * @return the <code>t=</code> timestamp in seconds, in either <code>t=123</code> or
+	 * <code>t=1h2m3s</code> form, or -1 if there isn't one
+	 */
+	public int getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * @return the raw <code>fmt</code> parameter, or null if there isn't one
+	 */
+	public String getFmt() {
+		return this.fmt;
+	}
+
+	/**
+	 * @return the raw <code>list</code> (playlist id) parameter, or null if there isn't one
+	 */
+	public String getList() {
+		return this.list;
+	}
+
+	@Override
+	public String toString() {
+		return "LinkInfo[" + this.kind
+				+ (this.videoId == null ? "" : ", videoId=" + this.videoId)
+				+ (this.timestamp == -1 ? "" : ", t=" + this.timestamp)
+				+ (this.fmt == null ? "" : ", fmt=" + this.fmt)
+				+ (this.list == null ? "" : ", list=" + this.list) + "]";
+	}
+}
@@ -0,0 +1,48 @@
+package my.cute.parser.youtube;
+
+/**
+ * what kind of youtube link a string is, as far as can be told without fetching anything. see 
+ * {@link YoutubeParser#classify(CharSequence)}
+ */
+public enum LinkKind {
+	/**
+	 * a watch page, eg <code>https://www.youtube.com/watch?v=...</code>
+	 */
+	WATCH,
+	/**
+	 * a channel's live page, eg <code>https://www.youtube.com/channel/.../live</code>
+	 */
+	LIVE,
+	/**
+	 * an embedded player, eg <code>https://www.youtube.com/embed/...</code>
+	 */
+	EMBED,
+	/**
+	 * an old-style player link, eg <code>https://www.youtube.com/v/...</code>
+	 */
+	V,
+	/**
+	 * a youtu.be link
+	 */
+	SHORTENED,
+	/**
+	 * a consent.youtube.com redirect, which wraps another link
+	 */
+	CONSENT,
+	/**
+	 * youtube's get_video_info api
+	 */
+	GET_VIDEO_INFO,
+	/**
+	 * anything {@link YoutubeParser#probe(String)} rejects
+	 */
+	NOT_YOUTUBE;
+	
+	/**
+	 * @return true for every kind except {@link #NOT_YOUTUBE}, ie if 
+	 * {@link YoutubeParser#probe(String)} would accept the link
+	 */
+	public boolean isYoutube() {
+		return this != NOT_YOUTUBE;
+	}
+}
@@ -0,0 +1,52 @@
+package my.cute.parser.youtube;
+
+/**
+ * a youtube link found in a larger piece of text by {@link YoutubeParser#findLinks(CharSequence)}
+ */
+public final class LinkMatch {
+
+	private final int start;
+	private final int end;
+	private final LinkKind kind;
+	private final String link;
+
+	LinkMatch(int start, int end, LinkKind kind, String link) {
+		this.start = start;
+		this.end = end;
+		this.kind = kind;
+		this.link = link;
+	}
+
+	/**
+	 * @return the index in the searched text of the first character of the link
+	 */
+	public int getStart() {
+		return this.start;
+	}
+
+	/**
+	 * @return the index in the searched text just past the last character of the link
+	 */
+	public int getEnd() {
+		return this.end;
+	}
+
+	/**
+	 * @return the kind of link, never {@link LinkKind#NOT_YOUTUBE}
+	 */
+	public LinkKind getKind() {
+		return this.kind;
+	}
+
+	/**
+	 * @return the link itself, ie the text between {@link #getStart()} and {@link #getEnd()}
+	 */
+	public String getLink() {
+		return this.link;
+	}
+
+	@Override
+	public String toString() {
+		return "LinkMatch[" + this.kind + ", " + this.start + "-" + this.end + ", " + this.link + "]";
+	}
+}
@@ -0,0 +1,112 @@
+package my.cute.parser.youtube;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * fetches pages for the parser. every request the parser makes (watch pages, get_video_info, and
+ * player js) goes through the PageFetcher given to {@link YoutubeParserBuilder#pageFetcher(PageFetcher)},
+ * so pooled clients, custom timeouts, or an in-process stand-in can be plugged in without touching
+ * the parser itself
+ * <p>
+ * implementations must be thread safe, since a parser may be used from many threads at once. the
+ * default is {@link URLConnectionPageFetcher}; {@link HttpClientPageFetcher} is an alternative that
+ * shares a single keep-alive http client between requests
+ */
+public interface PageFetcher {
+
+	/**
+	 * opens the given url and returns its body as a stream. this should behave like 
+	 * {@link java.net.URLConnection#getInputStream()}: redirects are followed, and error responses 
+	 * (status 400 and up) result in an exception rather than a response. if the server compressed
+	 * the body, the returned stream should decode it
+	 * @param url the url to fetch
+	 * @param timeoutMillis connect and read timeout, in milliseconds, or 0 for none
+	 * @return the response. the caller will close it
+	 * @throws HttpStatusException if the server responded with an error status
+	 * @throws IOException if the page couldn't be fetched
+	 */
+	Response fetch(URL url, int timeoutMillis) throws IOException;
+
+	/**
+	 * fetches the given url asynchronously and reads its whole body. used by 
+	 * {@link YoutubeParser#parseAsync(String)}. the default implementation just calls 
+	 * {@link #fetch(URL, int)} and reads the body on the common pool, which blocks a thread for 
+	 * the duration of the request, so implementations that support non-blocking io should 
+	 * override this
+	 * @param url the url to fetch
+	 * @param timeoutMillis connect and read timeout, in milliseconds, or 0 for none
+	 * @return future that completes with the response, with its body already read in full (ie
+	 * reading the body won't block), or completes exceptionally with an IOException (wrapped in
+	 * a CompletionException) if the page couldn't be fetched
+	 */
+	default CompletableFuture<Response> fetchAsync(URL url, int timeoutMillis) {
+		return CompletableFuture.supplyAsync(() -> {
+			try (Response response = this.fetch(url, timeoutMillis)) {
+				byte[] body = response.body().readAllBytes();
+				return new BufferedResponse(body, response.wireBytes() >= 0 ? response.wireBytes() : body.length);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * the response to a successful fetch
+	 */
+	public interface Response extends Closeable {
+
+		/**
+		 * @return the body of the response. always returns the same stream
+		 * @throws IOException if the body couldn't be opened
+		 */
+		InputStream body() throws IOException;
+
+		/**
+		 * @return the length of the body in bytes as reported by the server (so before any content 
+		 * coding is decoded), or -1 if unknown
+		 */
+		long contentLength();
+
+		/**
+		 * @return the number of bytes of the body received so far as sent by the server, ie before
+		 * any content coding was decoded, or -1 if not tracked
+		 */
+		default long wireBytes() {
+			return -1;
+		}
+
+		/**
+		 * @return the number of bytes read from {@link #body()} so far, or -1 if not tracked
+		 */
+		default long decodedBytes() {
+			return -1;
+		}
+
+		/**
+		 * drops the underlying connection without reading the rest of the body. used when the 
+		 * parser has found what it needs partway through a page. the default implementation just
+		 * closes the response, which for some implementations means draining the rest of the body
+		 */
+		default void abort() {
+			try {
+				this.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		/**
+		 * @param body a complete response body
+		 * @return a response backed by the given body
+		 */
+		static Response of(byte[] body) {
+			return new BufferedResponse(body);
+		}
+	}
+}
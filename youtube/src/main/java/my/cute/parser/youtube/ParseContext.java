@@ -0,0 +1,155 @@
+package my.cute.parser.youtube;
+
+/**
+ * state for a single call to parse, passed down through the parser's helper methods. not thread
+ * safe; each parse gets its own
+ */
+final class ParseContext {
+
+	private final ParsedURL page;
+	private final boolean fetchPlayerJs;
+	private final Deadline deadline;
+	private final String loadedJsUrl;
+	private String missingJsUrl = null;
+	private long playerJsNanos = 0;
+	private ParseListener.Branch branch = null;
+	private long skippedBytes = 0;
+	private String videoId = null;
+
+	/**
+	 * @param page the watch page or get_video_info url being processed. may be null, eg when
+	 * descrambling outside of a parse
+	 * @param fetchPlayerJs if true, player js that isn't in the descrambler cache is downloaded
+	 * when it's needed. if false, nothing is downloaded; instead the first player js url that was
+	 * needed is recorded (see {@link #getMissingJsUrl()}) so it can be fetched some other way and
+	 * the page processed again
+	 */
+	ParseContext(ParsedURL page, boolean fetchPlayerJs) {
+		this.page = page;
+		this.fetchPlayerJs = fetchPlayerJs;
+		this.deadline = Deadline.NONE;
+		this.loadedJsUrl = null;
+	}
+
+	/**
+	 * context for a page processed with player js fetching enabled, under the given deadline
+	 */
+	ParseContext(ParsedURL page, Deadline deadline) {
+		this.page = page;
+		this.fetchPlayerJs = true;
+		this.deadline = deadline;
+		this.loadedJsUrl = null;
+	}
+	
+	/**
+	 * context for processing a page a second time, with player js fetching disabled, after the 
+	 * player js it was missing the first time has been loaded
+	 * @param loadedJsUrl the player js url that was loaded, as returned by {@link #getMissingJsUrl()}
+	 * on the first pass
+	 */
+	ParseContext(ParsedURL page, String loadedJsUrl) {
+		this.page = page;
+		this.fetchPlayerJs = false;
+		this.deadline = Deadline.NONE;
+		this.loadedJsUrl = loadedJsUrl;
+	}
+
+	ParseContext(boolean fetchPlayerJs) {
+		this(null, fetchPlayerJs);
+	}
+
+	boolean canFetchPlayerJs() {
+		return this.fetchPlayerJs;
+	}
+
+	/**
+	 * @return the deadline player js has to be fetched under
+	 */
+	Deadline getDeadline() {
+		return this.deadline;
+	}
+
+	/**
+	 * records that descrambling rules for the given player js were needed but weren't cached
+	 */
+	void setMissingJsUrl(String jsUrl) {
+		if(this.missingJsUrl == null) this.missingJsUrl = jsUrl;
+	}
+
+	/**
+	 * @return the url of the first player js that was needed but not cached while this context was
+	 * in use, or null if there wasn't one. always null if player js fetching is enabled
+	 */
+	String getMissingJsUrl() {
+		return this.missingJsUrl;
+	}
+	
+	/**
+	 * @return the player js url loaded between the first pass over the page and this one, or null
+	 * if this is the first pass
+	 */
+	String getLoadedJsUrl() {
+		return this.loadedJsUrl;
+	}
+	
+	/**
+	 * records time spent loading player js, so it can be left out of the time reported for the 
+	 * page that needed it
+	 */
+	void addPlayerJsNanos(long nanos) {
+		this.playerJsNanos += nanos;
+	}
+	
+	long getPlayerJsNanos() {
+		return this.playerJsNanos;
+	}
+	
+	/**
+	 * records how much of the page was left unread when reading stopped early
+	 * @param skippedBytes the number of bytes skipped, or -1 if unknown
+	 */
+	void setSkippedBytes(long skippedBytes) {
+		this.skippedBytes = skippedBytes;
+	}
+	
+	/**
+	 * @return the number of bytes of the page that were skipped, 0 if it was read to the end, or
+	 * -1 if reading stopped early but the length of the page wasn't known
+	 */
+	long getSkippedBytes() {
+		return this.skippedBytes;
+	}
+	
+	/**
+	 * records where the page's result came from
+	 */
+	void setBranch(ParseListener.Branch branch) {
+		this.branch = branch;
+	}
+	
+	/**
+	 * @return the name of the branch the page's result came from, or null if there isn't one (yet)
+	 */
+	String getBranchName() {
+		return this.branch == null ? null : this.branch.name();
+	}
+	
+	/**
+	 * @return the id of the video the page is for, or null if the url doesn't name one. only 
+	 * looked up when first asked for, since it's only needed for flight recorder events
+	 */
+	String getVideoId() {
+		if(this.videoId == null && this.page != null) this.videoId = videoIdOf(this.page);
+		return this.videoId;
+	}
+	
+	/**
+	 * @return the id of the video the given watch page or get_video_info url is for, or null if
+	 * it doesn't name one
+	 */
+	static String videoIdOf(ParsedURL page) {
+		QueryParams params = page.getParams();
+		String videoId = params.getString("v");
+		return videoId != null ? videoId : params.getString("video_id");
+	}
+}
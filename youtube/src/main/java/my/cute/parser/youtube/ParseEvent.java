@@ -0,0 +1,26 @@
+package my.cute.parser.youtube;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * flight recorder event covering a whole call to {@link YoutubeParser#parse(String)} or 
+ * {@link YoutubeParser#parseAsync(String)}, with one {@link FetchEvent} per hop inside it. see 
+ * {@link FetchEvent} for the cost when no recording is running
+ */
+@Name("my.cute.parser.youtube.Parse")
+@Label("Youtube Parse")
+@Category("Youtube Parser")
+@Description("A youtube link parsed into a stream url")
+@StackTrace(false)
+final class ParseEvent extends jdk.jfr.Event {
+	
+	@Label("Link")
+	String link;
+	
+	@Label("Success")
+	boolean success;
+}
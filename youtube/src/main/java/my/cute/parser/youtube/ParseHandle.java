@@ -0,0 +1,98 @@
+package my.cute.parser.youtube;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * a parse started with {@link YoutubeParser#submit(String, java.time.Duration)}, which can be
+ * waited on or given up on. the result is null if the link couldn't be parsed, the deadline
+ * passed, or the parse was cancelled, same as {@link YoutubeParser#parse(String)} returns null
+ * for anything that goes wrong
+ */
+public final class ParseHandle {
+
+	private final CompletableFuture<String> result = new CompletableFuture<>();
+	private volatile boolean cancelled = false;
+
+	/**
+	 * @param shared the parse this handle waits for, possibly shared with other callers
+	 * @param deadlineNanos how long to wait for it
+	 * @param giveUp called if this handle stops waiting before the parse is done, whether
+	 * because the deadline passed or because it was cancelled
+	 */
+	ParseHandle(CompletableFuture<String> shared, long deadlineNanos, Runnable giveUp) {
+		shared.whenComplete((result, throwable) -> {
+			if(throwable != null) {
+				this.result.completeExceptionally(throwable);
+			} else {
+				this.result.complete(result);
+			}
+		});
+		this.result.completeOnTimeout(null, deadlineNanos, TimeUnit.NANOSECONDS);
+		this.result.whenComplete((result, throwable) -> {
+			if(!shared.isDone()) giveUp.run();
+		});
+	}
+
+	/**
+	 * @return a handle that's already done with the given result
+	 */
+	static ParseHandle completed(String result) {
+		return new ParseHandle(CompletableFuture.completedFuture(result), 0, () -> {});
+	}
+
+	/**
+	 * waits for the parse to finish, which is never longer than its deadline
+	 * @return a direct link to the source video, or null if the link couldn't be parsed, the
+	 * deadline passed, or the parse was cancelled
+	 */
+	public String join() {
+		try {
+			return this.result.join();
+		} catch (CompletionException e) {
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
+
+	/**
+	 * stops the parse: anything it has open is closed, and {@link #join()} returns null straight
+	 * away. if other calls are waiting on the same parse (see {@link YoutubeParser#parse(String)}),
+	 * it carries on for them and only this handle stops waiting
+	 * @return true if this cancelled the parse, false if it had already finished
+	 */
+	public boolean cancel() {
+		this.cancelled = true;
+		boolean cancelled = this.result.complete(null);
+		if(!cancelled) this.cancelled = false;
+		return cancelled;
+	}
+
+	/**
+	 * @return true if the parse has finished, passed its deadline, or been cancelled
+	 */
+	public boolean isDone() {
+		return this.result.isDone();
+	}
+
+	/**
+	 * @return true if {@link #cancel()} stopped the parse before it finished
+	 */
+	public boolean isCancelled() {
+		return this.cancelled;
+	}
+
+	/**
+	 * @return a future that completes when {@link #join()} would return, with the same result.
+	 * cancelling it doesn't cancel the parse; use {@link #cancel()} for that
+	 */
+	public CompletableFuture<String> toFuture() {
+		return this.result.copy();
+	}
+
+	@Override
+	public String toString() {
+		return "ParseHandle[" + (this.cancelled ? "cancelled" : this.result.isDone() ? "done" : "running") + "]";
+	}
+}
@@ -0,0 +1,113 @@
+package my.cute.parser.youtube;
+
+/**
+ * receives timing and outcome events for each stage of a parse. set with
+ * {@link YoutubeParserBuilder#listener(ParseListener)}. every method has an empty default, so
+ * implementations only need to override the events they care about
+ * <p>
+ * durations are in nanoseconds, measured with {@link System#nanoTime()}. byte counts are -1 when
+ * unknown, eg when a fetch failed partway through or the {@link PageFetcher} doesn't track them.
+ * events are delivered on whichever thread the stage ran on (for async parses, often a pool
+ * thread), so implementations must be thread safe, and should be quick and never throw since
+ * they run inline with the parse
+ */
+public interface ParseListener {
+
+	/**
+	 * a listener that ignores every event
+	 */
+	static final ParseListener NONE = new ParseListener() {};
+
+	/**
+	 * where a page's stream url came from
+	 */
+	enum Branch {
+		/**
+		 * the classic <code>url_encoded_fmt_stream_map</code> parameters
+		 */
+		URL_ENCODED_FMT_STREAM_MAP,
+		/**
+		 * the new-style <code>formats</code> array
+		 */
+		FORMATS,
+		/**
+		 * the <code>hlsManifestUrl</code> of a live stream
+		 */
+		HLS_MANIFEST,
+		/**
+		 * nothing was found in a watch page, so the parse continues with get_video_info
+		 */
+		GET_VIDEO_INFO_FALLBACK,
+		/**
+		 * nothing was found in a get_video_info response, so it's retried with
+		 * <code>el=detailpage</code>
+		 */
+		DETAILPAGE_RETRY
+	}
+
+	/**
+	 * a watch page or get_video_info response has been fetched and read. for blocking parses the
+	 * page is processed as it's read, so the duration includes processing (but not player js
+	 * fetches, which are reported separately)
+	 * @param url the url of the page
+	 * @param nanos time from starting the request until the page had been read
+	 * @param bytes bytes of the body read, after decoding
+	 * @param wireBytes bytes of the body read, as received
+	 * @param success false if the request failed or reading the page was cut short by an error
+	 */
+	default void pageFetched(String url, long nanos, long bytes, long wireBytes, boolean success) {}
+
+	/**
+	 * the player js url has been found in a watch page
+	 * @param pageUrl the url of the watch page
+	 * @param jsUrl the player js url
+	 * @param nanos time from starting to read the page until the url was found
+	 */
+	default void jsUrlFound(String pageUrl, String jsUrl, long nanos) {}
+
+	/**
+	 * a page produced its result
+	 * @param pageUrl the url of the page
+	 * @param branch where the result came from
+	 */
+	default void branchTaken(String pageUrl, Branch branch) {}
+
+	/**
+	 * player js has been fetched and the signature descrambling rules extracted from it. the two
+	 * happen together as the js streams in
+	 * @param jsUrl the url of the player js
+	 * @param nanos time from starting the request until the rules were extracted
+	 * @param bytes bytes of the player js read, after decoding
+	 * @param wireBytes bytes of the player js read, as received
+	 * @param success false if the js couldn't be fetched or the rules couldn't be extracted
+	 */
+	default void playerJsLoaded(String jsUrl, long nanos, long bytes, long wireBytes, boolean success) {}
+
+	/**
+	 * a signature has been descrambled
+	 * @param jsUrl the url of the player js the rules came from
+	 * @param nanos time spent descrambling, including looking up the rules but not loading them
+	 * @param cached true if the rules were already cached, false if they had to be loaded first
+	 * (in which case {@link #playerJsLoaded(String, long, long, long, boolean)} reports the load)
+	 */
+	default void descrambled(String jsUrl, long nanos, boolean cached) {}
+
+	/**
+	 * a stream has been picked out of a page's stream parameters
+	 * @param pageUrl the url of the page
+	 * @param branch the parameters the stream was picked from, either
+	 * {@link Branch#URL_ENCODED_FMT_STREAM_MAP} or {@link Branch#FORMATS}
+	 * @param nanos time spent picking, including descrambling the signature and loading the
+	 * descrambling rules if needed
+	 * @param success false if no suitable stream was found
+	 */
+	default void streamPicked(String pageUrl, Branch branch, long nanos, boolean success) {}
+
+	/**
+	 * a call to parse has finished
+	 * @param link the link that was parsed
+	 * @param nanos total time taken, including every hop
+	 * @param success true if a stream url was found
+	 */
+	default void parseFinished(String link, long nanos, boolean success) {}
+}
@@ -12,9 +12,12 @@ class ParsedURL {
 
 	private final URL url;
 	private final String fullPath;
+	private QueryParams params;
 	
 	ParsedURL(String url) throws MalformedURLException {
 		this.url = new URL(url);
+		//eg http:foo, which URL accepts
+		if(this.url.getAuthority() == null) throw new MalformedURLException("no authority: " + url);
 		StringBuilder pathBuilder = new StringBuilder(this.url.getAuthority());
 		pathBuilder.append(this.url.getPath());
 		if(this.url.getQuery() != null) {
@@ -32,6 +35,14 @@ class ParsedURL {
 		return this.fullPath;
 	}
 	
+	/**
+	 * @return the parameters in the path, indexed the first time they're asked for
+	 */
+	public QueryParams getParams() {
+		if(this.params == null) this.params = new QueryParams(this.fullPath);
+		return this.params;
+	}
+	
 	public String getAuthority() {
 		return this.url.getAuthority();
 	}
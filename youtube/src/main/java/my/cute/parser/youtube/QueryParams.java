@@ -0,0 +1,184 @@
+package my.cute.parser.youtube;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * the parameters of a url, indexed in one pass over it so any number of them can be looked up 
+ * without scanning (or copying) the url again. values are handed out as views into the url, and 
+ * are only copied or percent-decoded when asked for
+ * <p>
+ * lookups give the same answer as {@link URLUtils#getUrlParam(String, String)} always has: the 
+ * value of the first <code>name=</code> directly after a <code>?</code> or <code>&amp;</code>, 
+ * up to the next <code>&amp;</code>. note this means a <code>?</code> inside a value (eg in a 
+ * urlencoded-by-hand link) still starts a new parameter
+ */
+public final class QueryParams {
+
+	private final CharSequence url;
+	/*
+	 * three ints per parameter: start of the name, the '=' after it, and the end of the value
+	 */
+	private final int[] offsets;
+	private final int count;
+	
+	/**
+	 * @param url the url (or any part of one) to index
+	 */
+	public QueryParams(CharSequence url) {
+		this.url = url;
+		int length = url.length();
+		int[] offsets = new int[12];
+		int count = 0;
+		//index of the first parameter whose value hasn't been closed by an & yet
+		int open = 0;
+		//start of the name after the last ? or &, until its = turns up
+		int nameStart = -1;
+		for(int i=0; i <= length; i++) {
+			char c = i < length ? url.charAt(i) : '&';
+			if(c == '&' || c == '?') {
+				if(c == '&') {
+					for(; open < count; open++) offsets[open * 3 + 2] = i;
+				}
+				nameStart = i + 1;
+			} else if (c == '=' && nameStart != -1) {
+				if(count * 3 == offsets.length) offsets = Arrays.copyOf(offsets, offsets.length * 2);
+				offsets[count * 3] = nameStart;
+				offsets[count * 3 + 1] = i;
+				count++;
+				nameStart = -1;
+			}
+		}
+		this.offsets = offsets;
+		this.count = count;
+	}
+	
+	/**
+	 * @param name the name of the parameter
+	 * @return true if the url has the given parameter, even with an empty value
+	 */
+	public boolean contains(String name) {
+		return this.indexOf(name) != -1;
+	}
+	
+	/**
+	 * @param name the name of the parameter
+	 * @return a view of the raw (still percent-encoded) value of the given parameter, or null if 
+	 * the url doesn't have it. the view reads from the url this was built from, so if that's 
+	 * mutable it shouldn't be changed while the view is in use
+	 */
+	public CharSequence get(String name) {
+		int index = this.indexOf(name);
+		if(index == -1) return null;
+		return new Slice(this.url, this.offsets[index * 3 + 1] + 1, this.offsets[index * 3 + 2]);
+	}
+	
+	/**
+	 * @param name the name of the parameter
+	 * @return the raw (still percent-encoded) value of the given parameter, or null if the url
+	 * doesn't have it
+	 */
+	public String getString(String name) {
+		int index = this.indexOf(name);
+		if(index == -1) return null;
+		return this.url.subSequence(this.offsets[index * 3 + 1] + 1, this.offsets[index * 3 + 2]).toString();
+	}
+	
+	/**
+	 * @param name the name of the parameter
+	 * @return the value of the given parameter, percent-decoded as utf-8 (as with 
+	 * {@link URLDecoder}), or null if the url doesn't have it
+	 * @throws IllegalArgumentException if the value contains an invalid percent escape
+	 */
+	public String getDecoded(String name) {
+		String value = this.getString(name);
+		if(value == null || (value.indexOf('%') == -1 && value.indexOf('+') == -1)) return value;
+		return URLDecoder.decode(value, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * helper for carrying a parameter over to another url
+	 * @param name the name of the parameter
+	 * @return <code>&amp;name=value</code> with the raw value of the given parameter, ready to 
+	 * be appended to another url, or the empty string if the url doesn't have it
+	 */
+	public String copy(String name) {
+		int index = this.indexOf(name);
+		if(index == -1) return "";
+		int valueStart = this.offsets[index * 3 + 1] + 1;
+		int valueEnd = this.offsets[index * 3 + 2];
+		return new StringBuilder(name.length() + 2 + valueEnd - valueStart)
+				.append('&').append(name).append('=')
+				.append(this.url, valueStart, valueEnd)
+				.toString();
+	}
+	
+	/**
+	 * @return the number of parameters found, counting repeats
+	 */
+	public int size() {
+		return this.count;
+	}
+	
+	private int indexOf(String name) {
+		int length = name.length();
+		for(int i=0; i < this.count; i++) {
+			int nameStart = this.offsets[i * 3];
+			if(this.offsets[i * 3 + 1] - nameStart != length) continue;
+			boolean matches = true;
+			for(int j=0; j < length; j++) {
+				if(this.url.charAt(nameStart + j) != name.charAt(j)) {
+					matches = false;
+					break;
+				}
+			}
+			if(matches) return i;
+		}
+		return -1;
+	}
+	
+	@Override
+	public String toString() {
+		return "QueryParams[" + this.url + "]";
+	}
+	
+	/**
+	 * a value, without copying it out of the url
+	 */
+	private static final class Slice implements CharSequence {
+		
+		private final CharSequence text;
+		private final int start;
+		private final int end;
+		
+		private Slice(CharSequence text, int start, int end) {
+			this.text = text;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public int length() {
+			return this.end - this.start;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if(index < 0 || index >= this.length()) throw new IndexOutOfBoundsException(index);
+			return this.text.charAt(this.start + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if(start < 0 || end > this.length() || start > end) 
+				throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + this.length());
+			return new Slice(this.text, this.start + start, this.start + end);
+		}
+
+		@Override
+		public String toString() {
+			return this.text.subSequence(this.start, this.end).toString();
+		}
+	}
+}
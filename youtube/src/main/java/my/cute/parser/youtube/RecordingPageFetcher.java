@@ -0,0 +1,129 @@
+package my.cute.parser.youtube;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link PageFetcher} decorator that saves every exchange to a fixture directory, for replaying
+ * later from a local server (the tests have one). see {@link YoutubeParserBuilder#record(Path)}
+ * <p>
+ * the directory holds one file per response body (decoded, ie as the parser saw it) plus an 
+ * index file with one line per exchange:
+ * <pre>&lt;status code&gt;\t&lt;body file name&gt;\t&lt;request path and query&gt;</pre>
+ * hosts aren't recorded, so a replay serves the same body for a path no matter which host it was
+ * fetched from. recording into a directory that already has fixtures adds to them
+ * <p>
+ * bodies are read in full before they're handed to the parser so that the fixture is complete 
+ * even if the parser stops reading early, which means recording disables the benefit of early
+ * exit. recording is meant for capturing problem cases, not for normal use
+ */
+class RecordingPageFetcher implements PageFetcher {
+
+	private static final Logger logger = LoggerFactory.getLogger(RecordingPageFetcher.class);
+
+	private static final String INDEX_FILE = "exchanges.tsv";
+
+	private final PageFetcher delegate;
+	private final Path directory;
+	private int count;
+
+	/**
+	 * @param delegate the fetcher to record
+	 * @param directory the fixture directory. created if it doesn't exist
+	 * @throws IOException if the directory couldn't be created or its index couldn't be read
+	 */
+	RecordingPageFetcher(PageFetcher delegate, Path directory) throws IOException {
+		this.delegate = delegate;
+		this.directory = directory;
+		Files.createDirectories(directory);
+		Path index = directory.resolve(INDEX_FILE);
+		//continue numbering after any existing fixtures so their bodies aren't overwritten
+		this.count = Files.exists(index) ? Files.readAllLines(index, StandardCharsets.UTF_8).size() : 0;
+	}
+
+	@Override
+	public Response fetch(URL url, int timeoutMillis) throws IOException {
+		byte[] body;
+		long wireBytes;
+		try (Response response = this.delegate.fetch(url, timeoutMillis)) {
+			body = response.body().readAllBytes();
+			wireBytes = response.wireBytes() >= 0 ? response.wireBytes() : body.length;
+		} catch (HttpStatusException e) {
+			this.record(url, e.getStatusCode(), new byte[0]);
+			throw e;
+		}
+		this.record(url, 200, body);
+		return new BufferedResponse(body, wireBytes);
+	}
+
+	@Override
+	public CompletableFuture<Response> fetchAsync(URL url, int timeoutMillis) {
+		return this.delegate.fetchAsync(url, timeoutMillis)
+				.handle((response, throwable) -> {
+					if(throwable != null) {
+						Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+						if(cause instanceof HttpStatusException) 
+							this.recordQuietly(url, ((HttpStatusException) cause).getStatusCode(), new byte[0]);
+						throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(cause);
+					}
+					try (response) {
+						byte[] body = response.body().readAllBytes();
+						this.recordQuietly(url, 200, body);
+						return new BufferedResponse(body, response.wireBytes() >= 0 ? response.wireBytes() : body.length);
+					} catch (IOException e) {
+						throw new CompletionException(e);
+					}
+				});
+	}
+
+	private void recordQuietly(URL url, int statusCode, byte[] body) {
+		try {
+			this.record(url, statusCode, body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private synchronized void record(URL url, int statusCode, byte[] body) throws IOException {
+		String fileName;
+		do {
+			//skip names taken by another recorder writing to the same directory
+			this.count++;
+			fileName = String.format("%04d-%s.body", this.count, describe(url));
+		} while(Files.exists(this.directory.resolve(fileName)));
+		Files.write(this.directory.resolve(fileName), body);
+		try (BufferedWriter writer = Files.newBufferedWriter(this.directory.resolve(INDEX_FILE), StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+			writer.write(statusCode + "\t" + fileName + "\t" + url.getFile());
+			writer.newLine();
+		}
+		logger.debug("QX recorded " + url + " (" + statusCode + ", " + body.length + " bytes) as " + fileName);
+	}
+
+	/**
+	 * @return a short, filesystem-safe description of the given url for naming its body file, eg
+	 * "watch" or "base.js"
+	 */
+	private static String describe(URL url) {
+		String path = url.getPath();
+		String name = path.substring(path.lastIndexOf('/') + 1);
+		name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+		return name.isEmpty() ? "index" : name;
+	}
+
+	@Override
+	public String toString() {
+		return "RecordingPageFetcher[" + this.directory + "]";
+	}
+}
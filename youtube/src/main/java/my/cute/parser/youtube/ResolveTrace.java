@@ -0,0 +1,69 @@
+package my.cute.parser.youtube;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * state for resolving one link: the pages fetched so far, so none is fetched twice and the number
+ * of fetches can be capped, plus the path taken, for logging. not thread safe; an async parse
+ * only ever uses it from one stage at a time
+ */
+final class ResolveTrace {
+
+	private final int maxHops;
+	private final Set<String> fetched = new HashSet<>();
+	private final List<String> steps = new ArrayList<>();
+
+	/**
+	 * @param start the url resolving starts from
+	 * @param maxHops the most pages that may be fetched
+	 */
+	ResolveTrace(ParsedURL start, int maxHops) {
+		this.maxHops = maxHops;
+		this.steps.add(start.toString());
+	}
+
+	/**
+	 * records a rewrite that didn't need a fetch
+	 */
+	void rewrote(ParsedURL to) {
+		this.steps.add("rewrite " + to);
+	}
+
+	/**
+	 * checks whether the given page may be fetched, and records it if so
+	 * @param page the page about to be fetched
+	 * @return true if it may be fetched, false if it was already fetched during this resolve or
+	 * the hop budget is used up
+	 */
+	boolean fetch(ParsedURL page) {
+		String url = page.toString();
+		if(!this.fetched.add(url)) {
+			this.steps.add("already fetched " + url);
+			return false;
+		}
+		if(this.fetched.size() > this.maxHops) {
+			this.steps.add("out of hops before " + url);
+			return false;
+		}
+		this.steps.add("fetch " + url);
+		return true;
+	}
+
+	/**
+	 * @return the number of pages fetched so far
+	 */
+	int getHops() {
+		return Math.min(this.fetched.size(), this.maxHops);
+	}
+
+	/**
+	 * @return the path taken so far, one step after another
+	 */
+	@Override
+	public String toString() {
+		return String.join(" -> ", this.steps);
+	}
+}
@@ -0,0 +1,78 @@
+package my.cute.parser.youtube;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * cache of parse results. direct googlevideo links are only valid until the time given in their
+ * <code>expire</code> parameter, so each result is kept until that time minus a safety margin
+ * (so a link handed out from the cache is still usable for a while), or until it's evicted to 
+ * stay within the size bound. results without an expiry time aren't cached at all
+ * <p>
+ * results depend on the parser's preferred resolution as well as the key, so a cache should only
+ * ever be used by a single parser
+ */
+class ResultCache {
+	
+	private static final Logger logger = LoggerFactory.getLogger(ResultCache.class);
+
+	private final ExpiringLruCache<VideoKey, String> cache;
+	private final long safetyMarginMillis;
+
+	/**
+	 * @param maxSize the maximum number of results to keep
+	 * @param safetyMarginMillis how long before a result's expiry time it's dropped from the cache,
+	 * in milliseconds
+	 */
+	ResultCache(int maxSize, long safetyMarginMillis) {
+		//default ttl is never used since every entry gets its own
+		this.cache = new ExpiringLruCache<>(maxSize, 0);
+		this.safetyMarginMillis = safetyMarginMillis;
+	}
+
+	/**
+	 * @return the cached result for the given key, or null if there isn't one (or it's about to 
+	 * expire)
+	 */
+	String get(VideoKey key) {
+		return this.cache.get(key);
+	}
+
+	/**
+	 * caches the given result, if it has an expiry time far enough in the future
+	 * @param key the key the result was produced for
+	 * @param result the result of parsing. null results are ignored
+	 */
+	void put(VideoKey key, String result) {
+		if(result == null) return;
+		long expire = getExpireMillis(result);
+		if(expire < 0) {
+			logger.debug("QX not caching result for " + key + ", no expiry time found");
+			return;
+		}
+		long ttlMillis = expire - this.safetyMarginMillis - System.currentTimeMillis();
+		if(ttlMillis <= 0) {
+			logger.debug("QX not caching result for " + key + ", expires too soon");
+			return;
+		}
+		this.cache.put(key, result, TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+	}
+
+	/**
+	 * @param url a direct video url
+	 * @return the expiry time of the given url in epoch milliseconds, or -1 if it doesn't have one
+	 * (see {@link YoutubeParser#EXPIRE_EXTRACT})
+	 */
+	static long getExpireMillis(String url) {
+		String expire = YoutubeParser.EXPIRE_EXTRACT.matcher(url).results()
+				.map(result -> result.group(1)).findFirst().orElse(null);
+		if(expire == null) return -1;
+		try {
+			return Math.multiplyExact(Long.parseLong(expire), 1000L);
+		} catch (NumberFormatException | ArithmeticException e) {
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package my.cute.parser.youtube;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * flight recorder event covering one cpu-bound stage of a parse: picking a stream, descrambling a
+ * signature, extracting descrambling rules from player js, or (for async parses, where pages are
+ * downloaded in full first) processing a downloaded page. see {@link FetchEvent} for the cost when
+ * no recording is running
+ */
+@Name("my.cute.parser.youtube.Stage")
+@Label("Youtube Parse Stage")
+@Category("Youtube Parser")
+@Description("A processing stage while parsing a youtube link")
+@StackTrace(false)
+final class StageEvent extends jdk.jfr.Event {
+	
+	static final String PICK_STREAM = "pick stream";
+	static final String DESCRAMBLE = "descramble";
+	static final String EXTRACT_DESCRAMBLER = "extract descrambler";
+	static final String READ_PAGE = "read page";
+	
+	@Label("Stage")
+	String stage;
+	
+	@Label("Video Id")
+	String videoId;
+	
+	@Label("Branch")
+	@Description("The stream parameters being picked from, or where a page's result came from")
+	String branch;
+	
+	@Label("Success")
+	boolean success;
+}
@@ -0,0 +1,160 @@
+package my.cute.parser.youtube;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * one of the streams a video is available in, as returned by
+ * {@link YoutubeParser#resolveFormats(String)}. everything but the url is known up front; the url
+ * is only worked out (which for most videos means descrambling its signature) the first time it's
+ * asked for, so picking from a list of formats costs nothing beyond the streams actually used
+ */
+public final class StreamFormat {
+
+	private final int itag;
+	private final int height;
+	private final long bitrate;
+	private final String mimeType;
+	private final boolean adaptive;
+	/*
+	 * null once the url has been resolved
+	 */
+	private Supplier<String> urlSupplier;
+	private String url;
+
+	StreamFormat(int itag, int height, long bitrate, String mimeType, boolean adaptive, Supplier<String> urlSupplier) {
+		this.itag = itag;
+		this.height = height;
+		this.bitrate = bitrate;
+		this.mimeType = mimeType;
+		this.adaptive = adaptive;
+		this.urlSupplier = urlSupplier;
+	}
+
+	/**
+	 * @return youtube's id for this format, as used with the <code>fmt</code> link parameter, or
+	 * -1 if it didn't have one
+	 */
+	public int getItag() {
+		return this.itag;
+	}
+
+	/**
+	 * @return the video height in pixels, or -1 if unknown, eg for audio
+	 */
+	public int getHeight() {
+		return this.height;
+	}
+
+	/**
+	 * @return the bitrate in bits per second, or -1 if unknown
+	 */
+	public long getBitrate() {
+		return this.bitrate;
+	}
+
+	/**
+	 * @return the mime type including codecs, eg <code>video/mp4; codecs="avc1.42001E, mp4a.40.2"</code>,
+	 * or null if unknown
+	 */
+	public String getMimeType() {
+		return this.mimeType;
+	}
+
+	/**
+	 * @return true if this is an adaptive format, ie it has only video or only audio.
+	 * {@link YoutubeParser#parse(String)} never picks these unless asked for by itag
+	 */
+	public boolean isAdaptive() {
+		return this.adaptive;
+	}
+
+	/**
+	 * works out the direct url of this stream, descrambling its signature if it has one. this
+	 * only happens on the first call; later calls return the same result. may download player js
+	 * if the descrambling rules it needs aren't in the parser's cache
+	 * @return the direct url of this stream, or null if it couldn't be worked out
+	 */
+	public synchronized String getUrl() {
+		if(this.urlSupplier != null) {
+			this.url = this.urlSupplier.get();
+			this.urlSupplier = null;
+		}
+		return this.url;
+	}
+
+	/**
+	 * picks a format from the given list the same way {@link YoutubeParser#parse(String)} does
+	 * for a parser with the given preferred resolution: out of the formats with both audio and
+	 * video, the highest that's no higher than the preferred resolution, or if they're all
+	 * higher, the lowest
+	 * @param formats the formats to pick from
+	 * @param preferredResolution the preferred video height, or -1 for the highest available
+	 * @return the picked format, or null if there are no formats with both audio and video
+	 */
+	public static StreamFormat pick(List<StreamFormat> formats, int preferredResolution) {
+		StreamFormat pick = null;
+		int bestRes = -1;
+		for(StreamFormat format : formats) {
+			if(format.adaptive) continue;
+			if(isBetter(format.height, pick != null, bestRes, preferredResolution)) {
+				bestRes = format.height;
+				pick = format;
+			}
+		}
+		return pick;
+	}
+
+	/**
+	 * picks formats for several preferred resolutions at once, as with
+	 * {@link #pick(List, int)}, eg for serving both mobile and desktop viewers from a single
+	 * resolve
+	 * @param formats the formats to pick from
+	 * @param preferredResolutions the preferred video heights
+	 * @return unmodifiable map from each of the given resolutions to the format picked for it, in
+	 * the given order. resolutions nothing could be picked for are left out
+	 */
+	public static Map<Integer, StreamFormat> pick(List<StreamFormat> formats, int... preferredResolutions) {
+		Map<Integer, StreamFormat> picks = new LinkedHashMap<>();
+		for(int preferredResolution : preferredResolutions) {
+			StreamFormat pick = pick(formats, preferredResolution);
+			if(pick != null) picks.put(preferredResolution, pick);
+		}
+		return Collections.unmodifiableMap(picks);
+	}
+
+	/**
+	 * @param formats the formats to search
+	 * @param itag the itag to look for
+	 * @return the first format with the given itag, or null if there isn't one
+	 */
+	public static StreamFormat withItag(List<StreamFormat> formats, int itag) {
+		for(StreamFormat format : formats) {
+			if(format.itag == itag) return format;
+		}
+		return null;
+	}
+
+	/**
+	 * the resolution rule shared with the parser's own stream picking
+	 * @param height the height of the format being considered, -1 if unknown
+	 * @param havePick whether a format has been picked already
+	 * @param bestRes the height of the format picked so far
+	 * @param prefRes the preferred resolution
+	 * @return true if the format being considered should replace the one picked so far
+	 */
+	static boolean isBetter(int height, boolean havePick, int bestRes, int prefRes) {
+		return !havePick || (height != -1 && bestRes == -1) ||
+				(height != -1 && height > bestRes && (prefRes < 0 || prefRes >= height)) ||
+				(height != -1 && prefRes > -1 && bestRes > prefRes && bestRes > height);
+	}
+
+	@Override
+	public String toString() {
+		return "StreamFormat[itag=" + this.itag + ", height=" + this.height + ", bitrate=" + this.bitrate
+				+ (this.adaptive ? ", adaptive" : "") + (this.mimeType == null ? "" : ", " + this.mimeType) + "]";
+	}
+}
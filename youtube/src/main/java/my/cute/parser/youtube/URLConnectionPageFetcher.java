@@ -0,0 +1,131 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * the default {@link PageFetcher}. blocking fetches open a new {@link URLConnection} for every 
+ * request, exactly as the parser always has, except that gzip and deflate compressed responses
+ * are accepted (and decoded as they're read). since URLConnection can't do non-blocking io, async
+ * fetches are handed to an {@link HttpClientPageFetcher} that's created the first time one is
+ * needed
+ */
+public class URLConnectionPageFetcher implements PageFetcher {
+
+	private final Executor executor;
+	private volatile HttpClientPageFetcher asyncFetcher = null;
+
+	public URLConnectionPageFetcher() {
+		this(null);
+	}
+
+	/**
+	 * @param executor the executor for the http client used for async fetches, or null to use the
+	 * http client's default
+	 */
+	public URLConnectionPageFetcher(Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public Response fetch(URL url, int timeoutMillis) throws IOException {
+		URLConnection connection = url.openConnection();
+		connection.setConnectTimeout(timeoutMillis);
+		connection.setReadTimeout(timeoutMillis);
+		connection.setRequestProperty("Accept-Encoding", ContentEncoding.ACCEPT_ENCODING);
+		InputStream body;
+		try {
+			body = connection.getInputStream();
+		} catch (IOException e) {
+			if(connection instanceof HttpURLConnection) {
+				int statusCode = -1;
+				try {
+					statusCode = ((HttpURLConnection) connection).getResponseCode();
+				} catch (IOException ignored) {
+					//no status, so just rethrow the original
+				}
+				if(statusCode >= 400) throw new HttpStatusException(url.toString(), statusCode, e);
+			}
+			throw e;
+		}
+		return new URLConnectionResponse(connection, 
+				new ContentEncoding.DecodedBody(body, connection.getContentEncoding()));
+	}
+
+	@Override
+	public CompletableFuture<Response> fetchAsync(URL url, int timeoutMillis) {
+		return this.getAsyncFetcher().fetchAsync(url, timeoutMillis);
+	}
+
+	/**
+	 * created lazily so that parsers that are only used synchronously don't start any of the http
+	 * client's threads
+	 */
+	private HttpClientPageFetcher getAsyncFetcher() {
+		HttpClientPageFetcher fetcher = this.asyncFetcher;
+		if(fetcher == null) {
+			synchronized(this) {
+				fetcher = this.asyncFetcher;
+				if(fetcher == null) {
+					fetcher = new HttpClientPageFetcher(this.executor);
+					this.asyncFetcher = fetcher;
+				}
+			}
+		}
+		return fetcher;
+	}
+
+	@Override
+	public String toString() {
+		return "URLConnectionPageFetcher";
+	}
+
+	private static class URLConnectionResponse implements Response {
+
+		private final URLConnection connection;
+		private final ContentEncoding.DecodedBody body;
+
+		private URLConnectionResponse(URLConnection connection, ContentEncoding.DecodedBody body) {
+			this.connection = connection;
+			this.body = body;
+		}
+
+		@Override
+		public InputStream body() {
+			return this.body.stream();
+		}
+
+		@Override
+		public long contentLength() {
+			return this.connection.getContentLengthLong();
+		}
+
+		@Override
+		public long wireBytes() {
+			return this.body.getWireBytes();
+		}
+
+		@Override
+		public long decodedBytes() {
+			return this.body.getDecodedBytes();
+		}
+
+		@Override
+		public void abort() {
+			if(this.connection instanceof HttpURLConnection) {
+				//drops the connection instead of draining the rest of the body, so it won't be reused
+				((HttpURLConnection) this.connection).disconnect();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			this.body.stream().close();
+		}
+	}
+}
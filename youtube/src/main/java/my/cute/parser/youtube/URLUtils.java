@@ -1,8 +1,5 @@
 package my.cute.parser.youtube;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 public class URLUtils {
 
 	/**
@@ -14,13 +11,10 @@ public class URLUtils {
 	 * @param param the name of the parameter whose value should be extracted
 	 * @return the value of the given parameter in the given url, or null if the given parameter couldn't be 
 	 * found in the given url
+	 * @see QueryParams for looking up more than one parameter in the same url
 	 */
 	public static String getUrlParam(String url, String param) {
-		Matcher matcher = Pattern.compile("(?:&|\\?)" + param + "=([^&]*)").matcher(url);
-		if(matcher.find()) 
-			return matcher.group(1);
-		else
-			return null;
+		return new QueryParams(url).getString(param);
 	}
 	
 	/**
@@ -41,11 +35,7 @@ public class URLUtils {
 	 * couldn't be found in the given url (ie, {@link #getUrlParam(String, String)} returned null)
 	 */
 	public static String copyUrlParam(String url, String param) {
-		String value = getUrlParam(url, param);
-		if(value == null)
-			return "";
-		else
-			return "&" + param + "=" + value;
+		return new QueryParams(url).copy(param);
 	}
 	
 }
@@ -0,0 +1,211 @@
+package my.cute.parser.youtube;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * reads a response from youtube's get_video_info api in a single pass, keeping only the values
+ * the parser actually uses. the response is one long form-encoded line, usually a few hundred KB,
+ * and most of it is never looked at, so rather than reading it into memory and running regexes
+ * over it, each value is found by looking for the literal text its pattern starts with as the
+ * response streams past, and only the characters after that are kept. memory use is bounded by
+ * the size of the captured values, not the size of the response
+ * <p>
+ * each value matches what the corresponding pattern in {@link YoutubeParser} would give when run
+ * over the whole (trimmed) response:
+ * <ul>
+ * <li>{@link #getFmtList()}: {@link YoutubeParser#FMT_LIST_URL_EXTRACT}
+ * <li>{@link #getUrlEncodedFmtStreamMap()}: {@link YoutubeParser#URL_ENCODED_FMT_MAP_URL_EXTRACT}
+ * <li>{@link #getFormats()}: {@link YoutubeParser#FORMATS_URL_EXTRACT}
+ * <li>{@link #getHlsManifestUrl()}: {@link YoutubeParser#HLS_MANIFEST_URL_EXTRACT}
+ * </ul>
+ * with the exception that values longer than {@value #MAX_CAPTURE} characters are dropped
+ */
+final class VideoInfoReader {
+
+	private static final Logger logger = LoggerFactory.getLogger(VideoInfoReader.class);
+
+	/*
+	 * the original implementation only ever looked at the first 1048576 characters, so nothing
+	 * legitimate is longer than this
+	 */
+	static final int MAX_CAPTURE = 1048576;
+
+	private final Capture fmtList = new Capture("&fmt_list=", "&", false);
+	private final Capture urlEncodedFmtStreamMap = new Capture("&url_encoded_fmt_stream_map=", "&", false);
+	private final Capture formats = new Capture("%22formats%22%3A%5B", "%5D", true);
+	private final Capture hlsManifestUrl = new Capture("%22hlsManifestUrl%22%3A%22", "%22", true);
+	private final Capture[] captures = { this.fmtList, this.urlEncodedFmtStreamMap, this.formats, this.hlsManifestUrl };
+	private long length = 0;
+
+	private VideoInfoReader() {}
+
+	/**
+	 * reads the given response to the end
+	 * @param reader the response to read
+	 * @return the values found in the response, or null if the response was empty
+	 * @throws IOException if an error occurred while reading
+	 */
+	static VideoInfoReader read(Reader reader) throws IOException {
+		VideoInfoReader info = new VideoInfoReader();
+		char[] buffer = new char[8192];
+		int read;
+		while((read = reader.read(buffer)) != -1) {
+			for(Capture capture : info.captures) {
+				if(!capture.isDone()) capture.accept(buffer, read);
+			}
+			info.length += read;
+		}
+		if(info.length == 0) return null;
+		for(Capture capture : info.captures) {
+			capture.finish();
+		}
+		return info;
+	}
+
+	String getFmtList() {
+		return this.fmtList.getValue();
+	}
+
+	String getUrlEncodedFmtStreamMap() {
+		return this.urlEncodedFmtStreamMap.getValue();
+	}
+
+	/**
+	 * @return the contents of the (still url encoded) <code>formats</code> array, without the
+	 * enclosing brackets
+	 */
+	String getFormats() {
+		return this.formats.getValue();
+	}
+
+	String getHlsManifestUrl() {
+		return this.hlsManifestUrl.getValue();
+	}
+
+	/**
+	 * @return the number of characters read
+	 */
+	long getLength() {
+		return this.length;
+	}
+
+	/**
+	 * finds the first occurrence of a start marker and captures everything after it up to the
+	 * first occurrence of an end marker. markers are matched with knuth-morris-pratt, so each
+	 * character is looked at once no matter how the input is split into chunks
+	 */
+	private static final class Capture {
+
+		private final char[] start;
+		private final int[] startFailure;
+		private final char[] end;
+		private final int[] endFailure;
+		/*
+		 * true for captures standing in for a lazy .*? pattern, which can't match across line
+		 * terminators and needs the end marker to be present. false for captures standing in for
+		 * [^&]*, which can also end at the end of the input
+		 */
+		private final boolean singleLine;
+
+		private boolean capturing = false;
+		private boolean done = false;
+		private int matched = 0;
+		private StringBuilder value = null;
+		private String result = null;
+
+		private Capture(String start, String end, boolean singleLine) {
+			this.start = start.toCharArray();
+			this.startFailure = failure(this.start);
+			this.end = end.toCharArray();
+			this.endFailure = failure(this.end);
+			this.singleLine = singleLine;
+		}
+
+		private void accept(char[] chars, int length) {
+			for(int i=0; i < length && !this.done; i++) {
+				char c = chars[i];
+				if(!this.capturing) {
+					this.matched = advance(this.start, this.startFailure, this.matched, c);
+					if(this.matched == this.start.length) {
+						this.capturing = true;
+						this.matched = 0;
+						this.value = new StringBuilder();
+					}
+				} else if (this.singleLine && isLineTerminator(c)) {
+					//no match from this start, so look for the next one. markers never contain line terminators
+					this.capturing = false;
+					this.matched = 0;
+					this.value = null;
+				} else {
+					this.value.append(c);
+					this.matched = advance(this.end, this.endFailure, this.matched, c);
+					if(this.matched == this.end.length) {
+						this.value.setLength(this.value.length() - this.end.length);
+						this.result = this.value.toString();
+						this.value = null;
+						this.done = true;
+					} else if (this.value.length() - this.matched > MAX_CAPTURE) {
+						//not counting whatever part of the end marker has been matched so far
+						logger.warn("VideoInfoReader: dropping value after " + new String(this.start)
+							+ " longer than " + MAX_CAPTURE + " characters");
+						this.value = null;
+						this.done = true;
+					}
+				}
+			}
+		}
+
+		/**
+		 * called at the end of the input
+		 */
+		private void finish() {
+			if(this.done || !this.capturing || this.singleLine) return;
+			//the value ran to the end of the input, which the original implementation trimmed
+			int length = this.value.length();
+			while(length > 0 && this.value.charAt(length - 1) <= ' ') length--;
+			this.result = this.value.substring(0, length);
+			this.value = null;
+			this.done = true;
+		}
+
+		private boolean isDone() {
+			return this.done;
+		}
+
+		private String getValue() {
+			return this.result;
+		}
+
+		private static int advance(char[] marker, int[] failure, int matched, char c) {
+			while(matched > 0 && marker[matched] != c) matched = failure[matched - 1];
+			if(marker[matched] == c) matched++;
+			return matched;
+		}
+
+		/**
+		 * @return the kmp failure function for the given marker, ie for each prefix, the length of
+		 * the longest proper prefix of it that's also a suffix of it
+		 */
+		private static int[] failure(char[] marker) {
+			int[] failure = new int[marker.length];
+			int k = 0;
+			for(int i=1; i < marker.length; i++) {
+				while(k > 0 && marker[k] != marker[i]) k = failure[k - 1];
+				if(marker[k] == marker[i]) k++;
+				failure[i] = k;
+			}
+			return failure;
+		}
+
+		/**
+		 * @return true if the given character is one that . doesn't match in a regex without DOTALL
+		 */
+		private static boolean isLineTerminator(char c) {
+			return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+		}
+	}
+}
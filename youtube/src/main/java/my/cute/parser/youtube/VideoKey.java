@@ -0,0 +1,80 @@
+package my.cute.parser.youtube;
+
+import java.util.Objects;
+
+/**
+ * identifies what a parse is actually going to resolve: the video (or, for links that don't
+ * name a specific video, like a channel's /live page, the page itself) plus the requested
+ * <code>fmt</code>, if any. two links with equal keys give the same result when parsed by the
+ * same parser
+ */
+final class VideoKey {
+
+	private final String id;
+	private final String fmt;
+	private final String url;
+
+	private VideoKey(String id, String fmt, String url) {
+		this.id = id;
+		this.fmt = fmt;
+		this.url = url;
+	}
+
+	/**
+	 * @param parsedURL a url that parsing would fetch directly, ie a watch page or get_video_info
+	 * url on www.youtube.com
+	 * @return the key for the given url
+	 */
+	static VideoKey of(ParsedURL parsedURL) {
+		String path = parsedURL.getPath();
+		QueryParams params = parsedURL.getParams();
+		String fmt = params.getString("fmt");
+		String videoId = params.getString("v");
+		if(videoId != null && !videoId.isEmpty() && path.startsWith("www.youtube.com/watch?")) {
+			return new VideoKey(videoId, fmt, parsedURL.getAccess() + "://www.youtube.com/watch?v=" + videoId
+					+ params.copy("fmt"));
+		} else {
+			return new VideoKey(path, fmt, parsedURL.toString());
+		}
+	}
+
+	/**
+	 * @return the video id, or for links without one, the link itself minus its protocol
+	 */
+	String getId() {
+		return this.id;
+	}
+
+	/**
+	 * @return the requested fmt, or null if none was requested
+	 */
+	String getFmt() {
+		return this.fmt;
+	}
+
+	/**
+	 * @return the url to parse for this key. for videos this is a minimal watch page url with any
+	 * parameters that don't affect the result removed
+	 */
+	String getUrl() {
+		return this.url;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if(this == obj) return true;
+		if(!(obj instanceof VideoKey)) return false;
+		VideoKey other = (VideoKey) obj;
+		return this.id.equals(other.id) && Objects.equals(this.fmt, other.fmt);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.id, this.fmt);
+	}
+
+	@Override
+	public String toString() {
+		return "VideoKey[" + this.id + (this.fmt == null ? "" : ", fmt=" + this.fmt) + "]";
+	}
+}
@@ -1,8 +1,12 @@
 package my.cute.parser.youtube;
 
 import java.net.MalformedURLException;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
 /**
@@ -21,6 +25,36 @@ public interface YoutubeParser {
 	 * @throws MalformedURLException 
 	 */
 	public boolean probe(String potentialLink);
+	
+	/**
+	 * works out what kind of youtube link the given string is, without fetching anything. gives
+	 * the same answer as {@link #probe(String)} (every kind but {@link LinkKind#NOT_YOUTUBE} means 
+	 * probe would return true) but doesn't allocate anything, so it's cheap enough to run on every
+	 * word of every chat message
+	 * @param potentialLink a string that may be a youtube link
+	 * @return the kind of link, or {@link LinkKind#NOT_YOUTUBE} if it isn't one
+	 */
+	public LinkKind classify(CharSequence potentialLink);
+
+	/**
+	 * finds every youtube link in a piece of free text, eg a chat message, in a single pass. the 
+	 * text is split into words on whitespace, and the words returned are exactly those 
+	 * {@link #probe(String)} would accept, but without building a string for every word or 
+	 * classifying words that can't be youtube links
+	 * @param text the text to search
+	 * @return every youtube link in the text, in order
+	 */
+	public List<LinkMatch> findLinks(CharSequence text);
+	
+	/**
+	 * as {@link #findLinks(CharSequence)}, but stops searching once the given number of links
+	 * have been found
+	 * @param text the text to search
+	 * @param maxLinks the most links to return
+	 * @return the first maxLinks youtube links in the text, in order
+	 * @throws IllegalArgumentException if maxLinks is negative
+	 */
+	public List<LinkMatch> findLinks(CharSequence text, int maxLinks);
 
 	/**
 	 * parses a given string as a youtube link. if the given string is a valid youtube link,
@@ -29,9 +63,121 @@ public interface YoutubeParser {
 	 * @return a string representing a direct link to the source video if the given string is
 	 * a valid youtube link. if the string is not a valid youtube link (or something goes 
 	 * wrong), returns null
+	 * <p>
+	 * concurrent parses of the same video (with the same <code>fmt</code>, if any) are coalesced:
+	 * only the first one fetches anything, and the rest wait for it and return its result, even
+	 * if they came in through different forms of link. if it fails with an exception, they all 
+	 * fail with that exception. this includes {@link #parseAsync(String)} and 
+	 * {@link #parseAll(Collection)}. if the parse being waited on was started with a deadline 
+	 * (see {@link #parse(String, Duration)}) and that deadline cuts it short, the callers still 
+	 * waiting start another parse rather than sharing a result that only reflects someone else's 
+	 * time limit
 	 */
 	public String parse(String youtubeLink);
 	
+	/**
+	 * {@link #parse(String)} with an end-to-end time limit. every request made while parsing 
+	 * (each page, plus the player js if it's needed) gets at most the time that's left as its 
+	 * timeout, instead of the parser's timeout applying to each one separately, and anything 
+	 * still being downloaded when the deadline passes is dropped there and then. the parse runs 
+	 * on the calling thread
+	 * <p>
+	 * if the same video is already being parsed, this waits for that parse instead, for no 
+	 * longer than the given deadline. a parse started by this method runs under its deadline; 
+	 * if that cuts it short, anyone else waiting on it starts another parse (on the parser's 
+	 * executor) with their own time limit
+	 * @param youtubeLink the youtube link to parse
+	 * @param deadline how long the whole parse may take
+	 * @return a direct link to the source video, or null if the given string is not a valid 
+	 * youtube link, something goes wrong, or the deadline passes
+	 * @throws IllegalArgumentException if the deadline isn't positive
+	 */
+	public String parse(String youtubeLink, Duration deadline);
+	
+	/**
+	 * starts a parse with an end-to-end time limit, as with {@link #parse(String, Duration)}, on
+	 * the executor given to {@link YoutubeParserBuilder#executor(java.util.concurrent.Executor)}, 
+	 * and returns a handle for waiting on it or cancelling it. cancelling drops anything the 
+	 * parse is downloading, unless other callers are waiting on the same parse, in which case it
+	 * carries on for them
+	 * @param youtubeLink the youtube link to parse
+	 * @param deadline how long the whole parse may take
+	 * @return a handle for the parse
+	 * @throws IllegalArgumentException if the deadline isn't positive
+	 */
+	public ParseHandle submit(String youtubeLink, Duration deadline);
+	
+	/**
+	 * asynchronous version of {@link #parse(String)}. every page involved is downloaded through a
+	 * single http client shared by all async parses from this parser (http/2 where available, with 
+	 * connections reused between requests), and no thread is blocked while waiting on the network.
+	 * processing of downloaded pages happens on the executor given to 
+	 * {@link YoutubeParserBuilder#executor(java.util.concurrent.Executor)}
+	 * @param youtubeLink the youtube link to parse
+	 * @return a future that completes with a direct link to the source video, or with null if the
+	 * given string is not a valid youtube link or something goes wrong, exactly as 
+	 * {@link #parse(String)} would return. parses are coalesced as with parse; each call still gets
+	 * its own future, so cancelling one only stops waiting for it, and doesn't affect other 
+	 * callers waiting on the same parse
+	 */
+	public CompletableFuture<String> parseAsync(String youtubeLink);
+	
+	/**
+	 * checks the given string with {@link #probe(String)} first, and only parses it (as with 
+	 * {@link #parseAsync(String)}) if that passes. if it doesn't, the returned future is already
+	 * complete with null and nothing is fetched
+	 * @param potentialLink a string that may be a link to a youtube video
+	 * @return a future that completes with a direct link to the source video, or with null if
+	 * the given string isn't a youtube link or it couldn't be parsed
+	 */
+	public CompletableFuture<String> probeAndParseAsync(String potentialLink);
+	
+	/**
+	 * parses a batch of youtube links. every link is first reduced to the video it refers to 
+	 * (youtu.be, embed, /v/, music/gaming and consent links all reduce to the same watch page), 
+	 * so each distinct video is only resolved once no matter how many times or in how many forms 
+	 * it appears. distinct videos are resolved concurrently as with {@link #parseAsync(String)}, 
+	 * and share player js downloads. blocks until every link has been resolved
+	 * @param youtubeLinks the links to parse
+	 * @return map from each given link to its result (as {@link #parse(String)} would return, so
+	 * null for links that couldn't be parsed), in the iteration order of the given collection.
+	 * a link whose parse fails with an exception maps to null too, and doesn't affect the others
+	 */
+	public Map<String, String> parseAll(Collection<String> youtubeLinks);
+	
+	/**
+	 * fetches the given link's video and returns every stream it's available in, instead of the
+	 * one {@link #parse(String)} would pick. use {@link StreamFormat#pick(List, int...)} to pick 
+	 * for any number of resolutions from the one result, eg a small stream for mobile viewers and
+	 * a large one for desktop, without fetching anything twice
+	 * <p>
+	 * signatures aren't descrambled here, only when {@link StreamFormat#getUrl()} is called on a 
+	 * format, so picking costs nothing for the formats that aren't used, and the player js is 
+	 * only downloaded (if it isn't cached already) once a format that needs it is used. the 
+	 * <code>fmt</code> parameter and the parser's preferred resolution are ignored; neither 
+	 * affects what's returned. pages are followed the same way {@link #parse(String)} follows 
+	 * them, within the same hop budget. videos that only have a legacy stream map or an hls 
+	 * manifest give a list of the one stream parse would return, whose itag is only known if
+	 * its url says, and whose other details are unknown
+	 * @param youtubeLink the youtube link to resolve
+	 * @return unmodifiable list of the video's formats, muxed (audio and video) formats first, 
+	 * then adaptive ones, in the order youtube lists them. empty if the link isn't a valid 
+	 * youtube link or something goes wrong
+	 */
+	public List<StreamFormat> resolveFormats(String youtubeLink);
+	
+	/**
+	 * {@link #resolveFormats(String)} with an end-to-end time limit on fetching the video's pages,
+	 * as with {@link #parse(String, Duration)}. the limit doesn't apply to working out the urls of
+	 * the formats returned, which happens later
+	 * @param youtubeLink the youtube link to resolve
+	 * @param deadline how long resolving may take
+	 * @return unmodifiable list of the video's formats, or an empty list if the link isn't a valid
+	 * youtube link, something goes wrong, or the deadline passes
+	 * @throws IllegalArgumentException if the deadline isn't positive
+	 */
+	public List<StreamFormat> resolveFormats(String youtubeLink, Duration deadline);
+	
 	/**
 	 * given a youtube link, extracts the url-embedded timestamp in the given link,
 	 * returning the corresponding time in seconds. works on both raw seconds timestamps
@@ -49,6 +195,20 @@ public interface YoutubeParser {
 	 */
 	public int getTimestamp(String youtubeLink);
 	
+	/**
+	 * works out everything about a link that can be told without fetching anything, in one pass 
+	 * over it: the kind of link (as with {@link #classify(CharSequence)}), the id of the video it's 
+	 * for, its timestamp in seconds (in either form {@link #getTimestamp(String)} accepts), and its
+	 * <code>fmt</code> and <code>list</code> parameters. cheaper than calling probe, getTimestamp, 
+	 * etc separately, each of which would take the link apart again
+	 * <p>
+	 * unlike getTimestamp, only youtube links are looked at, so for anything probe would reject
+	 * every field but the kind is empty. and only the first <code>t</code> parameter is read
+	 * @param link the link to analyze
+	 * @return the analysis of the given link
+	 */
+	public LinkInfo analyze(String link);
+	
 	/*
 	 * ok so the bulk of what the parser does is just string pattern matching in order to extract youtube
 	 * page information, url parameters, etc. consequently there are several dozen patterns being used
@@ -65,6 +225,13 @@ public interface YoutubeParser {
 	public static YoutubeParser createDefault() {
 		return new YoutubeParserImpl();
 	}
+	
+	/**
+	 * @return a builder for a YoutubeParser with non-default settings
+	 */
+	public static YoutubeParserBuilder builder() {
+		return new YoutubeParserBuilder();
+	}
 
 	/**
 	 * (\\d+)\\/\\d+x(\\d+)[^,]*<br>
@@ -311,4 +478,20 @@ public interface YoutubeParser {
 	 * &lt;end of line or '&', '|', '?'&gt;
 	 */
 	static final Pattern TIMESTAMP_FORMATTED_EXTRACT = Pattern.compile("[?&]t=(\\d+[hms])(\\d+[hms])?(\\d+[hms])?(?:$|&|\\||\\?)", Pattern.CASE_INSENSITIVE);
+	/**
+	 * not from vlc script. extracts the player version from a player js url, eg the 
+	 * <code>4fbb4d5b</code> in <code>/s/player/4fbb4d5b/player_ias.vflset/en_US/base.js</code>. all 
+	 * videos served by the same player version use the same signature descrambling rules<p>
+	 * \\/s\\/player\\/([^\\/]+)\\/<br>
+	 * \/s\/player\/(&lt;any character that isnt '/' 1 or more times&gt;)\/
+	 */
+	static final Pattern PLAYER_VERSION_EXTRACT = Pattern.compile("\\/s\\/player\\/([^\\/]+)\\/");
+	/**
+	 * not from vlc script. extracts the expiry time (epoch seconds) from a direct video link, either
+	 * from an <code>expire=</code> parameter (googlevideo stream urls) or an <code>/expire/</code> path
+	 * segment (hls manifest urls)<p>
+	 * [?&amp;\\/]expire[=\\/](\\d+)<br>
+	 * &lt;any character '?', '&amp;', '/'&gt;expire&lt;either '=' or '/'&gt;(&lt;numbers 1+ times&gt;)
+	 */
+	static final Pattern EXPIRE_EXTRACT = Pattern.compile("[?&\\/]expire[=\\/](\\d+)");
 }
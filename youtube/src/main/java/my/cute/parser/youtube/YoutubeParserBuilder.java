@@ -0,0 +1,249 @@
+package my.cute.parser.youtube;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * builder for {@link YoutubeParser} instances with non-default settings. obtain with
+ * {@link YoutubeParser#builder()}. any setting that isn't set keeps the same default that
+ * {@link YoutubeParser#createDefault()} uses
+ */
+public class YoutubeParserBuilder {
+
+	static final int DEFAULT_PREFERRED_RES = 720;
+	static final int DEFAULT_TIMEOUT = 10000;
+	/*
+	 * the longest chain the parser follows is watch page -> get_video_info -> get_video_info with
+	 * el=detailpage
+	 */
+	static final int DEFAULT_MAX_HOPS = 3;
+	/*
+	 * only a handful of player versions are live at any one time, and a version's rules never change,
+	 * so a small cache with a generous ttl is plenty
+	 */
+	static final int DEFAULT_DESCRAMBLER_CACHE_SIZE = 16;
+	static final long DEFAULT_DESCRAMBLER_TTL = TimeUnit.HOURS.toNanos(6);
+
+	int preferredResolution = DEFAULT_PREFERRED_RES;
+	int timeout = DEFAULT_TIMEOUT;
+	int maxHops = DEFAULT_MAX_HOPS;
+	int descramblerCacheSize = DEFAULT_DESCRAMBLER_CACHE_SIZE;
+	long descramblerTtlNanos = DEFAULT_DESCRAMBLER_TTL;
+	int maxPlayerJsChars = JSPageImpl.DEFAULT_MAX_SAVED_CHARS;
+	boolean earlyExit = false;
+	Executor executor = null;
+	PageFetcher pageFetcher = null;
+	URI hostOverride = null;
+	Path recordDirectory = null;
+	ParseListener listener = ParseListener.NONE;
+	int resultCacheSize = 0;
+	long resultCacheMarginMillis = 0;
+	int concurrencyLimit = 0;
+	int concurrencyQueue = 0;
+
+	YoutubeParserBuilder() {}
+
+	/**
+	 * @param preferredResolution the preferred video height. the parser picks the highest resolution
+	 * stream that doesn't exceed this. a negative value means no limit
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder preferredResolution(int preferredResolution) {
+		this.preferredResolution = preferredResolution;
+		return this;
+	}
+
+	/**
+	 * @param timeout the connect and read timeout used for every connection made while parsing. zero
+	 * means no timeout
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder timeout(Duration timeout) {
+		this.timeout = Math.toIntExact(timeout.toMillis());
+		return this;
+	}
+
+	/**
+	 * @param maxHops the most pages (watch pages and get_video_info, not counting player js) a 
+	 * single parse may fetch before giving up. rewrites that don't need a fetch, eg from youtu.be
+	 * or consent links, don't count. the default of 3 allows for every fallback the parser knows
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder maxHops(int maxHops) {
+		if(maxHops < 1) throw new IllegalArgumentException("hop budget must be positive, got " + maxHops);
+		this.maxHops = maxHops;
+		return this;
+	}
+
+	/**
+	 * sets up the cache of signature descrambling rules. rules are extracted from youtube's player
+	 * js and cached per player version, so the player js only has to be downloaded once per version
+	 * @param maxSize the maximum number of player versions to keep rules for
+	 * @param ttl how long rules for a player version are kept before the player js is downloaded
+	 * again
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder descramblerCache(int maxSize, Duration ttl) {
+		if(maxSize < 1) throw new IllegalArgumentException("cache size must be positive, got " + maxSize);
+		this.descramblerCacheSize = maxSize;
+		this.descramblerTtlNanos = ttl.toNanos();
+		return this;
+	}
+
+	/**
+	 * limits how much player js is held in memory while extracting descrambling rules from it. the
+	 * js is read a statement at a time, and statements already read are kept (up to this many 
+	 * characters) so that later lookups in the same js don't need it downloaded again. statements 
+	 * read after the limit is reached are still searched but not kept, and a single statement 
+	 * longer than the limit fails the load. the default of 8M characters is several times the size 
+	 * of any player js seen so far
+	 * @param maxChars the most characters of player js to keep
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder maxPlayerJsChars(int maxChars) {
+		if(maxChars < 1) throw new IllegalArgumentException("player js limit must be positive, got " + maxChars);
+		this.maxPlayerJsChars = maxChars;
+		return this;
+	}
+
+	/**
+	 * enables or disables early exit when reading watch pages. when enabled, the parser stops
+	 * reading a watch page as soon as it has found a stream url and drops the connection instead of
+	 * downloading (and decoding) the rest of the page. the number of bytes skipped is logged at
+	 * debug level when the server reports a content length
+	 * <p>
+	 * note that with early exit enabled the first stream url found on the page is used. without it,
+	 * the whole page is read and a later <code>url_encoded_fmt_stream_map</code> replaces an earlier
+	 * one, as in the vlc script. in practice pages only have one
+	 * @param earlyExit true to enable early exit, false to always read the whole page
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder earlyExit(boolean earlyExit) {
+		this.earlyExit = earlyExit;
+		return this;
+	}
+
+	/**
+	 * sets the executor used by {@link YoutubeParser#parseAsync(String)} to process downloaded pages,
+	 * and by the http client behind the default {@link PageFetcher}. every async parse shares it, so
+	 * a small pool can serve a large number of concurrent parses. by default the common fork/join 
+	 * pool is used for processing and the http client uses its own default executor
+	 * @param executor the executor to use
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder executor(Executor executor) {
+		this.executor = Objects.requireNonNull(executor);
+		return this;
+	}
+
+	/**
+	 * sets the fetcher used for every page the parser downloads: watch pages, get_video_info, and 
+	 * player js. by default a {@link URLConnectionPageFetcher} is used, which opens a new 
+	 * URLConnection per request. {@link HttpClientPageFetcher} reuses connections between requests
+	 * instead. note that a custom fetcher doesn't use the executor set with 
+	 * {@link #executor(Executor)} unless it was created with it
+	 * @param pageFetcher the fetcher to use
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder pageFetcher(PageFetcher pageFetcher) {
+		this.pageFetcher = Objects.requireNonNull(pageFetcher);
+		return this;
+	}
+	
+	/**
+	 * limits how many requests the parser has in flight to each host at once, so that a burst of 
+	 * parses doesn't get the parser throttled by youtube. each host's limit starts low and adapts:
+	 * it grows while requests keep succeeding, and shrinks when the host responds with 429 or a 5xx
+	 * status, times out, or starts taking much longer than usual. requests over the limit wait for
+	 * a slot (for at most the parser's timeout, and only what's left of it is used for the request
+	 * itself) in a queue of the given size, and fail straight away once it's full. disabled by 
+	 * default
+	 * <p>
+	 * note that {@link YoutubeParser#parse(String)} gives up its slot for a page once the response
+	 * headers have arrived, before the body is read (it can need player js from the same host 
+	 * while reading), so only requests are limited, not the downloads of their bodies. async 
+	 * parses hold their slot until the whole body has arrived
+	 * @param maxPerHost the most requests ever in flight to one host at once
+	 * @param maxQueuedPerHost the most requests that can wait for a slot for one host
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder concurrencyLimit(int maxPerHost, int maxQueuedPerHost) {
+		if(maxPerHost < 1) throw new IllegalArgumentException("concurrency limit must be positive, got " + maxPerHost);
+		if(maxQueuedPerHost < 0) 
+			throw new IllegalArgumentException("queue size must not be negative, got " + maxQueuedPerHost);
+		this.concurrencyLimit = maxPerHost;
+		this.concurrencyQueue = maxQueuedPerHost;
+		return this;
+	}
+	
+	/**
+	 * sends every request to the given scheme, host, and port instead of the one in the url being
+	 * fetched, keeping the path and query. meant for pointing a parser at a local server replaying
+	 * fixtures saved with {@link #record(Path)}
+	 * @param base eg <code>http://127.0.0.1:8080</code>. any path is ignored
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder hostOverride(URI base) {
+		if(base.getScheme() == null || base.getHost() == null) 
+			throw new IllegalArgumentException("host override needs a scheme and host, got " + base);
+		this.hostOverride = base;
+		return this;
+	}
+	
+	/**
+	 * enables record mode: every exchange made while parsing (watch pages, get_video_info, and 
+	 * player js) is saved to the given directory, which can then be served by a local server (see
+	 * {@link #hostOverride(URI)}) to rerun the same parses offline. bodies are read in full before the 
+	 * parser sees them, so early exit saves no bandwidth while recording
+	 * @param directory the fixture directory. created if it doesn't exist
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder record(Path directory) {
+		this.recordDirectory = Objects.requireNonNull(directory);
+		return this;
+	}
+	
+	/**
+	 * sets a listener to receive timing and outcome events for each stage of every parse, eg to 
+	 * find out which hop is responsible for slow parses or how often the get_video_info fallback
+	 * is needed
+	 * @param listener the listener
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder listener(ParseListener listener) {
+		this.listener = Objects.requireNonNull(listener);
+		return this;
+	}
+	
+	/**
+	 * enables caching of parse results. results are cached by video (so different links to the
+	 * same video share an entry) and requested <code>fmt</code>. direct googlevideo links stop
+	 * working at the time given in their <code>expire</code> parameter, so each result is kept 
+	 * until that time minus the given safety margin, which should be at least as long as callers 
+	 * need the link to keep working after they get it. results without an expiry time aren't 
+	 * cached. disabled by default
+	 * @param maxSize the maximum number of results to keep. 0 disables caching
+	 * @param safetyMargin how long before its expiry time a result is dropped from the cache
+	 * @return this builder
+	 */
+	public YoutubeParserBuilder resultCache(int maxSize, Duration safetyMargin) {
+		if(maxSize < 0) throw new IllegalArgumentException("cache size must not be negative, got " + maxSize);
+		if(safetyMargin.isNegative()) throw new IllegalArgumentException("safety margin must not be negative");
+		this.resultCacheSize = maxSize;
+		this.resultCacheMarginMillis = safetyMargin.toMillis();
+		return this;
+	}
+
+	/**
+	 * @return a new YoutubeParser with the settings from this builder
+	 * @throws java.io.UncheckedIOException if record mode is enabled and the fixture directory 
+	 * couldn't be set up
+	 */
+	public YoutubeParser build() {
+		return new YoutubeParserImpl(this);
+	}
+}
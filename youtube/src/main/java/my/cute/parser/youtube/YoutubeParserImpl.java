@@ -3,18 +3,33 @@ package my.cute.parser.youtube;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
+import java.net.URL;
 import java.net.URISyntaxException;
-import java.net.URLConnection;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,23 +42,79 @@ class YoutubeParserImpl implements YoutubeParser {
 	
 	private static final Logger logger = LoggerFactory.getLogger(YoutubeParserImpl.class);
 
-	private static final int DEFAULT_PREFERRED_RES = 720;
-	private static final int DEFAULT_TIMEOUT = 10000;
+	private static final int MAX_REWRITES = 8;
 	
 	private final int prefRes;
 	private final int timeout;
+	private final int maxHops;
+	private final boolean earlyExit;
+	private final int maxPlayerJsChars;
+	/*
+	 * player version -> descrambling rules extracted from that version's js
+	 */
+	private final ExpiringLruCache<String, Descrambler> descramblers;
+	/*
+	 * every page is fetched through fetcher. async parses do their processing on executor
+	 */
+	private final PageFetcher fetcher;
+	private final Executor executor;
+	/*
+	 * player version -> pending load of that version's descrambling rules, so concurrent parses 
+	 * needing the same player js only download it once
+	 */
+	private final ConcurrentHashMap<String, CompletableFuture<Descrambler>> loadingDescramblers = new ConcurrentHashMap<>();
+	/*
+	 * key -> pending parse of that key, so concurrent parses of the same video (eg a link everyone
+	 * in a chat clicks at once) share one set of fetches. entries are removed as soon as the parse
+	 * completes, so a result is never reused after that except through the result cache
+	 */
+	private final ConcurrentHashMap<VideoKey, Flight> inFlight = new ConcurrentHashMap<>();
+	/*
+	 * null if result caching is disabled
+	 */
+	private final ResultCache results;
+	private final ParseListener listener;
 	
 	YoutubeParserImpl() {
-		this(DEFAULT_PREFERRED_RES);
+		this(new YoutubeParserBuilder());
 	}
 	
 	YoutubeParserImpl(int prefRes) {
-		this(prefRes, DEFAULT_TIMEOUT);
+		this(new YoutubeParserBuilder().preferredResolution(prefRes));
 	}
 	
 	YoutubeParserImpl(int prefRes, int timeout) {
-		this.prefRes = prefRes;
-		this.timeout = timeout;
+		this(new YoutubeParserBuilder().preferredResolution(prefRes).timeout(Duration.ofMillis(timeout)));
+	}
+	
+	YoutubeParserImpl(YoutubeParserBuilder builder) {
+		this.prefRes = builder.preferredResolution;
+		this.timeout = builder.timeout;
+		this.maxHops = builder.maxHops;
+		this.earlyExit = builder.earlyExit;
+		this.maxPlayerJsChars = builder.maxPlayerJsChars;
+		this.descramblers = new ExpiringLruCache<>(builder.descramblerCacheSize, builder.descramblerTtlNanos);
+		this.executor = builder.executor != null ? builder.executor : ForkJoinPool.commonPool();
+		this.fetcher = createFetcher(builder);
+		this.listener = builder.listener;
+		this.results = builder.resultCacheSize > 0 
+				? new ResultCache(builder.resultCacheSize, builder.resultCacheMarginMillis) : null;
+	}
+	
+	private static PageFetcher createFetcher(YoutubeParserBuilder builder) {
+		PageFetcher fetcher = builder.pageFetcher != null ? builder.pageFetcher : new URLConnectionPageFetcher(builder.executor);
+		if(builder.hostOverride != null) fetcher = new HostOverridePageFetcher(fetcher, builder.hostOverride);
+		if(builder.recordDirectory != null) {
+			try {
+				fetcher = new RecordingPageFetcher(fetcher, builder.recordDirectory);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		if(builder.concurrencyLimit > 0) {
+			fetcher = new ConcurrencyLimitingPageFetcher(fetcher, builder.concurrencyLimit, builder.concurrencyQueue);
+		}
+		return fetcher;
 	}
 	
 	private String getFmt(String fmtList) {
@@ -59,91 +130,248 @@ class YoutubeParserImpl implements YoutubeParser {
 		return fmt;
 	}
 	
-	private String jsDescramble(String signature, String jsUrl) {
+	String jsDescramble(String signature, String jsUrl, ParseContext context) {
 		logger.debug("QX entered jsDescramble with signature: " + signature + ", jsUrl: " + jsUrl);
-		try (JSPage jsPage = new JSPageImpl(jsUrl)) {
-			String descrambler = jsPage.extract(DESCRAMBLER);
-			if(descrambler == null) {
-				logger.info(this + ": couldn't extract youtube video URL signature descrambling function name");
-				return signature;
-			}
-			String rules = jsPage.extract("^" + descrambler + "=function\\([^)]*\\)\\{(.*?)\\};");
-			if(rules == null) {
-				logger.info(this + ": couldn't extract youtube video URL signature descrambling rules");
-				return signature;
-			}
-			Matcher helperMatcher = DESCRAMBLE_HELPER.matcher(rules);
-			if(!helperMatcher.find()) {
-				logger.info(this + ": couldn't extract youtube video URL signature transformation helper name");
-				this.logGeneralError();
+		long start = System.nanoTime();
+		StageEvent event = new StageEvent();
+		event.begin();
+		Descrambler descrambler = this.descramblers.get(getPlayerVersion(jsUrl));
+		//on a second pass over a page the rules are cached, but only because they were just loaded for it
+		boolean cached = descrambler != null && !jsUrl.equals(context.getLoadedJsUrl());
+		if(descrambler == null) {
+			if(!context.canFetchPlayerJs()) {
+				//the page will be processed again once the player js is loaded, so the event is dropped
+				context.setMissingJsUrl(jsUrl);
 				return signature;
 			}
-			String helper = helperMatcher.group(1);
-			String transformations = jsPage.extract("[ ,]" + helper + "=\\{(.*?)\\};");
-			if(transformations == null) {
-				logger.info(this + ": couldn't extract youtube video URL signature transformation code");
+			descrambler = this.loadDescramblerOnce(signature, jsUrl, context.getDeadline());
+			//loading is reported on its own
+			long loaded = System.nanoTime();
+			context.addPlayerJsNanos(loaded - start);
+			start = loaded;
+			event.begin();
+			if(descrambler == null) {
+				commit(event, StageEvent.DESCRAMBLE, context, null, false);
 				return signature;
 			}
-			
-			final Map<String, String> trans = new HashMap<>();
-			
-			DESCRAMBLE_TRANS.matcher(transformations).results().forEachOrdered(result -> {
-				String meth = result.group(1);
-				String code = result.group(2);
-				if(code.contains(".reverse(")) {
-					trans.put(meth, "reverse");
-				} else if (code.contains(".splice(")) {
-					trans.put(meth, "splice");
-				} else if (code.contains("var c=")) {
-					trans.put(meth, "swap");
-				} else {
-					logger.warn(this + ": couldn't parse unknown youtube video URL signature transformation");
-				}
-			});
-			logger.debug("QX found trans: " + trans.toString());
-			
-			boolean missing = false;
-			Matcher indexMatcher = DESCRAMBLE_INDEX.matcher(rules);
-			StringBuilder descrambledSig = new StringBuilder(signature);
-			while(indexMatcher.find()) {
-				String meth = indexMatcher.group(1);
-				int index = Integer.parseInt(indexMatcher.group(2));
-				String savedTrans = trans.get(meth);
-				if(savedTrans == null) {
-					logger.warn(this + ": couldn't apply unknown youtube video URL signature transformation");
-					missing = true;
-				} else if (savedTrans.equals("reverse")) {
-					descrambledSig.reverse();
-				} else if (savedTrans.equals("splice")) {
-					descrambledSig.delete(0, index);
-				} else if (savedTrans.equals("swap")) {
-					String firstCharacter = descrambledSig.substring(0, 1);
-					String indexCharacter = descrambledSig.substring(index, index+1);
-					descrambledSig.replace(0, 1, indexCharacter);
-					descrambledSig.replace(index, index+1, firstCharacter);
-				}
+		}
+		String descrambledSig = descrambler.apply(signature);
+		this.listener.descrambled(jsUrl, System.nanoTime() - start, cached);
+		commit(event, StageEvent.DESCRAMBLE, context, null, !descrambler.isIncomplete());
+		if(descrambler.isIncomplete()) {
+			logger.warn(this + ": couldn't apply unknown youtube video URL signature transformation");
+			this.logGeneralError();
+		}
+		logger.debug("QX descrambled sig: " + descrambledSig);
+		return descrambledSig;
+	}
+	
+	/**
+	 * calls {@link #loadDescrambler(String, String, Deadline)}, unless the same player version is 
+	 * already being loaded by another parse, in which case this waits for that load to finish (or
+	 * for the given deadline to end) and uses its result instead. this way concurrent parses (eg 
+	 * from {@link #parseAll(Collection)}) only download each player js once
+	 * <p>
+	 * a load runs under the deadline of the parse doing it. if that deadline cuts it short, the 
+	 * load is failed with a CancellationException rather than completed with null, since it says 
+	 * nothing about the js, and anyone else waiting on it loads the js themselves
+	 */
+	private Descrambler loadDescramblerOnce(String signature, String jsUrl, Deadline deadline) {
+		String playerVersion = getPlayerVersion(jsUrl);
+		while(true) {
+			CompletableFuture<Descrambler> loading = new CompletableFuture<>();
+			CompletableFuture<Descrambler> existing = this.loadingDescramblers.putIfAbsent(playerVersion, loading);
+			if(existing == null) return this.loadDescrambler(signature, jsUrl, deadline, playerVersion, loading);
+			logger.debug("QX waiting for player version " + playerVersion + " to be loaded by another parse");
+			try {
+				return deadline.await(existing);
+			} catch (CancellationException | CompletionException e) {
+				logger.debug("QX load of player version " + playerVersion + " was cut short by another parse's deadline, "
+						+ "loading it here instead");
 			}
-			if(missing) {
-				this.logGeneralError();
+		}
+	}
+	
+	/**
+	 * does a load for {@link #loadDescramblerOnce(String, String, Deadline)}, and completes the 
+	 * given future, which other parses may be waiting on, with how it went
+	 */
+	private Descrambler loadDescrambler(String signature, String jsUrl, Deadline deadline, String playerVersion, 
+			CompletableFuture<Descrambler> loading) {
+		Descrambler descrambler = null;
+		try {
+			descrambler = this.loadDescrambler(signature, jsUrl, deadline);
+			return descrambler;
+		} finally {
+			//removed first, so anyone trying again doesn't find the same load
+			this.loadingDescramblers.remove(playerVersion, loading);
+			if(descrambler == null && deadline.hasEnded()) {
+				loading.completeExceptionally(new CancellationException("load of player version " + playerVersion 
+						+ " cut short by its deadline"));
+			} else {
+				loading.complete(descrambler);
 			}
-			logger.debug("QX descrambled sig: " + descrambledSig.toString());
-			return descrambledSig.toString();
+		}
+	}
+	
+	/**
+	 * async version of {@link #loadDescramblerOnce(String, String, Deadline)}
+	 * @return future that completes with the extracted rules, or with null if they couldn't be
+	 * downloaded or extracted. never completes exceptionally
+	 */
+	private CompletableFuture<Descrambler> loadDescramblerAsync(String jsUrl) {
+		String playerVersion = getPlayerVersion(jsUrl);
+		CompletableFuture<Descrambler> loading = new CompletableFuture<>();
+		CompletableFuture<Descrambler> existing = this.loadingDescramblers.putIfAbsent(playerVersion, loading);
+		if(existing != null) {
+			logger.debug("QX waiting for player version " + playerVersion + " to be loaded by another parse");
+			//if a blocking parse's deadline cut its load short, load the js here instead
+			return existing
+					.handle((descrambler, throwable) -> throwable == null 
+							? CompletableFuture.completedFuture(descrambler) : this.loadDescramblerAsync(jsUrl))
+					.thenCompose(Function.identity());
+		}
+		logger.debug("QX fetching player js asynchronously: " + jsUrl);
+		long start = System.nanoTime();
+		FetchEvent event = new FetchEvent();
+		event.begin();
+		this.fetchAsync(jsUrl)
+				.whenComplete((response, throwable) -> {
+					//the download is over either way, but its byte counts aren't in until the js is read
+					event.end();
+					if(throwable != null) commitPlayerJs(event, jsUrl, null);
+				})
+				.thenApplyAsync(response -> {
+					try (JSPage jsPage = new JSPageImpl(new InputStreamReader(response.body(), StandardCharsets.UTF_8), jsUrl, this.maxPlayerJsChars)) {
+						Descrambler descrambler = this.cacheDescrambler(jsUrl, jsPage);
+						commitPlayerJs(event, jsUrl, response);
+						this.listener.playerJsLoaded(jsUrl, System.nanoTime() - start, response.decodedBytes(), 
+								response.wireBytes(), descrambler != null);
+						return descrambler;
+					} catch (IOException e) {
+						//the body is already in memory, so only a statement over the limit gets here
+						throw new UncheckedIOException(e);
+					}
+				}, this.executor)
+				.whenComplete((descrambler, throwable) -> {
+					if(throwable != null) {
+						logger.warn(this + ": error during async signature descramble! jsUrl: " + jsUrl, throwable);
+						this.listener.playerJsLoaded(jsUrl, System.nanoTime() - start, -1, -1, false);
+					}
+					loading.complete(throwable == null ? descrambler : null);
+					this.loadingDescramblers.remove(playerVersion, loading);
+				});
+		return loading;
+	}
+	
+	/**
+	 * downloads the player js at the given url and extracts the signature descrambling rules from it
+	 * @param signature the signature being descrambled. only used for logging
+	 * @param jsUrl the url of the player js
+	 * @param deadline the deadline of the parse that needs the rules
+	 * @return the extracted rules, or null if they couldn't be extracted
+	 */
+	private Descrambler loadDescrambler(String signature, String jsUrl, Deadline deadline) {
+		long start = System.nanoTime();
+		long bytes = -1;
+		long wireBytes = -1;
+		Descrambler descrambler = null;
+		try (JSPageImpl jsPage = new JSPageImpl(deadline.wrap(this.fetcher), jsUrl, this.timeout, this.maxPlayerJsChars)) {
+			descrambler = this.cacheDescrambler(jsUrl, jsPage);
+			bytes = jsPage.getBytesRead();
+			wireBytes = jsPage.getWireBytes();
+			return descrambler;
 		} catch (MalformedURLException e) {
 			logger.warn(this + ": exception thrown during JSPage construction when descrambling sig! sig: "
 					+ signature + ", jsUrl: " + jsUrl, e);
-			return signature;
+			return null;
 		} catch (SocketTimeoutException e) {
 			logger.warn(this + ": socket timeout during signature descramble! sig: " 
 					+ signature + ", jsUrl: " + jsUrl, e);
-			return signature;
+			return null;
 		} catch (IOException e) {
 			logger.warn(this + ": general io error during signature descramble! sig: "
 					+ signature + ", jsUrl: " + jsUrl, e);
-			return signature;
-		} 
+			return null;
+		} finally {
+			this.listener.playerJsLoaded(jsUrl, System.nanoTime() - start, bytes, wireBytes, descrambler != null);
+		}
 	}
 	
-	private String streamUrl(String params, String jsUrl) {
+	/**
+	 * extracts the signature descrambling rules from the given player js and adds them to the 
+	 * descrambler cache
+	 * @param jsUrl the url the player js came from
+	 * @param jsPage the player js
+	 * @return the extracted rules, or null if they couldn't be extracted
+	 * @throws IOException if an error occurred while reading the player js
+	 */
+	private Descrambler cacheDescrambler(String jsUrl, JSPage jsPage) throws IOException {
+		StageEvent event = new StageEvent();
+		event.begin();
+		Descrambler descrambler = this.extractDescrambler(jsPage);
+		commit(event, StageEvent.EXTRACT_DESCRAMBLER, null, null, descrambler != null);
+		if(descrambler != null) {
+			String playerVersion = getPlayerVersion(jsUrl);
+			this.descramblers.put(playerVersion, descrambler);
+			logger.debug("QX cached descrambler for player version " + playerVersion + ": " + descrambler);
+		}
+		return descrambler;
+	}
+	
+	private Descrambler extractDescrambler(JSPage jsPage) throws IOException {
+		String descrambler = jsPage.extract(DESCRAMBLER);
+		if(descrambler == null) {
+			logger.info(this + ": couldn't extract youtube video URL signature descrambling function name");
+			return null;
+		}
+		String rules = jsPage.extractFunctionBody(descrambler);
+		if(rules == null) {
+			logger.info(this + ": couldn't extract youtube video URL signature descrambling rules");
+			return null;
+		}
+		Matcher helperMatcher = DESCRAMBLE_HELPER.matcher(rules);
+		if(!helperMatcher.find()) {
+			logger.info(this + ": couldn't extract youtube video URL signature transformation helper name");
+			this.logGeneralError();
+			return null;
+		}
+		String helper = helperMatcher.group(1);
+		String transformations = jsPage.extractObjectBody(helper);
+		if(transformations == null) {
+			logger.info(this + ": couldn't extract youtube video URL signature transformation code");
+			return null;
+		}
+		
+		final Map<String, String> trans = new HashMap<>();
+		
+		DESCRAMBLE_TRANS.matcher(transformations).results().forEachOrdered(result -> {
+			String meth = result.group(1);
+			String code = result.group(2);
+			if(code.contains(".reverse(")) {
+				trans.put(meth, "reverse");
+			} else if (code.contains(".splice(")) {
+				trans.put(meth, "splice");
+			} else if (code.contains("var c=")) {
+				trans.put(meth, "swap");
+			} else {
+				logger.warn(this + ": couldn't parse unknown youtube video URL signature transformation");
+			}
+		});
+		logger.debug("QX found trans: " + trans.toString());
+		
+		List<String> stepMethods = new ArrayList<>();
+		List<Integer> stepIndices = new ArrayList<>();
+		Matcher indexMatcher = DESCRAMBLE_INDEX.matcher(rules);
+		while(indexMatcher.find()) {
+			stepMethods.add(indexMatcher.group(1));
+			stepIndices.add(Integer.parseInt(indexMatcher.group(2)));
+		}
+		return new Descrambler(trans, stepMethods.toArray(new String[0]), 
+				stepIndices.stream().mapToInt(Integer::intValue).toArray());
+	}
+	
+	private String streamUrl(String params, String jsUrl, ParseContext context) {
 		logger.debug("QX entered streamUrl");
 		Matcher urlMatcher = URL_EXTRACT.matcher(params);
 		if(!urlMatcher.find()) return null;
@@ -157,7 +385,7 @@ class YoutubeParserImpl implements YoutubeParser {
 		logger.debug(this + ": found " + s.length() + "-character scrambled signature for youtube video URL, "
 				+ "attempting to descramble...");
 		if(jsUrl != null) 
-			s = jsDescramble(s, jsUrl);
+			s = jsDescramble(s, jsUrl, context);
 		else {
 			this.logGeneralError();
 		}
@@ -174,108 +402,956 @@ class YoutubeParserImpl implements YoutubeParser {
 		return url;
 	}
 	
-	private String pickUrl(String urlMap, String fmt, String jsUrl) {
+	/**
+	 * {@link #pickUrl(String, String, String, ParseContext)}, reporting to the listener
+	 */
+	private String pickUrl(ParsedURL parsedURL, String urlMap, String fmt, String jsUrl, ParseContext context) {
+		long start = System.nanoTime();
+		StageEvent event = new StageEvent();
+		event.begin();
+		String url = this.pickUrl(urlMap, fmt, jsUrl, context);
+		this.reportPick(parsedURL, ParseListener.Branch.URL_ENCODED_FMT_STREAM_MAP, start, event, url, context);
+		return url;
+	}
+	
+	/**
+	 * {@link #pickStream(QueryParams, List, String, ParseContext)}, reporting to the listener
+	 */
+	private String pickStream(ParsedURL parsedURL, List<FormatsReader.Format> formats, String jsUrl, ParseContext context) {
+		long start = System.nanoTime();
+		StageEvent event = new StageEvent();
+		event.begin();
+		String url = this.pickStream(parsedURL.getParams(), formats, jsUrl, context);
+		this.reportPick(parsedURL, ParseListener.Branch.FORMATS, start, event, url, context);
+		return url;
+	}
+	
+	private void reportPick(ParsedURL parsedURL, ParseListener.Branch branch, long start, StageEvent event, 
+			String url, ParseContext context) {
+		//the page will be processed again once the player js is loaded, so report it then
+		if(context.getMissingJsUrl() != null) return;
+		this.listener.streamPicked(parsedURL.toString(), branch, System.nanoTime() - start, url != null);
+		commit(event, StageEvent.PICK_STREAM, context, branch.name(), url != null);
+		if(url != null) this.branchTaken(parsedURL, branch, context);
+	}
+	
+	private void branchTaken(ParsedURL parsedURL, ParseListener.Branch branch, ParseContext context) {
+		context.setBranch(branch);
+		this.listener.branchTaken(parsedURL.toString(), branch);
+	}
+	
+	String pickUrl(String urlMap, String fmt, String jsUrl, ParseContext context) {
 		logger.debug("QX entered pickUrl with urlMap: " + urlMap + ", fmt: " + fmt + ", jsUrl: " + jsUrl);
 		for(String stream : urlMap.split(",")) {
 			if(stream.isEmpty()) continue;
 			logger.debug("QX found stream: " + stream);
-			if(fmt == null) return this.streamUrl(stream, jsUrl);
+			if(fmt == null) return this.streamUrl(stream, jsUrl, context);
 			
 			Matcher itagMatcher = ITAG_EXTRACT.matcher(stream);
-			if(!itagMatcher.find()) return this.streamUrl(stream, jsUrl);
+			if(!itagMatcher.find()) return this.streamUrl(stream, jsUrl, context);
 			
 			String itag = itagMatcher.group(1);
-			if(Integer.parseInt(fmt) == Integer.parseInt(itag)) return this.streamUrl(stream, jsUrl);
+			if(Integer.parseInt(fmt) == Integer.parseInt(itag)) return this.streamUrl(stream, jsUrl, context);
 		}
 		return null;
 	}
 	
-	private String pickStream(String path, String streamMap, String jsUrl) {
-		String pick = null;
-		String fmtString = URLUtils.getUrlParam(path, "fmt");
+	/**
+	 * picks a stream out of the given formats: the one with the itag asked for with 
+	 * <code>fmt</code>, if any, otherwise the format with audio and video whose height best fits 
+	 * the preferred resolution
+	 * @param params the parameters of the page being parsed
+	 * @param formats the formats on the page, as read by {@link FormatsReader}
+	 * @return the url of the stream, descrambled if necessary, or null if none could be picked
+	 */
+	String pickStream(QueryParams params, List<FormatsReader.Format> formats, String jsUrl, ParseContext context) {
+		FormatsReader.Format pick = null;
+		String fmtString = params.getString("fmt");
 		if(fmtString != null) {
 			logger.debug("QX found fmt string: " + fmtString);
 			int fmt = Integer.parseInt(fmtString);
-			for(String stream : STREAM_MAP.matcher(streamMap).results()
-					.map(result -> result.group(1)).collect(Collectors.toList())) {
-				int itag = STREAM_ITAG.matcher(stream).results()
-						.map(result -> Integer.parseInt(result.group(1)))
-						.findFirst().orElse(-1);
-				if(fmt == itag) {
-					pick = stream;
+			//formats come before adaptive formats, so a stream with audio wins if there's both
+			for(FormatsReader.Format format : formats) {
+				if(fmt == format.getItag()) {
+					pick = format;
 					break;
 				}
 			}
 		} else {
 			logger.debug("QX checking resolution of streams");
 			int bestRes = -1;
-			for(String stream : STREAM_MAP.matcher(streamMap).results()
-					.map(result -> result.group(1)).collect(Collectors.toList())) {
-				int height = HEIGHT_EXTRACT.matcher(stream).results()
-						.map(result -> Integer.parseInt(result.group(1)))
-						.findFirst().orElse(-1);
+			for(FormatsReader.Format format : formats) {
+				//video-only or audio-only, which isn't what anyone wants by default
+				if(format.isAdaptive()) continue;
+				int height = format.getHeight();
 				logger.debug("QX found height: " + height);
-				if((pick == null) || (height != -1 && bestRes == -1) || 
-						(height != -1 && height > bestRes && (this.prefRes < 0 || this.prefRes >= height)) ||
-						(height != -1 && this.prefRes > -1 && bestRes > this.prefRes && bestRes > height)) {
+				if(StreamFormat.isBetter(height, pick != null, bestRes, this.prefRes)) {
 					bestRes = height;
-					pick = stream;
+					pick = format;
 				}
 			}
 		}
 		logger.debug("QX picked stream: " + pick + ", checking cipher");
 		if(pick == null) return null;
-		String cipher = getCaptureOrNull(SIG_CIPHER, pick);
-		if(cipher == null) cipher = getCaptureOrNull(SIG_CIPHER_BACKUP, pick);
+		return this.formatUrl(pick, jsUrl, context);
+	}
+	
+	/**
+	 * @return the url of the given format, from its cipher (descrambling the signature if 
+	 * necessary) if it has one, otherwise its plain url
+	 */
+	private String formatUrl(FormatsReader.Format format, String jsUrl, ParseContext context) {
+		String cipher = format.getCipher();
 		if(cipher != null) {
 			logger.debug("QX found cipher");
-			String url = this.streamUrl(cipher, jsUrl);
+			String url = this.streamUrl(cipher, jsUrl, context);
 			if(url != null) return url;
 		}
-		return getCaptureOrNull(STREAM_URL_EXTRACT, pick);
+		return format.getUrl();
 	}
 	
 	@Override
 	public String parse(String youtubeLink) {
+		long start = System.nanoTime();
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		String result = this.parseLink(youtubeLink);
+		this.listener.parseFinished(youtubeLink, System.nanoTime() - start, result != null);
+		commit(event, youtubeLink, result != null);
+		return result;
+	}
+	
+	private String parseLink(String youtubeLink) {
+		VideoKey key = this.canonicalize(youtubeLink);
+		if(key == null) return null;
+		String result = this.cached(key);
+		return result != null ? result : this.parse(key);
+	}
+	
+	/**
+	 * @return the cached result for the given key, or null if there isn't one or result caching
+	 * is disabled
+	 */
+	private String cached(VideoKey key) {
+		if(this.results == null) return null;
+		String result = this.results.get(key);
+		if(result != null) logger.debug("QX result cache hit for " + key);
+		return result;
+	}
+	
+	/**
+	 * parses the url for the given key, unless a parse of the same key is already in flight, in 
+	 * which case this waits for that parse and returns its result instead
+	 */
+	private String parse(VideoKey key) {
+		while(true) {
+			Flight mine = new Flight(Deadline.NONE);
+			Flight flight = this.joinFlight(key, mine);
+			if(flight == mine) return this.runFlight(key, flight);
+			logger.debug("QX waiting for in-flight parse of " + key);
+			try {
+				return awaitFlight(flight.result);
+			} catch (CancellationException e) {
+				logger.debug("QX " + e.getMessage() + ", trying again");
+			}
+		}
+	}
+	
+	/**
+	 * @param mine a new flight for the given key
+	 * @return the flight already in progress for the key, joined, or the given one if there 
+	 * wasn't one, in which case the caller has to run it
+	 */
+	private Flight joinFlight(VideoKey key, Flight mine) {
+		while(true) {
+			Flight existing = this.inFlight.putIfAbsent(key, mine);
+			if(existing == null) return mine;
+			if(existing.join()) return existing;
+			//everyone gave up on it, so it's being cancelled
+			this.inFlight.remove(key, existing);
+		}
+	}
+	
+	/**
+	 * does the actual parse for a flight, on the calling thread, and completes the flight with 
+	 * its result. if the flight's deadline cuts it short, nothing is cached and the flight fails 
+	 * with a CancellationException instead, so anyone still waiting on it can try again
+	 * @return the result, null if the deadline cut it short
+	 */
+	private String runFlight(VideoKey key, Flight flight) {
 		try {
-			return this.parse(new ParsedURL(youtubeLink));
-		} catch (IOException e) {
+			String result;
+			try {
+				result = this.parse(new ParsedURL(key.getUrl()), flight.deadline);
+			} catch (IOException e) {
+				logger.debug("QX couldn't parse " + key + ": " + e);
+				if(flight.deadline.hasEnded()) {
+					//removed first, so anyone trying again doesn't join the same flight
+					this.inFlight.remove(key, flight);
+					flight.result.completeExceptionally(new CancellationException("parse of " + key 
+							+ " cut short by its deadline"));
+					return null;
+				}
+				result = null;
+			}
+			if(this.results != null) this.results.put(key, result);
+			flight.result.complete(result);
+			return result;
+		} catch (RuntimeException | Error e) {
+			//waiters get the same failure instead of hanging
+			flight.result.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.inFlight.remove(key, flight);
+		}
+	}
+	
+	/**
+	 * waits for a parse started by someone else
+	 * @return the parse's result
+	 * @throws CancellationException if the parse was cut short by the deadline it ran under
+	 * @throws RuntimeException whatever the parse threw, if it failed
+	 */
+	private static String awaitFlight(CompletableFuture<String> flight) {
+		try {
+			return flight.join();
+		} catch (CompletionException e) {
+			if(e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			if(e.getCause() instanceof Error) throw (Error) e.getCause();
+			throw e;
+		}
+	}
+	
+	@Override
+	public String parse(String youtubeLink, Duration deadline) {
+		//the parse happens on this thread, so the handle is already done
+		return this.submit(youtubeLink, deadline, Runnable::run).join();
+	}
+	
+	@Override
+	public ParseHandle submit(String youtubeLink, Duration deadline) {
+		return this.submit(youtubeLink, deadline, this.executor);
+	}
+	
+	/**
+	 * @param runner where to run the parse if it isn't already in flight
+	 */
+	private ParseHandle submit(String youtubeLink, Duration deadline, Executor runner) {
+		if(deadline.isNegative() || deadline.isZero()) 
+			throw new IllegalArgumentException("deadline must be positive, got " + deadline);
+		long start = System.nanoTime();
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		ParseHandle handle = this.submitLink(youtubeLink, deadline, runner);
+		handle.toFuture().whenComplete((result, throwable) -> {
+			this.listener.parseFinished(youtubeLink, System.nanoTime() - start, result != null);
+			commit(event, youtubeLink, result != null);
+		});
+		return handle;
+	}
+	
+	private ParseHandle submitLink(String youtubeLink, Duration deadline, Executor runner) {
+		VideoKey key = this.canonicalize(youtubeLink);
+		if(key == null) return ParseHandle.completed(null);
+		String result = this.cached(key);
+		if(result != null) return ParseHandle.completed(result);
+		Waiter waiter = new Waiter();
+		return new ParseHandle(this.submitKey(key, System.nanoTime() + deadline.toNanos(), runner, waiter), 
+				deadline.toNanos(), waiter::giveUp);
+	}
+	
+	/**
+	 * starts a parse of the given key under a deadline, or joins one already in flight
+	 * @param endNanos when the deadline passes, in {@link System#nanoTime()} terms
+	 * @param runner where to run the parse if it isn't already in flight
+	 * @param waiter keeps track of the flight being waited on, for the handle to leave
+	 * @return future that completes with the result, or with null if this call's own deadline cut
+	 * the parse short. if a joined parse is cut short by someone else's deadline, another is 
+	 * started or joined with whatever time is left
+	 */
+	private CompletableFuture<String> submitKey(VideoKey key, long endNanos, Executor runner, Waiter waiter) {
+		String result = this.cached(key);
+		if(result != null) return CompletableFuture.completedFuture(result);
+		long left = endNanos - System.nanoTime();
+		if(left <= 0) return CompletableFuture.completedFuture(null);
+		Flight mine = new Flight(Deadline.after(Duration.ofNanos(left)));
+		Flight flight = this.joinFlight(key, mine);
+		if(flight == mine) {
+			runner.execute(() -> {
+				try {
+					this.runFlight(key, mine);
+				} catch (RuntimeException e) {
+					//reported through the flight
+				}
+			});
+		} else {
+			logger.debug("QX joining in-flight parse of " + key);
+		}
+		if(!waiter.waitOn(flight)) {
+			//the handle gave up before it knew about this flight, so leave it here
+			flight.leave();
+			return CompletableFuture.completedFuture(null);
+		}
+		return flight.result
+				.handle((parsed, throwable) -> {
+					if(throwable == null) return CompletableFuture.completedFuture(parsed);
+					if(!(throwable instanceof CancellationException)) return CompletableFuture.<String>failedFuture(throwable);
+					if(flight == mine) return CompletableFuture.<String>completedFuture(null);
+					logger.debug("QX " + throwable.getMessage() + ", trying again");
+					return this.submitKey(key, endNanos, this.executor, waiter);
+				})
+				.thenCompose(Function.identity());
+	}
+	
+	@Override
+	public CompletableFuture<String> parseAsync(String youtubeLink) {
+		long start = System.nanoTime();
+		ParseEvent event = new ParseEvent();
+		event.begin();
+		return this.parseLinkAsync(youtubeLink).whenComplete((result, throwable) -> {
+			this.listener.parseFinished(youtubeLink, System.nanoTime() - start, result != null);
+			commit(event, youtubeLink, result != null);
+		});
+	}
+	
+	private CompletableFuture<String> parseLinkAsync(String youtubeLink) {
+		VideoKey key = this.canonicalize(youtubeLink);
+		if(key == null) return CompletableFuture.completedFuture(null);
+		return this.parseAsync(key);
+	}
+	
+	/**
+	 * parses the url for the given key asynchronously, going through the result cache if there is
+	 * one, and joining a parse of the same key that's already in flight if there is one. each 
+	 * caller gets its own future, so cancelling it only stops that caller waiting; the shared 
+	 * parse carries on for everyone else
+	 */
+	private CompletableFuture<String> parseAsync(VideoKey key) {
+		String result = this.cached(key);
+		if(result != null) return CompletableFuture.completedFuture(result);
+		Flight mine = new Flight(Deadline.NONE);
+		Flight flight = this.joinFlight(key, mine);
+		if(flight != mine) {
+			logger.debug("QX joining in-flight parse of " + key);
+			//a new future either way, so cancelling it doesn't affect the shared parse
+			return flight.result
+					.handle((parsed, throwable) -> {
+						if(throwable == null) return CompletableFuture.completedFuture(parsed);
+						if(!(throwable instanceof CancellationException)) return CompletableFuture.<String>failedFuture(throwable);
+						logger.debug("QX " + throwable.getMessage() + ", trying again");
+						return this.parseAsync(key);
+					})
+					.thenCompose(Function.identity());
+		}
+		CompletableFuture<String> future;
+		try {
+			future = this.parseAsync(new ParsedURL(key.getUrl()));
+		} catch (MalformedURLException e) {
+			future = CompletableFuture.completedFuture(null);
+		} catch (RuntimeException e) {
+			future = CompletableFuture.failedFuture(e);
+		}
+		future.whenComplete((parsed, throwable) -> {
+			if(throwable == null && this.results != null) this.results.put(key, parsed);
+			this.inFlight.remove(key, flight);
+			if(throwable != null) {
+				flight.result.completeExceptionally(throwable);
+			} else {
+				flight.result.complete(parsed);
+			}
+		});
+		return flight.result.copy();
+	}
+	
+	/**
+	 * a parse of one key, shared by every call that asks for the key while it's running. the 
+	 * parse runs under the deadline of the call that started it, and is cancelled once every
+	 * call waiting on it has given up. if the deadline cuts it short, its result fails with a 
+	 * CancellationException, and every other call waiting on it starts or joins another
+	 */
+	private static final class Flight {
+		
+		final CompletableFuture<String> result = new CompletableFuture<>();
+		final Deadline deadline;
+		private int waiters = 1;
+		
+		Flight(Deadline deadline) {
+			this.deadline = deadline;
+		}
+		
+		/**
+		 * @return true if joined, false if everyone has given up on this flight already
+		 */
+		synchronized boolean join() {
+			if(this.waiters == 0) return false;
+			this.waiters++;
+			return true;
+		}
+		
+		/**
+		 * called when a waiter stops waiting before the parse is done
+		 */
+		void leave() {
+			synchronized(this) {
+				if(--this.waiters > 0) return;
+			}
+			this.deadline.cancel();
+		}
+	}
+	
+	/**
+	 * the flight a {@link ParseHandle} is waiting on, which changes if that flight is cut short by
+	 * someone else's deadline and the handle moves on to another
+	 */
+	private static final class Waiter {
+		
+		private Flight flight = null;
+		private boolean gaveUp = false;
+		
+		/**
+		 * @return true if now waiting on the given flight, false if the handle has given up
+		 */
+		synchronized boolean waitOn(Flight flight) {
+			if(this.gaveUp) return false;
+			this.flight = flight;
+			return true;
+		}
+		
+		/**
+		 * called when the handle stops waiting before the parse is done
+		 */
+		void giveUp() {
+			Flight flight;
+			synchronized(this) {
+				this.gaveUp = true;
+				flight = this.flight;
+				this.flight = null;
+			}
+			if(flight != null) flight.leave();
+		}
+	}
+	
+	@Override
+	public CompletableFuture<String> probeAndParseAsync(String potentialLink) {
+		if(!this.probe(potentialLink)) return CompletableFuture.completedFuture(null);
+		return this.parseAsync(potentialLink);
+	}
+	
+	@Override
+	public Map<String, String> parseAll(Collection<String> youtubeLinks) {
+		/*
+		 * the same video often shows up several times in different link forms, so reduce every 
+		 * link to a key first and only resolve each distinct key once. all distinct videos are
+		 * resolved concurrently; concurrent parses needing the same player js share one download
+		 */
+		Map<String, VideoKey> keys = new LinkedHashMap<>();
+		Map<VideoKey, CompletableFuture<String>> pending = new HashMap<>();
+		for(String link : youtubeLinks) {
+			if(keys.containsKey(link)) continue;
+			VideoKey key = this.canonicalize(link);
+			keys.put(link, key);
+			if(key != null && !pending.containsKey(key)) {
+				pending.put(key, this.parseAsync(key));
+			}
+		}
+		logger.debug("QX resolving " + pending.size() + " distinct videos for " + keys.size() + " distinct links");
+		
+		Map<String, String> results = new LinkedHashMap<>();
+		for(Map.Entry<String, VideoKey> entry : keys.entrySet()) {
+			VideoKey key = entry.getValue();
+			results.put(entry.getKey(), key == null ? null : this.joinBatchEntry(entry.getKey(), pending.get(key)));
+		}
+		return results;
+	}
+	
+	/**
+	 * waits for one parse of a batch
+	 * @return the parse's result, or null if it failed, so one bad link doesn't lose the rest of 
+	 * the batch
+	 */
+	private String joinBatchEntry(String link, CompletableFuture<String> parse) {
+		try {
+			return parse.join();
+		} catch (CompletionException | CancellationException e) {
+			logger.warn(this + ": error while parsing " + link + " as part of a batch", 
+					e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
 			return null;
 		}
 	}
 	
 	@Override
-	public boolean probe(String potentialLink) {
+	public List<StreamFormat> resolveFormats(String youtubeLink) {
+		return this.resolveFormats(youtubeLink, Deadline.NONE);
+	}
+	
+	@Override
+	public List<StreamFormat> resolveFormats(String youtubeLink, Duration deadline) {
+		if(deadline.isNegative() || deadline.isZero()) 
+			throw new IllegalArgumentException("deadline must be positive, got " + deadline);
+		return this.resolveFormats(youtubeLink, Deadline.after(deadline));
+	}
+	
+	private List<StreamFormat> resolveFormats(String youtubeLink, Deadline deadline) {
+		VideoKey key = this.canonicalize(youtubeLink);
+		if(key == null) return List.of();
 		try {
-			return this.probe(new ParsedURL(potentialLink));
+			return this.resolveFormats(new ParsedURL(key.getUrl()), deadline);
+		} catch (IOException e) {
+			logger.warn(this + ": io error while resolving formats for " + youtubeLink, e);
+			return List.of();
+		}
+	}
+	
+	/**
+	 * the same loop as {@link #parse(ParsedURL, Deadline)}, with the same hop budget and deadline,
+	 * except that every page fetched is checked for json formats first. the first page that has 
+	 * any gives the result. a page without them is read the way parse reads it, which either leads
+	 * to the next page (eg get_video_info) or to a single stream, from a legacy stream map or an hls
+	 * manifest, which is returned on its own. nothing is descrambled for json formats here; each 
+	 * format's signature is descrambled (loading the player js if it isn't cached) the first time 
+	 * its url is asked for
+	 * @param deadline the deadline for fetching pages. player js loaded for a format's url later 
+	 * isn't held to it
+	 * @return unmodifiable list of the formats found, muxed formats first, or an empty list if 
+	 * there weren't any
+	 * @throws IOException if a page couldn't be fetched, or the deadline ended
+	 */
+	private List<StreamFormat> resolveFormats(ParsedURL parsedURL, Deadline deadline) throws IOException {
+		ResolveTrace trace = new ResolveTrace(parsedURL, this.maxHops);
+		ParsedURL page = parsedURL;
+		while(true) {
+			page = this.rewriteAll(page, trace);
+			if(page == null || !this.canFetch(page, trace)) return List.of();
+			logger.debug("QX resolving formats from " + page);
+			String body = this.fetchPage(page, deadline);
+			List<StreamFormat> streams = this.readFormats(page, body);
+			if(streams != null) {
+				logger.debug("QX resolved " + streams.size() + " formats in " + trace.getHops() + " hops, path: " + trace);
+				return streams;
+			}
+			String newPath = this.readPage(page, body, new ParseContext(page, deadline));
+			deadline.check();
+			if(newPath == null) {
+				logger.debug("QX nothing found, path: " + trace);
+				return List.of();
+			}
+			ParsedURL next = this.nextPage(newPath);
+			if(next == null) {
+				logger.debug("QX no formats, resolved a single stream in " + trace.getHops() + " hops, path: " + trace);
+				return List.of(new StreamFormat(itagOf(newPath), -1, -1, null, false, () -> newPath));
+			}
+			page = next;
+		}
+	}
+	
+	/**
+	 * reads the json formats off a watch page or get_video_info response
+	 * @param parsedURL the url the page was downloaded from
+	 * @param body the page
+	 * @return unmodifiable list of the formats, or null if the page has none
+	 */
+	private List<StreamFormat> readFormats(ParsedURL parsedURL, String body) throws IOException {
+		String jsUrl = null;
+		List<FormatsReader.Format> formats = null;
+		if(isWatchPage(parsedURL.getPath())) {
+			BufferedReader reader = new BufferedReader(new StringReader(body));
+			for(String line = reader.readLine(); line != null && (formats == null || jsUrl == null); line = reader.readLine()) {
+				if(jsUrl == null) jsUrl = findJsUrl(parsedURL, line);
+				if(formats == null && line.contains("ytplayer.config")) formats = FormatsReader.read(line);
+			}
+		} else {
+			VideoInfoReader info = VideoInfoReader.read(new StringReader(body));
+			jsUrl = parsedURL.getParams().getDecoded("jsurl");
+			String streamMap = info == null ? null : info.getFormats();
+			if(streamMap != null) 
+				formats = FormatsReader.readContents(URLDecoder.decode(streamMap, StandardCharsets.UTF_8));
+		}
+		if(formats == null || formats.isEmpty()) return null;
+		
+		String playerJs = jsUrl;
+		List<StreamFormat> streams = new ArrayList<>(formats.size());
+		for(FormatsReader.Format format : formats) {
+			streams.add(new StreamFormat(format.getItag(), format.getHeight(), format.getBitrate(), format.getMimeType(),
+					format.isAdaptive(), () -> this.formatUrl(format, playerJs, new ParseContext(parsedURL, true))));
+		}
+		return Collections.unmodifiableList(streams);
+	}
+	
+	/**
+	 * @return the <code>itag</code> parameter of the given stream url, or -1 if it doesn't have one
+	 */
+	private static int itagOf(String url) {
+		try {
+			String itag = new ParsedURL(url).getParams().getString("itag");
+			return itag == null ? -1 : Integer.parseInt(itag);
+		} catch (MalformedURLException | NumberFormatException e) {
+			return -1;
+		}
+	}
+	
+	/**
+	 * downloads the page at the given url in full, reporting to the listener
+	 * @param parsedURL the url to download
+	 * @param deadline the deadline the download has to finish by
+	 * @return the body of the page
+	 * @throws IOException if the page couldn't be downloaded
+	 */
+	private String fetchPage(ParsedURL parsedURL, Deadline deadline) throws IOException {
+		long start = System.nanoTime();
+		FetchEvent event = new FetchEvent();
+		event.begin();
+		PageFetcher.Response response;
+		try {
+			response = deadline.wrap(this.fetcher).fetch(parsedURL.getURLObject(), this.timeout);
+		} catch (IOException e) {
+			this.fetchFailed(parsedURL, start, event);
+			throw e;
+		}
+		String body;
+		try {
+			body = this.readBody(parsedURL, response, start, event);
+		} catch (CompletionException e) {
+			//readBody's way of failing, already reported. anything else isn't a fetch failure, so it goes up as is
+			if(!(e.getCause() instanceof IOException)) throw e;
+			throw (IOException) e.getCause();
+		}
+		commit(event, parsedURL, null, response.decodedBytes(), response.wireBytes(), true);
+		return body;
+	}
+	
+	/**
+	 * reduces the given link to the page that would actually be fetched when parsing it, by 
+	 * following all the url rewrites in {@link #rewrite(ParsedURL)} (none of which fetch anything)
+	 * @param link a youtube link
+	 * @return key identifying the video the link refers to, or null if the link can't be parsed
+	 */
+	VideoKey canonicalize(String link) {
+		try {
+			ParsedURL parsedURL = this.rewriteAll(new ParsedURL(link), null);
+			return parsedURL == null ? null : VideoKey.of(parsedURL);
 		} catch (MalformedURLException e) {
-			return false;
+			return null;
 		}
 	}
+	
+	@Override
+	public boolean probe(String potentialLink) {
+		return LinkClassifier.classify(potentialLink).isYoutube();
+	}
+	
+	@Override
+	public LinkKind classify(CharSequence potentialLink) {
+		return LinkClassifier.classify(potentialLink);
+	}
+	
+	@Override
+	public List<LinkMatch> findLinks(CharSequence text) {
+		return LinkClassifier.findLinks(text, Integer.MAX_VALUE);
+	}
+	
+	@Override
+	public List<LinkMatch> findLinks(CharSequence text, int maxLinks) {
+		if(maxLinks < 0) throw new IllegalArgumentException("max links must not be negative, got " + maxLinks);
+		return LinkClassifier.findLinks(text, maxLinks);
+	}
 
 	/**
-	 * used to test if a given string is a valid youtube link
+	 * used to test if a given url is a valid youtube link
 	 * @param url the url to check
 	 * @return true if the given url is a parseable youtube link, false otherwise
 	 */
 	private boolean probe(ParsedURL url) {
 		String access = url.getAccess();
 		if(!access.equals("http") && !access.equals("https")) return false;
-		String path = url.getPath();
-		boolean content = WATCH_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(path).find())
-				|| path.contains("/get_video_info?")
-				|| path.contains("/v/") || path.contains("/embed/");
-		return ((PROBE_START.matcher(path).find() && content) 
-				|| CONSENT.matcher(path).find() 
-				|| YOUTUBE_SHORTENED.matcher(path).find());
+		return LinkClassifier.classifyPath(url.getPath()).isYoutube();
+	}
+	
+	/**
+	 * resolves the given url to a direct stream url. this is a loop over two kinds of step: 
+	 * rewrites (see {@link #rewrite(ParsedURL)}), which are done locally, and fetches of watch 
+	 * pages and get_video_info, each of which finds either the result or the next page to try. 
+	 * no page is fetched twice, and at most maxHops pages are fetched; the path taken is logged
+	 * @param deadline the deadline for the whole parse. every fetch gets whatever time is left
+	 * @throws IOException if a page couldn't be fetched, or the deadline ended
+	 */
+	private String parse(ParsedURL parsedURL, Deadline deadline) throws IOException {
+		ResolveTrace trace = new ResolveTrace(parsedURL, this.maxHops);
+		ParsedURL page = parsedURL;
+		while(true) {
+			page = this.rewriteAll(page, trace);
+			if(page == null || !this.canFetch(page, trace)) return null;
+			String newPath = this.fetchAndRead(page, deadline);
+			//anything found after the deadline ended, eg with the player js cut off, can't be trusted
+			deadline.check();
+			if(newPath == null) {
+				logger.debug("QX nothing found, path: " + trace);
+				return null;
+			}
+			ParsedURL next = this.nextPage(newPath);
+			if(next == null) {
+				logger.debug("QX resolved in " + trace.getHops() + " hops, path: " + trace);
+				return newPath;
+			}
+			page = next;
+		}
+	}
+	
+	/**
+	 * fetches and reads a single watch page or get_video_info url
+	 * @param parsedURL a url that {@link #rewrite(ParsedURL)} returns unchanged
+	 * @param deadline the deadline for the parse
+	 * @return the new path found in the page, or null if nothing could be found
+	 * @throws IOException if the page couldn't be fetched
+	 */
+	private String fetchAndRead(ParsedURL parsedURL, Deadline deadline) throws IOException {
+		String path = parsedURL.getPath();
+		ParseContext context = new ParseContext(parsedURL, deadline);
+		String newPath;
+		long start = System.nanoTime();
+		FetchEvent event = new FetchEvent();
+		event.begin();
+		long bytes = -1;
+		long wireBytes = -1;
+		boolean success = false;
+		try (PageFetcher.Response response = deadline.wrap(this.fetcher).fetch(parsedURL.getURLObject(), this.timeout)) {
+			if(isWatchPage(path)) {
+				CountingInputStream body = new CountingInputStream(response.body());
+				BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+				newPath = this.readWatchPage(parsedURL, reader, 
+						() -> context.setSkippedBytes(this.abort(parsedURL, response, body)), context);
+			} else {
+				InputStreamReader reader = new InputStreamReader(response.body(), StandardCharsets.UTF_8);
+				newPath = this.readVideoInfo(parsedURL, reader, context);
+			}
+			logTransfer(parsedURL, response);
+			bytes = response.decodedBytes();
+			wireBytes = response.wireBytes();
+			success = true;
+		} finally {
+			this.listener.pageFetched(parsedURL.toString(), System.nanoTime() - start - context.getPlayerJsNanos(), 
+					bytes, wireBytes, success);
+			event.end();
+			commit(event, parsedURL, context, bytes, wireBytes, success);
+		}
+		return newPath;
+	}
+	
+	/**
+	 * follows rewrites from the given url until it reaches a page that has to be fetched
+	 * @param trace where to record the rewrites, or null not to
+	 * @return the page to fetch, or null if the url can't be handled
+	 * @throws MalformedURLException if a rewritten url is malformed
+	 */
+	private ParsedURL rewriteAll(ParsedURL parsedURL, ResolveTrace trace) throws MalformedURLException {
+		//rewrites can't really loop but don't trust a crafted consent link
+		for(int i=0; i < MAX_REWRITES; i++) {
+			ParsedURL rewritten = this.rewrite(parsedURL);
+			if(rewritten == null || rewritten == parsedURL) return rewritten;
+			if(trace != null) trace.rewrote(rewritten);
+			parsedURL = rewritten;
+		}
+		logger.warn(this + ": too many rewrites while resolving " + parsedURL);
+		return null;
+	}
+	
+	/**
+	 * @return true if the given page may be fetched as part of the resolve the given trace is for
+	 */
+	private boolean canFetch(ParsedURL page, ResolveTrace trace) {
+		if(trace.fetch(page)) return true;
+		logger.warn(this + ": gave up after " + trace.getHops() + " hops, path: " + trace);
+		return false;
+	}
+	
+	/**
+	 * once we have new url, it's either going to be a url to another youtube page from which we 
+	 * can get more information leading to the direct video link, or it's going to be the direct 
+	 * video link. in the former case, probe(url) will return true, and in the latter, i think 
+	 * probe(url) will return false, so we make this check to determine if we need another step
+	 * @param newPath the new path found in a page
+	 * @return the next page to resolve, or null if the new path is the result
+	 * @throws MalformedURLException if the new path is malformed
+	 */
+	private ParsedURL nextPage(String newPath) throws MalformedURLException {
+		ParsedURL next = new ParsedURL(newPath);
+		if(!this.probe(next)) return null;
+		logger.debug("QX probe passed on new url: " + next);
+		return next;
+	}
+	
+	/**
+	 * async version of {@link #parse(ParsedURL, Deadline)}, without a deadline. pages are downloaded in full with 
+	 * {@link PageFetcher#fetchAsync(java.net.URL, int)}, and then processed on the parser's executor. since 
+	 * processing can't block to download player js, pages are processed with player js fetching 
+	 * disabled; if a page turns out to need player js that isn't cached yet, the js is downloaded 
+	 * asynchronously, its rules are cached, and the (already downloaded) page is processed again
+	 */
+	private CompletableFuture<String> parseAsync(ParsedURL parsedURL) {
+		return this.resolveAsync(parsedURL, new ResolveTrace(parsedURL, this.maxHops))
+				.handle((result, throwable) -> {
+					if(throwable == null) return result;
+					Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+					if(cause instanceof IOException) {
+						logger.warn(this + ": io error while parsing " + parsedURL, cause);
+						return null;
+					}
+					throw throwable instanceof CompletionException ? (CompletionException) throwable : new CompletionException(cause);
+				});
+	}
+	
+	/**
+	 * one step of {@link #parseAsync(ParsedURL)}: rewrites the given url as far as possible, then
+	 * fetches and reads the page it ends up at
+	 */
+	private CompletableFuture<String> resolveAsync(ParsedURL parsedURL, ResolveTrace trace) {
+		ParsedURL page;
+		try {
+			page = this.rewriteAll(parsedURL, trace);
+		} catch (MalformedURLException e) {
+			return CompletableFuture.completedFuture(null);
+		}
+		if(page == null || !this.canFetch(page, trace)) return CompletableFuture.completedFuture(null);
+		
+		long start = System.nanoTime();
+		FetchEvent event = new FetchEvent();
+		event.begin();
+		return this.fetchAsync(page.toString())
+				.whenComplete((response, throwable) -> {
+					if(throwable != null) this.fetchFailed(page, start, event);
+				})
+				.thenComposeAsync(response -> {
+					String body = this.readBody(page, response, start, event);
+					ParseContext context = new ParseContext(page, false);
+					String newPath = this.readPage(page, body, context);
+					String jsUrl = context.getMissingJsUrl();
+					if(jsUrl == null) {
+						//recorded once the page has been processed, for the branch taken
+						commit(event, page, context, response.decodedBytes(), response.wireBytes(), true);
+						return this.continueAsync(newPath, trace);
+					}
+					return this.loadDescramblerAsync(jsUrl)
+							.thenComposeAsync(descrambler -> {
+								//if loading failed the signature is left as is, same as in parse()
+								ParseContext again = new ParseContext(page, jsUrl);
+								String path = this.readPage(page, body, again);
+								commit(event, page, again, response.decodedBytes(), response.wireBytes(), true);
+								return this.continueAsync(path, trace);
+							}, this.executor);
+				}, this.executor);
+	}
+	
+	/**
+	 * the async equivalent of the end of the loop in {@link #parse(ParsedURL, Deadline)}: if the given new 
+	 * path is another youtube page it's resolved in turn, otherwise it's the result
+	 */
+	private CompletableFuture<String> continueAsync(String newPath, ResolveTrace trace) {
+		if(newPath == null) {
+			logger.debug("QX nothing found, path: " + trace);
+			return CompletableFuture.completedFuture(null);
+		}
+		try {
+			ParsedURL next = this.nextPage(newPath);
+			if(next == null) {
+				logger.debug("QX resolved in " + trace.getHops() + " hops, path: " + trace);
+				return CompletableFuture.completedFuture(newPath);
+			}
+			return this.resolveAsync(next, trace);
+		} catch (MalformedURLException e) {
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+	
+	/**
+	 * processes a page that has already been downloaded in full
+	 * @param parsedURL the url the page was downloaded from. must be a watch page or get_video_info url
+	 * @param body the page
+	 * @param context the context for the current parse
+	 * @return the new path found in the page, or null if nothing could be found
+	 */
+	private String readPage(ParsedURL parsedURL, String body, ParseContext context) {
+		StageEvent event = new StageEvent();
+		event.begin();
+		try {
+			String newPath;
+			if(isWatchPage(parsedURL.getPath())) {
+				newPath = this.readWatchPage(parsedURL, new BufferedReader(new StringReader(body)), () -> {}, context);
+			} else {
+				newPath = this.readVideoInfo(parsedURL, new StringReader(body), context);
+			}
+			commit(event, StageEvent.READ_PAGE, context, context.getBranchName(), 
+					newPath != null && context.getMissingJsUrl() == null);
+			return newPath;
+		} catch (IOException e) {
+			//can't really happen reading from a string
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * downloads the page at the given url in full, without blocking
+	 * @param url the url to download
+	 * @return future that completes with the response, or completes exceptionally with an 
+	 * IOException if the page couldn't be downloaded
+	 */
+	private CompletableFuture<PageFetcher.Response> fetchAsync(String url) {
+		try {
+			return this.fetcher.fetchAsync(new URL(url), this.timeout);
+		} catch (MalformedURLException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	/**
+	 * @param parsedURL the url the response is for
+	 * @param response a response from {@link PageFetcher#fetchAsync(java.net.URL, int)}, ie one whose
+	 * body is already in memory
+	 * @param start when the request was started, for the listener
+	 * @param event the flight recorder event for the request. it's ended once the body has been read,
+	 * but only committed here if reading fails; otherwise the caller commits it
+	 * @return the body of the response as a string
+	 * @throws CompletionException wrapping an IOException if the body couldn't be read, which has
+	 * already been reported as a failed fetch
+	 */
+	private String readBody(ParsedURL parsedURL, PageFetcher.Response response, long start, FetchEvent event) {
+		try (response) {
+			String body = new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+			logTransfer(parsedURL, response);
+			this.listener.pageFetched(parsedURL.toString(), System.nanoTime() - start, response.decodedBytes(), 
+					response.wireBytes(), true);
+			event.end();
+			return body;
+		} catch (IOException e) {
+			this.fetchFailed(parsedURL, start, event);
+			throw new CompletionException(e);
+		}
+	}
+	
+	/**
+	 * reports a fetch of a watch page or get_video_info url that failed before the page could be
+	 * read, to the listener and as a flight recorder event
+	 */
+	private void fetchFailed(ParsedURL parsedURL, long start, FetchEvent event) {
+		this.listener.pageFetched(parsedURL.toString(), System.nanoTime() - start, -1, -1, false);
+		event.end();
+		commit(event, parsedURL, null, -1, -1, false);
 	}
 	
-	private String parse(ParsedURL parsedURL) throws IOException {
+	/**
+	 * handles all of the branches in {@link #parse(ParsedURL, Deadline)} that just turn one url into another 
+	 * without fetching anything
+	 * @param parsedURL the url to rewrite
+	 * @return parsedURL itself if it's a page that needs to be fetched (ie a watch page or 
+	 * get_video_info), a new url if it should be rewritten to another one, or null if it can't 
+	 * be handled
+	 * @throws MalformedURLException if the rewritten url is malformed
+	 */
+	private ParsedURL rewrite(ParsedURL parsedURL) throws MalformedURLException {
 		String path = parsedURL.getPath();
+		QueryParams params = parsedURL.getParams();
 		logger.debug("QX parsing " + parsedURL);
 		if(CONSENT.matcher(path).find()) {
 			logger.debug("QX consent");
-			String newPath = URLUtils.getUrlParam(path, "continue");
+			String newPath = params.getDecoded("continue");
 			if(newPath == null) {
 				logger.error(this + ": couldn't handle youtube consent cookie redirection");
 				return null;
@@ -284,7 +1360,7 @@ class YoutubeParserImpl implements YoutubeParser {
 				 * in original script, a request is made with cookies disabled to avoid consent redirect
 				 * not sure how to handle that here so i'll just cross that bridge when (if?) i come to it
 				 */
-				return this.parse(URLDecoder.decode(newPath, StandardCharsets.UTF_8));
+				return new ParsedURL(newPath);
 			}
 		} else if (YOUTUBE_SHORTENED.matcher(path).find()) {
 			logger.debug("QX youtube shortened url detected");
@@ -293,209 +1369,225 @@ class YoutubeParserImpl implements YoutubeParser {
 				logger.error(this + ": couldn't extract video id from youtu.be url");
 				return null;
 			} else {
-				return this.parse(new ParsedURL(parsedURL.getAccess() + "://www.youtube.com/watch?v=" + videoId
-						+ URLUtils.copyUrlParam(path, "fmt")));
+				return new ParsedURL(parsedURL.getAccess() + "://www.youtube.com/watch?v=" + videoId
+						+ params.copy("fmt"));
 			}
 		} else if (!STANDARD_YOUTUBE.matcher(path).find()) {
 			try {
 				logger.debug("QX try again with www.youtube.com");
-				return this.parse(new ParsedURL(parsedURL.getAccess() + "://" + PATH_START.matcher(path).replaceAll("www.youtube.com/")));
+				return new ParsedURL(parsedURL.getAccess() + "://" + PATH_START.matcher(path).replaceAll("www.youtube.com/"));
 			} catch (MalformedURLException e) {
 				throw new AssertionError(e);
 			}
-		} else if (WATCH_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(path).find())) {
+		} else if (isWatchPage(path)) {
 			logger.debug("QX found watch patterns");
-			String jsUrl = null;
-			String fmt = URLUtils.getUrlParam(path, "fmt");
-			boolean newLayout = false;
-			String newPath = null;
-			URLConnection connection = parsedURL.getURLObject().openConnection();
-			connection.setConnectTimeout(this.timeout);
-			connection.setReadTimeout(this.timeout);
-			try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
-				while(true) {
-					String line = reader.readLine();
-					if(line == null) break;
-					
-					if(PLAYER_API.matcher(line).find()) {
-						line = reader.readLine();
-						if(line == null) break;
-					}
-					
-					if(!newLayout && line.contains("<script nonce=\"")) {
-						logger.debug(this + ": detected new youtube HTML code layout");
-						newLayout = true;
-					}
-					if(jsUrl == null) {
-						jsUrl = getCaptureOrNull(JS_URL_EXTRACT, line);
-						if(jsUrl == null) 
-							jsUrl = getCaptureOrNull(JS_EXTRACT, line);
-						if(jsUrl != null) {
-							jsUrl = UNESCAPE.matcher(jsUrl).replaceAll("/");
-							if(JS_LOCAL_PATH.matcher(jsUrl).find()) {
-								jsUrl = "//" + parsedURL.getAuthority() + jsUrl;
-							}
-							jsUrl = JS_PLACEHOLDER_PATH_START.matcher(jsUrl).replaceAll(parsedURL.getAccess() + "://");
-						}
-						if(jsUrl != null)
-							logger.debug("QX found jsUrl: " + jsUrl);
-					}
-					
-					if(line.contains("ytplayer.config")) {
-						if(fmt == null) {
-							String fmtList = getCaptureOrNull(FMT_LIST_EXTRACT, line);
-							if(fmtList != null) {
-								fmtList = UNESCAPE.matcher(fmtList).replaceAll("/");
-								fmt = this.getFmt(fmtList);
-								logger.debug("QX obtained fmt: " + fmt);
-							}
-						}
-						String urlMap = getCaptureOrNull(URL_ENCODED_FMT_MAP_EXTRACT, line);
-						if(urlMap != null) {
-							logger.debug(this + ": found classic parameters for youtube video stream, parsing...");
-							urlMap = replaceUnicodeAmpersands(urlMap);
-							urlMap = UNICODE_AMPERSAND.matcher(urlMap).replaceAll("&");
-							newPath = this.pickUrl(urlMap, fmt, jsUrl);
-							logger.debug("QX obtained newPath via urlMap: " + newPath);
-						}
-						if(newPath == null) {
-							String streamMap = getCaptureOrNull(FORMATS_ESCAPED_EXTRACT, line);
-							if(streamMap != null) {
-								streamMap = REDUNDANT_ESCAPE.matcher(streamMap).replaceAll("$1");
-							} else {
-								streamMap = getCaptureOrNull(FORMATS_EXTRACT, line);
-							}
-							if(streamMap != null) {
-								logger.debug(this + ": found new-style parameters for youtube video stream, parsing...");
-								streamMap = replaceUnicodeAmpersands(streamMap);
-								newPath = pickStream(path, streamMap, jsUrl);
-								logger.debug("QX obtained newPath via streamMap: " + newPath);
-							}
-						}
-						if(newPath == null) {
-							String hlsvp = getCaptureOrNull(HLS_MANIFEST_ESCAPED_EXTRACT, line);
-							if(hlsvp == null) 
-								hlsvp = getCaptureOrNull(HLS_MANIFEST_EXTRACT, line);
-							if(hlsvp != null) {
-								hlsvp = UNESCAPE.matcher(hlsvp).replaceAll("/");
-								newPath = hlsvp;
-								logger.debug("QX obtained newPath via hlsvp: " + newPath);
-							}
-						}
-					}
-				}
+			return parsedURL;
+		} else if (path.contains("/get_video_info?")) {
+			logger.debug("QX found get_video_info");
+			return parsedURL;
+		} else {
+			String videoId = getCaptureOrNull(VIDEO_ID_EXTRACT, path);
+			if(videoId == null) {
+				logger.error(this + ": couldn't extract youtube video URL");
+				return null;
 			}
-			
-			if(newPath == null) {
-				String videoId = URLUtils.getUrlParam(path, "v");
-				if(videoId != null) {
-					newPath = parsedURL.getAccess() + "://www.youtube.com/get_video_info?video_id=" + videoId + URLUtils.copyUrlParam(path, "fmt");
-					if(jsUrl != null)
-						newPath = newPath + "&jsurl=" + URLEncoder.encode(jsUrl, StandardCharsets.UTF_8);
-					logger.warn(this + ": couldn't extract video URL, falling back to alternate youtube API");
-				}
+			logger.debug("QX making another parse attempt with found video id: " + videoId);
+			return new ParsedURL(parsedURL.getAccess() + "://www.youtube.com/watch?v=" + videoId + params.copy("fmt"));
+		}
+	}
+	
+	private static boolean isWatchPage(String path) {
+		return WATCH_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(path).find());
+	}
+	
+	/**
+	 * reads a watch page, looking for a stream url
+	 * @param parsedURL the url of the watch page
+	 * @param reader reader over the body of the watch page
+	 * @param abort called if reading stops before the end of the page (see 
+	 * {@link YoutubeParserBuilder#earlyExit(boolean)})
+	 * @param context the context for the current parse
+	 * @return the new path found in the page (either a stream url or another youtube url to 
+	 * continue parsing), or null if no stream url could be found
+	 * @throws IOException if an error occurred while reading the page
+	 */
+	private String readWatchPage(ParsedURL parsedURL, BufferedReader reader, Runnable abort, ParseContext context) throws IOException {
+		long start = System.nanoTime();
+		QueryParams params = parsedURL.getParams();
+		String jsUrl = null;
+		String fmt = params.getString("fmt");
+		boolean newLayout = false;
+		String newPath = null;
+		while(true) {
+			if(this.earlyExit && newPath != null) {
+				abort.run();
+				break;
 			}
-			if(newPath == null) {
-				this.logGeneralError();
-				return null;
+			
+			String line = reader.readLine();
+			if(line == null) break;
+			
+			if(PLAYER_API.matcher(line).find()) {
+				line = reader.readLine();
+				if(line == null) break;
 			}
-			/*
-			 * once we have new url, it's either going to be a url to another youtube
-			 * page from which we can get more information leading to the direct
-			 * video link, or it's going to be the direct video link. in the former 
-			 * case, probe(url) will return true, and in the latter, i think probe(url)
-			 * will return false, so we make this check to determine if we need to do
-			 * another iteration of parse()
-			 */
-			ParsedURL newParsedURL = new ParsedURL(newPath);
-			if(this.probe(newParsedURL)) {
-				logger.debug("QX probe passed on new url: " + newParsedURL);
-				return this.parse(newParsedURL);
-			} else {
-				return newPath;
+			
+			if(!newLayout && line.contains("<script nonce=\"")) {
+				logger.debug(this + ": detected new youtube HTML code layout");
+				newLayout = true;
 			}
-		} else if (path.contains("/get_video_info?")) {
-			logger.debug("QX found get_video_info");
-			URLConnection connection = parsedURL.getURLObject().openConnection();
-			connection.setConnectTimeout(this.timeout);
-			connection.setReadTimeout(this.timeout);
-			String newPath = null;
-			try (InputStreamReader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
-				/*
-				 * the original lua script reads 1048576 characters into a single line
-				 * idk why but thats what i do
-				 */
-				char[] buffer = new char[1050000];
-				if(reader.read(buffer, 0, 1048576) == -1) {
-					logger.error(this + ": youtube API output missing");
-					return null;
+			if(jsUrl == null) {
+				jsUrl = findJsUrl(parsedURL, line);
+				if(jsUrl != null) {
+					logger.debug("QX found jsUrl: " + jsUrl);
+					//already reported if this is a second pass over the page
+					if(context.getLoadedJsUrl() == null) 
+						this.listener.jsUrlFound(parsedURL.toString(), jsUrl, System.nanoTime() - start);
 				}
-				String line = new StringBuilder().append(buffer).toString().trim();
-				String jsUrl = URLUtils.getUrlParam(path, "jsurl");
-				if(jsUrl != null) jsUrl = URLDecoder.decode(jsUrl, StandardCharsets.UTF_8);
-				logger.debug("QX attempted to find jsUrl, result: " + jsUrl);
-				String fmt = URLUtils.getUrlParam(path, "fmt");
+			}
+			
+			if(line.contains("ytplayer.config")) {
 				if(fmt == null) {
-					String fmtList = getCaptureOrNull(FMT_LIST_URL_EXTRACT, line);
+					String fmtList = getCaptureOrNull(FMT_LIST_EXTRACT, line);
 					if(fmtList != null) {
-						fmtList = URLDecoder.decode(fmtList, StandardCharsets.UTF_8);
+						fmtList = UNESCAPE.matcher(fmtList).replaceAll("/");
 						fmt = this.getFmt(fmtList);
+						logger.debug("QX obtained fmt: " + fmt);
 					}
 				}
-				logger.debug("QX attempted to find fmt, result: " + fmt);
-				String urlMap = getCaptureOrNull(URL_ENCODED_FMT_MAP_URL_EXTRACT, line);
+				String urlMap = getCaptureOrNull(URL_ENCODED_FMT_MAP_EXTRACT, line);
 				if(urlMap != null) {
 					logger.debug(this + ": found classic parameters for youtube video stream, parsing...");
-					urlMap = URLDecoder.decode(urlMap, StandardCharsets.UTF_8);
-					newPath = this.pickUrl(urlMap, fmt, jsUrl);
+					urlMap = replaceUnicodeAmpersands(urlMap);
+					urlMap = UNICODE_AMPERSAND.matcher(urlMap).replaceAll("&");
+					newPath = this.pickUrl(parsedURL, urlMap, fmt, jsUrl, context);
+					logger.debug("QX obtained newPath via urlMap: " + newPath);
 				}
 				if(newPath == null) {
-					String streamMap = getCaptureOrNull(FORMATS_URL_EXTRACT, line);
-					if(streamMap != null) {
+					List<FormatsReader.Format> formats = FormatsReader.read(line);
+					if(formats != null) {
 						logger.debug(this + ": found new-style parameters for youtube video stream, parsing...");
-						streamMap = URLDecoder.decode(streamMap, StandardCharsets.UTF_8);
-						streamMap = replaceUnicodeAmpersands(streamMap);
-						newPath = this.pickStream(newPath, streamMap, jsUrl);
+						newPath = this.pickStream(parsedURL, formats, jsUrl, context);
+						logger.debug("QX obtained newPath via formats: " + newPath);
 					}
 				}
 				if(newPath == null) {
-					String hlsvp = getCaptureOrNull(HLS_MANIFEST_URL_EXTRACT, line);
+					String hlsvp = getCaptureOrNull(HLS_MANIFEST_ESCAPED_EXTRACT, line);
+					if(hlsvp == null) 
+						hlsvp = getCaptureOrNull(HLS_MANIFEST_EXTRACT, line);
 					if(hlsvp != null) {
-						hlsvp = URLDecoder.decode(hlsvp, StandardCharsets.UTF_8);
+						hlsvp = UNESCAPE.matcher(hlsvp).replaceAll("/");
 						newPath = hlsvp;
-						logger.debug("QX found newPath via hlsvp, newPath: " + newPath);
-					}
-				}
-				if(newPath == null && !URLUtils.getUrlParam(path, "el").equals("detailpage")) {
-					String videoId = URLUtils.getUrlParam(path, "video_id");
-					if(videoId != null) {
-						newPath = parsedURL.getAccess() + "://www.youtube.com/get_video_info?video_id=" + videoId 
-								+ "&el=detailpage" + URLUtils.copyUrlParam(path, "fmt") + URLUtils.copyUrlParam(path, "jsurl");
-						logger.warn(this + ": couldn't extract video URL, retrying with alternate youtube API parameters");
+						this.branchTaken(parsedURL, ParseListener.Branch.HLS_MANIFEST, context);
+						logger.debug("QX obtained newPath via hlsvp: " + newPath);
 					}
 				}
-				if(newPath == null) {
-					this.logGeneralError();
-					return null;
-				}
-				//see comment higher up about why we do another probe check here
-				ParsedURL newParsedURL = new ParsedURL(newPath);
-				if(this.probe(newParsedURL)) {
-					logger.debug("QX passed probe check with new parsed url: " + newParsedURL);
-					return this.parse(newParsedURL);
-				} else {
-					return newPath;
-				}
 			}
-		} else {
-			String videoId = getCaptureOrNull(VIDEO_ID_EXTRACT, path);
-			if(videoId == null) {
-				logger.error(this + ": couldn't extract youtube video URL");
-				return null;
+		}
+		
+		if(newPath == null) {
+			String videoId = params.getString("v");
+			if(videoId != null) {
+				newPath = parsedURL.getAccess() + "://www.youtube.com/get_video_info?video_id=" + videoId + params.copy("fmt");
+				if(jsUrl != null)
+					newPath = newPath + "&jsurl=" + URLEncoder.encode(jsUrl, StandardCharsets.UTF_8);
+				this.branchTaken(parsedURL, ParseListener.Branch.GET_VIDEO_INFO_FALLBACK, context);
+				logger.warn(this + ": couldn't extract video URL, falling back to alternate youtube API");
 			}
-			logger.debug("QX making another parse attempt with found video id: " + videoId);
-			return parse(new ParsedURL(parsedURL.getAccess() + "://www.youtube.com/watch?v=" + videoId + URLUtils.copyUrlParam(path, "fmt")));
 		}
+		if(newPath == null) {
+			this.logGeneralError();
+		}
+		return newPath;
+	}
+	
+	/**
+	 * @param parsedURL the url of the watch page
+	 * @param line a line of the watch page
+	 * @return the full url of the player js, if the given line has it, otherwise null
+	 */
+	private static String findJsUrl(ParsedURL parsedURL, String line) {
+		String jsUrl = getCaptureOrNull(JS_URL_EXTRACT, line);
+		if(jsUrl == null) 
+			jsUrl = getCaptureOrNull(JS_EXTRACT, line);
+		if(jsUrl == null) return null;
+		jsUrl = UNESCAPE.matcher(jsUrl).replaceAll("/");
+		if(JS_LOCAL_PATH.matcher(jsUrl).find()) {
+			jsUrl = "//" + parsedURL.getAuthority() + jsUrl;
+		}
+		return JS_PLACEHOLDER_PATH_START.matcher(jsUrl).replaceAll(parsedURL.getAccess() + "://");
+	}
+	
+	/**
+	 * reads the response from youtube's get_video_info api, looking for a stream url
+	 * @param parsedURL the get_video_info url
+	 * @param reader reader over the response
+	 * @param context the context for the current parse
+	 * @return the new path found in the response (either a stream url or another youtube url to 
+	 * continue parsing), or null if no stream url could be found
+	 * @throws IOException if an error occurred while reading the response
+	 */
+	private String readVideoInfo(ParsedURL parsedURL, Reader reader, ParseContext context) throws IOException {
+		QueryParams params = parsedURL.getParams();
+		String newPath = null;
+		VideoInfoReader info = VideoInfoReader.read(reader);
+		if(info == null) {
+			logger.error(this + ": youtube API output missing");
+			return null;
+		}
+		logger.debug("QX read " + info.getLength() + " characters of youtube API output");
+		String jsUrl = params.getDecoded("jsurl");
+		logger.debug("QX attempted to find jsUrl, result: " + jsUrl);
+		String fmt = params.getString("fmt");
+		if(fmt == null) {
+			String fmtList = info.getFmtList();
+			if(fmtList != null) {
+				fmtList = URLDecoder.decode(fmtList, StandardCharsets.UTF_8);
+				fmt = this.getFmt(fmtList);
+			}
+		}
+		logger.debug("QX attempted to find fmt, result: " + fmt);
+		String urlMap = info.getUrlEncodedFmtStreamMap();
+		if(urlMap != null) {
+			logger.debug(this + ": found classic parameters for youtube video stream, parsing...");
+			urlMap = URLDecoder.decode(urlMap, StandardCharsets.UTF_8);
+			newPath = this.pickUrl(parsedURL, urlMap, fmt, jsUrl, context);
+		}
+		if(newPath == null) {
+			String streamMap = info.getFormats();
+			if(streamMap != null) {
+				logger.debug(this + ": found new-style parameters for youtube video stream, parsing...");
+				streamMap = URLDecoder.decode(streamMap, StandardCharsets.UTF_8);
+				newPath = this.pickStream(parsedURL, FormatsReader.readContents(streamMap), jsUrl, context);
+			}
+		}
+		if(newPath == null) {
+			String hlsvp = info.getHlsManifestUrl();
+			if(hlsvp != null) {
+				hlsvp = URLDecoder.decode(hlsvp, StandardCharsets.UTF_8);
+				newPath = hlsvp;
+				this.branchTaken(parsedURL, ParseListener.Branch.HLS_MANIFEST, context);
+				logger.debug("QX found newPath via hlsvp, newPath: " + newPath);
+			}
+		}
+		if(newPath == null && !"detailpage".equals(params.getString("el"))) {
+			String videoId = params.getString("video_id");
+			if(videoId != null) {
+				newPath = parsedURL.getAccess() + "://www.youtube.com/get_video_info?video_id=" + videoId 
+						+ "&el=detailpage" + params.copy("fmt") + params.copy("jsurl");
+				this.branchTaken(parsedURL, ParseListener.Branch.DETAILPAGE_RETRY, context);
+				logger.warn(this + ": couldn't extract video URL, retrying with alternate youtube API parameters");
+			}
+		}
+		if(newPath == null) {
+			this.logGeneralError();
+		}
+		return newPath;
+	}
+	
+	@Override
+	public LinkInfo analyze(String link) {
+		return LinkInfo.of(link);
 	}
 	
 	public int getTimestamp(String youtubeLink) {
@@ -564,6 +1656,115 @@ class YoutubeParserImpl implements YoutubeParser {
 		return UNICODE_AMPERSAND.matcher(input).replaceAll("&");
 	}
 	
+	/**
+	 * drops the given response without reading the rest of its body, and logs how much of the 
+	 * body was skipped
+	 * @param parsedURL the url the response is for
+	 * @param response the response to abort
+	 * @param body the response's body stream
+	 * @return the number of bytes of the body that were never read, or -1 if the server didn't 
+	 * report the length of the body
+	 */
+	private long abort(ParsedURL parsedURL, PageFetcher.Response response, CountingInputStream body) {
+		//content length is what's sent over the wire, so compare against that when it's known
+		long read = response.wireBytes() >= 0 ? response.wireBytes() : body.getCount();
+		long length = response.contentLength();
+		long skipped = length < 0 ? -1 : Math.max(0, length - read);
+		response.abort();
+		if(skipped >= 0) {
+			logger.debug(this + ": stopped reading " + parsedURL + " early after " + read 
+				+ " bytes, skipped " + skipped + " bytes");
+		} else {
+			logger.debug(this + ": stopped reading " + parsedURL + " early after " + read 
+				+ " bytes, skipped bytes unknown");
+		}
+		return skipped;
+	}
+	
+	/**
+	 * logs how much of the given response was read, both as received and after decoding
+	 */
+	private static void logTransfer(ParsedURL parsedURL, PageFetcher.Response response) {
+		if(logger.isDebugEnabled()) 
+			logger.debug("QX read " + response.decodedBytes() + " bytes (" + response.wireBytes() 
+				+ " on the wire) from " + parsedURL);
+	}
+	
+	/**
+	 * records the given fetch event for a watch page or get_video_info response if a recording 
+	 * wants it. fields are only filled in if so, so this is about free otherwise. the event has to 
+	 * have been ended already, since async pages are processed after they're downloaded
+	 * @param context the context the page was processed with, for the branch taken. null if the 
+	 * page hasn't been processed
+	 */
+	private static void commit(FetchEvent event, ParsedURL parsedURL, ParseContext context, long bytes, 
+			long wireBytes, boolean success) {
+		if(!event.shouldCommit()) return;
+		event.page = isWatchPage(parsedURL.getPath()) ? FetchEvent.WATCH_PAGE : FetchEvent.VIDEO_INFO;
+		event.host = parsedURL.getURLObject().getHost();
+		event.videoId = context != null ? context.getVideoId() : ParseContext.videoIdOf(parsedURL);
+		event.bytesRead = bytes;
+		event.wireBytes = wireBytes;
+		event.branch = context != null ? context.getBranchName() : null;
+		event.bytesSkipped = context != null ? context.getSkippedBytes() : 0;
+		event.success = success;
+		event.commit();
+	}
+	
+	/**
+	 * records the given fetch event for an async player js download, if a recording wants it. the
+	 * event has to have been ended already, when the download finished. blocking downloads are 
+	 * recorded by {@link JSPageImpl}
+	 * @param response the response, read as far as it's going to be, or null if the download failed
+	 */
+	private static void commitPlayerJs(FetchEvent event, String jsUrl, PageFetcher.Response response) {
+		if(!event.shouldCommit()) return;
+		event.page = FetchEvent.PLAYER_JS;
+		try {
+			event.host = new URL(jsUrl).getHost();
+		} catch (MalformedURLException e) {
+			event.host = jsUrl;
+		}
+		if(response != null) {
+			event.bytesRead = response.decodedBytes();
+			event.wireBytes = response.wireBytes();
+		}
+		event.success = response != null;
+		event.commit();
+	}
+	
+	/**
+	 * ends the given stage event, and records it if a recording wants it
+	 * @param context the context for the current parse, for the video id. may be null
+	 */
+	private static void commit(StageEvent event, String stage, ParseContext context, String branch, boolean success) {
+		event.end();
+		if(!event.shouldCommit()) return;
+		event.stage = stage;
+		event.videoId = context == null ? null : context.getVideoId();
+		event.branch = branch;
+		event.success = success;
+		event.commit();
+	}
+	
+	private static void commit(ParseEvent event, String link, boolean success) {
+		event.end();
+		if(!event.shouldCommit()) return;
+		event.link = link;
+		event.success = success;
+		event.commit();
+	}
+	
+	/**
+	 * @param jsUrl a player js url
+	 * @return the player version in the given url if there is one (see 
+	 * {@link YoutubeParser#PLAYER_VERSION_EXTRACT}), otherwise the full url
+	 */
+	private static String getPlayerVersion(String jsUrl) {
+		String version = getCaptureOrNull(PLAYER_VERSION_EXTRACT, jsUrl);
+		return version != null ? version : jsUrl;
+	}
+	
 	private void logGeneralError() {
 		logger.error(this + ": couldn't process youtube video URL");
 	}
@@ -0,0 +1,226 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.HttpStatusException;
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * the per-host concurrency limit
+ */
+class ConcurrencyLimitTest {
+
+	private static final byte[] PAGE = ("<html>\nytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{"
+			+ "\"formats\":[{\"itag\":18,\"height\":360,\"url\":\"https://r1.googlevideo.com/videoplayback?itag=18\"}]}};"
+			+ "\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18";
+	/*
+	 * a watch page whose only stream has a scrambled signature, and just enough player js to
+	 * descramble it: reverse, then drop the first two
+	 */
+	private static final byte[] CIPHERED_PAGE = ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":"
+			+ "{\"jsUrl\":\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+			+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+			+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+			+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PLAYER_JS = ("var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n")
+			.getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * fetcher that keeps track of how many fetches are running at once, holding each one until
+	 * released
+	 */
+	private static final class CountingFetcher implements PageFetcher {
+
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		final AtomicInteger fetches = new AtomicInteger();
+		final List<Integer> timeouts = new CopyOnWriteArrayList<>();
+		final CountDownLatch started;
+		volatile CountDownLatch release = new CountDownLatch(0);
+		volatile int status = 200;
+
+		CountingFetcher(int expectedStarts) {
+			this.started = new CountDownLatch(expectedStarts);
+		}
+
+		@Override
+		public Response fetch(URL url, int timeoutMillis) throws IOException {
+			this.fetches.incrementAndGet();
+			this.timeouts.add(timeoutMillis);
+			this.maxRunning.accumulateAndGet(this.running.incrementAndGet(), Math::max);
+			this.started.countDown();
+			try {
+				this.release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				this.running.decrementAndGet();
+			}
+			if(this.status != 200) throw new HttpStatusException(url.toString(), this.status);
+			return Response.of(PAGE);
+		}
+	}
+
+	/**
+	 * parses as many different videos at once as given, returning once they're all done
+	 */
+	private static List<String> parseAll(YoutubeParser parser, int count, Runnable whileRunning) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(count);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for(int i=0; i < count; i++) {
+				String link = "https://www.youtube.com/watch?v=video" + i;
+				results.add(executor.submit(() -> parser.parse(link)));
+			}
+			whileRunning.run();
+			List<String> done = new ArrayList<>();
+			for(Future<String> result : results) done.add(result.get(10, TimeUnit.SECONDS));
+			return done;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void testLimited() throws Exception {
+		CountingFetcher fetcher = new CountingFetcher(2);
+		fetcher.release = new CountDownLatch(1);
+		YoutubeParser parser = YoutubeParser.builder().pageFetcher(fetcher).concurrencyLimit(2, 8).build();
+		List<String> results = parseAll(parser, 6, () -> {
+			try {
+				assertTrue(fetcher.started.await(10, TimeUnit.SECONDS));
+				//give the rest a chance to get past the limit, if they could
+				Thread.sleep(100);
+				assertEquals(2, fetcher.running.get());
+			} catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+			fetcher.release.countDown();
+		});
+		results.forEach(result -> assertEquals(RESULT, result));
+		assertEquals(2, fetcher.maxRunning.get());
+		assertEquals(6, fetcher.fetches.get());
+	}
+
+	@Test
+	void testQueueTime() throws Exception {
+		CountingFetcher fetcher = new CountingFetcher(1);
+		fetcher.release = new CountDownLatch(1);
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher(fetcher)
+				.concurrencyLimit(1, 8)
+				.timeout(Duration.ofSeconds(5))
+				.build();
+		List<String> results = parseAll(parser, 2, () -> {
+			try {
+				assertTrue(fetcher.started.await(10, TimeUnit.SECONDS));
+				Thread.sleep(1000);
+			} catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+			fetcher.release.countDown();
+		});
+		results.forEach(result -> assertEquals(RESULT, result));
+		//the second only got what was left after waiting for the first
+		assertEquals(5000, fetcher.timeouts.get(0));
+		assertTrue(fetcher.timeouts.get(1) > 0 && fetcher.timeouts.get(1) <= 4000, "timeout was " + fetcher.timeouts.get(1));
+	}
+
+	@Test
+	void testLimitedAsync() {
+		CountingFetcher fetcher = new CountingFetcher(0);
+		YoutubeParser parser = YoutubeParser.builder().pageFetcher(fetcher).concurrencyLimit(2, 16).build();
+		List<String> links = new ArrayList<>();
+		for(int i=0; i < 16; i++) links.add("https://www.youtube.com/watch?v=video" + i);
+		parser.parseAll(links).values().forEach(result -> assertEquals(RESULT, result));
+		assertTrue(fetcher.maxRunning.get() <= 2);
+		assertEquals(16, fetcher.fetches.get());
+	}
+
+	@Test
+	void testQueueFull() throws Exception {
+		CountingFetcher fetcher = new CountingFetcher(1);
+		fetcher.release = new CountDownLatch(1);
+		YoutubeParser parser = YoutubeParser.builder().pageFetcher(fetcher).concurrencyLimit(1, 1).build();
+		List<String> results = parseAll(parser, 3, () -> {
+			try {
+				assertTrue(fetcher.started.await(10, TimeUnit.SECONDS));
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+			fetcher.release.countDown();
+		});
+		//one ran, one waited for it, and one didn't fit in the queue
+		assertEquals(2, results.stream().filter(RESULT::equals).count());
+		assertEquals(1, results.stream().filter(result -> result == null).count());
+		assertEquals(2, fetcher.fetches.get());
+	}
+
+	@Test
+	void testBackOff() throws Exception {
+		CountingFetcher fetcher = new CountingFetcher(1);
+		YoutubeParser parser = YoutubeParser.builder().pageFetcher(fetcher).concurrencyLimit(8, 8).build();
+		//starts at 4, halved by each throttled response
+		fetcher.status = 429;
+		for(int i=0; i < 3; i++) {
+			assertNull(parser.parse("https://www.youtube.com/watch?v=throttled" + i));
+		}
+		fetcher.status = 200;
+		fetcher.release = new CountDownLatch(1);
+		List<String> results = parseAll(parser, 4, () -> {
+			try {
+				assertTrue(fetcher.started.await(10, TimeUnit.SECONDS));
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				throw new AssertionError(e);
+			}
+			fetcher.release.countDown();
+		});
+		results.forEach(result -> assertEquals(RESULT, result));
+		assertEquals(1, fetcher.maxRunning.get());
+	}
+
+	@Test
+	void testNestedPlayerJs() throws Exception {
+		//a watch page is still being read when its player js is fetched from the same host
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> PageFetcher.Response.of(url.getPath().endsWith("/base.js") ? PLAYER_JS : CIPHERED_PAGE))
+				.concurrencyLimit(1, 8)
+				.timeout(Duration.ofSeconds(5))
+				.build();
+		long start = System.nanoTime();
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA", 
+				parser.parse("https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2));
+		parseAll(parser, 4, () -> {}).forEach(result -> 
+				assertEquals("https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA", result));
+	}
+
+	@Test
+	void testInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().concurrencyLimit(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().concurrencyLimit(1, -1));
+	}
+}
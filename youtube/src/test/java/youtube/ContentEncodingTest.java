@@ -0,0 +1,144 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import my.cute.parser.youtube.HttpClientPageFetcher;
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.URLConnectionPageFetcher;
+
+/**
+ * decoding compressed responses, and counting their bytes on either side of the decoding
+ */
+class ContentEncodingTest {
+
+	private static final byte[] PAGE = ("<html>\n" + "<div class=\"watch\">a fairly repetitive page</div>\n".repeat(500)
+			+ "</html>\n").getBytes(StandardCharsets.UTF_8);
+
+	private HttpServer server;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.serve("/identity", null, PAGE);
+		this.serve("/gzip", "gzip", gzip(PAGE));
+		this.serve("/x-gzip", "x-gzip", gzip(PAGE));
+		this.serve("/zlib", "deflate", deflate(PAGE, false));
+		this.serve("/raw", "deflate", deflate(PAGE, true));
+		this.server.createContext("/empty-gzip", exchange -> {
+			try (exchange) {
+				exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+				exchange.sendResponseHeaders(204, -1);
+			}
+		});
+		this.server.createContext("/empty-deflate", exchange -> {
+			try (exchange) {
+				exchange.getResponseHeaders().set("Content-Encoding", "deflate");
+				exchange.sendResponseHeaders(204, -1);
+			}
+		});
+		this.server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		this.server.stop(0);
+	}
+
+	private void serve(String path, String contentEncoding, byte[] body) {
+		this.server.createContext(path, exchange -> {
+			try (exchange) {
+				if(contentEncoding != null) exchange.getResponseHeaders().set("Content-Encoding", contentEncoding);
+				exchange.sendResponseHeaders(200, body.length);
+				exchange.getResponseBody().write(body);
+			}
+		});
+	}
+
+	private static byte[] gzip(byte[] body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] deflate(byte[] body, boolean raw) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+		try (OutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+			deflate.write(body);
+		} finally {
+			deflater.end();
+		}
+		return out.toByteArray();
+	}
+
+	private URL url(String path) throws IOException {
+		return new URL("http", this.server.getAddress().getAddress().getHostAddress(), this.server.getAddress().getPort(), path);
+	}
+
+	/**
+	 * fetches the given path every way there is, checking the body and the byte counts
+	 */
+	private void assertFetched(String path, byte[] decoded, long wireBytes) throws IOException {
+		for(PageFetcher fetcher : List.of(new URLConnectionPageFetcher(), new HttpClientPageFetcher())) {
+			try (PageFetcher.Response response = fetcher.fetch(this.url(path), 5000)) {
+				assertArrayEquals(decoded, response.body().readAllBytes(), fetcher + " " + path);
+				assertEquals(wireBytes, response.wireBytes(), fetcher + " " + path);
+				assertEquals(decoded.length, response.decodedBytes(), fetcher + " " + path);
+			}
+			try (PageFetcher.Response response = fetcher.fetchAsync(this.url(path), 5000).join()) {
+				assertEquals(wireBytes, response.wireBytes(), fetcher + " async " + path);
+				//only what's been read counts as read
+				assertEquals(0, response.decodedBytes(), fetcher + " async " + path);
+				assertArrayEquals(decoded, response.body().readAllBytes(), fetcher + " async " + path);
+				assertEquals(decoded.length, response.decodedBytes(), fetcher + " async " + path);
+			}
+		}
+	}
+
+	@Test
+	void testIdentity() throws IOException {
+		this.assertFetched("/identity", PAGE, PAGE.length);
+	}
+
+	@Test
+	void testGzip() throws IOException {
+		long wireBytes = gzip(PAGE).length;
+		assertTrue(wireBytes < PAGE.length / 10);
+		this.assertFetched("/gzip", PAGE, wireBytes);
+		this.assertFetched("/x-gzip", PAGE, wireBytes);
+	}
+
+	@Test
+	void testDeflate() throws IOException {
+		//deflate is meant to be zlib wrapped, but some servers send it raw
+		this.assertFetched("/zlib", PAGE, deflate(PAGE, false).length);
+		this.assertFetched("/raw", PAGE, deflate(PAGE, true).length);
+	}
+
+	@Test
+	void testEmpty() throws IOException {
+		//nothing to decode, not even a header
+		this.assertFetched("/empty-gzip", new byte[0], 0);
+		this.assertFetched("/empty-deflate", new byte[0], 0);
+	}
+}
@@ -0,0 +1,230 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.ParseHandle;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * end-to-end deadlines and cancelling parses
+ */
+class DeadlineTest {
+
+	private static final byte[] PAGE = ("<html>\nytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{"
+			+ "\"formats\":[{\"itag\":18,\"height\":360,\"url\":\"https://r1.googlevideo.com/videoplayback?itag=18\"}]}};"
+			+ "\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18";
+	private static final String LINK = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+	/*
+	 * a watch page whose only stream has a scrambled signature, and just enough player js to
+	 * descramble it: reverse, then drop the first two
+	 */
+	private static final byte[] CIPHERED_PAGE = ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":"
+			+ "{\"jsUrl\":\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+			+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+			+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+			+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PLAYER_JS = ("var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n")
+			.getBytes(StandardCharsets.UTF_8);
+	private static final String DESCRAMBLED = "https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA";
+
+	/**
+	 * a response whose body never arrives, until it's aborted
+	 */
+	private static final class StalledResponse implements PageFetcher.Response {
+
+		final CountDownLatch aborted = new CountDownLatch(1);
+		private final InputStream body = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				try {
+					StalledResponse.this.aborted.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw new IOException("connection dropped");
+			}
+		};
+
+		@Override
+		public InputStream body() {
+			return this.body;
+		}
+
+		@Override
+		public long contentLength() {
+			return -1;
+		}
+
+		@Override
+		public void abort() {
+			this.aborted.countDown();
+		}
+
+		@Override
+		public void close() {
+			//nothing to release
+		}
+	}
+
+	@Test
+	void testDeadline() {
+		StalledResponse stalled = new StalledResponse();
+		AtomicInteger timeout = new AtomicInteger();
+		YoutubeParser parser = YoutubeParser.builder()
+				.timeout(Duration.ofSeconds(10))
+				.pageFetcher((url, timeoutMillis) -> {
+					timeout.set(timeoutMillis);
+					return stalled;
+				})
+				.build();
+		long start = System.nanoTime();
+		assertNull(parser.parse(LINK, Duration.ofMillis(300)));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+		//the fetch only got what was left of the deadline, and was dropped when it passed
+		assertTrue(timeout.get() > 0 && timeout.get() <= 300, "timeout was " + timeout.get());
+		assertEquals(0, stalled.aborted.getCount());
+
+		assertThrows(IllegalArgumentException.class, () -> parser.parse(LINK, Duration.ZERO));
+
+		StalledResponse stalledFormats = new StalledResponse();
+		YoutubeParser formatsParser = YoutubeParser.builder()
+				.timeout(Duration.ofSeconds(10))
+				.pageFetcher((url, timeoutMillis) -> stalledFormats)
+				.build();
+		start = System.nanoTime();
+		assertEquals(List.of(), formatsParser.resolveFormats(LINK, Duration.ofMillis(300)));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+		assertEquals(0, stalledFormats.aborted.getCount());
+		assertThrows(IllegalArgumentException.class, () -> formatsParser.resolveFormats(LINK, Duration.ZERO));
+	}
+
+	@Test
+	void testWithinDeadline() {
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> PageFetcher.Response.of(PAGE))
+				.build();
+		assertEquals(RESULT, parser.parse(LINK, Duration.ofSeconds(5)));
+		assertEquals(RESULT, parser.submit(LINK, Duration.ofSeconds(5)).join());
+		assertNull(parser.submit("not a link", Duration.ofSeconds(5)).join());
+	}
+
+	@Test
+	void testCancel() throws Exception {
+		StalledResponse stalled = new StalledResponse();
+		CountDownLatch fetching = new CountDownLatch(1);
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> {
+					fetching.countDown();
+					return stalled;
+				})
+				.build();
+		ParseHandle handle = parser.submit(LINK, Duration.ofSeconds(10));
+		assertTrue(fetching.await(10, TimeUnit.SECONDS));
+		assertFalse(handle.isDone());
+		assertTrue(handle.cancel());
+		assertTrue(handle.isDone());
+		assertTrue(handle.isCancelled());
+		assertNull(handle.join());
+		//the stalled fetch is dropped too
+		assertTrue(stalled.aborted.await(5, TimeUnit.SECONDS));
+		assertFalse(handle.cancel());
+	}
+
+	@Test
+	void testCancelShared() throws Exception {
+		CountDownLatch fetching = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger fetches = new AtomicInteger();
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((URL url, int timeoutMillis) -> {
+					fetches.incrementAndGet();
+					fetching.countDown();
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return PageFetcher.Response.of(PAGE);
+				})
+				.build();
+		ParseHandle handle = parser.submit(LINK, Duration.ofSeconds(10));
+		assertTrue(fetching.await(10, TimeUnit.SECONDS));
+		CompletableFuture<String> other = parser.parseAsync("https://youtu.be/6KEnzhHQhoo");
+		//someone else is still waiting, so only this handle stops
+		assertTrue(handle.cancel());
+		assertNull(handle.join());
+		release.countDown();
+		assertEquals(RESULT, other.get(10, TimeUnit.SECONDS));
+		assertEquals(1, fetches.get());
+	}
+
+	@Test
+	void testSharedPlayerJsCut() throws Exception {
+		//the first player js download stalls until it's dropped, the rest come straight back
+		StalledResponse stalled = new StalledResponse();
+		CountDownLatch loading = new CountDownLatch(1);
+		AtomicInteger jsFetches = new AtomicInteger();
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> {
+					if(!url.getPath().endsWith("/base.js")) return PageFetcher.Response.of(CIPHERED_PAGE);
+					if(jsFetches.incrementAndGet() > 1) return PageFetcher.Response.of(PLAYER_JS);
+					loading.countDown();
+					return stalled;
+				})
+				.build();
+		ParseHandle handle = parser.submit(LINK, Duration.ofMillis(500));
+		assertTrue(loading.await(10, TimeUnit.SECONDS));
+		//waits on the load above, which is cut short by a deadline this parse doesn't have
+		CompletableFuture<String> other = CompletableFuture.supplyAsync(() -> parser.parse("https://youtu.be/dQw4w9WgXcQ"));
+		assertNull(handle.join());
+		assertEquals(DESCRAMBLED, other.get(10, TimeUnit.SECONDS));
+		assertEquals(2, jsFetches.get());
+		assertEquals(DESCRAMBLED, parser.parseAsync(LINK).get(10, TimeUnit.SECONDS));
+		assertEquals(2, jsFetches.get());
+	}
+
+	@Test
+	void testSharedFlightCut() throws Exception {
+		//the first page stalls until it's dropped, the rest come straight back
+		StalledResponse stalled = new StalledResponse();
+		CountDownLatch fetching = new CountDownLatch(1);
+		AtomicInteger fetches = new AtomicInteger();
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> {
+					if(fetches.incrementAndGet() > 1) return PageFetcher.Response.of(PAGE);
+					fetching.countDown();
+					return stalled;
+				})
+				.build();
+		ParseHandle handle = parser.submit(LINK, Duration.ofMillis(300));
+		assertTrue(fetching.await(10, TimeUnit.SECONDS));
+		//all of these join the parse above, and none of them have its deadline
+		CompletableFuture<String> async = parser.parseAsync("https://youtu.be/6KEnzhHQhoo");
+		ParseHandle longer = parser.submit("https://www.youtube.com/embed/6KEnzhHQhoo", Duration.ofSeconds(10));
+		CompletableFuture<String> sync = CompletableFuture.supplyAsync(() -> parser.parse(LINK));
+		assertNull(handle.join());
+		assertFalse(handle.isCancelled());
+		assertEquals(RESULT, async.get(10, TimeUnit.SECONDS));
+		assertEquals(RESULT, longer.join());
+		assertEquals(RESULT, sync.get(10, TimeUnit.SECONDS));
+		assertTrue(fetches.get() >= 2);
+	}
+}
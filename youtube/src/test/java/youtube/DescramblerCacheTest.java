@@ -0,0 +1,109 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * caching descrambling rules by player version, so the player js is only downloaded once per
+ * version
+ */
+class DescramblerCacheTest {
+
+	private static final String PLAYER_JS = "var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n";
+	private static final String DESCRAMBLED = "https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA";
+
+	/**
+	 * a watch page whose only stream has a scrambled signature, and whose player js is the given
+	 * version
+	 */
+	private static byte[] page(String version) {
+		return ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":"
+				+ "{\"jsUrl\":\"\\/s\\/player\\/" + version + "\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+				+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+				+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+				+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param jsFetched the version of every player js fetched is added to this
+	 * @return a parser whose watch page for a video uses the player version given as the video id
+	 */
+	private static YoutubeParser parser(int maxSize, Duration ttl, List<String> jsFetched) {
+		return YoutubeParser.builder()
+				.descramblerCache(maxSize, ttl)
+				.pageFetcher((url, timeoutMillis) -> {
+					if(!url.getPath().endsWith("/base.js")) return PageFetcher.Response.of(page(url.getQuery().substring("v=".length())));
+					jsFetched.add(url.getPath().split("/")[3]);
+					return PageFetcher.Response.of(PLAYER_JS.getBytes(StandardCharsets.UTF_8));
+				})
+				.build();
+	}
+
+	/**
+	 * parses a video whose page uses the given player version
+	 */
+	private static void parse(YoutubeParser parser, String version) {
+		assertEquals(DESCRAMBLED, parser.parse("https://www.youtube.com/watch?v=" + version));
+	}
+
+	@Test
+	void testVersions() throws Exception {
+		List<String> jsFetched = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = parser(16, Duration.ofHours(1), jsFetched);
+		parse(parser, "vers0000001");
+		parse(parser, "vers0000001");
+		assertEquals(List.of("vers0000001"), jsFetched);
+		//a new version needs its own js, but the old one's still cached
+		parse(parser, "vers0000002");
+		parse(parser, "vers0000001");
+		assertEquals(List.of("vers0000001", "vers0000002"), jsFetched);
+		//and the async path shares the same cache
+		assertEquals(DESCRAMBLED, parser.parseAsync("https://www.youtube.com/watch?v=vers0000002").get());
+		assertEquals(2, jsFetched.size());
+	}
+
+	@Test
+	void testTtl() throws Exception {
+		List<String> jsFetched = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = parser(16, Duration.ofMillis(200), jsFetched);
+		parse(parser, "vers0000001");
+		parse(parser, "vers0000001");
+		assertEquals(1, jsFetched.size());
+		Thread.sleep(300);
+		parse(parser, "vers0000001");
+		assertEquals(2, jsFetched.size());
+		parse(parser, "vers0000001");
+		assertEquals(2, jsFetched.size());
+	}
+
+	@Test
+	void testEviction() {
+		List<String> jsFetched = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = parser(2, Duration.ofHours(1), jsFetched);
+		parse(parser, "vers0000001");
+		parse(parser, "vers0000002");
+		//using the first again makes the second the least recently used, so that's the one evicted
+		parse(parser, "vers0000001");
+		parse(parser, "vers0000003");
+		assertEquals(List.of("vers0000001", "vers0000002", "vers0000003"), jsFetched);
+		parse(parser, "vers0000001");
+		parse(parser, "vers0000003");
+		assertEquals(3, jsFetched.size());
+		parse(parser, "vers0000002");
+		assertEquals(List.of("vers0000001", "vers0000002", "vers0000003", "vers0000002"), jsFetched);
+
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().descramblerCache(0, Duration.ofHours(1)));
+	}
+}
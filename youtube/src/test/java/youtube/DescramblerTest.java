@@ -0,0 +1,136 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * descrambling, checked against the StringBuilder implementation it replaced by parsing pages
+ * whose player js has the given rules
+ */
+class DescramblerTest {
+
+	private static final String REVERSE = "reverse";
+	private static final String SPLICE = "splice";
+	private static final String SWAP = "swap";
+	private static final String STREAM = "https://r1.googlevideo.com/videoplayback?itag=18";
+
+	/**
+	 * the original implementation, as it was before being compiled to a program
+	 */
+	private static String reference(String signature, String[] steps, int[] indices) {
+		StringBuilder descrambledSig = new StringBuilder(signature);
+		for(int i=0; i < steps.length; i++) {
+			int index = indices[i];
+			if (steps[i].equals(REVERSE)) {
+				descrambledSig.reverse();
+			} else if (steps[i].equals(SPLICE)) {
+				descrambledSig.delete(0, index);
+			} else if (steps[i].equals(SWAP)) {
+				String firstCharacter = descrambledSig.substring(0, 1);
+				String indexCharacter = descrambledSig.substring(index, index+1);
+				descrambledSig.replace(0, 1, indexCharacter);
+				descrambledSig.replace(index, index+1, firstCharacter);
+			}
+		}
+		return descrambledSig.toString();
+	}
+
+	/**
+	 * @return the stream url a parse gives for the given signature and rules
+	 */
+	private static String parse(String signature, String[] steps, int[] indices) {
+		StringBuilder calls = new StringBuilder();
+		for(int i=0; i < steps.length; i++) {
+			String method = steps[i].equals(REVERSE) ? "aB" : steps[i].equals(SPLICE) ? "cD" : "eF";
+			calls.append("Xy.").append(method).append("(a,").append(indices[i]).append(");");
+		}
+		byte[] js = ("var Xy={aB:function(a){a.reverse()},\n"
+				+ "cD:function(a,b){a.splice(0,b)},\n"
+				+ "eF:function(a,b){var c=a[0];a[0]=a[b%a.length];a[b%a.length]=c}};\n"
+				+ "Qz=function(a){a=a.split(\"\");" + calls + "return a.join(\"\")};\n"
+				+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n")
+				.getBytes(StandardCharsets.UTF_8);
+		byte[] page = ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":"
+				+ "{\"jsUrl\":\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+				+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+				+ "\"signatureCipher\":\"s=" + URLEncoder.encode(signature, StandardCharsets.UTF_8) + "\\u0026sp=sig"
+				+ "\\u0026url=https%3A%2F%2Fr1.googlevideo.com%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n</html>\n")
+				.getBytes(StandardCharsets.UTF_8);
+		//a new parser each time, since the rules are cached by player version
+		return YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> PageFetcher.Response.of(url.getPath().endsWith("/base.js") ? js : page))
+				.build()
+				.parse("https://www.youtube.com/watch?v=6KEnzhHQhoo");
+	}
+
+	private static void assertSame(String signature, String[] steps, int[] indices) {
+		String expected;
+		try {
+			expected = STREAM + "&sig=" + URLEncoder.encode(reference(signature, steps, indices), StandardCharsets.UTF_8);
+		} catch (StringIndexOutOfBoundsException e) {
+			//a swap out of range escapes the parse, as it always has
+			assertThrows(StringIndexOutOfBoundsException.class, () -> parse(signature, steps, indices), 
+					() -> signature + " " + String.join(",", steps));
+			return;
+		}
+		assertEquals(expected, parse(signature, steps, indices), () -> signature + " " + String.join(",", steps));
+	}
+
+	@Test
+	void testSteps() {
+		assertSame("ABCDEF", new String[] { REVERSE }, new int[] { 0 });
+		assertSame("ABCDEF", new String[] { SPLICE }, new int[] { 2 });
+		assertSame("ABCDEF", new String[] { SWAP }, new int[] { 3 });
+		assertSame("ABCDEF", new String[] { REVERSE, SWAP, SPLICE, SWAP, REVERSE }, new int[] { 0, 5, 1, 2, 0 });
+		//splicing past the end leaves nothing, rather than failing
+		assertSame("ABCDEF", new String[] { SPLICE }, new int[] { 40 });
+		assertSame("ABCDEF", new String[] { SPLICE, REVERSE }, new int[] { 6, 0 });
+		//swapping past the end does fail
+		assertSame("ABCDEF", new String[] { SWAP }, new int[] { 6 });
+		assertSame("ABCDEF", new String[] { SPLICE, SWAP }, new int[] { 6, 0 });
+	}
+
+	@Test
+	void testSurrogatePairs() {
+		String signature = "A\uD83D\uDE00B\uD83D\uDE01C";
+		//reversing keeps pairs in order
+		assertEquals(STREAM + "&sig=" + URLEncoder.encode("C\uD83D\uDE01B\uD83D\uDE00A", StandardCharsets.UTF_8),
+				parse(signature, new String[] { REVERSE }, new int[] { 0 }));
+		assertSame(signature, new String[] { REVERSE }, new int[] { 0 });
+		assertSame("\uD83D\uDE00\uD83D\uDE01\uD83D\uDE02", new String[] { REVERSE }, new int[] { 0 });
+		//splitting a pair and then reversing leaves the half on its own
+		assertSame(signature, new String[] { SPLICE, REVERSE }, new int[] { 2, 0 });
+		assertSame(signature, new String[] { SWAP, REVERSE }, new int[] { 1, 0 });
+		assertSame(signature, new String[] { REVERSE, SWAP, REVERSE }, new int[] { 0, 3, 0 });
+	}
+
+	@Test
+	void testRandom() {
+		String[] kinds = { REVERSE, SPLICE, SWAP };
+		Random random = new Random(1234);
+		for(int n=0; n < 200; n++) {
+			StringBuilder signature = new StringBuilder();
+			int codePoints = 1 + random.nextInt(12);
+			for(int i=0; i < codePoints; i++) {
+				if(random.nextInt(5) == 0) signature.appendCodePoint(0x1F600 + random.nextInt(50));
+				else signature.append((char) ('A' + random.nextInt(26)));
+			}
+			int stepCount = 1 + random.nextInt(6);
+			String[] steps = new String[stepCount];
+			int[] indices = new int[stepCount];
+			for(int i=0; i < stepCount; i++) {
+				steps[i] = kinds[random.nextInt(kinds.length)];
+				indices[i] = steps[i].equals(REVERSE) ? 0 : random.nextInt(signature.length() + 2);
+			}
+			assertSame(signature.toString(), steps, indices);
+		}
+	}
+}
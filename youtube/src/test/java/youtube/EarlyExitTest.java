@@ -0,0 +1,108 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+import my.cute.parser.youtube.YoutubeParserBuilder;
+
+/**
+ * dropping a watch page as soon as a stream url has been found on it
+ */
+class EarlyExitTest {
+
+	private static final String LINK = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+	/*
+	 * a watch page whose only stream has a scrambled signature, with plenty of page left after
+	 * it, and just enough player js to descramble it: reverse, then drop the first two
+	 */
+	private static final byte[] PAGE = ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":"
+			+ "{\"jsUrl\":\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+			+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+			+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+			+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n" + "<div></div>\n".repeat(10_000) + "</html>\n")
+			.getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PLAYER_JS = ("var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n")
+			.getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA";
+
+	/**
+	 * a streamed watch page, keeping track of how much of it was read and whether it was aborted
+	 */
+	private static final class WatchPage implements PageFetcher.Response {
+
+		private final ByteArrayInputStream body = new ByteArrayInputStream(PAGE);
+		private volatile boolean aborted = false;
+
+		@Override
+		public InputStream body() {
+			return this.body;
+		}
+
+		@Override
+		public long contentLength() {
+			return PAGE.length;
+		}
+
+		@Override
+		public void abort() {
+			this.aborted = true;
+		}
+
+		@Override
+		public void close() {
+			//nothing to release
+		}
+
+		int unread() {
+			return this.body.available();
+		}
+	}
+
+	/**
+	 * @param pages every watch page served is added to this
+	 */
+	private static YoutubeParserBuilder builder(List<WatchPage> pages) {
+		return YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> {
+					if(url.getPath().endsWith("/base.js")) return PageFetcher.Response.of(PLAYER_JS);
+					WatchPage page = new WatchPage();
+					pages.add(page);
+					return page;
+				});
+	}
+
+	@Test
+	void testEarlyExit() {
+		List<WatchPage> pages = new CopyOnWriteArrayList<>();
+		assertEquals(RESULT, builder(pages).earlyExit(true).build().parse(LINK));
+		assertEquals(1, pages.size());
+		assertTrue(pages.get(0).aborted);
+		//most of the page was never read
+		assertTrue(pages.get(0).unread() > PAGE.length / 2, "unread " + pages.get(0).unread() + " of " + PAGE.length);
+	}
+
+	@Test
+	void testFullRead() {
+		List<WatchPage> pages = new CopyOnWriteArrayList<>();
+		//the same result either way, from reading the whole page
+		assertEquals(RESULT, builder(pages).earlyExit(false).build().parse(LINK));
+		assertEquals(RESULT, builder(pages).build().parse(LINK));
+		assertEquals(2, pages.size());
+		for(WatchPage page : pages) {
+			assertFalse(page.aborted);
+			assertEquals(0, page.unread());
+		}
+	}
+}
@@ -0,0 +1,211 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * the flight recorder events emitted while parsing, read back from a recording
+ */
+class FlightRecorderTest {
+
+	private static final String FETCH = "my.cute.parser.youtube.Fetch";
+	private static final String STAGE = "my.cute.parser.youtube.Stage";
+	private static final String PARSE = "my.cute.parser.youtube.Parse";
+	/*
+	 * just enough player js for the descrambler to be extracted: reverse, then drop the first two
+	 */
+	private static final byte[] PLAYER_JS = ("var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n")
+			.getBytes(StandardCharsets.UTF_8);
+	/*
+	 * a watch page whose only stream has a scrambled signature
+	 */
+	private static final String PAGE = "<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":{\"jsUrl\":"
+			+ "\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+			+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+			+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+			+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n";
+	private static final byte[] PAGE_BYTES = (PAGE + "</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA";
+	private static final long JS_DELAY_MILLIS = 300;
+
+	@FunctionalInterface
+	private interface ParseAction {
+		void run() throws Exception;
+	}
+
+	/**
+	 * runs the given action with the parser's events being recorded
+	 * @return every parser event recorded, in the order they were committed
+	 */
+	private static List<RecordedEvent> record(ParseAction action) throws Exception {
+		Path file = Files.createTempFile("parser", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(FETCH);
+			recording.enable(STAGE);
+			recording.enable(PARSE);
+			recording.start();
+			action.run();
+			recording.stop();
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file).stream()
+					.filter(event -> event.getEventType().getName().startsWith("my.cute.parser.youtube."))
+					.collect(Collectors.toList());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static RecordedEvent only(List<RecordedEvent> events, String type, Predicate<RecordedEvent> filter) {
+		List<RecordedEvent> matching = events.stream()
+				.filter(event -> event.getEventType().getName().equals(type) && filter.test(event))
+				.collect(Collectors.toList());
+		assertEquals(1, matching.size(), type + " events: " + matching);
+		return matching.get(0);
+	}
+
+	private static Predicate<RecordedEvent> field(String name, Object value) {
+		return event -> value.equals(event.getValue(name));
+	}
+
+	/**
+	 * a parser whose player js takes a while to come back
+	 */
+	private static YoutubeParser parser() {
+		return YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> {
+					if(!url.getPath().endsWith("/base.js")) return PageFetcher.Response.of(PAGE_BYTES);
+					try {
+						Thread.sleep(JS_DELAY_MILLIS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return PageFetcher.Response.of(PLAYER_JS);
+				})
+				.build();
+	}
+
+	@Test
+	void testSync() throws Exception {
+		YoutubeParser parser = parser();
+		List<RecordedEvent> events = record(() -> assertEquals(RESULT, parser.parse("https://youtu.be/6KEnzhHQhoo")));
+
+		RecordedEvent page = only(events, FETCH, field("page", "watch page"));
+		assertEquals("www.youtube.com", page.getString("host"));
+		assertEquals("6KEnzhHQhoo", page.getString("videoId"));
+		assertEquals("FORMATS", page.getString("branch"));
+		assertEquals(PAGE_BYTES.length, page.getLong("bytesRead"));
+		assertEquals(0, page.getLong("bytesSkipped"));
+		assertTrue(page.getBoolean("success"));
+		RecordedEvent js = only(events, FETCH, field("page", "player js"));
+		assertEquals(PLAYER_JS.length, js.getLong("bytesRead"));
+		assertTrue(js.getBoolean("success"));
+		assertTrue(js.getDuration().compareTo(Duration.ofMillis(JS_DELAY_MILLIS)) >= 0);
+
+		//the player js download is a fetch of its own, not part of descrambling
+		RecordedEvent descramble = only(events, STAGE, field("stage", "descramble"));
+		assertTrue(descramble.getDuration().compareTo(Duration.ofMillis(JS_DELAY_MILLIS)) < 0, descramble.toString());
+		assertEquals("6KEnzhHQhoo", descramble.getString("videoId"));
+		assertTrue(descramble.getBoolean("success"));
+		assertTrue(only(events, STAGE, field("stage", "extract descrambler")).getBoolean("success"));
+		RecordedEvent pick = only(events, STAGE, field("stage", "pick stream"));
+		assertEquals("FORMATS", pick.getString("branch"));
+		assertTrue(pick.getBoolean("success"));
+
+		RecordedEvent parse = only(events, PARSE, event -> true);
+		assertEquals("https://youtu.be/6KEnzhHQhoo", parse.getString("link"));
+		assertTrue(parse.getBoolean("success"));
+	}
+
+	@Test
+	void testAsync() throws Exception {
+		YoutubeParser parser = parser();
+		List<RecordedEvent> events = record(() -> assertEquals(RESULT, parser.parseAsync("https://youtu.be/6KEnzhHQhoo").join()));
+
+		//recorded once the page has been processed, so the branch is known
+		RecordedEvent page = only(events, FETCH, field("page", "watch page"));
+		assertEquals("6KEnzhHQhoo", page.getString("videoId"));
+		assertEquals("FORMATS", page.getString("branch"));
+		assertEquals(PAGE_BYTES.length, page.getLong("bytesRead"));
+		assertTrue(page.getBoolean("success"));
+		RecordedEvent js = only(events, FETCH, field("page", "player js"));
+		assertEquals(PLAYER_JS.length, js.getLong("bytesRead"));
+		assertTrue(js.getBoolean("success"));
+		assertTrue(only(events, STAGE, field("stage", "descramble")).getBoolean("success"));
+		assertTrue(only(events, PARSE, event -> true).getBoolean("success"));
+	}
+
+	@Test
+	void testFailure() throws Exception {
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> {
+					throw new IOException("connection refused");
+				})
+				.build();
+		List<RecordedEvent> events = record(() -> assertNull(parser.parse("https://www.youtube.com/watch?v=6KEnzhHQhoo")));
+		RecordedEvent page = only(events, FETCH, event -> true);
+		assertEquals("6KEnzhHQhoo", page.getString("videoId"));
+		assertEquals(-1, page.getLong("bytesRead"));
+		assertFalse(page.getBoolean("success"));
+		assertFalse(only(events, PARSE, event -> true).getBoolean("success"));
+	}
+
+	@Test
+	void testSkipped() throws Exception {
+		//plenty of page left after the stream, which early exit never reads
+		byte[] body = (PAGE + "<div></div>\n".repeat(10_000) + "</html>\n").getBytes(StandardCharsets.UTF_8);
+		YoutubeParser parser = YoutubeParser.builder()
+				.earlyExit(true)
+				.pageFetcher((url, timeout) -> {
+					if(url.getPath().endsWith("/base.js")) return PageFetcher.Response.of(PLAYER_JS);
+					//streamed rather than buffered, so the rest of the page is never received
+					InputStream stream = new ByteArrayInputStream(body);
+					return new PageFetcher.Response() {
+						@Override
+						public InputStream body() {
+							return stream;
+						}
+
+						@Override
+						public long contentLength() {
+							return body.length;
+						}
+
+						@Override
+						public void abort() {
+							//nothing to drop
+						}
+
+						@Override
+						public void close() {
+							//nothing to release
+						}
+					};
+				})
+				.build();
+		List<RecordedEvent> events = record(() -> assertEquals(RESULT, parser.parse("https://youtu.be/6KEnzhHQhoo")));
+		RecordedEvent page = only(events, FETCH, field("page", "watch page"));
+		long skipped = page.getLong("bytesSkipped");
+		assertTrue(skipped > 0 && skipped < body.length, "skipped " + skipped + " of " + body.length);
+	}
+}
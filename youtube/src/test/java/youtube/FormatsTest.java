@@ -0,0 +1,179 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.ParseListener;
+import my.cute.parser.youtube.StreamFormat;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * picking streams out of watch pages whose formats have nested objects, which used to be split
+ * in the wrong places, and resolving every format at once
+ */
+class FormatsTest {
+
+	private static final String FORMATS = "\"formats\":["
+			+ format(18, 360, "\"colorInfo\":{\"primaries\":\"BT709\",\"x\":[1,{\"y\":\"}]\"}]},")
+			+ "," + format(22, 720, "\"initRange\":{\"start\":\"0\",\"end\":\"740\"},\"colorInfo\":{},")
+			+ "],\"adaptiveFormats\":[" + format(137, 1080, "\"indexRange\":{\"start\":\"741\"},") + "]";
+	
+	/*
+	 * just enough player js for the descrambler to be extracted: reverse, then drop the first two
+	 */
+	private static final String PLAYER_JS = "var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n";
+	
+	private static String cipheredFormat(int itag, int height, boolean adaptive) {
+		return "{\"itag\":" + itag + ",\"bitrate\":" + itag * 1000 + ",\"mimeType\":\"video/mp4\""
+				+ (adaptive ? "" : ",\"audioQuality\":\"AUDIO_QUALITY_LOW\"") + ",\"height\":" + height 
+				+ ",\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+				+ "%2Fvideoplayback%3Fitag%3D" + itag + "\"}";
+	}
+	
+	private static String format(int itag, int height, String nested) {
+		return "{\"itag\":" + itag + "," + nested + "\"mimeType\":\"video/mp4; codecs=\\\"avc1\\\"\",\"height\":" + height
+				+ ",\"url\":\"https://r1.googlevideo.com/videoplayback?itag=" + itag + "\\u0026a=b\\/c\",\"fps\":30}";
+	}
+	
+	private static String parse(String line, String link) {
+		byte[] page = ("<html>\n" + line + "\n</html>\n").getBytes(StandardCharsets.UTF_8);
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> PageFetcher.Response.of(page))
+				.preferredResolution(720)
+				.build();
+		return parser.parse(link);
+	}
+	
+	@Test
+	void testNestedObjects() {
+		String line = "ytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{" + FORMATS + "}};";
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=22&a=b/c", 
+				parse(line, "https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=18&a=b/c", 
+				parse(line, "https://www.youtube.com/watch?v=6KEnzhHQhoo&fmt=18"));
+		//only picked when asked for, since it has no audio
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=137&a=b/c", 
+				parse(line, "https://www.youtube.com/watch?v=6KEnzhHQhoo&fmt=137"));
+	}
+	
+	@Test
+	void testEscaped() {
+		//the player response inside a javascript string, as in older pages
+		String escaped = FORMATS.replace("\\", "\\\\").replace("\"", "\\\"").replace("/", "\\/");
+		String line = "ytplayer.config = {\"args\":{\"player_response\":\"{\\\"streamingData\\\":{" + escaped + "}}\"}};";
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=22&a=b/c", 
+				parse(line, "https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=18&a=b/c", 
+				parse(line, "https://www.youtube.com/watch?v=6KEnzhHQhoo&fmt=18"));
+	}
+	
+	@Test
+	void testResolveFormats() {
+		String line = "<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":{\"jsUrl\":"
+				+ "\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+				+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[" + format(18, 360, "") + "," 
+				+ cipheredFormat(22, 720, false) + "],\"adaptiveFormats\":[" + cipheredFormat(137, 1080, true) + "]}};</script>";
+		byte[] page = ("<html>\n" + line + "\n</html>\n").getBytes(StandardCharsets.UTF_8);
+		byte[] js = PLAYER_JS.getBytes(StandardCharsets.UTF_8);
+		AtomicInteger descrambles = new AtomicInteger();
+		AtomicInteger jsFetches = new AtomicInteger();
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> {
+					if(!url.getPath().endsWith("/base.js")) return PageFetcher.Response.of(page);
+					jsFetches.incrementAndGet();
+					return PageFetcher.Response.of(js);
+				})
+				.listener(new ParseListener() {
+					@Override
+					public void descrambled(String jsUrl, long nanos, boolean cached) {
+						descrambles.incrementAndGet();
+					}
+				})
+				.build();
+		
+		List<StreamFormat> formats = parser.resolveFormats("https://youtu.be/6KEnzhHQhoo?fmt=18");
+		assertEquals(List.of(18, 22, 137), formats.stream().map(StreamFormat::getItag).collect(Collectors.toList()));
+		assertEquals(List.of(360, 720, 1080), formats.stream().map(StreamFormat::getHeight).collect(Collectors.toList()));
+		assertEquals(22000, formats.get(1).getBitrate());
+		assertEquals("video/mp4", formats.get(1).getMimeType());
+		assertTrue(formats.get(2).isAdaptive());
+		assertThrows(UnsupportedOperationException.class, () -> formats.remove(0));
+		assertEquals(0, descrambles.get());
+		//nothing has needed the player js yet
+		assertEquals(0, jsFetches.get());
+		
+		Map<Integer, StreamFormat> picks = StreamFormat.pick(formats, 360, 480, 1080);
+		assertEquals(List.of(360, 480, 1080), List.copyOf(picks.keySet()));
+		assertEquals(18, picks.get(360).getItag());
+		assertEquals(18, picks.get(480).getItag());
+		//the adaptive 1080p format has no audio
+		assertEquals(22, picks.get(1080).getItag());
+		assertEquals(22, StreamFormat.pick(formats, -1).getItag());
+		assertEquals(0, descrambles.get());
+		
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=22&sig=DCBA", picks.get(1080).getUrl());
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=18&a=b/c", picks.get(360).getUrl());
+		assertEquals("https://r1.googlevideo.com/videoplayback?itag=22&sig=DCBA", picks.get(1080).getUrl());
+		//only the one ciphered format that was used
+		assertEquals(1, descrambles.get());
+		assertEquals(1, jsFetches.get());
+		assertEquals(137, StreamFormat.withItag(formats, 137).getItag());
+		assertNull(StreamFormat.withItag(formats, 5));
+	}
+	
+	@Test
+	void testResolveFormatsFallback() {
+		//no json formats anywhere, so the one stream parse would pick is all there is
+		String stream = "https://r1.googlevideo.com/videoplayback?itag=18";
+		String legacy = "status=ok&url_encoded_fmt_stream_map=" 
+				+ URLEncoder.encode("itag=18&url=" + URLEncoder.encode(stream, StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+		List<StreamFormat> formats = resolveVideoInfo(legacy).resolveFormats("https://youtu.be/6KEnzhHQhoo");
+		assertEquals(1, formats.size());
+		assertEquals(18, formats.get(0).getItag());
+		assertEquals(-1, formats.get(0).getHeight());
+		assertEquals(stream, formats.get(0).getUrl());
+		assertEquals(stream, resolveVideoInfo(legacy).parse("https://youtu.be/6KEnzhHQhoo"));
+		
+		String hls = "https://manifest.googlevideo.com/api/manifest/hls_variant/id/6KEnzhHQhoo";
+		String manifest = "status=ok&player_response=" 
+				+ URLEncoder.encode("{\"hlsManifestUrl\":\"" + hls + "\"}", StandardCharsets.UTF_8);
+		formats = resolveVideoInfo(manifest).resolveFormats("https://youtu.be/6KEnzhHQhoo");
+		assertEquals(1, formats.size());
+		assertEquals(-1, formats.get(0).getItag());
+		assertEquals(hls, formats.get(0).getUrl());
+		assertSame(formats.get(0), StreamFormat.pick(formats, 720));
+	}
+	
+	/**
+	 * @return a parser for videos whose watch page has no streams, and whose get_video_info 
+	 * response is the given one
+	 */
+	private static YoutubeParser resolveVideoInfo(String videoInfo) {
+		byte[] watch = "<html>\nytplayer.config = {};\n</html>\n".getBytes(StandardCharsets.UTF_8);
+		byte[] info = videoInfo.getBytes(StandardCharsets.UTF_8);
+		return YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> PageFetcher.Response.of(url.getPath().equals("/watch") ? watch : info))
+				.build();
+	}
+	
+	@Test
+	void testResolveFormatsInvalid() {
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> PageFetcher.Response.of(new byte[0]))
+				.build();
+		assertEquals(List.of(), parser.resolveFormats("www.youtube.com/watch?v=6KEnzhHQhoo"));
+		assertEquals(List.of(), parser.resolveFormats("https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+	}
+}
@@ -0,0 +1,86 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+import my.cute.parser.youtube.YoutubeParserBuilder;
+
+/**
+ * how many pages a parse is allowed to fetch
+ */
+class HopBudgetTest {
+
+	/*
+	 * a watch page with no streams on it, and a get_video_info response with none either
+	 */
+	private static final byte[] EMPTY_WATCH = "<html>\nytplayer.config = {};\n</html>\n".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] EMPTY_INFO = "status=ok&video_id=6KEnzhHQhoo".getBytes(StandardCharsets.UTF_8);
+
+	private static YoutubeParserBuilder builder(List<String> fetched, byte[] watchPage) {
+		return YoutubeParser.builder().pageFetcher((url, timeout) -> {
+			fetched.add(url.toString());
+			return PageFetcher.Response.of(url.getPath().equals("/watch") ? watchPage : EMPTY_INFO);
+		});
+	}
+
+	@Test
+	void testFallbacks() {
+		List<String> fetched = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = builder(fetched, EMPTY_WATCH).build();
+		//rewrites are free, then watch page -> get_video_info -> get_video_info with el=detailpage
+		assertNull(parser.parse("https://consent.youtube.com/m?continue=https%3A%2F%2Fyoutu.be%2F6KEnzhHQhoo"));
+		assertEquals(3, fetched.size());
+		assertEquals("https://www.youtube.com/watch?v=6KEnzhHQhoo", fetched.get(0));
+		assertTrue(fetched.get(2).contains("el=detailpage"));
+
+		fetched.clear();
+		assertNull(parser.parseAsync("https://youtu.be/6KEnzhHQhoo").join());
+		assertEquals(3, fetched.size());
+
+		fetched.clear();
+		assertEquals(List.of(), parser.resolveFormats("https://youtu.be/6KEnzhHQhoo"));
+		assertEquals(3, fetched.size());
+		assertTrue(fetched.get(2).contains("el=detailpage"));
+	}
+
+	@Test
+	void testBudget() {
+		List<String> fetched = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = builder(fetched, EMPTY_WATCH).maxHops(2).build();
+		assertNull(parser.parse("https://youtu.be/6KEnzhHQhoo"));
+		assertEquals(2, fetched.size());
+
+		fetched.clear();
+		assertNull(parser.parseAsync("https://youtu.be/6KEnzhHQhoo").join());
+		assertEquals(2, fetched.size());
+
+		fetched.clear();
+		assertEquals(List.of(), parser.resolveFormats("https://youtu.be/6KEnzhHQhoo"));
+		assertEquals(2, fetched.size());
+
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().maxHops(0));
+	}
+
+	@Test
+	void testNoRefetch() {
+		//a page whose only stream leads straight back to the page
+		byte[] loop = ("<html>\nytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":["
+				+ "{\"itag\":18,\"height\":360,\"url\":\"https://www.youtube.com/watch?v=6KEnzhHQhoo\"}]}};\n</html>\n")
+				.getBytes(StandardCharsets.UTF_8);
+		List<String> fetched = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = builder(fetched, loop).maxHops(10).build();
+		assertNull(parser.parse("https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+		assertEquals(1, fetched.size());
+
+		fetched.clear();
+		assertNull(parser.parseAsync("https://www.youtube.com/watch?v=6KEnzhHQhoo").join());
+		assertEquals(1, fetched.size());
+	}
+}
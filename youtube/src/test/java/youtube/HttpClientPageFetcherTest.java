@@ -0,0 +1,174 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import my.cute.parser.youtube.HttpClientPageFetcher;
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * the http client fetcher against a local server
+ */
+class HttpClientPageFetcherTest {
+
+	private static final byte[] PAGE = ("<html>\nytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{"
+			+ "\"formats\":[{\"itag\":18,\"height\":360,\"url\":\"https://r1.googlevideo.com/videoplayback?itag=18\"}]}};"
+			+ "\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18";
+	/*
+	 * the watch page for this video stalls
+	 */
+	private static final String STALLED_ID = "sTaLLeDvid0";
+
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private HttpServer server;
+
+	@BeforeEach
+	void startServer() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		this.server.createContext("/", exchange -> {
+			String query = exchange.getRequestURI().getQuery();
+			if(query != null && query.contains(STALLED_ID)) this.sendStalled(exchange);
+			else sendPage(exchange);
+		});
+		this.server.createContext("/stall", this::sendStalled);
+		this.server.createContext("/slow", HttpClientPageFetcherTest::sendSlowly);
+		this.server.setExecutor(this.executor);
+		this.server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		this.release.countDown();
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	private static void sendPage(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.sendResponseHeaders(200, PAGE.length);
+			exchange.getResponseBody().write(PAGE);
+		}
+	}
+
+	/**
+	 * sends the headers and the first half of the page, then nothing until the test is over
+	 */
+	private void sendStalled(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.sendResponseHeaders(200, PAGE.length);
+			OutputStream out = exchange.getResponseBody();
+			out.write(PAGE, 0, PAGE.length / 2);
+			out.flush();
+			this.release.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * sends the page a piece at a time, taking about a second overall
+	 */
+	private static void sendSlowly(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.sendResponseHeaders(200, PAGE.length);
+			OutputStream out = exchange.getResponseBody();
+			int piece = PAGE.length / 10 + 1;
+			for(int sent = 0; sent < PAGE.length; sent += piece) {
+				out.write(PAGE, sent, Math.min(piece, PAGE.length - sent));
+				out.flush();
+				Thread.sleep(100);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private URI base() {
+		return URI.create("http://" + this.server.getAddress().getAddress().getHostAddress() + ":" + this.server.getAddress().getPort());
+	}
+
+	private URL url(String path) throws IOException {
+		return this.base().resolve(path).toURL();
+	}
+
+	@Test
+	void testNoTimeout() throws Exception {
+		//0 means no timeout, not an invalid one
+		PageFetcher fetcher = new HttpClientPageFetcher();
+		try (PageFetcher.Response response = fetcher.fetch(this.url("/watch?v=6KEnzhHQhoo"), 0)) {
+			assertArrayEquals(PAGE, response.body().readAllBytes());
+		}
+		try (PageFetcher.Response response = fetcher.fetchAsync(this.url("/watch?v=6KEnzhHQhoo"), 0).join()) {
+			assertArrayEquals(PAGE, response.body().readAllBytes());
+		}
+		YoutubeParser parser = YoutubeParser.builder()
+				.timeout(Duration.ZERO)
+				.pageFetcher(fetcher)
+				.hostOverride(this.base())
+				.build();
+		assertEquals(RESULT, parser.parseAsync("https://www.youtube.com/watch?v=6KEnzhHQhoo").join());
+		assertEquals(RESULT, parser.parse("https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+	}
+
+	@Test
+	void testStalledBody() throws Exception {
+		PageFetcher fetcher = new HttpClientPageFetcher();
+		long start = System.nanoTime();
+		try (PageFetcher.Response response = fetcher.fetch(this.url("/stall"), 300)) {
+			InputStream body = response.body();
+			//the headers and the first half came through, then nothing
+			assertEquals('<', body.read());
+			assertThrows(SocketTimeoutException.class, body::readAllBytes);
+		}
+		CompletionException e = assertThrows(CompletionException.class, () -> fetcher.fetchAsync(this.url("/stall"), 300).join());
+		assertTrue(e.getCause() instanceof SocketTimeoutException, e.toString());
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+		YoutubeParser parser = YoutubeParser.builder()
+				.timeout(Duration.ofMillis(300))
+				.pageFetcher(fetcher)
+				.hostOverride(this.base())
+				.build();
+		start = System.nanoTime();
+		assertNull(parser.parse("https://www.youtube.com/watch?v=" + STALLED_ID));
+		assertNull(parser.parseAsync("https://www.youtube.com/watch?v=" + STALLED_ID).get(5, TimeUnit.SECONDS));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+	}
+
+	@Test
+	void testSlowBody() throws Exception {
+		//the timeout is for going without data, not for the whole body
+		PageFetcher fetcher = new HttpClientPageFetcher();
+		try (PageFetcher.Response response = fetcher.fetch(this.url("/slow"), 300)) {
+			assertArrayEquals(PAGE, response.body().readAllBytes());
+		}
+		try (PageFetcher.Response response = fetcher.fetchAsync(this.url("/slow"), 300).join()) {
+			assertArrayEquals(PAGE, response.body().readAllBytes());
+		}
+	}
+}
@@ -0,0 +1,196 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import static my.cute.parser.youtube.YoutubeParser.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.LinkKind;
+import my.cute.parser.youtube.LinkMatch;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * checks classify against the regex-based probe it replaced, over the links in links.txt and
+ * a pile of variations on them
+ */
+class LinkClassifierTest {
+
+	private static final YoutubeParser parser = YoutubeParser.createDefault();
+	private static List<String> corpus;
+
+	/*
+	 * characters that mean something to URL or to the patterns, plus some that don't
+	 */
+	private static final char[] SPECIAL = { '/', '?', '#', '@', ':', '[', ']', '.', '&', '=', ' ', '\n', '\r',
+			'\u0085', '\u2028', '\t', '\u007f', '\uff0f', '-', '+', '0', '9', 'a', 'W', '\u0661' };
+
+	@BeforeAll
+	static void readCorpus() throws IOException {
+		try (InputStream in = LinkClassifierTest.class.getResourceAsStream("/links.txt")) {
+			corpus = Arrays.asList(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\r?\n", -1));
+		}
+	}
+
+	@Test
+	void testCorpus() {
+		for(String link : corpus) {
+			assertEquals(referenceProbe(link), parser.classify(link).isYoutube(), link);
+			assertEquals(referenceProbe(link), parser.probe(link), link);
+		}
+	}
+
+	@Test
+	void testVariations() {
+		int checked = 0;
+		for(String link : corpus) {
+			for(String variation : variations(link)) {
+				assertEquals(referenceProbe(variation), parser.classify(variation).isYoutube(),
+						() -> "\"" + variation.replace("\n", "\\n").replace("\r", "\\r") + "\"");
+				checked++;
+			}
+		}
+		assertTrue(checked > 100000, "only checked " + checked);
+	}
+
+	@Test
+	void testKinds() {
+		assertEquals(LinkKind.WATCH, parser.classify("https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+		assertEquals(LinkKind.WATCH, parser.classify("https://music.youtube.com/watch?v=6KEnzhHQhoo&list=x"));
+		assertEquals(LinkKind.LIVE, parser.classify("https://www.youtube.com/channel/UC4R8DWoMoI7CAwX8_LjQHig/live"));
+		assertEquals(LinkKind.EMBED, parser.classify("https://www.youtube.com/embed/6KEnzhHQhoo"));
+		assertEquals(LinkKind.V, parser.classify("https://www.youtube.com/v/6KEnzhHQhoo"));
+		assertEquals(LinkKind.SHORTENED, parser.classify("https://youtu.be/6KEnzhHQhoo?t=30"));
+		assertEquals(LinkKind.CONSENT, parser.classify("https://consent.youtube.com/m?continue=x"));
+		assertEquals(LinkKind.GET_VIDEO_INFO, parser.classify("https://www.youtube.com/get_video_info?video_id=x"));
+		assertEquals(LinkKind.NOT_YOUTUBE, parser.classify("https://www.youtube.com/feed/subscriptions"));
+		assertEquals(LinkKind.NOT_YOUTUBE, parser.classify("https://youtube.com/watch?v=6KEnzhHQhoo"));
+		assertEquals(LinkKind.NOT_YOUTUBE, parser.classify("hello"));
+		//used to throw a NullPointerException from probe
+		assertEquals(LinkKind.NOT_YOUTUBE, parser.classify("https:www.youtube.com/watch?v=6KEnzhHQhoo"));
+		assertFalse(parser.probe("https:www.youtube.com/watch?v=6KEnzhHQhoo"));
+	}
+
+	@Test
+	void testFindLinks() {
+		//the whole corpus as one message, so the expected result is probe run on every word
+		StringBuilder text = new StringBuilder();
+		List<String> expected = new ArrayList<>();
+		for(String link : corpus) {
+			text.append("see ").append(link).append(" \u3000lol\t");
+			for(String word : link.split("[\\p{javaWhitespace}\\x00-\\x20]+")) {
+				if(parser.probe(word)) expected.add(word);
+			}
+		}
+		List<LinkMatch> found = parser.findLinks(text);
+		List<String> links = new ArrayList<>();
+		for(LinkMatch match : found) {
+			assertEquals(match.getLink(), text.substring(match.getStart(), match.getEnd()));
+			assertEquals(parser.classify(match.getLink()), match.getKind());
+			links.add(match.getLink());
+		}
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, links);
+		
+		assertEquals(expected.subList(0, 3), parser.findLinks(text, 3).stream().map(LinkMatch::getLink)
+				.collect(java.util.stream.Collectors.toList()));
+		assertTrue(parser.findLinks(text, 0).isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> parser.findLinks(text, -1));
+	}
+	
+	@Test
+	void testFindLinksOffsets() {
+		String text = "youtube https://youtube.com/watch?v=a\nhttps://youtu.be/6KEnzhHQhoo,https://www.youtube.com/embed/x"
+				+ " https://www.youtube.com/watch?v=6KEnzhHQhoo";
+		List<LinkMatch> found = parser.findLinks(text);
+		assertEquals(2, found.size());
+		assertEquals(LinkKind.SHORTENED, found.get(0).getKind());
+		assertEquals(text.indexOf("https://youtu.be"), found.get(0).getStart());
+		assertEquals(text.indexOf(" https://www.youtube.com/watch"), found.get(0).getEnd());
+		assertEquals(LinkKind.WATCH, found.get(1).getKind());
+		assertEquals(text.length(), found.get(1).getEnd());
+		assertTrue(parser.findLinks("").isEmpty());
+		assertTrue(parser.findLinks("no links here, just youtube").isEmpty());
+	}
+	
+	@Test
+	void testNoAllocation() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		String[] links = { "https://www.youtube.com/watch?v=6KEnzhHQhoo&t=59s", "https://youtu.be/6KEnzhHQhoo",
+				"https://www.youtube.com:443/embed/6KEnzhHQhoo", "just a word", "https://example.com/page" };
+		StringBuilder builder = new StringBuilder("https://www.youtube.com/watch?v=6KEnzhHQhoo");
+		int youtube = 0;
+		//warm up, so the measurement doesn't catch class loading or the jvm's own bookkeeping while
+		//the code is still being interpreted
+		for(int i=0; i < 200000; i++) {
+			if(parser.classify(links[i % links.length]).isYoutube()) youtube++;
+			if(parser.classify(builder).isYoutube()) youtube++;
+		}
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for(int i=0; i < 100000; i++) {
+			if(parser.classify(links[i % links.length]).isYoutube()) youtube++;
+			if(parser.classify(builder).isYoutube()) youtube++;
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+		assertTrue(youtube > 0);
+		//a little slack for anything the jvm does behind our back
+		assertTrue(allocated < 4096, "allocated " + allocated + " bytes");
+	}
+
+	/**
+	 * every link with each special character inserted at or substituted for each position, and
+	 * with each single character case flipped
+	 */
+	private static List<String> variations(String link) {
+		List<String> variations = new ArrayList<>();
+		for(int i=0; i <= link.length(); i++) {
+			for(char c : SPECIAL) {
+				variations.add(link.substring(0, i) + c + link.substring(i));
+				if(i < link.length()) variations.add(link.substring(0, i) + c + link.substring(i + 1));
+			}
+			if(i < link.length()) {
+				char c = link.charAt(i);
+				char flipped = Character.isUpperCase(c) ? Character.toLowerCase(c) : Character.toUpperCase(c);
+				variations.add(link.substring(0, i) + flipped + link.substring(i + 1));
+				variations.add(link.substring(0, i));
+				variations.add(link.substring(i));
+			}
+		}
+		return variations;
+	}
+
+	/**
+	 * probe as it was before classify, except that links URL accepts without an authority (which
+	 * made it throw) count as not youtube
+	 */
+	private static boolean referenceProbe(String link) {
+		URL url;
+		try {
+			url = new URL(link);
+		} catch (MalformedURLException e) {
+			return false;
+		}
+		String access = url.getProtocol();
+		if(!access.equals("http") && !access.equals("https")) return false;
+		if(url.getAuthority() == null) return false;
+		String path = url.getAuthority() + url.getPath() + (url.getQuery() != null ? "?" + url.getQuery() : "");
+		boolean content = WATCH_PATTERNS.stream().anyMatch(pattern -> pattern.matcher(path).find())
+				|| path.contains("/get_video_info?")
+				|| path.contains("/v/") || path.contains("/embed/");
+		return ((PROBE_START.matcher(path).find() && content)
+				|| CONSENT.matcher(path).find()
+				|| YOUTUBE_SHORTENED.matcher(path).find());
+	}
+}
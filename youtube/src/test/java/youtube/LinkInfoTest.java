@@ -0,0 +1,80 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.LinkInfo;
+import my.cute.parser.youtube.LinkKind;
+import my.cute.parser.youtube.YoutubeParser;
+
+class LinkInfoTest {
+
+	private static final YoutubeParser parser = YoutubeParser.createDefault();
+	
+	@Test
+	void testFields() {
+		LinkInfo info = parser.analyze("https://www.youtube.com/watch?v=6KEnzhHQhoo&list=PL123&t=1h2m3s&fmt=22#x");
+		assertEquals(LinkKind.WATCH, info.getKind());
+		assertEquals("6KEnzhHQhoo", info.getVideoId());
+		assertEquals(3723, info.getTimestamp());
+		assertEquals("22", info.getFmt());
+		assertEquals("PL123", info.getList());
+		
+		info = parser.analyze("https://youtu.be/6KEnzhHQhoo?t=95");
+		assertEquals(LinkKind.SHORTENED, info.getKind());
+		assertEquals("6KEnzhHQhoo", info.getVideoId());
+		assertEquals(95, info.getTimestamp());
+		assertNull(info.getFmt());
+		assertNull(info.getList());
+		
+		assertEquals("6KEnzhHQhoo", parser.analyze("https://youtu.be/watch?v=6KEnzhHQhoo&t=1").getVideoId());
+		assertEquals("6KEnzhHQhoo", parser.analyze("https://www.youtube.com/embed/6KEnzhHQhoo?start=3").getVideoId());
+		assertEquals("6KEnzhHQhoo", parser.analyze("https://music.youtube.com/v/6KEnzhHQhoo").getVideoId());
+		assertEquals("6KEnzhHQhoo", parser.analyze("https://www.youtube.com/get_video_info?video_id=6KEnzhHQhoo").getVideoId());
+		
+		info = parser.analyze("https://www.youtube.com/channel/UC4R8DWoMoI7CAwX8_LjQHig/live?t=30");
+		assertEquals(LinkKind.LIVE, info.getKind());
+		assertNull(info.getVideoId());
+		assertEquals(30, info.getTimestamp());
+		
+		info = parser.analyze("https://consent.youtube.com/m?continue=https%3A%2F%2Fwww.youtube.com%2Fwatch%3Fv%3D6KEnzhHQhoo%26t%3D2m");
+		assertEquals(LinkKind.CONSENT, info.getKind());
+		assertEquals("6KEnzhHQhoo", info.getVideoId());
+		assertEquals(120, info.getTimestamp());
+		
+		info = parser.analyze("https://www.butts.com/butts?v=x&t=346");
+		assertFalse(info.isYoutube());
+		assertNull(info.getVideoId());
+		assertEquals(-1, info.getTimestamp());
+		assertEquals(-1, parser.analyze("https://www.youtube.com/watch?v=6KEnzhHQhoo&t=99999999999").getTimestamp());
+	}
+	
+	@Test
+	void testTimestampSameAsGetTimestamp() {
+		String[] timestamps = { "0", "30", "30s", "2m", "1h", "1h2m3s", "3s2m1h", "1H2M", "1h30", "1h2m3s4s", "12abc",
+				"abc", "", "1h2m3s|x", "5m?x", "2147483647", "2147483648", "596523h", "596524h", "m", "1hm" };
+		for(String t : timestamps) {
+			String link = "https://www.youtube.com/watch?v=6KEnzhHQhoo&t=" + t + "&fmt=22";
+			assertEquals(parser.getTimestamp(link), parser.analyze(link).getTimestamp(), link);
+			link = "https://youtu.be/6KEnzhHQhoo?t=" + t;
+			assertEquals(parser.getTimestamp(link), parser.analyze(link).getTimestamp(), link);
+		}
+	}
+	
+	@Test
+	void testCorpus() throws IOException {
+		try (InputStream in = LinkInfoTest.class.getResourceAsStream("/links.txt")) {
+			for(String link : new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+				LinkInfo info = parser.analyze(link);
+				assertEquals(parser.classify(link), info.getKind(), link);
+				if(!info.isYoutube()) continue;
+				assertEquals(parser.getTimestamp(link), info.getTimestamp(), link);
+			}
+		}
+	}
+}
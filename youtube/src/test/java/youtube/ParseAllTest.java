@@ -0,0 +1,59 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * parsing batches of links
+ */
+class ParseAllTest {
+
+	private static final byte[] PAGE = ("<html>\nytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{"
+			+ "\"formats\":[{\"itag\":18,\"height\":360,\"url\":\"https://r1.googlevideo.com/videoplayback?itag=18\"}]}};"
+			+ "\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18";
+
+	@Test
+	void testDeduplicated() {
+		AtomicInteger fetches = new AtomicInteger();
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> {
+					fetches.incrementAndGet();
+					return PageFetcher.Response.of(PAGE);
+				})
+				.build();
+		Map<String, String> results = parser.parseAll(List.of("https://youtu.be/6KEnzhHQhoo", 
+				"https://www.youtube.com/watch?v=6KEnzhHQhoo", "https://www.youtube.com/embed/6KEnzhHQhoo", "not a link"));
+		assertEquals(List.of("https://youtu.be/6KEnzhHQhoo", "https://www.youtube.com/watch?v=6KEnzhHQhoo", 
+				"https://www.youtube.com/embed/6KEnzhHQhoo", "not a link"), List.copyOf(results.keySet()));
+		assertEquals(RESULT, results.get("https://youtu.be/6KEnzhHQhoo"));
+		assertEquals(RESULT, results.get("https://www.youtube.com/embed/6KEnzhHQhoo"));
+		assertNull(results.get("not a link"));
+		assertEquals(1, fetches.get());
+	}
+
+	@Test
+	void testFailureIsolated() {
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> {
+					if(url.getQuery().contains("broken")) throw new IllegalStateException("fetch failed");
+					return PageFetcher.Response.of(PAGE);
+				})
+				.build();
+		Map<String, String> results = parser.parseAll(List.of("https://youtu.be/6KEnzhHQhoo", 
+				"https://youtu.be/brokenvideo", "https://youtu.be/dQw4w9WgXcQ"));
+		assertEquals(3, results.size());
+		assertEquals(RESULT, results.get("https://youtu.be/6KEnzhHQhoo"));
+		assertNull(results.get("https://youtu.be/brokenvideo"));
+		assertEquals(RESULT, results.get("https://youtu.be/dQw4w9WgXcQ"));
+	}
+}
@@ -0,0 +1,205 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.ParseListener;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * the order and arguments of listener callbacks
+ */
+class ParseListenerTest {
+
+	private static final String JS_URL = "https://www.youtube.com/s/player/test0001/player_ias.vflset/en_US/base.js";
+	/*
+	 * just enough player js for the descrambler to be extracted: reverse, then drop the first two
+	 */
+	private static final byte[] PLAYER_JS = ("var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n")
+			.getBytes(StandardCharsets.UTF_8);
+	/*
+	 * a watch page whose only stream has a scrambled signature
+	 */
+	private static final byte[] PAGE = ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":{\"jsUrl\":"
+			+ "\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+			+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+			+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+			+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA";
+
+	/**
+	 * writes down every event it gets, leaving out durations, which only have to be sane
+	 */
+	private static final class RecordingListener implements ParseListener {
+
+		final List<String> events = new CopyOnWriteArrayList<>();
+
+		private void add(long nanos, String event) {
+			assertTrue(nanos >= 0, event + " took " + nanos);
+			this.events.add(event);
+		}
+
+		@Override
+		public void pageFetched(String url, long nanos, long bytes, long wireBytes, boolean success) {
+			this.add(nanos, "pageFetched " + url + " " + bytes + " " + wireBytes + " " + success);
+		}
+
+		@Override
+		public void jsUrlFound(String pageUrl, String jsUrl, long nanos) {
+			this.add(nanos, "jsUrlFound " + pageUrl + " " + jsUrl);
+		}
+
+		@Override
+		public void branchTaken(String pageUrl, Branch branch) {
+			this.add(0, "branchTaken " + pageUrl + " " + branch);
+		}
+
+		@Override
+		public void playerJsLoaded(String jsUrl, long nanos, long bytes, long wireBytes, boolean success) {
+			this.add(nanos, "playerJsLoaded " + jsUrl + " " + bytes + " " + wireBytes + " " + success);
+		}
+
+		@Override
+		public void descrambled(String jsUrl, long nanos, boolean cached) {
+			this.add(nanos, "descrambled " + jsUrl + " " + cached);
+		}
+
+		@Override
+		public void streamPicked(String pageUrl, Branch branch, long nanos, boolean success) {
+			this.add(nanos, "streamPicked " + pageUrl + " " + branch + " " + success);
+		}
+
+		@Override
+		public void parseFinished(String link, long nanos, boolean success) {
+			this.add(nanos, "parseFinished " + link + " " + success);
+		}
+	}
+
+	private static YoutubeParser parser(RecordingListener listener) {
+		return YoutubeParser.builder()
+				.pageFetcher((url, timeout) -> PageFetcher.Response.of(url.getPath().endsWith("/base.js") ? PLAYER_JS : PAGE))
+				.listener(listener)
+				.build();
+	}
+
+	private static List<String> picked(String page, boolean cached) {
+		return List.of("descrambled " + JS_URL + " " + cached,
+				"streamPicked " + page + " FORMATS true",
+				"branchTaken " + page + " FORMATS");
+	}
+
+	@Test
+	void testSync() {
+		RecordingListener listener = new RecordingListener();
+		YoutubeParser parser = parser(listener);
+		String page = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+		assertEquals(RESULT, parser.parse("https://youtu.be/6KEnzhHQhoo"));
+		//the page is processed as it's read, so it's reported once it's done
+		List<String> expected = new ArrayList<>();
+		expected.add("jsUrlFound " + page + " " + JS_URL);
+		expected.add("playerJsLoaded " + JS_URL + " " + PLAYER_JS.length + " " + PLAYER_JS.length + " true");
+		expected.addAll(picked(page, false));
+		expected.add("pageFetched " + page + " " + PAGE.length + " " + PAGE.length + " true");
+		expected.add("parseFinished https://youtu.be/6KEnzhHQhoo true");
+		assertEquals(expected, listener.events);
+
+		//the rules are cached now, so nothing is loaded
+		listener.events.clear();
+		page = "https://www.youtube.com/watch?v=dQw4w9WgXcQ";
+		assertEquals(RESULT, parser.parse(page));
+		expected.clear();
+		expected.add("jsUrlFound " + page + " " + JS_URL);
+		expected.addAll(picked(page, true));
+		expected.add("pageFetched " + page + " " + PAGE.length + " " + PAGE.length + " true");
+		expected.add("parseFinished " + page + " true");
+		assertEquals(expected, listener.events);
+	}
+
+	@Test
+	void testAsync() {
+		RecordingListener listener = new RecordingListener();
+		YoutubeParser parser = parser(listener);
+		String page = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+		assertEquals(RESULT, parser.parseAsync("https://youtu.be/6KEnzhHQhoo").join());
+		//the page is downloaded in full before it's processed, and processed again once the js is in
+		List<String> expected = new ArrayList<>();
+		expected.add("pageFetched " + page + " " + PAGE.length + " " + PAGE.length + " true");
+		expected.add("jsUrlFound " + page + " " + JS_URL);
+		expected.add("playerJsLoaded " + JS_URL + " " + PLAYER_JS.length + " " + PLAYER_JS.length + " true");
+		expected.addAll(picked(page, false));
+		expected.add("parseFinished https://youtu.be/6KEnzhHQhoo true");
+		assertEquals(expected, listener.events);
+
+		listener.events.clear();
+		page = "https://www.youtube.com/watch?v=dQw4w9WgXcQ";
+		assertEquals(RESULT, parser.parseAsync(page).join());
+		expected.clear();
+		expected.add("pageFetched " + page + " " + PAGE.length + " " + PAGE.length + " true");
+		expected.add("jsUrlFound " + page + " " + JS_URL);
+		expected.addAll(picked(page, true));
+		expected.add("parseFinished " + page + " true");
+		assertEquals(expected, listener.events);
+	}
+
+	@Test
+	void testFailedFetch() {
+		RecordingListener listener = new RecordingListener();
+		YoutubeParser parser = YoutubeParser.builder()
+				.pageFetcher(new PageFetcher() {
+					@Override
+					public Response fetch(URL url, int timeoutMillis) throws IOException {
+						throw new IOException("connection refused");
+					}
+
+					@Override
+					public CompletableFuture<Response> fetchAsync(URL url, int timeoutMillis) {
+						//the response comes back, but its body can't be read
+						return CompletableFuture.completedFuture(new Response() {
+							@Override
+							public InputStream body() throws IOException {
+								throw new IOException("connection reset");
+							}
+
+							@Override
+							public long contentLength() {
+								return -1;
+							}
+
+							@Override
+							public void abort() {
+								//nothing to drop
+							}
+
+							@Override
+							public void close() {
+								//nothing to release
+							}
+						});
+					}
+				})
+				.listener(listener)
+				.build();
+		String page = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+		List<String> expected = List.of("pageFetched " + page + " -1 -1 false", "parseFinished " + page + " false");
+		assertNull(parser.parse(page));
+		assertEquals(expected, listener.events);
+
+		listener.events.clear();
+		assertNull(parser.parseAsync(page).join());
+		assertEquals(expected, listener.events);
+	}
+}
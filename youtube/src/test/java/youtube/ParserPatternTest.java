@@ -291,6 +291,24 @@ class ParserPatternTest {
 		assertFalse(TIMESTAMP_FORMATTED_EXTRACT.matcher("asdfewafa&t=87657464").find());
 	}
 	
+	@Test
+	void testPlayerVersionExtract() {
+		testPatternOnInputWithCapture(PLAYER_VERSION_EXTRACT, "https://www.youtube.com/s/player/4fbb4d5b/player_ias.vflset/en_US/base.js",
+				"4fbb4d5b");
+		assertFalse(PLAYER_VERSION_EXTRACT.matcher("https://www.youtube.com/yts/jsbin/player-en_US-vfl/base.js").find());
+	}
+	
+	@Test
+	void testExpireExtract() {
+		testPatternOnInputWithCapture(EXPIRE_EXTRACT, "https://r1---sn-abc.googlevideo.com/videoplayback?expire=1623673219&ei=abc", 
+				"1623673219");
+		testPatternOnInputWithCapture(EXPIRE_EXTRACT, "https://r1---sn-abc.googlevideo.com/videoplayback?ei=abc&expire=1623673219", 
+				"1623673219");
+		testPatternOnInputWithCapture(EXPIRE_EXTRACT, "https://manifest.googlevideo.com/api/manifest/hls_variant/expire/1623673219/ei/abc", 
+				"1623673219");
+		assertFalse(EXPIRE_EXTRACT.matcher("https://r1---sn-abc.googlevideo.com/videoplayback?noexpire=1623673219").find());
+	}
+	
 	private void testPatternOnInput(Pattern pattern, String input) {
 		Matcher matcher = pattern.matcher(input);
 		assertTrue(matcher.find());
@@ -0,0 +1,193 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * reading player js a statement at a time, and finding the descrambling rules in it
+ */
+class PlayerJsTest {
+
+	private static final String LINK = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+	/*
+	 * a watch page whose only stream has a scrambled signature
+	 */
+	private static final byte[] PAGE = ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":"
+			+ "{\"jsUrl\":\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+			+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+			+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+			+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	/*
+	 * the statements that make up the rules: reverse, then drop the first two
+	 */
+	private static final String HELPER = "var Xy={aB:function(a){a.reverse()},\ncD:function(a,b){a.splice(0,b)}};\n";
+	private static final String RULES = "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n";
+	private static final String CALLER = "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n";
+	private static final String DESCRAMBLED = "https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA";
+	private static final String SCRAMBLED = "https://r1.googlevideo.com/videoplayback?itag=18&sig=ABCDEF";
+
+	/**
+	 * a response whose body comes back at most the given number of bytes per read
+	 */
+	private static PageFetcher.Response trickle(byte[] body, int piece) {
+		InputStream stream = new ByteArrayInputStream(body) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, piece));
+			}
+		};
+		return new PageFetcher.Response() {
+			@Override
+			public InputStream body() {
+				return stream;
+			}
+
+			@Override
+			public long contentLength() {
+				return body.length;
+			}
+
+			@Override
+			public void close() {
+				//nothing to release
+			}
+		};
+	}
+
+	/**
+	 * @param js the player js
+	 * @param maxChars the parser's limit on player js kept in memory
+	 * @param piece the most bytes of the js to hand over per read
+	 */
+	private static YoutubeParser parser(String js, int maxChars, int piece) {
+		byte[] body = js.getBytes(StandardCharsets.UTF_8);
+		//a new parser each time, since the rules are cached by player version
+		return YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> url.getPath().endsWith("/base.js") ? trickle(body, piece) : PageFetcher.Response.of(PAGE))
+				.maxPlayerJsChars(maxChars)
+				.build();
+	}
+
+	private static String parse(String js, int maxChars, int piece) {
+		return parser(js, maxChars, piece).parse(LINK);
+	}
+
+	private static String parseAsync(String js, int maxChars) throws Exception {
+		return parser(js, maxChars, 8192).parseAsync(LINK).get(10, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @return the length of the given lines as a statement, ie without their line breaks
+	 */
+	private static int statementLength(String lines) {
+		return lines.replace("\n", "").length();
+	}
+
+	@Test
+	void testStrings() throws Exception {
+		//a }; that isn't at the end of a line doesn't end the statement, so neither of these decoys is
+		//at the start of one
+		String decoys = "var t=\"};\";Qz=function(a){return a};\n"
+				+ "var u=\"};\",\nQz=function(a){return a};\n";
+		assertEquals(DESCRAMBLED, parse(decoys + HELPER + RULES + CALLER, Integer.MAX_VALUE, 8192));
+		assertEquals(DESCRAMBLED, parseAsync(decoys + HELPER + RULES + CALLER, Integer.MAX_VALUE));
+	}
+
+	@Test
+	void testRefills() throws Exception {
+		//puts the rules at every offset around the 8192 char reads, split over a few lines, after a
+		//helper long enough to take several reads on its own
+		String helper = "var Xy={aB:function(a){a.reverse()},\n" + "p:\"bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb\",\n".repeat(400)
+				+ "cD:function(a,b){a.splice(0,b)}};\n";
+		String rules = RULES.replace(";Xy", ";\nXy");
+		for(int padding = 0; padding < 60; padding++) {
+			String pad = "var p={b:\"" + "b".repeat(8192 - statementLength(helper) % 8192 - 60 + padding) + "\"};\n";
+			String js = helper + pad + rules + CALLER;
+			for(int piece : new int[] { 1, 7, 8192 }) {
+				assertEquals(DESCRAMBLED, parse(js, Integer.MAX_VALUE, piece), "padding " + padding + ", piece " + piece);
+			}
+		}
+		assertEquals(DESCRAMBLED, parseAsync(helper + rules + CALLER, Integer.MAX_VALUE));
+	}
+
+	/**
+	 * checks the given js parses to the given result, both with every statement kept and with 
+	 * none kept after the first, so every lookup has to be found by reading further
+	 */
+	private static void assertParses(String expected, String js) throws Exception {
+		assertEquals(expected, parse(js, Integer.MAX_VALUE, 8192));
+		assertEquals(expected, parseAsync(js, Integer.MAX_VALUE));
+		int longest = 0;
+		for(String statement : js.replace("\n", "").split("(?<=\\};)")) longest = Math.max(longest, statement.length());
+		assertEquals(expected, parse(js, longest, 8192));
+		assertEquals(expected, parseAsync(js, longest));
+	}
+
+	@Test
+	void testFirstDefinition() throws Exception {
+		String reverse = "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);return a.join(\"\")};\n";
+		assertParses(DESCRAMBLED, CALLER + RULES + reverse + HELPER);
+		assertParses("https://r1.googlevideo.com/videoplayback?itag=18&sig=FEDCBA", CALLER + reverse + RULES + HELPER);
+		//the same methods the other way around, so the rules drop none and then reverse
+		String swapped = "var Xy={aB:function(a,b){a.splice(0,b)},\ncD:function(a){a.reverse()}};\n";
+		assertParses(DESCRAMBLED, CALLER + RULES + HELPER + swapped);
+		assertParses("https://r1.googlevideo.com/videoplayback?itag=18&sig=FEDCBA", CALLER + RULES + swapped + HELPER);
+		//the first is kept even when it's the later one that's read while looking for something else
+		assertEquals(DESCRAMBLED, parse(RULES + HELPER + swapped + CALLER, Integer.MAX_VALUE, 8192));
+	}
+
+	@Test
+	void testUnsaved() throws Exception {
+		int limit = statementLength(CALLER);
+		//nothing is kept after the caller, but the rules and helper are still found as they're read
+		assertEquals(DESCRAMBLED, parse(CALLER + RULES + HELPER, limit, 8192));
+		//including when there's plenty read and dropped in between
+		String filler = "var p={b:\"bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb\"};\n".repeat(1000);
+		assertEquals(DESCRAMBLED, parse(CALLER + filler + RULES + filler + HELPER, limit, 7));
+		//but once they've been read and dropped they're gone
+		String full = "var p={b:\"" + "b".repeat(limit - statementLength("var p={b:\"\"};")) + "\"};\n";
+		assertEquals(SCRAMBLED, parse(full + RULES + CALLER + HELPER, limit, 8192));
+		assertEquals(SCRAMBLED, parse(CALLER + HELPER + RULES, limit, 8192));
+		//unless they were kept before the limit was reached
+		assertEquals(DESCRAMBLED, parse(CALLER + HELPER + RULES, statementLength(CALLER + HELPER), 8192));
+	}
+
+	@Test
+	void testFunctionsAndObjects() throws Exception {
+		//a function named after the helper and an object named after the rules are both skipped
+		String decoys = "Xy=function(a){a.reverse()};\nvar Qz={aB:function(a){a.reverse()}};\n";
+		assertParses(DESCRAMBLED, CALLER + decoys + RULES + HELPER);
+		//a function has to be at the start of a statement, while an object can follow a space or comma
+		String helper = "var n=1,Xy={aB:function(a){a.reverse()},\ncD:function(a,b){a.splice(0,b)}};\n";
+		assertParses(DESCRAMBLED, CALLER + "var t=1;" + RULES + RULES + helper);
+		assertParses(SCRAMBLED, CALLER + "var t=1;" + RULES + HELPER.replace("var Xy", "var;Xy"));
+	}
+
+	@Test
+	void testLimit() throws Exception {
+		int longest = Math.max(statementLength(HELPER), Math.max(statementLength(RULES), statementLength(CALLER)));
+		//room for every statement
+		assertEquals(DESCRAMBLED, parse(HELPER + RULES + CALLER, statementLength(HELPER + RULES + CALLER), 8192));
+		//room for the helper, but the rules aren't kept, and they've all been read by the time the
+		//caller is found
+		assertEquals(SCRAMBLED, parse(HELPER + RULES + CALLER, longest, 8192));
+		//the same limit is fine when each lookup is found by reading further
+		assertEquals(DESCRAMBLED, parse(CALLER + RULES + HELPER, longest, 8192));
+		assertEquals(DESCRAMBLED, parseAsync(CALLER + RULES + HELPER, longest));
+		//a single statement over the limit fails the load, line breaks or not
+		assertEquals(SCRAMBLED, parse(CALLER + RULES + HELPER, statementLength(CALLER) - 1, 8192));
+		assertEquals(SCRAMBLED, parseAsync(CALLER + RULES + HELPER, statementLength(CALLER) - 1));
+		String endless = "var p=1,\n".repeat(1000);
+		assertEquals(SCRAMBLED, parse(CALLER + RULES + endless + HELPER, 1000, 7));
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().maxPlayerJsChars(0));
+	}
+}
@@ -0,0 +1,71 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.QueryParams;
+import my.cute.parser.youtube.URLUtils;
+
+/**
+ * checks QueryParams against the regex getUrlParam used before it
+ */
+class QueryParamsTest {
+
+	private static final String[] NAMES = { "v", "fmt", "jsurl", "el", "video_id", "continue", "t", "a", "" };
+	
+	@Test
+	void testLookups() {
+		String path = "www.youtube.com/get_video_info?video_id=6KEnzhHQhoo&el=detailpage&fmt=22"
+				+ "&jsurl=https%3A%2F%2Fwww.youtube.com%2Fs%2Fplayer%2Fabc%2Fbase.js";
+		QueryParams params = new QueryParams(path);
+		assertEquals(4, params.size());
+		assertEquals("6KEnzhHQhoo", params.getString("video_id"));
+		assertEquals("detailpage", params.get("el").toString());
+		assertEquals("22", params.getString("fmt"));
+		assertEquals("https://www.youtube.com/s/player/abc/base.js", params.getDecoded("jsurl"));
+		assertEquals("&fmt=22", params.copy("fmt"));
+		assertEquals("", params.copy("v"));
+		assertNull(params.get("v"));
+		assertFalse(params.contains("v"));
+		assertTrue(params.contains("el"));
+		
+		CharSequence id = params.get("video_id");
+		assertEquals(11, id.length());
+		assertEquals('6', id.charAt(0));
+		assertEquals("KEn", id.subSequence(1, 4).toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> id.charAt(11));
+	}
+	
+	@Test
+	void testSameAsRegex() {
+		String[] urls = { "", "?", "&", "=", "?v=", "?v", "v=1", "?v=1&v=2", "&fmt=18?v=1", "?a=1?v=2&v=3",
+				"www.youtube.com/watch?v=6KEnzhHQhoo&t=1h2m3s&fmt=22#x", "?a==b&=c&v=&fmt",
+				"www.youtube.com/watch?feature=share&v=6KEnzhHQhoo?t=4&a&b=?v=9" };
+		for(String url : urls) {
+			for(String name : NAMES) assertSameAsRegex(url, name);
+		}
+		
+		Random random = new Random(7);
+		char[] chars = { '?', '&', '=', 'v', 'a', 't', 'f', 'm', '1', '%' };
+		for(int i=0; i < 20000; i++) {
+			StringBuilder url = new StringBuilder();
+			int length = random.nextInt(16);
+			for(int j=0; j < length; j++) url.append(chars[random.nextInt(chars.length)]);
+			for(String name : NAMES) assertSameAsRegex(url.toString(), name);
+		}
+	}
+	
+	private static void assertSameAsRegex(String url, String name) {
+		Matcher matcher = Pattern.compile("(?:&|\\?)" + Pattern.quote(name) + "=([^&]*)").matcher(url);
+		String expected = matcher.find() ? matcher.group(1) : null;
+		String message = url + " " + name;
+		assertEquals(expected, new QueryParams(url).getString(name), message);
+		assertEquals(expected, URLUtils.getUrlParam(url, name), message);
+		assertEquals(expected == null ? "" : "&" + name + "=" + expected, URLUtils.copyUrlParam(url, name), message);
+	}
+}
@@ -0,0 +1,137 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import my.cute.parser.youtube.HttpStatusException;
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.URLConnectionPageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * recording parses to a fixture directory, replaying them from it, and sending requests to
+ * another host
+ */
+class RecordReplayTest {
+
+	private static final String LINK = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+	/*
+	 * a watch page whose only stream has a scrambled signature, and just enough player js to
+	 * descramble it: reverse, then drop the first two
+	 */
+	private static final byte[] PAGE = ("<html>\n<script>var ytplayer = ytplayer || {};ytplayer.config = {\"assets\":"
+			+ "{\"jsUrl\":\"\\/s\\/player\\/test0001\\/player_ias.vflset\\/en_US\\/base.js\"}};"
+			+ "var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":[{\"itag\":18,\"height\":360,"
+			+ "\"signatureCipher\":\"s=ABCDEF\\u0026sp=sig\\u0026url=https%3A%2F%2Fr1.googlevideo.com"
+			+ "%2Fvideoplayback%3Fitag%3D18\"}]}};</script>\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final byte[] PLAYER_JS = ("var Xy={aB:function(a){a.reverse()},\n"
+			+ "cD:function(a,b){a.splice(0,b)}};\n"
+			+ "Qz=function(a){a=a.split(\"\");Xy.aB(a,0);Xy.cD(a,2);return a.join(\"\")};\n"
+			+ "g.Hd=function(a,b){var c=a.get(b);c&&(c=Qz(decodeURIComponent(c.s)),a.set(b,c));return a};\n")
+			.getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18&sig=DCBA";
+
+	@TempDir
+	Path directory;
+
+	private static PageFetcher.Response respond(URL url) {
+		return PageFetcher.Response.of(url.getPath().endsWith("/base.js") ? PLAYER_JS : PAGE);
+	}
+
+	@Test
+	void testRoundTrip() throws Exception {
+		YoutubeParser recording = YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> respond(url))
+				.record(this.directory)
+				.build();
+		assertEquals(RESULT, recording.parse(LINK));
+		Map<String, String[]> index = ReplayServer.readIndex(this.directory);
+		assertEquals(List.of("/watch?v=6KEnzhHQhoo", "/s/player/test0001/player_ias.vflset/en_US/base.js"), List.copyOf(index.keySet()));
+		String[] page = index.get("/watch?v=6KEnzhHQhoo");
+		assertEquals("200", page[0]);
+		assertArrayEquals(PAGE, Files.readAllBytes(this.directory.resolve(page[1])));
+
+		//a fresh parser for each, so the player js is fetched from the server too
+		try (ReplayServer server = new ReplayServer(this.directory)) {
+			assertEquals(RESULT, YoutubeParser.builder().hostOverride(server.getBaseUri()).build().parse(LINK));
+			assertEquals(RESULT, YoutubeParser.builder().hostOverride(server.getBaseUri()).build()
+					.parseAsync("https://youtu.be/6KEnzhHQhoo").get(10, TimeUnit.SECONDS));
+			//another video falls back to the recorded page for the same path
+			assertEquals(RESULT, YoutubeParser.builder().hostOverride(server.getBaseUri()).build()
+					.parse("https://www.youtube.com/watch?v=dQw4w9WgXcQ"));
+		}
+	}
+
+	@Test
+	void testErrorStatus() throws Exception {
+		YoutubeParser recording = YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> {
+					throw new HttpStatusException(url.toString(), 404);
+				})
+				.record(this.directory)
+				.build();
+		assertNull(recording.parse(LINK));
+		String[] page = ReplayServer.readIndex(this.directory).get("/watch?v=6KEnzhHQhoo");
+		assertEquals("404", page[0]);
+		assertEquals(0, Files.size(this.directory.resolve(page[1])));
+
+		try (ReplayServer server = new ReplayServer(this.directory)) {
+			List<Integer> statuses = new CopyOnWriteArrayList<>();
+			YoutubeParser parser = YoutubeParser.builder()
+					.hostOverride(server.getBaseUri())
+					.pageFetcher((url, timeoutMillis) -> {
+						try {
+							return new URLConnectionPageFetcher().fetch(url, timeoutMillis);
+						} catch (HttpStatusException e) {
+							statuses.add(e.getStatusCode());
+							throw e;
+						}
+					})
+					.build();
+			assertNull(parser.parse(LINK));
+			assertEquals(List.of(404), statuses);
+		}
+	}
+
+	@Test
+	void testAppend() throws Exception {
+		YoutubeParser.builder().pageFetcher((url, timeoutMillis) -> respond(url)).record(this.directory).build().parse(LINK);
+		YoutubeParser.builder().pageFetcher((url, timeoutMillis) -> respond(url)).record(this.directory).build()
+				.parse("https://www.youtube.com/watch?v=dQw4w9WgXcQ");
+		//the second recording adds to the first rather than overwriting its bodies
+		List<String> lines = Files.readAllLines(this.directory.resolve(ReplayServer.INDEX_FILE));
+		assertEquals(4, lines.size());
+		assertEquals(4, lines.stream().map(line -> line.split("\t")[1]).distinct().count());
+		for(String line : lines) assertTrue(Files.size(this.directory.resolve(line.split("\t")[1])) > 0);
+		//replaying keeps the first body recorded for a request
+		assertEquals(3, ReplayServer.readIndex(this.directory).size());
+	}
+
+	@Test
+	void testHostOverride() throws Exception {
+		List<String> fetched = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = YoutubeParser.builder()
+				.hostOverride(URI.create("http://127.0.0.1:8080/ignored"))
+				.pageFetcher((url, timeoutMillis) -> {
+					fetched.add(url.toString());
+					return respond(url);
+				})
+				.build();
+		assertEquals(RESULT, parser.parseAsync("https://youtu.be/6KEnzhHQhoo").get(10, TimeUnit.SECONDS));
+		assertEquals(List.of("http://127.0.0.1:8080/watch?v=6KEnzhHQhoo",
+				"http://127.0.0.1:8080/s/player/test0001/player_ias.vflset/en_US/base.js"), fetched);
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().hostOverride(URI.create("/no/host")));
+	}
+}
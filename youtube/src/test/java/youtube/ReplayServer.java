@@ -0,0 +1,237 @@
+package youtube;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * http server that replays a fixture directory recorded with 
+ * {@link my.cute.parser.youtube.YoutubeParserBuilder#record(Path)}. point a parser at it with 
+ * {@link my.cute.parser.youtube.YoutubeParserBuilder#hostOverride(URI)} to run full parses (every
+ * hop, including player js) with no network access
+ * <p>
+ * requests are matched on path and query, falling back to path alone; anything else gets a 404.
+ * responses are gzipped for clients that accept it, like youtube does. to reproduce slow
+ * connections, the server can wait a fixed time before responding to each request and cap the
+ * rate each response body is sent at (measured on the wire, ie after gzipping)
+ */
+class ReplayServer implements Closeable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ReplayServer.class);
+
+	static {
+		//otherwise small responses can sit waiting on delayed acks, adding ~40ms to every request
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	/*
+	 * the index of a fixture directory, see RecordingPageFetcher
+	 */
+	static final String INDEX_FILE = "exchanges.tsv";
+
+	private static class Fixture {
+		private final int statusCode;
+		private final byte[] body;
+		private final byte[] gzipped;
+
+		private Fixture(int statusCode, byte[] body) {
+			this.statusCode = statusCode;
+			this.body = body;
+			this.gzipped = gzip(body);
+		}
+	}
+
+	private final Map<String, Fixture> byRequest = new HashMap<>();
+	private final Map<String, Fixture> byPath = new HashMap<>();
+	private final long latencyNanos;
+	private final long bytesPerSecond;
+	private final HttpServer server;
+	private final ExecutorService executor;
+
+	/**
+	 * starts a server for the given fixture directory on an ephemeral loopback port, with no added
+	 * latency or bandwidth limit
+	 * @param directory the fixture directory
+	 * @throws IOException if the fixtures couldn't be read or the server couldn't be started
+	 */
+	ReplayServer(Path directory) throws IOException {
+		this(directory, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), Duration.ZERO, 0);
+	}
+
+	/**
+	 * starts a server for the given fixture directory
+	 * @param directory the fixture directory
+	 * @param address the address to listen on. port 0 picks an ephemeral port
+	 * @param latency how long to wait before responding to each request
+	 * @param bytesPerSecond the rate to send each response body at, or 0 for no limit
+	 * @throws IOException if the fixtures couldn't be read or the server couldn't be started
+	 */
+	ReplayServer(Path directory, InetSocketAddress address, Duration latency, long bytesPerSecond) throws IOException {
+		if(latency.isNegative()) throw new IllegalArgumentException("latency must not be negative");
+		if(bytesPerSecond < 0) throw new IllegalArgumentException("bytes per second must not be negative, got " + bytesPerSecond);
+		for(Map.Entry<String, String[]> exchange : readIndex(directory).entrySet()) {
+			String request = exchange.getKey();
+			Fixture fixture = new Fixture(Integer.parseInt(exchange.getValue()[0]), 
+					Files.readAllBytes(directory.resolve(exchange.getValue()[1])));
+			this.byRequest.put(request, fixture);
+			int query = request.indexOf('?');
+			this.byPath.putIfAbsent(query == -1 ? request : request.substring(0, query), fixture);
+		}
+		if(this.byRequest.isEmpty()) logger.warn(this + ": no fixtures found in " + directory);
+		this.latencyNanos = latency.toNanos();
+		this.bytesPerSecond = bytesPerSecond;
+		this.server = HttpServer.create(address, 0);
+		this.server.createContext("/", this::handle);
+		//handlers spend most of their time sleeping when shaping, so don't make requests queue up behind them
+		this.executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "ReplayServer");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.server.setExecutor(this.executor);
+		this.server.start();
+		logger.info(this + ": replaying " + this.byRequest.size() + " exchanges from " + directory + " at " + this.getBaseUri());
+	}
+
+	/**
+	 * reads the index of the given fixture directory
+	 * @param directory the fixture directory
+	 * @return map of request path and query to {status code, body file name} for every recorded
+	 * exchange, in the order they were recorded. if the same path and query was recorded more than
+	 * once, only the first is kept
+	 * @throws IOException if the index exists but couldn't be read
+	 */
+	static Map<String, String[]> readIndex(Path directory) throws IOException {
+		Path index = directory.resolve(INDEX_FILE);
+		Map<String, String[]> exchanges = new LinkedHashMap<>();
+		if(!Files.exists(index)) return exchanges;
+		List<String> malformed = new ArrayList<>();
+		for(String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+			if(line.isBlank()) continue;
+			String[] fields = line.split("\t", 3);
+			if(fields.length != 3) {
+				malformed.add(line);
+				continue;
+			}
+			exchanges.putIfAbsent(fields[2], new String[] { fields[0], fields[1] });
+		}
+		if(!malformed.isEmpty()) logger.warn("ReplayServer: skipped malformed lines in " + index + ": " + malformed);
+		return exchanges;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			String request = exchange.getRequestURI().getRawPath();
+			String query = exchange.getRequestURI().getRawQuery();
+			Fixture fixture = this.byRequest.get(query == null ? request : request + "?" + query);
+			if(fixture == null) fixture = this.byPath.get(request);
+			sleepNanos(this.latencyNanos);
+			if(fixture == null) {
+				logger.debug("QX no fixture for " + exchange.getRequestURI());
+				exchange.sendResponseHeaders(404, -1);
+				return;
+			}
+			String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+			boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip") && fixture.body.length > 0;
+			byte[] body = gzip ? fixture.gzipped : fixture.body;
+			if(gzip) exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+			exchange.sendResponseHeaders(fixture.statusCode, body.length == 0 ? -1 : body.length);
+			if(body.length > 0) this.send(exchange.getResponseBody(), body);
+		} catch (IOException e) {
+			//client went away, eg the parser's early exit
+			logger.debug("QX replay of " + exchange.getRequestURI() + " ended early: " + e);
+		}
+	}
+
+	/**
+	 * writes the given body, in slices of 10ms worth of data when the bandwidth is limited
+	 */
+	private void send(OutputStream out, byte[] body) throws IOException {
+		if(this.bytesPerSecond == 0) {
+			out.write(body);
+			out.close();
+			return;
+		}
+		int slice = (int) Math.max(1, Math.min(body.length, this.bytesPerSecond / 100));
+		long start = System.nanoTime();
+		for(int sent = 0; sent < body.length; ) {
+			int length = Math.min(slice, body.length - sent);
+			out.write(body, sent, length);
+			out.flush();
+			sent += length;
+			long due = start + TimeUnit.SECONDS.toNanos(sent) / this.bytesPerSecond;
+			sleepNanos(due - System.nanoTime());
+		}
+		out.close();
+	}
+
+	private static void sleepNanos(long nanos) throws InterruptedIOException {
+		if(nanos <= 0) return;
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException();
+		}
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @return the port the server is listening on
+	 */
+	int getPort() {
+		return this.server.getAddress().getPort();
+	}
+
+	/**
+	 * @return uri to pass to {@link my.cute.parser.youtube.YoutubeParserBuilder#hostOverride(URI)}
+	 */
+	URI getBaseUri() {
+		return URI.create("http://" + this.server.getAddress().getAddress().getHostAddress() + ":" + this.getPort());
+	}
+
+	@Override
+	public void close() {
+		this.server.stop(0);
+		this.executor.shutdownNow();
+	}
+
+	@Override
+	public String toString() {
+		return "ReplayServer";
+	}
+}
@@ -0,0 +1,109 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * caching parse results until just before the links they give stop working
+ */
+class ResultCacheTest {
+
+	private static final String LINK = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+
+	/**
+	 * @param stream the url of the page's only stream, or null for a page with none
+	 * @param fetches incremented for every page fetched
+	 */
+	private static YoutubeParser parser(String stream, Duration safetyMargin, AtomicInteger fetches) {
+		byte[] page = ("<html>\nytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{\"formats\":["
+				+ (stream == null ? "" : "{\"itag\":18,\"height\":360,\"url\":\"" + stream + "\"}") + "]}};\n</html>\n")
+				.getBytes(StandardCharsets.UTF_8);
+		byte[] empty = "status=fail".getBytes(StandardCharsets.UTF_8);
+		return YoutubeParser.builder()
+				.resultCache(16, safetyMargin)
+				.pageFetcher((url, timeoutMillis) -> {
+					fetches.incrementAndGet();
+					return PageFetcher.Response.of(url.getPath().equals("/watch") ? page : empty);
+				})
+				.build();
+	}
+
+	/**
+	 * @return a stream url that expires at the given time, in epoch seconds
+	 */
+	private static String expiring(long expireSeconds) {
+		return "https://r1.googlevideo.com/videoplayback?expire=" + expireSeconds + "&itag=18";
+	}
+
+	@Test
+	void testExpiry() throws Exception {
+		//between one and two seconds before the link expires, less the margin
+		long expire = System.currentTimeMillis() / 1000 + 3;
+		AtomicInteger fetches = new AtomicInteger();
+		YoutubeParser parser = parser(expiring(expire), Duration.ofSeconds(1), fetches);
+		assertEquals(expiring(expire), parser.parse(LINK));
+		assertEquals(1, fetches.get());
+		//other forms of link to the same video share the entry
+		assertEquals(expiring(expire), parser.parse(LINK));
+		assertEquals(expiring(expire), parser.parse("https://youtu.be/6KEnzhHQhoo"));
+		assertEquals(expiring(expire), parser.parseAsync("https://www.youtube.com/embed/6KEnzhHQhoo").get());
+		assertEquals(1, fetches.get());
+		//a different fmt is a different result
+		parser.parse(LINK + "&fmt=18");
+		assertEquals(2, fetches.get());
+
+		//past the margin, though the link itself hasn't expired yet
+		Thread.sleep(Math.max(0, (expire - 1) * 1000 + 100 - System.currentTimeMillis()));
+		assertTrue(System.currentTimeMillis() < expire * 1000);
+		assertEquals(expiring(expire), parser.parse(LINK));
+		assertEquals(3, fetches.get());
+	}
+
+	@Test
+	void testNotCached() {
+		//no expiry time
+		AtomicInteger fetches = new AtomicInteger();
+		YoutubeParser parser = parser("https://r1.googlevideo.com/videoplayback?itag=18", Duration.ZERO, fetches);
+		parser.parse(LINK);
+		parser.parse(LINK);
+		assertEquals(2, fetches.get());
+
+		//expires within the margin
+		fetches.set(0);
+		long expire = System.currentTimeMillis() / 1000 + 60;
+		parser = parser(expiring(expire), Duration.ofMinutes(5), fetches);
+		assertEquals(expiring(expire), parser.parse(LINK));
+		assertEquals(expiring(expire), parser.parse(LINK));
+		assertEquals(2, fetches.get());
+
+		//already expired
+		fetches.set(0);
+		parser = parser(expiring(System.currentTimeMillis() / 1000 - 60), Duration.ZERO, fetches);
+		parser.parse(LINK);
+		parser.parse(LINK);
+		assertEquals(2, fetches.get());
+	}
+
+	@Test
+	void testNullResult() {
+		AtomicInteger fetches = new AtomicInteger();
+		YoutubeParser parser = parser(null, Duration.ZERO, fetches);
+		assertNull(parser.parse(LINK));
+		int perParse = fetches.get();
+		assertTrue(perParse > 0);
+		assertNull(parser.parse(LINK));
+		assertNull(parser.parseAsync(LINK).join());
+		assertEquals(3 * perParse, fetches.get());
+
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().resultCache(-1, Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> YoutubeParser.builder().resultCache(1, Duration.ofSeconds(-1)));
+	}
+}
@@ -0,0 +1,123 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * concurrent parses of the same video sharing one parse
+ */
+class SingleFlightTest {
+
+	private static final byte[] PAGE = ("<html>\nytplayer.config = {};var ytInitialPlayerResponse = {\"streamingData\":{"
+			+ "\"formats\":[{\"itag\":18,\"height\":360,\"url\":\"https://r1.googlevideo.com/videoplayback?itag=18\"}]}};"
+			+ "\n</html>\n").getBytes(StandardCharsets.UTF_8);
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18";
+
+	/**
+	 * fetcher that blocks every fetch until released
+	 */
+	private static final class GatedFetcher implements PageFetcher {
+
+		final AtomicInteger fetches = new AtomicInteger();
+		final CountDownLatch fetching = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		volatile boolean fail = false;
+
+		@Override
+		public Response fetch(URL url, int timeoutMillis) {
+			this.fetches.incrementAndGet();
+			this.fetching.countDown();
+			try {
+				this.release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if(this.fail) throw new IllegalStateException("fetch failed");
+			return Response.of(PAGE);
+		}
+	}
+
+	/**
+	 * starts a sync parse that blocks in its fetch, then piles async parses of the same video in
+	 * various link forms on top of it
+	 */
+	private static List<CompletableFuture<String>> pileUp(YoutubeParser parser, GatedFetcher fetcher,
+			CompletableFuture<String> leader) throws InterruptedException {
+		new Thread(() -> {
+			try {
+				leader.complete(parser.parse("https://www.youtube.com/watch?v=6KEnzhHQhoo"));
+			} catch (RuntimeException e) {
+				leader.completeExceptionally(e);
+			}
+		}).start();
+		assertTrue(fetcher.fetching.await(10, TimeUnit.SECONDS));
+		List<CompletableFuture<String>> followers = new ArrayList<>();
+		followers.add(parser.parseAsync("https://youtu.be/6KEnzhHQhoo"));
+		followers.add(parser.parseAsync("https://m.youtube.com/watch?v=6KEnzhHQhoo&feature=share"));
+		followers.add(parser.parseAsync("https://www.youtube.com/embed/6KEnzhHQhoo"));
+		followers.add(parser.parseAsync("https://www.youtube.com/watch?v=6KEnzhHQhoo&t=30"));
+		return followers;
+	}
+
+	@Test
+	void testCoalesced() throws Exception {
+		GatedFetcher fetcher = new GatedFetcher();
+		YoutubeParser parser = YoutubeParser.builder().pageFetcher(fetcher).build();
+		CompletableFuture<String> leader = new CompletableFuture<>();
+		List<CompletableFuture<String>> followers = pileUp(parser, fetcher, leader);
+		//a different fmt is a different parse
+		CompletableFuture<String> otherFmt = parser.parseAsync("https://www.youtube.com/watch?v=6KEnzhHQhoo&fmt=18");
+		//giving up on one doesn't affect the rest
+		assertTrue(followers.get(0).cancel(true));
+		fetcher.release.countDown();
+
+		assertEquals(RESULT, leader.get(10, TimeUnit.SECONDS));
+		assertThrows(CancellationException.class, () -> followers.get(0).join());
+		for(CompletableFuture<String> follower : followers.subList(1, followers.size())) {
+			assertEquals(RESULT, follower.get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(RESULT, otherFmt.get(10, TimeUnit.SECONDS));
+		assertEquals(2, fetcher.fetches.get());
+
+		//nothing is kept once the parse is done
+		assertEquals(RESULT, parser.parse("https://youtu.be/6KEnzhHQhoo"));
+		assertEquals(3, fetcher.fetches.get());
+	}
+
+	@Test
+	void testFailureShared() throws Exception {
+		GatedFetcher fetcher = new GatedFetcher();
+		fetcher.fail = true;
+		YoutubeParser parser = YoutubeParser.builder().pageFetcher(fetcher).build();
+		CompletableFuture<String> leader = new CompletableFuture<>();
+		List<CompletableFuture<String>> followers = pileUp(parser, fetcher, leader);
+		fetcher.release.countDown();
+
+		for(CompletableFuture<String> future : followers) {
+			CompletionException e = assertThrows(CompletionException.class, () -> future.join());
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertTrue(assertThrows(CompletionException.class, () -> leader.join()).getCause() instanceof IllegalStateException);
+		assertEquals(1, fetcher.fetches.get());
+
+		//failures aren't remembered either
+		fetcher.fail = false;
+		assertEquals(RESULT, parser.parse("https://youtu.be/6KEnzhHQhoo"));
+		assertEquals(2, fetcher.fetches.get());
+	}
+}
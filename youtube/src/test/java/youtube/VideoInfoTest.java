@@ -0,0 +1,156 @@
+package youtube;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import my.cute.parser.youtube.PageFetcher;
+import my.cute.parser.youtube.YoutubeParser;
+
+/**
+ * reading get_video_info responses, which the parser falls back to when the watch page has no
+ * streams
+ */
+class VideoInfoTest {
+
+	private static final String LINK = "https://www.youtube.com/watch?v=6KEnzhHQhoo";
+	private static final String RESULT = "https://r1.googlevideo.com/videoplayback?itag=18";
+	private static final String HLS = "https://manifest.googlevideo.com/api/manifest/hls_variant/id/6KEnzhHQhoo";
+	/*
+	 * player response values, url encoded the way get_video_info sends them
+	 */
+	private static final String FORMATS = encode("\"formats\":[{\"itag\":18,\"height\":360,\"url\":\"" + RESULT + "\"}]");
+	private static final String HLS_MANIFEST = encode("\"hlsManifestUrl\":\"" + HLS + "\"");
+	/*
+	 * the most the reader keeps of any one value
+	 */
+	private static final int MAX_CAPTURE = 1048576;
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * a response whose body comes back at most the given number of bytes per read
+	 */
+	private static PageFetcher.Response trickle(byte[] body, int piece) {
+		InputStream stream = new ByteArrayInputStream(body) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, piece));
+			}
+
+			@Override
+			public synchronized int available() {
+				return 0;
+			}
+		};
+		return new PageFetcher.Response() {
+			@Override
+			public InputStream body() {
+				return stream;
+			}
+
+			@Override
+			public long contentLength() {
+				return body.length;
+			}
+
+			@Override
+			public void close() {
+				//nothing to release
+			}
+		};
+	}
+
+	/**
+	 * @param videoInfo gives the get_video_info response for the query it was requested with
+	 * @param piece the most bytes of a response to hand over per read
+	 * @param requested every get_video_info query requested is added to this
+	 */
+	private static YoutubeParser parser(Function<String, String> videoInfo, int piece, List<String> requested) {
+		return YoutubeParser.builder()
+				.pageFetcher((url, timeoutMillis) -> {
+					if(!url.getPath().equals("/get_video_info"))
+						return PageFetcher.Response.of("<html>\n</html>\n".getBytes(StandardCharsets.UTF_8));
+					requested.add(url.getQuery());
+					return trickle(videoInfo.apply(url.getQuery()).getBytes(StandardCharsets.UTF_8), piece);
+				})
+				.build();
+	}
+
+	private static YoutubeParser parser(String videoInfo, int piece) {
+		return parser(query -> videoInfo, piece, new CopyOnWriteArrayList<>());
+	}
+
+	@Test
+	void testSplitMarkers() {
+		//puts the markers at every offset around the reader's 8192 char chunks, and splits them
+		//between reads at every point
+		for(int padding = 8160; padding < 8200; padding++) {
+			String videoInfo = "status=ok&a=" + "b".repeat(padding) + "&player_response=%7B" + FORMATS + "%7D";
+			for(int piece : new int[] { 1, 3, 7, 8192 }) {
+				assertEquals(RESULT, parser(videoInfo, piece).parse(LINK), "padding " + padding + ", piece " + piece);
+			}
+		}
+		String videoInfo = "status=ok&player_response=%7B" + "b".repeat(8170) + HLS_MANIFEST + "%7D";
+		assertEquals(HLS, parser(videoInfo, 5).parse(LINK));
+	}
+
+	@Test
+	void testMissingEndMarker() {
+		//the formats array never ends, so the hls manifest is used instead
+		String videoInfo = "status=ok&player_response=%7B" + HLS_MANIFEST + "%2C" + FORMATS.substring(0, FORMATS.length() - 3);
+		assertEquals(HLS, parser(videoInfo, 8192).parse(LINK));
+		//or the end of the formats is on another line, which the patterns never matched across
+		videoInfo = "status=ok&player_response=%7B" + FORMATS.replace("%5B", "%5B\n") + "%2C" + HLS_MANIFEST;
+		assertEquals(HLS, parser(videoInfo, 8192).parse(LINK));
+
+		List<String> requested = new CopyOnWriteArrayList<>();
+		String unfinished = "status=ok&player_response=%7B" + FORMATS.substring(0, FORMATS.length() - 3);
+		assertNull(parser(query -> unfinished, 8192, requested).parse(LINK));
+		assertEquals(2, requested.size());
+	}
+
+	/**
+	 * @return a formats array whose contents, still encoded, are the given length
+	 */
+	private static String paddedFormats(int length) {
+		String start = encode("\"formats\":[{\"itag\":18,\"height\":360,\"x\":\"");
+		String end = encode("\",\"url\":\"" + RESULT + "\"}]");
+		//less the markers on either side of the contents
+		int padding = length - (start.length() - "%22formats%22%3A%5B".length()) - (end.length() - "%5D".length());
+		return start + "b".repeat(padding) + end;
+	}
+
+	@Test
+	void testLongCapture() {
+		String videoInfo = "status=ok&player_response=%7B" + paddedFormats(MAX_CAPTURE) + "%2C" + HLS_MANIFEST + "%7D";
+		assertEquals(RESULT, parser(videoInfo, 8192).parse(LINK));
+		//too long to keep, so it's dropped, but the rest of the response is still read
+		videoInfo = "status=ok&player_response=%7B" + paddedFormats(MAX_CAPTURE + 1) + "%2C" + HLS_MANIFEST + "%7D";
+		assertEquals(HLS, parser(videoInfo, 8192).parse(LINK));
+	}
+
+	@Test
+	void testDetailPageRetry() {
+		//nothing in the first response, so it's retried with el=detailpage, rather than failing on the missing el
+		List<String> requested = new CopyOnWriteArrayList<>();
+		YoutubeParser parser = parser(query -> query.contains("el=detailpage")
+				? "status=ok&player_response=%7B" + FORMATS + "%7D" : "status=fail&reason=none", 8192, requested);
+		assertEquals(RESULT, parser.parse(LINK));
+		assertEquals(List.of("video_id=6KEnzhHQhoo", "video_id=6KEnzhHQhoo&el=detailpage"), requested);
+		//and an empty response gives up straight away
+		requested.clear();
+		assertNull(parser(query -> "", 8192, requested).parse(LINK));
+		assertEquals(List.of("video_id=6KEnzhHQhoo"), requested);
+	}
+}